@@ -0,0 +1,72 @@
+package com.porcana.batch.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자산 수별 퍼센타일 순위 계산 비용 (지표 하나, 전체 자산 순위)
+ *
+ * - sortedRanks: PercentileRanker (정렬 + 이분 탐색)
+ * - linearScanRanks: 자산마다 List<Double> 전체를 훑던 기존 방식 (100k에서는 한 번에 수 초)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PercentileRankerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int assets;
+
+    private double[] values;
+    private List<Double> boxedValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        values = new double[assets];
+        boxedValues = new ArrayList<>(assets);
+        for (int i = 0; i < assets; i++) {
+            // 실제 지표처럼 소수 6자리 (동률 포함)
+            values[i] = Math.round(Math.abs(random.nextGaussian()) * 300_000) / 1_000_000.0;
+            boxedValues.add(values[i]);
+        }
+    }
+
+    @Benchmark
+    public double[] sortedRanks() {
+        return PercentileRanker.rankAll(values);
+    }
+
+    @Benchmark
+    public double[] linearScanRanks() {
+        double[] ranks = new double[boxedValues.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            double value = boxedValues.get(i);
+            long countBelow = boxedValues.stream()
+                    .filter(v -> v < value)
+                    .count();
+            ranks[i] = (double) countBelow / boxedValues.size();
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,118 @@
+package com.porcana.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아레나 라운드처럼 후보 풀에서 가중치 비례로 3개를 비복원 추출하는 비용
+ *
+ * - fenwickSampler: WeightedSampler (가중치 한 번 계산, 뽑힌 항목 제거 + 같은 섹터 후보만 패널티 갱신)
+ * - hashMapLinearScan: 기존 방식 (뽑을 때마다 HashMap<UUID, Double> 재구성, 뽑힌 목록 재탐색, 누적합 선형 탐색)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class WeightedSamplerBenchmark {
+
+    private static final int PICKS = 3;
+    private static final int SECTORS = 11;
+    private static final double SAME_SECTOR_PENALTY = 0.35;
+
+    @Param({"140", "1000", "10000"})
+    private int candidates;
+
+    private UUID[] ids;
+    private int[] sectors;
+    private double[] baseWeights;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random seed = new Random(42L);
+        ids = new UUID[candidates];
+        sectors = new int[candidates];
+        baseWeights = new double[candidates];
+        for (int i = 0; i < candidates; i++) {
+            ids[i] = new UUID(seed.nextLong(), seed.nextLong());
+            sectors[i] = seed.nextInt(SECTORS);
+            baseWeights[i] = 0.5 + seed.nextDouble() * 1.5;
+        }
+        random = new Random(7L);
+    }
+
+    @Benchmark
+    public int[] fenwickSampler() {
+        WeightedSampler sampler = new WeightedSampler(baseWeights);
+        int[] picked = new int[PICKS];
+        for (int k = 0; k < PICKS; k++) {
+            int index = sampler.sample(random);
+            picked[k] = index;
+            sampler.remove(index);
+            for (int i = 0; i < candidates; i++) {
+                if (sectors[i] == sectors[index] && sampler.weight(i) > 0) {
+                    sampler.update(i, sampler.weight(i) * SAME_SECTOR_PENALTY);
+                }
+            }
+        }
+        return picked;
+    }
+
+    @Benchmark
+    public List<Integer> hashMapLinearScan() {
+        List<Integer> pool = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            pool.add(i);
+        }
+        List<Integer> picked = new ArrayList<>(PICKS);
+
+        for (int k = 0; k < PICKS; k++) {
+            Map<UUID, Double> weights = new HashMap<>();
+            for (int i : pool) {
+                double w = baseWeights[i];
+                int sector = sectors[i];
+                if (picked.stream().anyMatch(p -> sectors[p] == sector)) {
+                    w *= SAME_SECTOR_PENALTY;
+                }
+                weights.put(ids[i], w);
+            }
+
+            double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+            double r = random.nextDouble() * total;
+            double acc = 0;
+            int next = pool.get(pool.size() - 1);
+            for (int i : pool) {
+                acc += weights.get(ids[i]);
+                if (acc >= r) {
+                    next = i;
+                    break;
+                }
+            }
+            picked.add(next);
+            pool.remove(Integer.valueOf(next));
+        }
+        return picked;
+    }
+}
@@ -0,0 +1,74 @@
+package com.porcana.batch.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.porcana.batch.provider.http.ProviderHttpClient;
+import com.porcana.batch.provider.http.ProviderResponseCache;
+import com.porcana.batch.provider.http.ProviderResponseValidators;
+import com.porcana.batch.support.TokenBucketRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 외부 데이터 제공자별 HTTP 클라이언트
+ * 같은 호스트를 쓰는 제공자(data.go.kr 주식/ETF)는 하나의 클라이언트(커넥션 풀, rate limit)를 공유합니다.
+ * rate limit은 분당 한도를 균등 간격으로 나눠 발급하고(burst 없음), 동시 요청 수는 클라이언트의 세마포어로 따로 제한합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ProviderHttpClientConfig {
+
+    private final ProviderHttpProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Bean
+    public ProviderResponseCache providerResponseCache() {
+        return new ProviderResponseCache(Path.of(properties.getCacheDir()), properties.getCacheRetentionDays());
+    }
+
+    @Bean
+    public ProviderHttpClient fmpHttpClient(ProviderResponseCache providerResponseCache) {
+        return create("fmp", providerResponseCache);
+    }
+
+    @Bean
+    public ProviderHttpClient dataGoKrHttpClient(ProviderResponseCache providerResponseCache) {
+        return create("data-go-kr", providerResponseCache);
+    }
+
+    @Bean
+    public ProviderHttpClient koreaEximHttpClient(ProviderResponseCache providerResponseCache) {
+        return create("korea-exim", providerResponseCache);
+    }
+
+    @Bean
+    public ProviderHttpClient dartHttpClient(ProviderResponseCache providerResponseCache) {
+        return create("dart", providerResponseCache);
+    }
+
+    @Bean
+    public ProviderHttpClient wikipediaHttpClient(ProviderResponseCache providerResponseCache) {
+        return create("wikipedia", providerResponseCache);
+    }
+
+    private ProviderHttpClient create(String name, ProviderResponseCache cache) {
+        ProviderHttpProperties.Client client = properties.client(name);
+        return ProviderHttpClient.builder()
+                .name(name)
+                .connectTimeout(client.getConnectTimeout())
+                .readTimeout(client.getReadTimeout())
+                .userAgent(client.getUserAgent())
+                .rateLimiter(TokenBucketRateLimiter.perMinute(client.getRequestsPerMinute()))
+                .maxConcurrentRequests(client.getMaxConcurrentRequests())
+                .maxAttempts(client.getMaxAttempts())
+                .initialBackoff(client.getInitialBackoff())
+                .maxBackoff(client.getMaxBackoff())
+                .cache(client.isCacheEnabled() ? cache : null)
+                .cacheFreshFor(client.getCacheFreshFor())
+                .responseValidator(ProviderResponseValidators.forProvider(name, objectMapper))
+                .objectMapper(objectMapper)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.porcana.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 데이터 제공자 HTTP 클라이언트 설정 (batch.provider.http)
+ * clients에 없는 제공자는 Client 기본값을 사용합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "batch.provider.http")
+public class ProviderHttpProperties {
+
+    /**
+     * 응답 캐시 디렉터리
+     */
+    private String cacheDir = System.getProperty("java.io.tmpdir") + "/porcana-provider-cache";
+
+    /**
+     * URL별 캐시 보관 일수
+     */
+    private int cacheRetentionDays = 7;
+
+    private Map<String, Client> clients = new HashMap<>();
+
+    public Client client(String name) {
+        return clients.getOrDefault(name, new Client());
+    }
+
+    @Getter
+    @Setter
+    public static class Client {
+        private int requestsPerMinute = 300;
+        private int maxConcurrentRequests = 4;
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(500);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(10);
+
+        /**
+         * 같은 날 캐시 항목을 재검증 없이 쓰는 시간
+         */
+        private Duration cacheFreshFor = Duration.ofHours(1);
+
+        private boolean cacheEnabled = true;
+        private String userAgent;
+    }
+}
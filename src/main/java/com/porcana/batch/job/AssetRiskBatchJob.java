@@ -1,5 +1,6 @@
 package com.porcana.batch.job;
 
+import com.porcana.batch.listener.AssetDataChangedListener;
 import com.porcana.batch.listener.BatchNotificationListener;
 import com.porcana.batch.service.risk.AssetRiskService;
 import lombok.RequiredArgsConstructor;
@@ -30,11 +31,13 @@ public class AssetRiskBatchJob {
     private final PlatformTransactionManager transactionManager;
     private final AssetRiskService assetRiskService;
     private final BatchNotificationListener batchNotificationListener;
+    private final AssetDataChangedListener assetDataChangedListener;
 
     @Bean
     public Job assetRiskJob() {
         return new JobBuilder("assetRiskJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(assetDataChangedListener)
                 .start(calculateAssetRisksStep())
                 .build();
     }
@@ -1,6 +1,7 @@
 package com.porcana.batch.job;
 
 import com.porcana.batch.listener.BatchNotificationListener;
+import com.porcana.batch.listener.PriceDataChangedListener;
 import com.porcana.batch.provider.exchangerate.KoreaEximProvider;
 import com.porcana.domain.exchangerate.ExchangeRateRepository;
 import com.porcana.domain.exchangerate.entity.ExchangeRate;
@@ -39,11 +40,13 @@ public class ExchangeRateBatchJob {
     private final KoreaEximProvider koreaEximProvider;
     private final ExchangeRateRepository exchangeRateRepository;
     private final BatchNotificationListener batchNotificationListener;
+    private final PriceDataChangedListener priceDataChangedListener;
 
     @Bean
     public Job exchangeRateJob() {
         return new JobBuilder("exchangeRateJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(priceDataChangedListener)
                 .start(updateExchangeRatesStep())
                 .build();
     }
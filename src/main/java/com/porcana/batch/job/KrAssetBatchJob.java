@@ -1,9 +1,12 @@
 package com.porcana.batch.job;
 
 import com.porcana.batch.dto.AssetBatchDto;
+import com.porcana.batch.listener.AssetDataChangedListener;
 import com.porcana.batch.listener.BatchNotificationListener;
+import com.porcana.batch.listener.PriceDataChangedListener;
 import com.porcana.batch.provider.kr.DataGoKrAssetProvider;
 import com.porcana.batch.provider.kr.UniverseTaggingProvider;
+import com.porcana.batch.service.price.AssetPriceBulkWriter;
 import com.porcana.domain.asset.AssetPriceRepository;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
@@ -48,12 +51,17 @@ public class KrAssetBatchJob {
     private final UniverseTaggingProvider taggingProvider;
     private final AssetRepository assetRepository;
     private final AssetPriceRepository assetPriceRepository;
+    private final AssetPriceBulkWriter assetPriceBulkWriter;
     private final BatchNotificationListener batchNotificationListener;
+    private final AssetDataChangedListener assetDataChangedListener;
+    private final PriceDataChangedListener priceDataChangedListener;
 
     @Bean
     public Job krAssetJob() {
         return new JobBuilder("krAssetJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(assetDataChangedListener)
+                .listener(priceDataChangedListener)
                 .start(fetchKrAssetsStep())
                 .next(deactivateDelistedKrAssetsStep())
                 .next(tagKospi200Step())
@@ -272,16 +280,12 @@ public class KrAssetBatchJob {
                             List<AssetPrice> prices = dataGoKrProvider.fetchHistoricalPrices(asset);
 
                             if (!prices.isEmpty()) {
-                                // Save all prices at once
-                                assetPriceRepository.saveAll(prices);
-                                totalPricesFetched += prices.size();
+                                // Bulk load via COPY (the asset has no stored prices yet)
+                                int saved = assetPriceBulkWriter.insertMissing(prices).inserted();
+                                totalPricesFetched += saved;
                                 assetsProcessed++;
-                                log.info("Saved {} historical prices for {}", prices.size(), asset.getSymbol());
+                                log.info("Saved {} historical prices for {}", saved, asset.getSymbol());
                             }
-
-                            // Add delay to avoid rate limiting
-                            Thread.sleep(150);
-
                         } catch (Exception e) {
                             log.warn("Failed to fetch historical prices for {}: {}",
                                     asset.getSymbol(), e.getMessage());
@@ -290,6 +294,9 @@ public class KrAssetBatchJob {
 
                     log.info("Historical price fetch complete: {} prices saved for {} assets",
                             totalPricesFetched, assetsProcessed);
+                    if (assetsProcessed > 0) {
+                        PriceDataChangedListener.markHistoryWritten(chunkContext.getStepContext().getStepExecution());
+                    }
 
                     return RepeatStatus.FINISHED;
                 }, transactionManager)
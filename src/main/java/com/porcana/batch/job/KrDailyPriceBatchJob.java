@@ -1,9 +1,10 @@
 package com.porcana.batch.job;
 
 import com.porcana.batch.listener.BatchNotificationListener;
+import com.porcana.batch.listener.PriceDataChangedListener;
 import com.porcana.batch.provider.kr.DataGoKrAssetProvider;
+import com.porcana.batch.service.price.AssetPriceBulkWriter;
 import com.porcana.batch.support.BatchIssueCollector;
-import com.porcana.domain.asset.AssetPriceRepository;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetPrice;
@@ -19,6 +20,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -34,14 +36,16 @@ public class KrDailyPriceBatchJob {
     private final PlatformTransactionManager transactionManager;
     private final DataGoKrAssetProvider dataGoKrProvider;
     private final AssetRepository assetRepository;
-    private final AssetPriceRepository assetPriceRepository;
+    private final AssetPriceBulkWriter assetPriceBulkWriter;
     private final BatchNotificationListener batchNotificationListener;
+    private final PriceDataChangedListener priceDataChangedListener;
     private final BatchIssueCollector batchIssueCollector;
 
     @Bean
     public Job krDailyPriceJob() {
         return new JobBuilder("krDailyPriceJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(priceDataChangedListener)
                 .start(updateKrDailyPricesStep())
                 .build();
     }
@@ -65,6 +69,8 @@ public class KrDailyPriceBatchJob {
                     int totalSaved = 0;
                     int totalSkipped = 0;
                     int totalFailed = 0;
+                    // Collected prices are written once after the loop (COPY + INSERT ... ON CONFLICT DO NOTHING)
+                    List<AssetPrice> pending = new ArrayList<>();
 
                     for (Asset asset : activeAssets) {
                         try {
@@ -89,25 +95,7 @@ public class KrDailyPriceBatchJob {
                                 continue;
                             }
 
-                            // Check if price already exists for this date
-                            boolean exists = assetPriceRepository.existsByAssetAndPriceDate(
-                                    asset, latestPrice.getPriceDate());
-
-                            if (exists) {
-                                log.debug("Price already exists for {} on {}, skipping",
-                                        asset.getSymbol(), latestPrice.getPriceDate());
-                                totalSkipped++;
-                            } else {
-                                // Save new price
-                                assetPriceRepository.save(latestPrice);
-                                log.info("Saved price for {} on {}: ₩{}",
-                                        asset.getSymbol(), latestPrice.getPriceDate(), latestPrice.getPrice());
-                                totalSaved++;
-                            }
-
-                            // Add delay to avoid rate limiting
-                            Thread.sleep(100);
-
+                            pending.add(latestPrice);
                         } catch (Exception e) {
                             log.error("Failed to update price for symbol: {}", asset.getSymbol(), e);
                             batchIssueCollector.recordAssetIssue(jobExecutionId, stepName, asset,
@@ -117,11 +105,15 @@ public class KrDailyPriceBatchJob {
 
                         // Log progress every 50 assets
                         if (totalProcessed % 50 == 0) {
-                            log.info("Progress: {}/{} assets processed, {} saved, {} skipped, {} failed",
-                                    totalProcessed, activeAssets.size(), totalSaved, totalSkipped, totalFailed);
+                            log.info("Progress: {}/{} assets processed, {} fetched, {} failed",
+                                    totalProcessed, activeAssets.size(), pending.size(), totalFailed);
                         }
                     }
 
+                    int fetched = pending.size();
+                    totalSaved = assetPriceBulkWriter.insertMissing(pending).inserted();
+                    totalSkipped = fetched - totalSaved;
+
                     log.info("Korean daily price update complete: {}/{} assets processed, {} saved, {} skipped, {} failed",
                             totalProcessed, activeAssets.size(), totalSaved, totalSkipped, totalFailed);
 
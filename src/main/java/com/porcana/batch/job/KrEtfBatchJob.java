@@ -1,9 +1,12 @@
 package com.porcana.batch.job;
 
 import com.porcana.batch.dto.AssetBatchDto;
+import com.porcana.batch.listener.AssetDataChangedListener;
 import com.porcana.batch.listener.BatchNotificationListener;
+import com.porcana.batch.listener.PriceDataChangedListener;
 import com.porcana.batch.provider.EtfProvider;
 import com.porcana.batch.provider.kr.DataGoKrEtfPriceProvider;
+import com.porcana.batch.service.price.AssetPriceBulkWriter;
 import com.porcana.domain.asset.AssetPriceRepository;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
@@ -41,12 +44,17 @@ public class KrEtfBatchJob {
     private final DataGoKrEtfPriceProvider etfPriceProvider;
     private final AssetRepository assetRepository;
     private final AssetPriceRepository assetPriceRepository;
+    private final AssetPriceBulkWriter assetPriceBulkWriter;
     private final BatchNotificationListener batchNotificationListener;
+    private final AssetDataChangedListener assetDataChangedListener;
+    private final PriceDataChangedListener priceDataChangedListener;
 
     @Bean
     public Job krEtfJob() {
         return new JobBuilder("krEtfJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(assetDataChangedListener)
+                .listener(priceDataChangedListener)
                 .start(importKrEtfsStep())
                 .next(fetchKrEtfHistoricalPricesStep())
                 .build();
@@ -140,16 +148,12 @@ public class KrEtfBatchJob {
                             List<AssetPrice> prices = etfPriceProvider.fetchHistoricalPrices(asset);
 
                             if (!prices.isEmpty()) {
-                                // Save all prices at once
-                                assetPriceRepository.saveAll(prices);
-                                totalPricesFetched += prices.size();
+                                // Bulk load via COPY (the asset has no stored prices yet)
+                                int saved = assetPriceBulkWriter.insertMissing(prices).inserted();
+                                totalPricesFetched += saved;
                                 etfsProcessed++;
-                                log.info("Saved {} historical prices for ETF {}", prices.size(), asset.getSymbol());
+                                log.info("Saved {} historical prices for ETF {}", saved, asset.getSymbol());
                             }
-
-                            // Add delay to avoid rate limiting
-                            Thread.sleep(150);
-
                         } catch (Exception e) {
                             log.warn("Failed to fetch historical prices for ETF {}: {}",
                                     asset.getSymbol(), e.getMessage());
@@ -158,6 +162,9 @@ public class KrEtfBatchJob {
 
                     log.info("Historical price fetch complete: {} prices saved for {} ETFs",
                             totalPricesFetched, etfsProcessed);
+                    if (etfsProcessed > 0) {
+                        PriceDataChangedListener.markHistoryWritten(chunkContext.getStepContext().getStepExecution());
+                    }
 
                     return RepeatStatus.FINISHED;
                 }, transactionManager)
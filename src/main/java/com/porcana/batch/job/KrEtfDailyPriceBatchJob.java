@@ -1,9 +1,10 @@
 package com.porcana.batch.job;
 
 import com.porcana.batch.listener.BatchNotificationListener;
+import com.porcana.batch.listener.PriceDataChangedListener;
 import com.porcana.batch.provider.kr.DataGoKrEtfPriceProvider;
+import com.porcana.batch.service.price.AssetPriceBulkWriter;
 import com.porcana.batch.support.BatchIssueCollector;
-import com.porcana.domain.asset.AssetPriceRepository;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetPrice;
@@ -19,6 +20,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -34,14 +36,16 @@ public class KrEtfDailyPriceBatchJob {
     private final PlatformTransactionManager transactionManager;
     private final DataGoKrEtfPriceProvider etfPriceProvider;
     private final AssetRepository assetRepository;
-    private final AssetPriceRepository assetPriceRepository;
+    private final AssetPriceBulkWriter assetPriceBulkWriter;
     private final BatchNotificationListener batchNotificationListener;
+    private final PriceDataChangedListener priceDataChangedListener;
     private final BatchIssueCollector batchIssueCollector;
 
     @Bean
     public Job krEtfDailyPriceJob() {
         return new JobBuilder("krEtfDailyPriceJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(priceDataChangedListener)
                 .start(updateKrEtfDailyPricesStep())
                 .build();
     }
@@ -66,6 +70,8 @@ public class KrEtfDailyPriceBatchJob {
                     int totalSaved = 0;
                     int totalSkipped = 0;
                     int totalFailed = 0;
+                    // Collected prices are written once after the loop (COPY + INSERT ... ON CONFLICT DO NOTHING)
+                    List<AssetPrice> pending = new ArrayList<>();
 
                     for (Asset asset : activeEtfs) {
                         try {
@@ -90,25 +96,7 @@ public class KrEtfDailyPriceBatchJob {
                                 continue;
                             }
 
-                            // Check if price already exists for this date
-                            boolean exists = assetPriceRepository.existsByAssetAndPriceDate(
-                                    asset, latestPrice.getPriceDate());
-
-                            if (exists) {
-                                log.debug("Price already exists for ETF {} on {}, skipping",
-                                        asset.getSymbol(), latestPrice.getPriceDate());
-                                totalSkipped++;
-                            } else {
-                                // Save new price
-                                assetPriceRepository.save(latestPrice);
-                                log.info("Saved price for ETF {} on {}: ₩{}",
-                                        asset.getSymbol(), latestPrice.getPriceDate(), latestPrice.getPrice());
-                                totalSaved++;
-                            }
-
-                            // Add delay to avoid rate limiting
-                            Thread.sleep(100);
-
+                            pending.add(latestPrice);
                         } catch (Exception e) {
                             log.error("Failed to update price for ETF symbol: {}", asset.getSymbol(), e);
                             batchIssueCollector.recordAssetIssue(jobExecutionId, stepName, asset,
@@ -118,11 +106,15 @@ public class KrEtfDailyPriceBatchJob {
 
                         // Log progress every 10 ETFs
                         if (totalProcessed % 10 == 0) {
-                            log.info("Progress: {}/{} ETFs processed, {} saved, {} skipped, {} failed",
-                                    totalProcessed, activeEtfs.size(), totalSaved, totalSkipped, totalFailed);
+                            log.info("Progress: {}/{} ETFs processed, {} fetched, {} failed",
+                                    totalProcessed, activeEtfs.size(), pending.size(), totalFailed);
                         }
                     }
 
+                    int fetched = pending.size();
+                    totalSaved = assetPriceBulkWriter.insertMissing(pending).inserted();
+                    totalSkipped = fetched - totalSaved;
+
                     log.info("Korean ETF daily price update complete: {}/{} ETFs processed, {} saved, {} skipped, {} failed",
                             totalProcessed, activeEtfs.size(), totalSaved, totalSkipped, totalFailed);
 
@@ -1,7 +1,10 @@
 package com.porcana.batch.job;
 
+import com.porcana.batch.listener.AssetDataChangedListener;
 import com.porcana.batch.listener.BatchNotificationListener;
+import com.porcana.batch.listener.PriceDataChangedListener;
 import com.porcana.batch.provider.us.FmpAssetProvider;
+import com.porcana.batch.service.price.AssetPriceBulkWriter;
 import com.porcana.domain.asset.AssetPriceRepository;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
@@ -14,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -22,6 +26,7 @@ import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.support.ListItemReader;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -58,14 +63,19 @@ public class UsAssetBatchJob {
     private final FmpAssetProvider fmpProvider;
     private final AssetRepository assetRepository;
     private final AssetPriceRepository assetPriceRepository;
+    private final AssetPriceBulkWriter assetPriceBulkWriter;
     private final PortfolioAssetRepository portfolioAssetRepository;
     private final PortfolioRepository portfolioRepository;
     private final BatchNotificationListener batchNotificationListener;
+    private final AssetDataChangedListener assetDataChangedListener;
+    private final PriceDataChangedListener priceDataChangedListener;
 
     @Bean
     public Job usAssetJob() {
         return new JobBuilder("usAssetJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(assetDataChangedListener)
+                .listener(priceDataChangedListener)
                 .start(checkUsAssetStatusStep())
                 .next(fetchHistoricalPricesForActiveStep())
                 .next(finishPortfoliosWithDeactivatedAssetsStep())
@@ -110,7 +120,6 @@ public class UsAssetBatchJob {
 
             if (profile == null) {
                 log.warn("No FMP profile for {}. Keeping current status.", asset.getSymbol());
-                Thread.sleep(150);
                 return asset;
             }
 
@@ -132,7 +141,6 @@ public class UsAssetBatchJob {
                 asset.setDescription(profile.description());
             }
 
-            Thread.sleep(150);
             return asset;
         };
     }
@@ -152,7 +160,7 @@ public class UsAssetBatchJob {
                 .<Asset, AssetPriceBackfillResult>chunk(PRICE_BACKFILL_CHUNK_SIZE, transactionManager)
                 .reader(activeUsStockReader())
                 .processor(assetPriceBackfillProcessor())
-                .writer(assetPriceBackfillWriter())
+                .writer(assetPriceBackfillWriter(null))
                 .build();
     }
 
@@ -175,13 +183,8 @@ public class UsAssetBatchJob {
 
                 log.info("Backfilling historical prices for {}", asset.getSymbol());
                 List<AssetPrice> prices = fmpProvider.fetchHistoricalPrices(asset);
-                Thread.sleep(200);
 
                 return new AssetPriceBackfillResult(asset.getSymbol(), prices);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-                log.warn("Historical price backfill interrupted at {}", asset.getSymbol());
-                throw new IllegalStateException("Historical price backfill interrupted", ie);
             } catch (Exception e) {
                 log.warn("Failed to backfill prices for {}: {}", asset.getSymbol(), e.getMessage());
                 return null;
@@ -190,14 +193,18 @@ public class UsAssetBatchJob {
     }
 
     @Bean
-    public ItemWriter<AssetPriceBackfillResult> assetPriceBackfillWriter() {
+    @StepScope
+    public ItemWriter<AssetPriceBackfillResult> assetPriceBackfillWriter(
+            @Value("#{stepExecution}") StepExecution stepExecution) {
         return chunk -> {
             for (AssetPriceBackfillResult backfill : chunk.getItems()) {
                 if (backfill == null || backfill.prices().isEmpty()) {
                     continue;
                 }
-                assetPriceRepository.saveAll(backfill.prices());
-                log.info("Saved {} historical price records for {}", backfill.prices().size(), backfill.symbol());
+                // Bulk load via COPY (the asset has no stored prices yet)
+                int saved = assetPriceBulkWriter.insertMissing(backfill.prices()).inserted();
+                PriceDataChangedListener.markHistoryWritten(stepExecution);
+                log.info("Saved {} historical price records for {}", saved, backfill.symbol());
             }
         };
     }
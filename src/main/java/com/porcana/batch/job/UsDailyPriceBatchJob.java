@@ -1,7 +1,9 @@
 package com.porcana.batch.job;
 
 import com.porcana.batch.listener.BatchNotificationListener;
+import com.porcana.batch.listener.PriceDataChangedListener;
 import com.porcana.batch.provider.us.FmpAssetProvider;
+import com.porcana.batch.service.price.AssetPriceBulkWriter;
 import com.porcana.batch.support.BatchIssueCollector;
 import com.porcana.domain.asset.AssetPriceRepository;
 import com.porcana.domain.asset.AssetRepository;
@@ -15,39 +17,76 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Daily price update batch job for US market
  * Fetches and updates latest EOD prices for all active US assets
+ * (concurrent, rate-limited to the FMP quota, batched writes)
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class UsDailyPriceBatchJob {
 
+    /**
+     * 미리 읽어 둘 기존 가격 키 구간 (FMP는 최근 3일을 조회하므로 주말/휴일 포함 여유 있게)
+     */
+    private static final int EXISTING_KEY_LOOKBACK_DAYS = 7;
+
+    /**
+     * 한 번에 COPY로 적재하는 가격 수
+     */
+    private static final int WRITE_BATCH_SIZE = 500;
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final FmpAssetProvider fmpProvider;
     private final AssetRepository assetRepository;
     private final AssetPriceRepository assetPriceRepository;
+    private final AssetPriceBulkWriter assetPriceBulkWriter;
     private final BatchNotificationListener batchNotificationListener;
+    private final PriceDataChangedListener priceDataChangedListener;
     private final BatchIssueCollector batchIssueCollector;
 
+    /**
+     * 동시에 진행하는 FMP 요청 수 (FMP HTTP 클라이언트의 동시 요청 한도와 동일)
+     */
+    @Value("${batch.provider.http.clients.fmp.max-concurrent-requests:8}")
+    private int maxConcurrency;
+
     @Bean
     public Job usDailyPriceJob() {
         return new JobBuilder("usDailyPriceJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(priceDataChangedListener)
                 .start(updateUsDailyPricesStep())
                 .build();
     }
 
     /**
      * Update daily prices for all active US assets
+     *
+     * FMP 호출은 고정 크기 스레드 풀에서 병렬로 수행하고, 분당 요청 수는 FMP HTTP 클라이언트의 토큰 버킷이 제한합니다.
+     * 이미 저장된 (자산, 날짜) 키는 시작 시 한 번에 읽어 두고, 새 가격은 모아서 COPY + merge(AssetPriceBulkWriter)로 씁니다.
+     * DB 접근은 모두 tasklet 스레드에서만 일어납니다.
      */
     @Bean
     public Step updateUsDailyPricesStep() {
@@ -61,65 +100,85 @@ public class UsDailyPriceBatchJob {
                     List<Asset> activeAssets = assetRepository.findByMarketAndActiveTrue(Asset.Market.US);
                     log.info("Found {} active US assets", activeAssets.size());
 
+                    // Pre-load (asset, date) keys already stored within the fetch window
+                    LocalDate today = LocalDate.now();
+                    LocalDate keyWindowStart = today.minusDays(EXISTING_KEY_LOOKBACK_DAYS);
+                    Map<LocalDate, Set<UUID>> existingByDate = new HashMap<>();
+                    for (AssetPriceRepository.PriceKey key : assetPriceRepository.findPriceKeysByMarketAndPriceDateBetween(
+                            Asset.Market.US, keyWindowStart, today)) {
+                        existingByDate.computeIfAbsent(key.getPriceDate(), date -> new HashSet<>()).add(key.getAssetId());
+                    }
+
+                    ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency,
+                            new CustomizableThreadFactory("us-daily-price-"));
+                    CompletionService<FetchResult> completionService = new ExecutorCompletionService<>(executor);
+
                     int totalProcessed = 0;
                     int totalSaved = 0;
                     int totalSkipped = 0;
                     int totalFailed = 0;
+                    List<AssetPrice> pending = new ArrayList<>(WRITE_BATCH_SIZE);
+
+                    try {
+                        for (Asset asset : activeAssets) {
+                            completionService.submit(() -> {
+                                try {
+                                    return new FetchResult(asset, fmpProvider.fetchDailyPrice(asset), null);
+                                } catch (Exception e) {
+                                    return new FetchResult(asset, null, e);
+                                }
+                            });
+                        }
 
-                    for (Asset asset : activeAssets) {
-                        try {
+                        for (int i = 0; i < activeAssets.size(); i++) {
+                            FetchResult result = completionService.take().get();
+                            Asset asset = result.asset();
+                            AssetPrice latestPrice = result.price();
                             totalProcessed++;
 
-                            // Fetch latest price
-                            AssetPrice latestPrice = fmpProvider.fetchDailyPrice(asset);
-
-                            if (latestPrice == null) {
+                            if (result.error() != null) {
+                                log.error("Failed to update price for symbol: {}", asset.getSymbol(), result.error());
+                                batchIssueCollector.recordAssetIssue(jobExecutionId, stepName, asset,
+                                        "PRICE_UPDATE_FAILED", result.error().getMessage() != null
+                                                ? result.error().getMessage() : "Unknown error");
+                                totalFailed++;
+                            } else if (latestPrice == null) {
                                 log.warn("No daily price data for symbol: {}", asset.getSymbol());
                                 batchIssueCollector.recordAssetIssue(jobExecutionId, stepName, asset,
                                         "NO_DAILY_PRICE", "No daily price data returned from FMP");
                                 totalFailed++;
-                                continue;
-                            }
-
-                            if (latestPrice.getPrice() == null || latestPrice.getPrice().signum() <= 0) {
+                            } else if (latestPrice.getPrice() == null || latestPrice.getPrice().signum() <= 0) {
                                 log.warn("Invalid daily price for symbol {}: {}", asset.getSymbol(), latestPrice.getPrice());
                                 batchIssueCollector.recordAssetIssue(jobExecutionId, stepName, asset,
                                         "INVALID_DAILY_PRICE", "Daily price was zero, negative, or missing");
                                 totalFailed++;
-                                continue;
-                            }
-
-                            // Check if price already exists for this date
-                            boolean exists = assetPriceRepository.existsByAssetAndPriceDate(
-                                    asset, latestPrice.getPriceDate());
-
-                            if (exists) {
+                            } else if (isStored(existingByDate, keyWindowStart, asset, latestPrice.getPriceDate())) {
                                 log.debug("Price already exists for {} on {}, skipping",
                                         asset.getSymbol(), latestPrice.getPriceDate());
                                 totalSkipped++;
                             } else {
-                                // Save new price
-                                assetPriceRepository.save(latestPrice);
-                                log.info("Saved price for {} on {}: ${}",
+                                pending.add(latestPrice);
+                                existingByDate.computeIfAbsent(latestPrice.getPriceDate(), date -> new HashSet<>())
+                                        .add(asset.getId());
+                                log.info("Fetched price for {} on {}: ${}",
                                         asset.getSymbol(), latestPrice.getPriceDate(), latestPrice.getPrice());
                                 totalSaved++;
-                            }
 
-                            // Add delay to avoid rate limiting
-                            Thread.sleep(150);
+                                if (pending.size() >= WRITE_BATCH_SIZE) {
+                                    flush(pending);
+                                }
+                            }
 
-                        } catch (Exception e) {
-                            log.error("Failed to update price for symbol: {}", asset.getSymbol(), e);
-                            batchIssueCollector.recordAssetIssue(jobExecutionId, stepName, asset,
-                                    "PRICE_UPDATE_FAILED", e.getMessage() != null ? e.getMessage() : "Unknown error");
-                            totalFailed++;
+                            // Log progress every 50 assets
+                            if (totalProcessed % 50 == 0) {
+                                log.info("Progress: {}/{} assets processed, {} saved, {} skipped, {} failed",
+                                        totalProcessed, activeAssets.size(), totalSaved, totalSkipped, totalFailed);
+                            }
                         }
 
-                        // Log progress every 50 assets
-                        if (totalProcessed % 50 == 0) {
-                            log.info("Progress: {}/{} assets processed, {} saved, {} skipped, {} failed",
-                                    totalProcessed, activeAssets.size(), totalSaved, totalSkipped, totalFailed);
-                        }
+                        flush(pending);
+                    } finally {
+                        executor.shutdownNow();
                     }
 
                     log.info("US daily price update complete: {}/{} assets processed, {} saved, {} skipped, {} failed",
@@ -129,4 +188,28 @@ public class UsDailyPriceBatchJob {
                 }, transactionManager)
                 .build();
     }
+
+    /**
+     * 미리 읽어 둔 키로 저장 여부 확인
+     * 키 구간 밖의 날짜(예상보다 오래된 거래일)만 개별 exists 쿼리로 확인합니다.
+     */
+    private boolean isStored(Map<LocalDate, Set<UUID>> existingByDate, LocalDate keyWindowStart,
+                             Asset asset, LocalDate priceDate) {
+        if (priceDate.isBefore(keyWindowStart)) {
+            return assetPriceRepository.existsByAssetAndPriceDate(asset, priceDate);
+        }
+        return existingByDate.getOrDefault(priceDate, Set.of()).contains(asset.getId());
+    }
+
+    private void flush(List<AssetPrice> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        int inserted = assetPriceBulkWriter.insertMissing(pending).inserted();
+        log.info("Saved {} US daily prices ({} already stored)", inserted, pending.size() - inserted);
+        pending.clear();
+    }
+
+    private record FetchResult(Asset asset, AssetPrice price, Exception error) {
+    }
 }
@@ -1,5 +1,6 @@
 package com.porcana.batch.job;
 
+import com.porcana.batch.listener.AssetDataChangedListener;
 import com.porcana.batch.listener.BatchNotificationListener;
 import com.porcana.batch.provider.us.FmpAssetProvider;
 import com.porcana.domain.asset.AssetRepository;
@@ -36,11 +37,13 @@ public class UsImageUpdateBatchJob {
     private final FmpAssetProvider fmpProvider;
     private final AssetRepository assetRepository;
     private final BatchNotificationListener batchNotificationListener;
+    private final AssetDataChangedListener assetDataChangedListener;
 
     @Bean
     public Job usImageUpdateJob() {
         return new JobBuilder("usImageUpdateJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(assetDataChangedListener)
                 .start(updateUsAssetImagesStep())
                 .build();
     }
@@ -78,14 +81,6 @@ public class UsImageUpdateBatchJob {
                                 skipped++;
                                 log.debug("No image URL found for {}", asset.getSymbol());
                             }
-
-                            // Add delay to avoid rate limiting
-                            Thread.sleep(150);
-
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            log.warn("Image update interrupted at symbol: {}", asset.getSymbol());
-                            break;
                         } catch (Exception e) {
                             failed++;
                             log.warn("Failed to update image for {}: {}", asset.getSymbol(), e.getMessage());
@@ -1,5 +1,6 @@
 package com.porcana.batch.job;
 
+import com.porcana.batch.listener.AssetDataChangedListener;
 import com.porcana.batch.listener.BatchNotificationListener;
 import com.porcana.batch.provider.us.WikipediaUniverseProvider;
 import com.porcana.domain.asset.AssetRepository;
@@ -56,11 +57,13 @@ public class UsUniverseSyncJob {
     private final WikipediaUniverseProvider wikipediaProvider;
     private final AssetRepository assetRepository;
     private final BatchNotificationListener batchNotificationListener;
+    private final AssetDataChangedListener assetDataChangedListener;
 
     @Bean
     public Job usUniverseSyncJob() {
         return new JobBuilder("usUniverseSyncJob", jobRepository)
                 .listener(batchNotificationListener)
+                .listener(assetDataChangedListener)
                 .start(syncUsUniverseStep())
                 .build();
     }
@@ -0,0 +1,24 @@
+package com.porcana.batch.listener;
+
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes AssetDataChangedEvent after a job that writes the assets table finishes
+ * Published regardless of the final status because a failed job may still have written some rows
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetDataChangedListener implements JobExecutionListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        eventPublisher.publishEvent(new AssetDataChangedEvent(jobExecution.getJobInstance().getJobName()));
+    }
+}
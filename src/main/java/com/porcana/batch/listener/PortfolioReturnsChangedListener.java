@@ -0,0 +1,24 @@
+package com.porcana.batch.listener;
+
+import com.porcana.domain.portfolio.PortfolioReturnsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes PortfolioReturnsChangedEvent after a job that writes portfolio daily returns finishes
+ * Published regardless of the final status because a failed job may still have written some rows
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioReturnsChangedListener implements JobExecutionListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        eventPublisher.publishEvent(new PortfolioReturnsChangedEvent(jobExecution.getJobInstance().getJobName()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.porcana.batch.listener;
+
+import com.porcana.domain.asset.price.PriceDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes PriceDataChangedEvent after a job that writes asset_prices / exchange_rates finishes
+ * Published regardless of the final status because a failed job may still have written some rows
+ * Daily price / exchange rate jobs only touch recent dates, so the event carries the RECENT scope.
+ * Steps that load older history (e.g. the full history of a newly listed asset) call
+ * {@link #markHistoryWritten(StepExecution)} so the event carries the HISTORY scope instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceDataChangedListener implements JobExecutionListener {
+
+    /**
+     * Job ExecutionContext key set when a step wrote prices older than the recent dates
+     */
+    static final String HISTORY_WRITTEN_KEY = "priceDataChanged.historyWritten";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Marks the running job as having written older price history
+     */
+    public static void markHistoryWritten(StepExecution stepExecution) {
+        stepExecution.getJobExecution().getExecutionContext().putString(HISTORY_WRITTEN_KEY, "true");
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        PriceDataChangedEvent.Scope scope = jobExecution.getExecutionContext().containsKey(HISTORY_WRITTEN_KEY)
+                ? PriceDataChangedEvent.Scope.HISTORY
+                : PriceDataChangedEvent.Scope.RECENT;
+        eventPublisher.publishEvent(new PriceDataChangedEvent(jobExecution.getJobInstance().getJobName(), scope));
+    }
+}
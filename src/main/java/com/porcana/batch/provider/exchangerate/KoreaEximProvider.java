@@ -2,13 +2,14 @@ package com.porcana.batch.provider.exchangerate;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.porcana.batch.provider.http.ProviderHttpClient;
 import com.porcana.domain.exchangerate.entity.CurrencyCode;
 import com.porcana.domain.exchangerate.entity.ExchangeRate;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.math.BigDecimal;
@@ -30,14 +31,14 @@ public class KoreaEximProvider {
     private static final String API_URL = "https://oapi.koreaexim.go.kr/site/program/financial/exchangeJSON";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
-    private final RestTemplate restTemplate;
+    private final ProviderHttpClient httpClient;
     private final String apiKey;
 
     public KoreaEximProvider(
-            RestTemplate restTemplate,
+            @Qualifier("koreaEximHttpClient") ProviderHttpClient httpClient,
             @Value("${batch.provider.exchangerate.api-key:}") String apiKey
     ) {
-        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
         this.apiKey = apiKey;
     }
 
@@ -63,7 +64,7 @@ public class KoreaEximProvider {
         try {
             log.info("Fetching exchange rates for date: {}", searchDate);
 
-            KoreaEximResponse[] responses = restTemplate.getForObject(url, KoreaEximResponse[].class);
+            KoreaEximResponse[] responses = httpClient.getForObject(url, KoreaEximResponse[].class);
 
             if (responses == null || responses.length == 0) {
                 log.warn("No exchange rate data returned for date: {}", searchDate);
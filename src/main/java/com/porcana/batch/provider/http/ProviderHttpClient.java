@@ -0,0 +1,270 @@
+package com.porcana.batch.provider.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.porcana.batch.support.TokenBucketRateLimiter;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilderFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 외부 데이터 제공자(FMP, data.go.kr, 수출입은행, DART, Wikipedia)용 HTTP 클라이언트
+ *
+ * 제공자(호스트)마다 하나씩 생성되며 다음을 담당합니다.
+ * - 커넥션 풀: 제공자별 JDK HttpClient (호스트별 keep-alive 커넥션 재사용), 동시 요청 수 제한
+ * - Rate limit: 제공자별 토큰 버킷 (요청마다, 재시도 포함)
+ * - 재시도: 연결 오류 / 429 / 5xx에 대해 full-jitter 지수 백오프 (Retry-After가 있으면 우선)
+ * - 캐시: 응답 본문을 (URL, 날짜)별로 디스크에 보관하고, freshFor 이내의 같은 날 항목은 네트워크 없이 반환.
+ *   오래된 항목은 ETag / Last-Modified로 조건부 요청해서 304면 그대로 재사용합니다.
+ *   200으로 온 오류 응답은 responseValidator({@link ProviderResponseValidators})를 통과하지 못하면 저장하지 않습니다
+ *
+ * 상태 코드 처리는 기존 RestTemplate 설정과 같습니다: 404는 null, 그 밖의 4xx/5xx는 예외.
+ */
+@Slf4j
+public class ProviderHttpClient {
+
+    private final String name;
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final String userAgent;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Semaphore concurrency;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final ProviderResponseCache cache;
+    private final Duration cacheFreshFor;
+    private final Predicate<byte[]> responseValidator;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    /**
+     * RestTemplate.getForObject(String, …)와 같은 방식으로 URL 문자열을 URI로 변환
+     */
+    private final UriBuilderFactory uriBuilderFactory = restTemplateUriBuilderFactory();
+
+    @Builder
+    private ProviderHttpClient(String name, Duration connectTimeout, Duration readTimeout, String userAgent,
+                               TokenBucketRateLimiter rateLimiter, int maxConcurrentRequests,
+                               int maxAttempts, Duration initialBackoff, Duration maxBackoff,
+                               ProviderResponseCache cache, Duration cacheFreshFor,
+                               Predicate<byte[]> responseValidator, ObjectMapper objectMapper, Clock clock) {
+        this.name = name;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.readTimeout = readTimeout;
+        this.userAgent = userAgent;
+        this.rateLimiter = rateLimiter;
+        this.concurrency = new Semaphore(maxConcurrentRequests);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.cache = cache;
+        this.cacheFreshFor = cacheFreshFor;
+        this.responseValidator = responseValidator;
+        this.objectMapper = objectMapper;
+        this.clock = clock != null ? clock : Clock.systemDefaultZone();
+    }
+
+    /**
+     * GET 후 응답 본문을 지정 타입으로 변환 (byte[], String은 그대로)
+     *
+     * @return 변환된 응답, 404 또는 빈 본문이면 null
+     * @throws ProviderHttpException 재시도 후에도 실패했거나 응답을 해석할 수 없는 경우
+     */
+    public <T> T getForObject(String url, Class<T> responseType) {
+        return getForObject(uriBuilderFactory.expand(url), responseType);
+    }
+
+    /**
+     * 이미 인코딩된 URI로 GET (URL 문자열을 다시 인코딩하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getForObject(URI uri, Class<T> responseType) {
+        byte[] body = fetch(uri);
+        if (body == null || body.length == 0) {
+            return null;
+        }
+
+        if (responseType == byte[].class) {
+            return (T) body;
+        }
+        if (responseType == String.class) {
+            return (T) new String(body, StandardCharsets.UTF_8);
+        }
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (IOException e) {
+            // 오류 응답(200 + 오류 JSON 등)이 캐시에 남지 않도록 제거
+            if (cache != null) {
+                cache.evict(name, uri);
+            }
+            throw new ProviderHttpException(
+                    String.format("[%s] Failed to parse response as %s", name, responseType.getSimpleName()), e);
+        }
+    }
+
+    private byte[] fetch(URI uri) {
+        Optional<ProviderResponseCache.Entry> cached = cache != null ? cache.lookup(name, uri) : Optional.empty();
+        if (cached.isPresent() && isFresh(cached.get())) {
+            log.debug("[{}] Cache hit: {}", name, uri.getPath());
+            return cached.get().body();
+        }
+
+        ProviderHttpException lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            long retryAfterMillis = -1;
+            try {
+                HttpResponse<byte[]> response = send(uri, cached.orElse(null));
+                int status = response.statusCode();
+
+                if (status == 304 && cached.isPresent()) {
+                    log.debug("[{}] Not modified: {}", name, uri.getPath());
+                    cache.refresh(name, uri, cached.get());
+                    return cached.get().body();
+                }
+                if (status >= 200 && status < 300) {
+                    store(uri, response);
+                    return response.body();
+                }
+                if (status == 404) {
+                    return null;
+                }
+                if (status != 429 && status < 500) {
+                    throw new ProviderHttpException(
+                            String.format("[%s] HTTP %d for %s", name, status, uri.getPath()), status);
+                }
+
+                lastError = new ProviderHttpException(
+                        String.format("[%s] HTTP %d for %s", name, status, uri.getPath()), status);
+                retryAfterMillis = retryAfterMillis(response);
+            } catch (IOException e) {
+                lastError = new ProviderHttpException(
+                        String.format("[%s] I/O error for %s: %s", name, uri.getPath(), e.getMessage()), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProviderHttpException(String.format("[%s] Interrupted", name), e);
+            }
+
+            if (attempt < maxAttempts) {
+                long backoffMillis = retryAfterMillis >= 0 ? retryAfterMillis : jitteredBackoffMillis(attempt);
+                log.warn("[{}] Attempt {}/{} failed ({}), retrying in {} ms",
+                        name, attempt, maxAttempts, lastError.getMessage(), backoffMillis);
+                sleep(backoffMillis);
+            }
+        }
+        throw lastError;
+    }
+
+    private HttpResponse<byte[]> send(URI uri, ProviderResponseCache.Entry cached)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .GET();
+        if (userAgent != null && !userAgent.isBlank()) {
+            request.header("User-Agent", userAgent);
+        }
+        if (cached != null && cached.etag() != null) {
+            request.header("If-None-Match", cached.etag());
+        }
+        if (cached != null && cached.lastModified() != null) {
+            request.header("If-Modified-Since", cached.lastModified());
+        }
+
+        rateLimiter.acquire();
+        concurrency.acquire();
+        try {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } finally {
+            concurrency.release();
+        }
+    }
+
+    private void store(URI uri, HttpResponse<byte[]> response) {
+        if (cache == null || !isCacheable(response.body())) {
+            return;
+        }
+        if (responseValidator != null && !responseValidator.test(response.body())) {
+            // 200 + 오류 응답 (요청 제한 초과 등): 다음 요청에서 다시 받도록 저장하지 않고 기존 항목도 제거
+            log.warn("[{}] Error response with HTTP {}, not caching: {}", name, response.statusCode(), uri.getPath());
+            cache.evict(name, uri);
+            return;
+        }
+        cache.store(name, uri,
+                response.body(),
+                response.headers().firstValue("ETag").orElse(null),
+                response.headers().firstValue("Last-Modified").orElse(null));
+    }
+
+    private boolean isFresh(ProviderResponseCache.Entry entry) {
+        return entry.date().equals(LocalDate.now(clock))
+                && entry.storedAt().plus(cacheFreshFor).isAfter(Instant.now(clock));
+    }
+
+    /**
+     * 빈 응답("", "[]", "{}")은 캐시하지 않음 (예: 아직 고시되지 않은 당일 환율)
+     */
+    private static boolean isCacheable(byte[] body) {
+        if (body == null || body.length == 0) {
+            return false;
+        }
+        if (body.length > 16) {
+            return true;
+        }
+        String trimmed = new String(body, StandardCharsets.UTF_8).trim();
+        return !(trimmed.isEmpty() || trimmed.equals("[]") || trimmed.equals("{}"));
+    }
+
+    /**
+     * full jitter: [0, min(max, initial × 2^(attempt-1))] 구간의 균등 난수
+     */
+    private long jitteredBackoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private long retryAfterMillis(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Math.min(maxBackoffMillis, TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim())));
+                    } catch (NumberFormatException e) {
+                        return -1L;
+                    }
+                })
+                .orElse(-1L);
+    }
+
+    private static UriBuilderFactory restTemplateUriBuilderFactory() {
+        DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory();
+        factory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.URI_COMPONENT);
+        return factory;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProviderHttpException(String.format("[%s] Interrupted", name), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.porcana.batch.provider.http;
+
+import lombok.Getter;
+
+/**
+ * 외부 API 호출 실패 (재시도 후에도 실패했거나 재시도 대상이 아닌 오류)
+ */
+@Getter
+public class ProviderHttpException extends RuntimeException {
+
+    /**
+     * HTTP 상태 코드 (응답을 받지 못했으면 0)
+     */
+    private final int statusCode;
+
+    public ProviderHttpException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public ProviderHttpException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = 0;
+    }
+}
@@ -0,0 +1,224 @@
+package com.porcana.batch.provider.http;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * 외부 API 응답 디스크 캐시
+ *
+ * 응답 본문을 (URL, 받은 날짜) 단위로 저장합니다.
+ * - 경로: {root}/{provider}/{sha256(URL)}/{yyyy-MM-dd}.body (+ .meta: ETag, Last-Modified, 저장 시각)
+ * - URL에 API 키가 들어 있으므로 파일명에는 해시만 사용합니다
+ * - 같은 URL의 retentionDays보다 오래된 항목은 새 항목을 저장할 때 정리합니다
+ *
+ * 파일은 임시 파일에 쓴 뒤 이동하므로, 동시에 읽는 쪽은 완성된 파일만 보게 됩니다.
+ */
+@Slf4j
+public class ProviderResponseCache {
+
+    private static final String BODY_SUFFIX = ".body";
+    private static final String META_SUFFIX = ".meta";
+
+    private final Path root;
+    private final int retentionDays;
+    private final Clock clock;
+
+    public ProviderResponseCache(Path root, int retentionDays) {
+        this(root, retentionDays, Clock.systemDefaultZone());
+    }
+
+    ProviderResponseCache(Path root, int retentionDays, Clock clock) {
+        this.root = root;
+        this.retentionDays = retentionDays;
+        this.clock = clock;
+    }
+
+    /**
+     * URL의 가장 최근 캐시 항목 (오늘 항목이 있으면 오늘 항목)
+     */
+    public Optional<Entry> lookup(String provider, URI uri) {
+        Path dir = directory(provider, uri);
+        if (!Files.isDirectory(dir)) {
+            return Optional.empty();
+        }
+
+        LocalDate latest = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + BODY_SUFFIX)) {
+            for (Path file : files) {
+                LocalDate date = parseDate(file, BODY_SUFFIX);
+                if (date != null && (latest == null || date.isAfter(latest))) {
+                    latest = date;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to list provider cache directory {}: {}", dir, e.getMessage());
+            return Optional.empty();
+        }
+
+        if (latest == null) {
+            return Optional.empty();
+        }
+        return read(dir, latest);
+    }
+
+    /**
+     * 오늘 날짜로 응답 저장 (같은 날 항목이 있으면 덮어씀)
+     */
+    public void store(String provider, URI uri, byte[] body, String etag, String lastModified) {
+        Path dir = directory(provider, uri);
+        LocalDate today = LocalDate.now(clock);
+
+        Properties meta = new Properties();
+        meta.setProperty("storedAt", Instant.now(clock).toString());
+        if (etag != null) {
+            meta.setProperty("etag", etag);
+        }
+        if (lastModified != null) {
+            meta.setProperty("lastModified", lastModified);
+        }
+
+        try {
+            Files.createDirectories(dir);
+            writeAtomically(dir, today + BODY_SUFFIX, out -> out.write(body));
+            writeAtomically(dir, today + META_SUFFIX, out -> meta.store(out, null));
+            purgeExpired(dir, today);
+        } catch (IOException e) {
+            // 캐시 실패는 수집을 막지 않음
+            log.warn("Failed to store provider cache entry for {}: {}", provider, e.getMessage());
+        }
+    }
+
+    /**
+     * 304 Not Modified로 재검증된 항목을 오늘 날짜로 다시 저장
+     */
+    public void refresh(String provider, URI uri, Entry entry) {
+        store(provider, uri, entry.body(), entry.etag(), entry.lastModified());
+    }
+
+    /**
+     * URL의 캐시 항목 전체 삭제 (응답을 해석할 수 없었던 경우 등)
+     */
+    public void evict(String provider, URI uri) {
+        Path dir = directory(provider, uri);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to evict provider cache entry for {}: {}", provider, e.getMessage());
+        }
+    }
+
+    private Optional<Entry> read(Path dir, LocalDate date) {
+        try {
+            byte[] body = Files.readAllBytes(dir.resolve(date + BODY_SUFFIX));
+            Properties meta = new Properties();
+            try (InputStream in = Files.newInputStream(dir.resolve(date + META_SUFFIX))) {
+                meta.load(in);
+            }
+            Instant storedAt = Instant.parse(meta.getProperty("storedAt"));
+            return Optional.of(new Entry(date, storedAt, body,
+                    meta.getProperty("etag"), meta.getProperty("lastModified")));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable provider cache entry {}/{}: {}", dir, date, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void purgeExpired(Path dir, LocalDate today) throws IOException {
+        LocalDate oldestKept = today.minusDays(retentionDays);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                String suffix = file.getFileName().toString().endsWith(BODY_SUFFIX) ? BODY_SUFFIX : META_SUFFIX;
+                LocalDate date = parseDate(file, suffix);
+                if (date != null && date.isBefore(oldestKept)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private void writeAtomically(Path dir, String fileName, IoWriter writer) throws IOException {
+        Path temp = Files.createTempFile(dir, fileName, ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            try {
+                Files.move(temp, dir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, dir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path directory(String provider, URI uri) {
+        return root.resolve(provider).resolve(sha256(uri.toString()));
+    }
+
+    private static LocalDate parseDate(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(suffix)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(name.substring(0, name.length() - suffix.length()));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * 캐시 항목
+     *
+     * @param date     응답을 받은 날짜 (캐시 키의 일부)
+     * @param storedAt 저장(또는 재검증) 시각
+     */
+    public record Entry(LocalDate date, Instant storedAt, byte[] body, String etag, String lastModified) {
+
+        public boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+    }
+}
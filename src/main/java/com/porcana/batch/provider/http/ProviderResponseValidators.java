@@ -0,0 +1,76 @@
+package com.porcana.batch.provider.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 제공자별 응답 검증 (캐시에 저장해도 되는 응답인지)
+ *
+ * 일부 제공자는 오류를 HTTP 200 + 오류 JSON으로 돌려줍니다. 이런 응답은 정상적으로 파싱되므로
+ * 캐시에 저장되면 freshFor 동안 같은 실패가 디스크에서 재생됩니다.
+ * - DART: status가 000(정상) / 013(데이터 없음)이 아니면 오류 (예: 020 요청 제한 초과)
+ * - data.go.kr: response.header.resultCode가 00이 아니면 오류
+ * - FMP: "Error Message" 필드가 있는 객체는 오류
+ * - 수출입은행: result가 1이 아닌 항목이 있으면 오류 (2 데이터코드 오류, 3 인증코드 오류, 4 일일 제한 초과)
+ *
+ * JSON이 아닌 본문(zip, XML, HTML)은 여기서 판단하지 않습니다.
+ * 타입 변환에 실패하면 {@link ProviderHttpClient}가 캐시에서 제거합니다.
+ */
+public final class ProviderResponseValidators {
+
+    private static final Set<String> DART_OK_STATUSES = Set.of("000", "013");
+
+    private ProviderResponseValidators() {
+    }
+
+    /**
+     * 제공자 이름에 맞는 검증 (검증이 필요 없는 제공자는 null)
+     */
+    public static Predicate<byte[]> forProvider(String name, ObjectMapper objectMapper) {
+        return switch (name) {
+            case "dart" -> json(objectMapper, root -> !root.has("status")
+                    || DART_OK_STATUSES.contains(root.path("status").asText()));
+            case "data-go-kr" -> json(objectMapper, root -> {
+                JsonNode resultCode = root.path("response").path("header").path("resultCode");
+                return resultCode.isMissingNode() || "00".equals(resultCode.asText());
+            });
+            case "fmp" -> json(objectMapper, root -> !(root.isObject() && root.has("Error Message")));
+            case "korea-exim" -> json(objectMapper, root -> {
+                for (JsonNode item : root) {
+                    JsonNode result = item.path("result");
+                    if (!result.isMissingNode() && !result.isNull() && result.asInt() != 1) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            default -> null;
+        };
+    }
+
+    private static Predicate<byte[]> json(ObjectMapper objectMapper, Predicate<JsonNode> valid) {
+        return body -> {
+            if (!startsLikeJson(body)) {
+                return true;
+            }
+            try {
+                return valid.test(objectMapper.readTree(body));
+            } catch (IOException e) {
+                return true;
+            }
+        };
+    }
+
+    private static boolean startsLikeJson(byte[] body) {
+        for (byte b : body) {
+            if (!Character.isWhitespace(b)) {
+                return b == '{' || b == '[';
+            }
+        }
+        return false;
+    }
+}
@@ -2,14 +2,15 @@ package com.porcana.batch.provider.kr;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.porcana.batch.provider.http.ProviderHttpClient;
 import com.porcana.domain.asset.entity.DividendCategory;
 import com.porcana.domain.asset.entity.DividendDataStatus;
 import com.porcana.domain.asset.entity.DividendFrequency;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
@@ -46,7 +47,7 @@ public class DartApiProvider {
     private static final BigDecimal HIGH_DIVIDEND_THRESHOLD = new BigDecimal("0.04"); // 4%
     private static final BigDecimal MID_DIVIDEND_THRESHOLD = new BigDecimal("0.02");  // 2%
 
-    private final RestTemplate restTemplate;
+    private final ProviderHttpClient httpClient;
     private final String apiKey;
 
     // corp_code 매핑: KR 종목코드(6자리) → DART corp_code
@@ -54,10 +55,10 @@ public class DartApiProvider {
     private LocalDate corpCodeMapUpdatedAt;
 
     public DartApiProvider(
-            RestTemplate restTemplate,
+            @Qualifier("dartHttpClient") ProviderHttpClient httpClient,
             @Value("${batch.provider.dart.api-key:}") String apiKey
     ) {
-        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
         this.apiKey = apiKey;
     }
 
@@ -122,7 +123,7 @@ public class DartApiProvider {
     private Map<String, String> downloadCorpCodeMap() throws Exception {
         String url = CORP_CODE_URL + "?crtfc_key=" + apiKey;
 
-        byte[] zipBytes = restTemplate.getForObject(url, byte[].class);
+        byte[] zipBytes = httpClient.getForObject(url, byte[].class);
         if (zipBytes == null || zipBytes.length == 0) {
             throw new IllegalStateException("DART corp_code ZIP response is empty");
         }
@@ -190,7 +191,7 @@ public class DartApiProvider {
                 ALOT_MATTER_URL, apiKey, corpCode, bsnsYear, REPRT_CODE_ANNUAL);
 
         try {
-            AlotMatterResponse response = restTemplate.getForObject(url, AlotMatterResponse.class);
+            AlotMatterResponse response = httpClient.getForObject(url, AlotMatterResponse.class);
 
             if (response == null || !"000".equals(response.getStatus())) {
                 log.warn("DART API error for stock {} (corp_code: {}): status={}",
@@ -1,12 +1,13 @@
 package com.porcana.batch.provider.kr;
 
 import com.porcana.batch.dto.AssetBatchDto;
+import com.porcana.batch.provider.http.ProviderHttpClient;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetPrice;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.math.BigDecimal;
@@ -24,18 +25,18 @@ public class DataGoKrAssetProvider implements KrAssetDataProvider {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
-    private final RestTemplate restTemplate;
+    private final ProviderHttpClient httpClient;
     private final UniverseTaggingProvider universeTaggingProvider;
     private final String apiKey;
     private final String apiUrl;
 
     public DataGoKrAssetProvider(
-            RestTemplate restTemplate,
+            @Qualifier("dataGoKrHttpClient") ProviderHttpClient httpClient,
             UniverseTaggingProvider universeTaggingProvider,
             @Value("${batch.provider.kr.api-key:}") String apiKey,
             @Value("${batch.provider.kr.api-url:https://apis.data.go.kr/1160100/service/GetStockSecuritiesInfoService}") String apiUrl
     ) {
-        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
         this.universeTaggingProvider = universeTaggingProvider;
         this.apiKey = apiKey;
         this.apiUrl = apiUrl;
@@ -72,13 +73,6 @@ public class DataGoKrAssetProvider implements KrAssetDataProvider {
                         log.warn("No data returned for symbol: {}", symbol);
                     }
 
-                    // Add small delay to avoid rate limiting
-                    Thread.sleep(100);
-
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    log.warn("Asset fetch interrupted at symbol: {}", symbol);
-                    break;
                 } catch (Exception e) {
                     log.warn("Failed to fetch data for symbol: {}. Skipping. Error: {}", symbol, e.getMessage());
                     // Continue with next symbol instead of failing entire batch
@@ -120,7 +114,7 @@ public class DataGoKrAssetProvider implements KrAssetDataProvider {
                 .toUriString();
 
         try {
-            DataGoKrResponse response = restTemplate.getForObject(url, DataGoKrResponse.class);
+            DataGoKrResponse response = httpClient.getForObject(url, DataGoKrResponse.class);
 
             if (response == null || response.getResponse() == null) {
                 log.warn("No response for symbol: {}", symbol);
@@ -176,7 +170,7 @@ public class DataGoKrAssetProvider implements KrAssetDataProvider {
                 .toUriString();
 
         try {
-            DataGoKrResponse response = restTemplate.getForObject(url, DataGoKrResponse.class);
+            DataGoKrResponse response = httpClient.getForObject(url, DataGoKrResponse.class);
 
             if (response == null || response.getResponse() == null) {
                 log.warn("No response for symbol: {}", asset.getSymbol());
@@ -264,7 +258,7 @@ public class DataGoKrAssetProvider implements KrAssetDataProvider {
             log.info("Fetching historical prices for {}: from {} to {}",
                     asset.getSymbol(), beginBasDt, endBasDt);
 
-            DataGoKrResponse response = restTemplate.getForObject(url, DataGoKrResponse.class);
+            DataGoKrResponse response = httpClient.getForObject(url, DataGoKrResponse.class);
 
             if (response == null || response.getResponse() == null) {
                 log.warn("No response for symbol: {}", asset.getSymbol());
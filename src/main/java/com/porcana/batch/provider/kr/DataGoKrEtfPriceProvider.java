@@ -1,11 +1,12 @@
 package com.porcana.batch.provider.kr;
 
+import com.porcana.batch.provider.http.ProviderHttpClient;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetPrice;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.math.BigDecimal;
@@ -25,14 +26,14 @@ public class DataGoKrEtfPriceProvider {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final String ETF_PRICE_API_URL = "https://apis.data.go.kr/1160100/service/GetSecuritiesProductInfoService";
 
-    private final RestTemplate restTemplate;
+    private final ProviderHttpClient httpClient;
     private final String apiKey;
 
     public DataGoKrEtfPriceProvider(
-            RestTemplate restTemplate,
+            @Qualifier("dataGoKrHttpClient") ProviderHttpClient httpClient,
             @Value("${batch.provider.kr.api-key:}") String apiKey
     ) {
-        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
         this.apiKey = apiKey;
     }
 
@@ -63,7 +64,7 @@ public class DataGoKrEtfPriceProvider {
                 .toUriString();
 
         try {
-            DataGoKrResponse response = restTemplate.getForObject(url, DataGoKrResponse.class);
+            DataGoKrResponse response = httpClient.getForObject(url, DataGoKrResponse.class);
 
             if (response == null || response.getResponse() == null) {
                 log.warn("No response for ETF symbol: {}", asset.getSymbol());
@@ -151,7 +152,7 @@ public class DataGoKrEtfPriceProvider {
             log.info("Fetching historical prices for ETF {}: from {} to {}",
                     asset.getSymbol(), beginBasDt, endBasDt);
 
-            DataGoKrResponse response = restTemplate.getForObject(url, DataGoKrResponse.class);
+            DataGoKrResponse response = httpClient.getForObject(url, DataGoKrResponse.class);
 
             if (response == null || response.getResponse() == null) {
                 log.warn("No response for ETF symbol: {}", asset.getSymbol());
@@ -3,16 +3,17 @@ package com.porcana.batch.provider.us;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.porcana.batch.dto.AssetBatchDto;
+import com.porcana.batch.provider.http.ProviderHttpClient;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetPrice;
 import com.porcana.domain.asset.entity.Sector;
 import com.porcana.domain.asset.entity.UniverseTag;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import com.porcana.domain.asset.entity.DividendCategory;
 import com.porcana.domain.asset.entity.DividendDataStatus;
@@ -50,16 +51,16 @@ public class FmpAssetProvider implements UsAssetDataProvider {
     // 배당 수익률 임계값 (소수 기준)
     private static final BigDecimal HIGH_DIVIDEND_THRESHOLD = new BigDecimal("0.04");  // 4% 이상 = 고배당
 
-    private final RestTemplate restTemplate;
+    private final ProviderHttpClient httpClient;
     private final String apiKey;
     private final String baseUrl;
 
     public FmpAssetProvider(
-            RestTemplate restTemplate,
+            @Qualifier("fmpHttpClient") ProviderHttpClient httpClient,
             @Value("${batch.provider.us.api-key:}") String apiKey,
             @Value("${batch.provider.us.base-url:https://financialmodelingprep.com}") String baseUrl
     ) {
-        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
     }
@@ -110,13 +111,6 @@ public class FmpAssetProvider implements UsAssetDataProvider {
                     } else {
                         log.warn("No data returned for symbol: {}", symbol);
                     }
-
-                    // Add small delay to avoid rate limiting
-                    Thread.sleep(150);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    log.warn("Asset fetch interrupted at symbol: {}", symbol);
-                    break;
                 } catch (Exception e) {
                     log.warn("Failed to fetch data for symbol: {}. Skipping. Error: {}", symbol, e.getMessage());
                 }
@@ -145,7 +139,7 @@ public class FmpAssetProvider implements UsAssetDataProvider {
         String url = String.format("%s%s?symbol=%s&apikey=%s", baseUrl, PROFILE_ENDPOINT, symbol, apiKey);
 
         try {
-            FmpProfile[] profiles = restTemplate.getForObject(url, FmpProfile[].class);
+            FmpProfile[] profiles = httpClient.getForObject(url, FmpProfile[].class);
 
             if (profiles == null || profiles.length == 0) {
                 log.debug("No profile data for symbol: {} (may not exist in FMP database)", symbol);
@@ -263,7 +257,7 @@ public class FmpAssetProvider implements UsAssetDataProvider {
                 baseUrl, HISTORICAL_PRICE_ENDPOINT, fromDate, asset.getSymbol(), apiKey);
 
         try {
-            FmpHistoricalPrice[] prices = restTemplate.getForObject(url, FmpHistoricalPrice[].class);
+            FmpHistoricalPrice[] prices = httpClient.getForObject(url, FmpHistoricalPrice[].class);
 
             if (prices == null || prices.length == 0) {
                 log.warn("No daily price data for symbol: {}", asset.getSymbol());
@@ -324,7 +318,7 @@ public class FmpAssetProvider implements UsAssetDataProvider {
         try {
             log.info("Fetching historical prices for {}: from {} to now", asset.getSymbol(), fromDate);
 
-            FmpHistoricalPrice[] prices = restTemplate.getForObject(url, FmpHistoricalPrice[].class);
+            FmpHistoricalPrice[] prices = httpClient.getForObject(url, FmpHistoricalPrice[].class);
 
             if (prices == null || prices.length == 0) {
                 log.warn("No historical price data for symbol: {}", asset.getSymbol());
@@ -376,7 +370,7 @@ public class FmpAssetProvider implements UsAssetDataProvider {
         String url = String.format("%s%s?symbol=%s&apikey=%s", baseUrl, PROFILE_ENDPOINT, symbol, apiKey);
 
         try {
-            FmpProfile[] profiles = restTemplate.getForObject(url, FmpProfile[].class);
+            FmpProfile[] profiles = httpClient.getForObject(url, FmpProfile[].class);
 
             if (profiles == null || profiles.length == 0) {
                 log.debug("No profile data for symbol: {}", symbol);
@@ -458,7 +452,7 @@ public class FmpAssetProvider implements UsAssetDataProvider {
         String url = String.format("%s%s?symbol=%s&apikey=%s", baseUrl, PROFILE_ENDPOINT, symbol, apiKey);
 
         try {
-            FmpProfile[] profiles = restTemplate.getForObject(url, FmpProfile[].class);
+            FmpProfile[] profiles = httpClient.getForObject(url, FmpProfile[].class);
             if (profiles == null || profiles.length == 0) {
                 return null;
             }
@@ -474,7 +468,7 @@ public class FmpAssetProvider implements UsAssetDataProvider {
         String url = String.format("%s%s?symbol=%s&apikey=%s", baseUrl, DIVIDENDS_ENDPOINT, symbol, apiKey);
 
         try {
-            FmpDividend[] dividends = restTemplate.getForObject(url, FmpDividend[].class);
+            FmpDividend[] dividends = httpClient.getForObject(url, FmpDividend[].class);
             if (dividends == null) {
                 return new ArrayList<>();
             }
@@ -490,7 +484,7 @@ public class FmpAssetProvider implements UsAssetDataProvider {
         String url = String.format("%s%s?symbol=%s&apikey=%s", baseUrl, RATIOS_TTM_ENDPOINT, symbol, apiKey);
 
         try {
-            FmpRatiosTtm[] ratios = restTemplate.getForObject(url, FmpRatiosTtm[].class);
+            FmpRatiosTtm[] ratios = httpClient.getForObject(url, FmpRatiosTtm[].class);
             if (ratios == null || ratios.length == 0) {
                 return null;
             }
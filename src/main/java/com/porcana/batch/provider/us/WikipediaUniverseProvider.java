@@ -1,12 +1,15 @@
 package com.porcana.batch.provider.us;
 
+import com.porcana.batch.provider.http.ProviderHttpClient;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.net.URI;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -28,20 +31,23 @@ public class WikipediaUniverseProvider {
     private static final String NASDAQ100_URL =
             "https://en.wikipedia.org/wiki/Nasdaq-100";
 
-    private static final int TIMEOUT_MS = 20_000;
     private static final int SP500_MIN_SYMBOLS     = 490;
     private static final int NASDAQ100_MIN_SYMBOLS = 90;
     private static final int NASDAQ100_MAX_SYMBOLS = 110;
 
+    private final ProviderHttpClient httpClient;
+
+    public WikipediaUniverseProvider(@Qualifier("wikipediaHttpClient") ProviderHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
     // -------------------------------------------------------------------------
     // Public API
     // -------------------------------------------------------------------------
 
     public Set<String> fetchSp500Symbols() {
         try {
-            Document doc = Jsoup.connect(SP500_URL).timeout(TIMEOUT_MS)
-                    .userAgent("Mozilla/5.0 (compatible; Porcana/1.0)")
-                    .get();
+            Document doc = fetchDocument(SP500_URL);
 
             // The S&P 500 page has a stable table with id="constituents"
             Element table = doc.getElementById("constituents");
@@ -76,9 +82,7 @@ public class WikipediaUniverseProvider {
 
     public Set<String> fetchNasdaq100Symbols() {
         try {
-            Document doc = Jsoup.connect(NASDAQ100_URL).timeout(TIMEOUT_MS)
-                    .userAgent("Mozilla/5.0 (compatible; Porcana/1.0)")
-                    .get();
+            Document doc = fetchDocument(NASDAQ100_URL);
 
             // Try common header keywords in order
             for (String keyword : new String[]{"ticker", "symbol"}) {
@@ -102,6 +106,14 @@ public class WikipediaUniverseProvider {
     // Internal helpers
     // -------------------------------------------------------------------------
 
+    private Document fetchDocument(String url) {
+        String html = httpClient.getForObject(URI.create(url), String.class);
+        if (html == null) {
+            throw new IllegalStateException("Empty response from " + url);
+        }
+        return Jsoup.parse(html, url);
+    }
+
     /**
      * Scans all wikitables on the page for one whose header contains {@code headerKeyword},
      * then extracts that column's values if the result is within the expected size range.
@@ -3,16 +3,18 @@ package com.porcana.batch.runner;
 import com.porcana.batch.provider.kr.DataGoKrAssetProvider;
 import com.porcana.batch.provider.kr.DataGoKrEtfPriceProvider;
 import com.porcana.batch.provider.us.FmpAssetProvider;
-import com.porcana.domain.asset.AssetPriceRepository;
+import com.porcana.batch.service.price.AssetPriceBulkWriter;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetPrice;
+import com.porcana.domain.asset.price.PriceDataChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,10 +45,11 @@ import java.util.List;
 public class AssetPriceBackfillRunner implements ApplicationRunner {
 
     private final AssetRepository assetRepository;
-    private final AssetPriceRepository assetPriceRepository;
+    private final AssetPriceBulkWriter assetPriceBulkWriter;
     private final DataGoKrAssetProvider dataGoKrAssetProvider;
     private final DataGoKrEtfPriceProvider dataGoKrEtfPriceProvider;
     private final FmpAssetProvider fmpAssetProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     private AssetPriceBackfillRunner self;
 
@@ -85,6 +88,8 @@ public class AssetPriceBackfillRunner implements ApplicationRunner {
         // Backfill US assets
         backfillUsAssets(usAssets);
 
+        eventPublisher.publishEvent(new PriceDataChangedEvent("AssetPriceBackfillRunner", PriceDataChangedEvent.Scope.HISTORY));
+
         log.info("========================================");
         log.info("Asset Price Backfill completed");
         log.info("========================================");
@@ -135,14 +140,6 @@ public class AssetPriceBackfillRunner implements ApplicationRunner {
                     log.warn("  No data fetched for {}", asset.getSymbol());
                     failed++;
                 }
-
-                // Rate limiting
-                Thread.sleep(200);
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Backfill interrupted at {}", asset.getSymbol());
-                break;
             } catch (Exception e) {
                 log.error("  Failed to backfill {}: {}", asset.getSymbol(), e.getMessage());
                 failed++;
@@ -198,14 +195,6 @@ public class AssetPriceBackfillRunner implements ApplicationRunner {
                     log.warn("  No data fetched for {}", asset.getSymbol());
                     failed++;
                 }
-
-                // Rate limiting (FMP has stricter limits)
-                Thread.sleep(300);
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Backfill interrupted at {}", asset.getSymbol());
-                break;
             } catch (Exception e) {
                 log.error("  Failed to backfill {}: {}", asset.getSymbol(), e.getMessage());
                 failed++;
@@ -223,36 +212,13 @@ public class AssetPriceBackfillRunner implements ApplicationRunner {
 
     /**
      * Upsert asset prices - insert if not exists, update if exists
+     * (COPY into a staging table + a single INSERT ... ON CONFLICT, see AssetPriceBulkWriter)
      *
      * @return int[2] - [0] = inserted count, [1] = updated count
      */
     @Transactional
     protected int[] upsertAssetPrices(Asset asset, List<AssetPrice> prices) {
-        int inserted = 0;
-        int updated = 0;
-
-        for (AssetPrice newPrice : prices) {
-            var existingOpt = assetPriceRepository.findByAssetAndPriceDate(asset, newPrice.getPriceDate());
-
-            if (existingOpt.isPresent()) {
-                // Update existing record
-                AssetPrice existing = existingOpt.get();
-                existing.updatePrice(
-                        newPrice.getOpenPrice(),
-                        newPrice.getHighPrice(),
-                        newPrice.getLowPrice(),
-                        newPrice.getClosePrice(),
-                        newPrice.getVolume()
-                );
-                assetPriceRepository.save(existing);
-                updated++;
-            } else {
-                // Insert new record
-                assetPriceRepository.save(newPrice);
-                inserted++;
-            }
-        }
-
-        return new int[]{inserted, updated};
+        AssetPriceBulkWriter.MergeResult result = assetPriceBulkWriter.upsert(prices);
+        return new int[]{result.inserted(), result.updated()};
     }
-}
\ No newline at end of file
+}
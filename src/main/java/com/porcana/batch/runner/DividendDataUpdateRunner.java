@@ -98,14 +98,6 @@ public class DividendDataUpdateRunner implements ApplicationRunner {
                         dividendData.getDividendYield(),
                         dividendData.getDividendFrequency(),
                         dividendData.getDividendCategory());
-
-                // Rate limiting - 150ms delay between API calls
-                Thread.sleep(150);
-
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-                log.warn("Dividend update interrupted at symbol: {}", symbol);
-                break;
             } catch (Exception e) {
                 log.warn("Failed to update dividend data for {}: {}", symbol, e.getMessage());
                 failed++;
@@ -113,14 +113,6 @@ public class KrDividendUpdateRunner implements ApplicationRunner {
                         dividendData.getDividendAvailable(),
                         dividendData.getDividendYield(),
                         dividendData.getDividendFrequency());
-
-                // Rate limiting
-                Thread.sleep(200);
-
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-                log.warn("KR dividend update interrupted at symbol: {}", symbol);
-                break;
             } catch (Exception e) {
                 log.warn("Failed to update dividend data for {}: {}", symbol, e.getMessage());
                 failed++;
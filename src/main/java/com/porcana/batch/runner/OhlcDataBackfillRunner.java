@@ -3,16 +3,19 @@ package com.porcana.batch.runner;
 import com.porcana.batch.provider.kr.DataGoKrAssetProvider;
 import com.porcana.batch.provider.kr.DataGoKrEtfPriceProvider;
 import com.porcana.batch.provider.us.FmpAssetProvider;
+import com.porcana.batch.service.price.AssetPriceBulkWriter;
 import com.porcana.domain.asset.AssetPriceRepository;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetPrice;
+import com.porcana.domain.asset.price.PriceDataChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,9 +46,11 @@ public class OhlcDataBackfillRunner implements ApplicationRunner {
 
     private final AssetRepository assetRepository;
     private final AssetPriceRepository assetPriceRepository;
+    private final AssetPriceBulkWriter assetPriceBulkWriter;
     private final DataGoKrAssetProvider dataGoKrAssetProvider;
     private final DataGoKrEtfPriceProvider dataGoKrEtfPriceProvider;
     private final FmpAssetProvider fmpAssetProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Self-injection to enable @Transactional on methods
@@ -72,6 +77,8 @@ public class OhlcDataBackfillRunner implements ApplicationRunner {
         // Step 2: Fetch OHLC data for all active assets
         backfillOhlcData();
 
+        eventPublisher.publishEvent(new PriceDataChangedEvent("OhlcDataBackfillRunner", PriceDataChangedEvent.Scope.HISTORY));
+
         log.info("========================================");
         log.info("OHLC Data Backfill completed");
         log.info("========================================");
@@ -147,14 +154,6 @@ public class OhlcDataBackfillRunner implements ApplicationRunner {
                     log.warn("  ✗ No data fetched for {}", asset.getSymbol());
                     failed++;
                 }
-
-                // Rate limiting
-                Thread.sleep(200);
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Backfill interrupted at {}", asset.getSymbol());
-                break;
             } catch (Exception e) {
                 log.error("  ✗ Failed to backfill {}: {}", asset.getSymbol(), e.getMessage());
                 failed++;
@@ -203,14 +202,6 @@ public class OhlcDataBackfillRunner implements ApplicationRunner {
                     log.warn("  ✗ No data fetched for {}", asset.getSymbol());
                     failed++;
                 }
-
-                // Rate limiting (FMP has stricter limits)
-                Thread.sleep(300);
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Backfill interrupted at {}", asset.getSymbol());
-                break;
             } catch (Exception e) {
                 log.error("  ✗ Failed to backfill {}: {}", asset.getSymbol(), e.getMessage());
                 failed++;
@@ -227,6 +218,6 @@ public class OhlcDataBackfillRunner implements ApplicationRunner {
 
     @Transactional
     protected void saveAssetPrices(List<AssetPrice> prices) {
-        assetPriceRepository.saveAll(prices);
+        assetPriceBulkWriter.upsert(prices);
     }
 }
\ No newline at end of file
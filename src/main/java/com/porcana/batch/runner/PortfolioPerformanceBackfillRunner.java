@@ -1,6 +1,7 @@
 package com.porcana.batch.runner;
 
 import com.porcana.batch.service.PortfolioPerformanceBackfillService;
+import com.porcana.domain.portfolio.PortfolioReturnsChangedEvent;
 import com.porcana.domain.portfolio.entity.Portfolio;
 import com.porcana.domain.portfolio.entity.PortfolioStatus;
 import com.porcana.domain.portfolio.repository.PortfolioRepository;
@@ -9,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -27,6 +29,7 @@ public class PortfolioPerformanceBackfillRunner implements ApplicationRunner {
 
     private final PortfolioRepository portfolioRepository;
     private final PortfolioPerformanceBackfillService portfolioPerformanceBackfillService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void run(ApplicationArguments args) {
@@ -65,5 +68,7 @@ public class PortfolioPerformanceBackfillRunner implements ApplicationRunner {
         log.info("Portfolios: {} success, {} failed", successPortfolios, failedPortfolios);
         log.info("Days: {} inserted, {} skipped", totalDaysInserted, totalDaysSkipped);
         log.info("========================================");
+
+        eventPublisher.publishEvent(new PortfolioReturnsChangedEvent("PortfolioPerformanceBackfillRunner"));
     }
 }
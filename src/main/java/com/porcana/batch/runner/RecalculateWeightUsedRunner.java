@@ -1,5 +1,8 @@
 package com.porcana.batch.runner;
 
+import com.porcana.batch.service.performance.DailyReturnBatchWriter;
+import com.porcana.batch.service.performance.ReturnKernel;
+import com.porcana.domain.portfolio.PortfolioReturnsChangedEvent;
 import com.porcana.domain.portfolio.entity.Portfolio;
 import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
 import com.porcana.domain.portfolio.entity.PortfolioSnapshotAsset;
@@ -11,12 +14,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -46,6 +49,8 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
     private final PortfolioDailyReturnRepository dailyReturnRepository;
     private final PortfolioSnapshotRepository portfolioSnapshotRepository;
     private final PortfolioSnapshotAssetRepository portfolioSnapshotAssetRepository;
+    private final DailyReturnBatchWriter dailyReturnBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Self-injection to enable @Transactional on recalculatePortfolioWeights()
@@ -58,11 +63,6 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
         this.self = self;
     }
 
-    /**
-     * 초기 가상 투자금 (원화 기준)
-     */
-    private static final BigDecimal INITIAL_INVESTMENT_KRW = new BigDecimal("10000000.00");
-
     @Override
     public void run(ApplicationArguments args) throws Exception {
         log.info("========================================");
@@ -104,6 +104,8 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
         log.info("Failed: {}", totalFailed);
         log.info("Total daily returns recalculated: {}", totalProcessed);
         log.info("========================================");
+
+        eventPublisher.publishEvent(new PortfolioReturnsChangedEvent("RecalculateWeightUsedRunner"));
     }
 
     /**
@@ -137,6 +139,8 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
                 .collect(Collectors.groupingBy(SnapshotAssetDailyReturn::getReturnDate));
 
         int recalculated = 0;
+        List<SnapshotAssetDailyReturn> updatedAssetReturns = new ArrayList<>();
+        List<PortfolioDailyReturn> updatedPortfolioReturns = new ArrayList<>();
 
         // Process each date in order
         List<LocalDate> sortedDates = new ArrayList<>(returnsByDate.keySet());
@@ -147,7 +151,8 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
             PortfolioDailyReturn portfolioDailyReturn = portfolioReturnMap.get(returnDate);
 
             try {
-                recalculateWeightsForDate(portfolioId, returnDate, returns, portfolioDailyReturn);
+                recalculateWeightsForDate(portfolioId, returnDate, returns, portfolioDailyReturn,
+                        updatedAssetReturns, updatedPortfolioReturns);
                 recalculated += returns.size();
             } catch (Exception e) {
                 log.error("Failed to recalculate weights for portfolio {} on {}: {}",
@@ -156,15 +161,25 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
             }
         }
 
+        // Upsert in place (ON CONFLICT DO UPDATE) instead of delete-then-insert,
+        // then refresh carried multipliers once from the earliest rewritten date
+        DailyReturnBatchWriter.DeferredCarry writes = dailyReturnBatchWriter.deferCarry();
+        dailyReturnBatchWriter.upsertAssetReturns(updatedAssetReturns);
+        writes.upsertPortfolioReturns(updatedPortfolioReturns);
+        writes.flush();
+
         return recalculated;
     }
 
     /**
      * Recalculate market-cap based weights for a specific date
+     * Updated rows are collected into the given lists and upserted by the caller
      */
     private void recalculateWeightsForDate(UUID portfolioId, LocalDate returnDate,
                                            List<SnapshotAssetDailyReturn> returns,
-                                           PortfolioDailyReturn portfolioDailyReturn) {
+                                           PortfolioDailyReturn portfolioDailyReturn,
+                                           List<SnapshotAssetDailyReturn> updatedAssetReturns,
+                                           List<PortfolioDailyReturn> updatedPortfolioReturns) {
         if (returns.isEmpty()) {
             return;
         }
@@ -180,9 +195,9 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
                         PortfolioSnapshotAsset::getWeight
                 ));
 
-        // Calculate current values (KRW-based)
-        BigDecimal totalCurrentValueKrw = BigDecimal.ZERO;
-        Map<UUID, BigDecimal> currentValueKrwMap = new HashMap<>();
+        // Calculate current values (KRW-based, cents) with the shared fixed-point kernel
+        long totalCurrentValueCents = 0;
+        Map<UUID, Long> currentValueCentsMap = new HashMap<>();
 
         for (SnapshotAssetDailyReturn dailyReturn : returns) {
             UUID assetId = dailyReturn.getAssetId();
@@ -195,42 +210,37 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
             }
 
             // Calculate initial investment amount in KRW
-            BigDecimal initialValueKrw = INITIAL_INVESTMENT_KRW
-                    .multiply(initialWeight)
-                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            long initialValueCents = ReturnKernel.initialValueCents(
+                    ReturnKernel.toUnscaled(initialWeight, ReturnKernel.RATIO_SCALE));
 
             // Calculate current value: initialValueKrw × (1 + totalReturn/100)
             // assetReturnTotal is cumulative return from snapshot start date
-            BigDecimal returnMultiplier = BigDecimal.ONE.add(
-                    dailyReturn.getAssetReturnTotal().divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)
-            );
-            BigDecimal currentValueKrw = initialValueKrw.multiply(returnMultiplier)
-                    .setScale(2, RoundingMode.HALF_UP);
+            long currentValueCents = ReturnKernel.currentValueCents(initialValueCents,
+                    ReturnKernel.toUnscaled(dailyReturn.getAssetReturnTotal(), ReturnKernel.PERCENT_SCALE));
 
-            currentValueKrwMap.put(assetId, currentValueKrw);
-            totalCurrentValueKrw = totalCurrentValueKrw.add(currentValueKrw);
+            currentValueCentsMap.put(assetId, currentValueCents);
+            totalCurrentValueCents += currentValueCents;
         }
 
-        // Delete old records and create new ones with updated values
+        // Create new rows with updated values
         List<SnapshotAssetDailyReturn> newReturns = new ArrayList<>();
 
         for (SnapshotAssetDailyReturn dailyReturn : returns) {
             UUID assetId = dailyReturn.getAssetId();
-            BigDecimal currentValueKrw = currentValueKrwMap.get(assetId);
+            Long currentValueCents = currentValueCentsMap.get(assetId);
 
-            if (currentValueKrw == null || totalCurrentValueKrw.compareTo(BigDecimal.ZERO) == 0) {
+            if (currentValueCents == null || totalCurrentValueCents == 0) {
                 continue;
             }
 
             // Calculate current weight based on market value (KRW)
-            BigDecimal currentWeight = currentValueKrw
-                    .divide(totalCurrentValueKrw, 6, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
+            long currentWeightMicros = ReturnKernel.ratioMicros(currentValueCents, totalCurrentValueCents);
+            BigDecimal currentWeight = ReturnKernel.ratioToPercent(currentWeightMicros);
 
             // Recalculate contribution with new weight
-            BigDecimal newContribution = dailyReturn.getAssetReturnTotal()
-                    .multiply(currentWeight)
-                    .divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP);
+            BigDecimal newContribution = BigDecimal.valueOf(ReturnKernel.weightedReturnPercentScale4(
+                    ReturnKernel.toUnscaled(dailyReturn.getAssetReturnTotal(), ReturnKernel.PERCENT_SCALE),
+                    currentWeightMicros), ReturnKernel.PERCENT_SCALE);
 
             // Create new entity with updated values
             SnapshotAssetDailyReturn newReturn = SnapshotAssetDailyReturn.from(
@@ -243,20 +253,18 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
                     dailyReturn.getAssetReturnTotal(),
                     dailyReturn.getFxReturn(),
                     newContribution,  // Updated contribution
-                    currentValueKrw  // Updated value
+                    BigDecimal.valueOf(currentValueCents, ReturnKernel.MONEY_SCALE)  // Updated value
             );
 
             newReturns.add(newReturn);
         }
 
-        // Delete old records and save new ones
-        if (!newReturns.isEmpty()) {
-            snapshotAssetDailyReturnRepository.deleteAllInBatch(returns);
-            snapshotAssetDailyReturnRepository.saveAll(newReturns);
-        }
+        updatedAssetReturns.addAll(newReturns);
 
         // Update portfolio daily return's totalValueKrw
         if (portfolioDailyReturn != null) {
+            BigDecimal totalCurrentValueKrw = BigDecimal.valueOf(totalCurrentValueCents, ReturnKernel.MONEY_SCALE);
+
             // Create new entity with updated totalValueKrw
             PortfolioDailyReturn newPortfolioDailyReturn = PortfolioDailyReturn.from(
                     portfolioDailyReturn.getPortfolioId(),
@@ -268,10 +276,7 @@ public class RecalculateWeightUsedRunner implements ApplicationRunner {
                     totalCurrentValueKrw  // Updated value
             );
 
-            // Delete old record and save new one
-            dailyReturnRepository.delete(portfolioDailyReturn);
-            dailyReturnRepository.flush();  // Ensure delete completes before insert
-            dailyReturnRepository.save(newPortfolioDailyReturn);
+            updatedPortfolioReturns.add(newPortfolioDailyReturn);
             log.debug("Updated portfolio daily return for {}: totalValueKrw={}", returnDate, totalCurrentValueKrw);
         }
     }
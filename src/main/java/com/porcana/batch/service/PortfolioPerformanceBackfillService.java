@@ -1,17 +1,17 @@
 package com.porcana.batch.service;
 
-import com.porcana.domain.asset.AssetPriceRepository;
+import com.porcana.batch.service.performance.DailyReturnBatchWriter;
+import com.porcana.batch.service.performance.PortfolioPerformanceCalculator;
+import com.porcana.batch.service.performance.PortfolioPerformanceResult;
+import com.porcana.batch.service.performance.PriceMatrix;
+import com.porcana.batch.service.price.CloseArchive;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
-import com.porcana.domain.asset.entity.AssetPrice;
-import com.porcana.domain.exchangerate.ExchangeRateRepository;
-import com.porcana.domain.exchangerate.entity.CurrencyCode;
-import com.porcana.domain.exchangerate.entity.ExchangeRate;
+import com.porcana.domain.asset.price.PriceSeriesCache;
 import com.porcana.domain.portfolio.entity.Portfolio;
-import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
 import com.porcana.domain.portfolio.entity.PortfolioSnapshot;
 import com.porcana.domain.portfolio.entity.PortfolioSnapshotAsset;
-import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import com.porcana.domain.portfolio.repository.PortfolioAssetLatestRepository;
 import com.porcana.domain.portfolio.repository.PortfolioDailyReturnRepository;
 import com.porcana.domain.portfolio.repository.PortfolioSnapshotAssetRepository;
 import com.porcana.domain.portfolio.repository.PortfolioSnapshotRepository;
@@ -21,331 +21,146 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 포트폴리오 수익률 이력 백필 서비스 (구간 모드)
+ *
+ * 포트폴리오 하나의 전체 기간을 다음 쿼리만으로 처리합니다:
+ * - 이미 계산된 날짜, 스냅샷 타임라인, 스냅샷 자산, 자산 (각 1 쿼리)
+ * - 종가 전체 이력은 {@link CloseArchive}(memory-mapped), USD-KRW 환율 이력은 {@link PriceSeriesCache}에서 조회
+ * 이후 스냅샷 타임라인을 한 번 순방향으로 훑으면서(7일 이내 carry-forward 가격)
+ * 누락된 날짜만 계산하고, 결과를 묶음 단위로 JDBC upsert 합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PortfolioPerformanceBackfillService {
 
-    private static final BigDecimal INITIAL_INVESTMENT_KRW = new BigDecimal("10000000.00");
+    /**
+     * 한 번에 저장하는 일수 (flush 단위)
+     */
+    private static final int WRITE_BATCH_DAYS = 100;
 
     private final PortfolioSnapshotRepository snapshotRepository;
     private final PortfolioSnapshotAssetRepository snapshotAssetRepository;
     private final AssetRepository assetRepository;
-    private final AssetPriceRepository assetPriceRepository;
-    private final ExchangeRateRepository exchangeRateRepository;
+    private final PriceSeriesCache priceSeriesCache;
+    private final CloseArchive closeArchive;
     private final PortfolioDailyReturnRepository dailyReturnRepository;
     private final SnapshotAssetDailyReturnRepository assetDailyReturnRepository;
+    private final PortfolioAssetLatestRepository assetLatestRepository;
+    private final PortfolioPerformanceCalculator calculator;
+    private final DailyReturnBatchWriter dailyReturnBatchWriter;
 
     @Transactional
     public int[] backfillPortfolio(Portfolio portfolio, LocalDate endDate) {
-        int inserted = 0;
-        int skipped = 0;
-
         LocalDate startDate = portfolio.getStartedAt();
         if (startDate == null) {
             log.warn("Portfolio {} has no startedAt date", portfolio.getId());
             return new int[]{0, 0};
         }
-
-        Map<UUID, Map<UUID, BigDecimal>> startPriceCache = new HashMap<>();
-
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            if (dailyReturnRepository.existsByPortfolioIdAndReturnDate(portfolio.getId(), currentDate)) {
-                skipped++;
-                currentDate = currentDate.plusDays(1);
-                continue;
-            }
-
-            boolean success = calculateAndSavePerformance(portfolio, currentDate, startPriceCache);
-            if (success) {
-                inserted++;
-            }
-
-            currentDate = currentDate.plusDays(1);
-        }
-
-        return new int[]{inserted, skipped};
-    }
-
-    @Transactional
-    public int[] rebuildPortfolio(Portfolio portfolio, LocalDate endDate) {
-        int deletedAssetReturns = assetDailyReturnRepository.deleteByPortfolioId(portfolio.getId());
-        int deletedPortfolioReturns = dailyReturnRepository.deleteByPortfolioId(portfolio.getId());
-        assetDailyReturnRepository.flush();
-        dailyReturnRepository.flush();
-
-        log.info("Deleted {} asset returns and {} portfolio returns for portfolio {}",
-                deletedAssetReturns, deletedPortfolioReturns, portfolio.getId());
-
-        return backfillPortfolio(portfolio, endDate);
-    }
-
-    private boolean calculateAndSavePerformance(Portfolio portfolio, LocalDate targetDate,
-                                                Map<UUID, Map<UUID, BigDecimal>> startPriceCache) {
-        Optional<PortfolioSnapshot> snapshotOpt = snapshotRepository
-                .findFirstByPortfolioIdAndEffectiveDateLessThanEqualOrderByEffectiveDateDesc(
-                        portfolio.getId(), targetDate);
-
-        if (snapshotOpt.isEmpty()) {
-            log.debug("No snapshot found for portfolio {} on or before {}", portfolio.getId(), targetDate);
-            return false;
+        if (startDate.isAfter(endDate)) {
+            return new int[]{0, 0};
         }
 
-        PortfolioSnapshot snapshot = snapshotOpt.get();
-        LocalDate snapshotDate = snapshot.getEffectiveDate();
+        // 1. Existing days and snapshot timeline
+        Set<LocalDate> existingDates = new HashSet<>(
+                dailyReturnRepository.findReturnDatesByPortfolioId(portfolio.getId()));
 
-        List<PortfolioSnapshotAsset> snapshotAssets = snapshotAssetRepository.findBySnapshotId(snapshot.getId());
-        if (snapshotAssets.isEmpty()) {
-            log.debug("Snapshot {} has no assets", snapshot.getId());
-            return false;
-        }
+        List<PortfolioSnapshot> snapshots = snapshotRepository.findByPortfolioIdOrderByEffectiveDateAsc(portfolio.getId());
+        Map<UUID, List<PortfolioSnapshotAsset>> assetsBySnapshot = snapshots.isEmpty()
+                ? Collections.emptyMap()
+                : snapshotAssetRepository.findBySnapshotIdIn(snapshots.stream().map(PortfolioSnapshot::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(PortfolioSnapshotAsset::getSnapshotId));
 
-        List<UUID> assetIds = snapshotAssets.stream()
+        Set<UUID> assetIds = assetsBySnapshot.values().stream()
+                .flatMap(List::stream)
                 .map(PortfolioSnapshotAsset::getAssetId)
-                .toList();
-        Map<UUID, Asset> assetMap = assetRepository.findAllById(assetIds).stream()
-                .collect(Collectors.toMap(Asset::getId, asset -> asset));
-
-        if (assetMap.size() != assetIds.size()) {
-            log.debug("Some assets not found for portfolio {}", portfolio.getId());
-            return false;
-        }
-
-        Map<UUID, BigDecimal> startPrices = startPriceCache.computeIfAbsent(snapshot.getId(), sid -> {
-            LocalDate startLookback = snapshotDate.minusDays(7);
-            Map<UUID, List<AssetPrice>> startPricesByAsset = loadPricesForAssets(assetIds, startLookback, snapshotDate);
-            Map<UUID, BigDecimal> result = new HashMap<>();
-            for (UUID assetId : assetIds) {
-                List<AssetPrice> prices = startPricesByAsset.getOrDefault(assetId, Collections.emptyList());
-                findClosestPriceFromList(prices, snapshotDate)
-                        .ifPresent(assetPrice -> result.put(assetId, assetPrice.getPrice()));
-            }
-            return result;
-        });
-
-        LocalDate targetLookback = targetDate.minusDays(7);
-        Map<UUID, List<AssetPrice>> targetPricesByAsset = loadPricesForAssets(assetIds, targetLookback, targetDate);
-
-        List<AssetCalculation> calculations = new ArrayList<>();
-        BigDecimal totalCurrentValueKrw = BigDecimal.ZERO;
+                .collect(Collectors.toSet());
+        Map<UUID, Asset> assetMap = assetIds.isEmpty()
+                ? Collections.emptyMap()
+                : assetRepository.findAllById(assetIds).stream()
+                .collect(Collectors.toMap(Asset::getId, Function.identity()));
 
-        for (PortfolioSnapshotAsset snapshotAsset : snapshotAssets) {
-            Asset asset = assetMap.get(snapshotAsset.getAssetId());
+        // 2. Whole close history from the mapped close archive, FX history from the shared in-memory cache
+        PriceMatrix prices = PriceMatrix.of(closeArchive.snapshot(), priceSeriesCache, assetMap);
 
-            BigDecimal startPrice = startPrices.get(asset.getId());
-            if (startPrice == null) {
-                log.debug("No start price for asset {} on {}", asset.getSymbol(), snapshotDate);
-                return false;
-            }
+        // 3. Single forward pass over the snapshot timeline
+        int inserted = 0;
+        int skipped = 0;
+        int snapshotIndex = -1;
+        List<PortfolioPerformanceResult> pending = new ArrayList<>();
+        // Carried multipliers are refreshed once after the last chunk, not per chunk
+        DailyReturnBatchWriter.DeferredCarry writes = dailyReturnBatchWriter.deferCarry();
 
-            List<AssetPrice> targetPrices = targetPricesByAsset.getOrDefault(asset.getId(), Collections.emptyList());
-            Optional<AssetPrice> targetPriceOpt = findClosestPriceFromList(targetPrices, targetDate);
-            if (targetPriceOpt.isEmpty()) {
-                log.debug("No target price for asset {} on {}", asset.getSymbol(), targetDate);
-                return false;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (existingDates.contains(date)) {
+                skipped++;
+                continue;
             }
-            BigDecimal targetPrice = targetPriceOpt.get().getPrice();
 
-            Optional<AssetReturnResult> resultOpt = calculateAssetReturnFromPrices(asset, startPrice, targetPrice, snapshotDate, targetDate);
-            if (resultOpt.isEmpty()) {
-                log.debug("Failed to calculate return for asset {} on {}", asset.getSymbol(), targetDate);
-                return false;
+            while (snapshotIndex + 1 < snapshots.size()
+                    && !snapshots.get(snapshotIndex + 1).getEffectiveDate().isAfter(date)) {
+                snapshotIndex++;
             }
-
-            AssetReturnResult result = resultOpt.get();
-            BigDecimal initialWeight = snapshotAsset.getWeight();
-
-            BigDecimal initialValueKrw = INITIAL_INVESTMENT_KRW
-                    .multiply(initialWeight)
-                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-
-            BigDecimal returnMultiplier = BigDecimal.ONE.add(
-                    result.assetReturnTotal().divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)
-            );
-            BigDecimal currentValueKrw = initialValueKrw.multiply(returnMultiplier)
-                    .setScale(2, RoundingMode.HALF_UP);
-
-            totalCurrentValueKrw = totalCurrentValueKrw.add(currentValueKrw);
-            calculations.add(new AssetCalculation(asset, snapshotAsset, result, initialWeight, currentValueKrw));
-        }
-
-        List<SnapshotAssetDailyReturn> assetReturns = new ArrayList<>();
-        BigDecimal totalReturnLocal = BigDecimal.ZERO;
-        BigDecimal totalReturnFx = BigDecimal.ZERO;
-
-        for (AssetCalculation calc : calculations) {
-            BigDecimal currentWeight = calc.initialWeight();
-            if (totalCurrentValueKrw.compareTo(BigDecimal.ZERO) > 0) {
-                currentWeight = calc.currentValueKrw()
-                        .divide(totalCurrentValueKrw, 6, RoundingMode.HALF_UP)
-                        .multiply(BigDecimal.valueOf(100));
+            if (snapshotIndex < 0) {
+                log.debug("No snapshot found for portfolio {} on or before {}", portfolio.getId(), date);
+                continue;
             }
 
-            BigDecimal contributionTotal = calc.result().assetReturnTotal()
-                    .multiply(calc.initialWeight())
-                    .divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
-
-            SnapshotAssetDailyReturn assetReturn = SnapshotAssetDailyReturn.from(
+            PortfolioSnapshot snapshot = snapshots.get(snapshotIndex);
+            Optional<PortfolioPerformanceResult> resultOpt = calculator.calculate(
                     portfolio.getId(),
-                    snapshot.getId(),
-                    calc.asset().getId(),
-                    targetDate,
-                    currentWeight,
-                    calc.result().assetReturnLocal(),
-                    calc.result().assetReturnTotal(),
-                    calc.result().fxReturn(),
-                    contributionTotal,
-                    calc.currentValueKrw()
-            );
-            assetReturns.add(assetReturn);
-
-            BigDecimal weightedReturnLocal = calc.result().assetReturnLocal()
-                    .multiply(calc.initialWeight())
-                    .divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
-
-            BigDecimal weightedReturnFx = calc.result().fxReturn()
-                    .multiply(calc.initialWeight())
-                    .divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
-
-            totalReturnLocal = totalReturnLocal.add(weightedReturnLocal);
-            totalReturnFx = totalReturnFx.add(weightedReturnFx);
-        }
+                    snapshot,
+                    assetsBySnapshot.getOrDefault(snapshot.getId(), Collections.emptyList()),
+                    assetMap,
+                    prices,
+                    date,
+                    PortfolioPerformanceCalculator.AssetIssueReporter.NONE);
 
-        BigDecimal totalReturn = totalReturnLocal.add(totalReturnFx);
-
-        PortfolioDailyReturn dailyReturn = PortfolioDailyReturn.from(
-                portfolio.getId(),
-                snapshot.getId(),
-                targetDate,
-                totalReturn,
-                totalReturnLocal,
-                totalReturnFx,
-                totalCurrentValueKrw
-        );
-
-        dailyReturnRepository.save(dailyReturn);
-        assetDailyReturnRepository.saveAll(assetReturns);
-
-        return true;
-    }
-
-    private Map<UUID, List<AssetPrice>> loadPricesForAssets(List<UUID> assetIds, LocalDate startDate, LocalDate endDate) {
-        if (assetIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        List<AssetPrice> allPrices = assetPriceRepository.findPricesByAssetIdsAndDateRange(assetIds, startDate, endDate);
-        return allPrices.stream()
-                .collect(Collectors.groupingBy(assetPrice -> assetPrice.getAsset().getId()));
-    }
-
-    private Optional<AssetReturnResult> calculateAssetReturnFromPrices(Asset asset, BigDecimal startPrice,
-                                                                       BigDecimal targetPrice, LocalDate startDate,
-                                                                       LocalDate targetDate) {
-        if (startPrice.compareTo(BigDecimal.ZERO) <= 0 || targetPrice.compareTo(BigDecimal.ZERO) <= 0) {
-            log.warn("Invalid price for asset {} (start={}, target={})",
-                    asset.getSymbol(), startPrice, targetPrice);
-            return Optional.empty();
-        }
-
-        BigDecimal assetReturnLocal = targetPrice.subtract(startPrice)
-                .divide(startPrice, 6, RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100));
-
-        BigDecimal fxReturn = BigDecimal.ZERO;
-        if (asset.getMarket() == Asset.Market.US) {
-            Optional<BigDecimal> fxReturnOpt = calculateFxReturn(startDate, targetDate);
-            if (fxReturnOpt.isEmpty()) {
-                return Optional.empty();
+            if (resultOpt.isEmpty()) {
+                log.debug("Failed to calculate performance for portfolio {} on {}", portfolio.getId(), date);
+                continue;
             }
-            fxReturn = fxReturnOpt.get();
-        }
 
-        BigDecimal assetReturnTotal = assetReturnLocal.add(fxReturn);
-        return Optional.of(new AssetReturnResult(assetReturnLocal, fxReturn, assetReturnTotal));
-    }
-
-    private Optional<BigDecimal> calculateFxReturn(LocalDate startDate, LocalDate targetDate) {
-        Optional<ExchangeRate> startRateOpt = findClosestExchangeRate(CurrencyCode.USD, startDate);
-        if (startRateOpt.isEmpty()) {
-            return Optional.empty();
-        }
+            pending.add(resultOpt.get());
+            inserted++;
 
-        Optional<ExchangeRate> targetRateOpt = findClosestExchangeRate(CurrencyCode.USD, targetDate);
-        if (targetRateOpt.isEmpty()) {
-            return Optional.empty();
-        }
-
-        BigDecimal startRate = startRateOpt.get().getBaseRate();
-        BigDecimal targetRate = targetRateOpt.get().getBaseRate();
-
-        BigDecimal fxReturn = targetRate.subtract(startRate)
-                .divide(startRate, 6, RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100));
-
-        return Optional.of(fxReturn);
-    }
-
-    private Optional<AssetPrice> findClosestPriceFromList(List<AssetPrice> prices, LocalDate date) {
-        if (prices.isEmpty()) {
-            return Optional.empty();
-        }
-
-        Optional<AssetPrice> exactMatch = prices.stream()
-                .filter(price -> price.getPriceDate().equals(date))
-                .findFirst();
-        if (exactMatch.isPresent()) {
-            return exactMatch;
+            if (pending.size() >= WRITE_BATCH_DAYS) {
+                writes.write(pending);
+                pending.clear();
+            }
         }
 
-        LocalDate lookbackStart = date.minusDays(7);
-        return prices.stream()
-                .filter(price -> !price.getPriceDate().isAfter(date) && !price.getPriceDate().isBefore(lookbackStart))
-                .max(Comparator.comparing(AssetPrice::getPriceDate));
+        writes.write(pending);
+        writes.flush();
+        return new int[]{inserted, skipped};
     }
 
-    private Optional<ExchangeRate> findClosestExchangeRate(CurrencyCode currencyCode, LocalDate date) {
-        Optional<ExchangeRate> exactRate = exchangeRateRepository.findByCurrencyCodeAndExchangeDate(currencyCode, date);
-        if (exactRate.isPresent()) {
-            return exactRate;
-        }
-
-        LocalDate lookbackStart = date.minusDays(7);
-        List<ExchangeRate> rates = exchangeRateRepository.findByCurrencyCodeAndExchangeDateBetweenOrderByExchangeDateDesc(
-                currencyCode, lookbackStart, date);
+    @Transactional
+    public int[] rebuildPortfolio(Portfolio portfolio, LocalDate endDate) {
+        int deletedAssetReturns = assetDailyReturnRepository.deleteByPortfolioId(portfolio.getId());
+        int deletedPortfolioReturns = dailyReturnRepository.deleteByPortfolioId(portfolio.getId());
+        assetLatestRepository.deleteByPortfolioId(portfolio.getId());
+        assetDailyReturnRepository.flush();
+        assetLatestRepository.flush();
+        dailyReturnRepository.flush();
 
-        if (rates.isEmpty()) {
-            return Optional.empty();
-        }
+        log.info("Deleted {} asset returns and {} portfolio returns for portfolio {}",
+                deletedAssetReturns, deletedPortfolioReturns, portfolio.getId());
 
-        return Optional.of(rates.get(0));
+        return backfillPortfolio(portfolio, endDate);
     }
-
-    private record AssetReturnResult(
-            BigDecimal assetReturnLocal,
-            BigDecimal fxReturn,
-            BigDecimal assetReturnTotal
-    ) {}
-
-    private record AssetCalculation(
-            Asset asset,
-            PortfolioSnapshotAsset snapshotAsset,
-            AssetReturnResult result,
-            BigDecimal initialWeight,
-            BigDecimal currentValueKrw
-    ) {}
 }
@@ -0,0 +1,223 @@
+package com.porcana.batch.service.performance;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * portfolio_daily_returns.carried_multiplier 갱신기
+ *
+ * 포트폴리오 일별 수익률은 스냅샷 기준 수익률이라, 누적 가치는 "이전 스냅샷 마지막 날 배수들의 곱(carried)"을
+ * 이어 곱해야 나옵니다. 조회 때마다 전체 이력을 다시 곱하지 않도록 행마다 carried 배수를 저장해 둡니다.
+ * - 쓰인 날짜 중 가장 이른 날부터만 다시 계산합니다 (직전 행의 carried 배수를 이어받음)
+ * - 일별 배치는 포트폴리오마다 직전 행 1개 + 오늘 행 1개만 읽습니다
+ * - 직전 행이 아직 계산되지 않았으면(마이그레이션 직후) 해당 포트폴리오 전체 이력을 한 번 계산합니다
+ *
+ * 계산 순서는 PortfolioReturnCalculator의 기존 누적 계산과 같아서 결과 double 값이 일치합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CarriedMultiplierMaterializer {
+
+    /**
+     * 한 번에 읽는 포트폴리오 수 (uuid[] 바인딩 크기)
+     */
+    static final int PORTFOLIO_SLICE_SIZE = 500;
+
+    private static final String PREVIOUS_ROW_SQL = """
+            SELECT p.id AS portfolio_id, prev.snapshot_id, prev.return_total, prev.carried_multiplier
+            FROM unnest(?::uuid[]) AS p(id)
+            CROSS JOIN LATERAL (
+                SELECT r.snapshot_id, r.return_total, r.carried_multiplier
+                FROM portfolio_daily_returns r
+                WHERE r.portfolio_id = p.id
+                  AND r.return_date < ?
+                ORDER BY r.return_date DESC
+                LIMIT 1
+            ) prev
+            """;
+
+    private static final String ROWS_FROM_SQL = """
+            SELECT r.portfolio_id, r.snapshot_id, r.return_date, r.return_total
+            FROM portfolio_daily_returns r
+            WHERE r.portfolio_id = ANY(?::uuid[])
+              AND r.return_date >= ?
+            ORDER BY r.portfolio_id, r.return_date
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE portfolio_daily_returns r
+            SET carried_multiplier = u.carried_multiplier
+            FROM unnest(?::uuid[], ?::date[], ?::float8[]) AS u(portfolio_id, return_date, carried_multiplier)
+            WHERE r.portfolio_id = u.portfolio_id
+              AND r.return_date = u.return_date
+            """;
+
+    /**
+     * UPDATE 한 문장에 바인딩하는 최대 행 수
+     */
+    static final int UPDATE_CHUNK_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 포트폴리오별로 주어진 날짜 이후 행의 carried 배수 재계산
+     *
+     * @param fromDates 포트폴리오 ID -> 수익률이 새로 쓰이거나 바뀐 가장 이른 날짜
+     * @return 갱신한 행 수
+     */
+    public int refresh(Map<UUID, LocalDate> fromDates) {
+        if (fromDates.isEmpty()) {
+            return 0;
+        }
+
+        // 일별 배치는 모든 포트폴리오가 같은 날짜라 한 묶음으로 처리됨
+        Map<LocalDate, List<UUID>> portfoliosByDate = new TreeMap<>();
+        fromDates.forEach((portfolioId, fromDate) ->
+                portfoliosByDate.computeIfAbsent(fromDate, d -> new ArrayList<>()).add(portfolioId));
+
+        int updated = 0;
+        Set<UUID> unmaterialized = new HashSet<>();
+        for (Map.Entry<LocalDate, List<UUID>> entry : portfoliosByDate.entrySet()) {
+            List<UUID> portfolioIds = entry.getValue();
+            for (int from = 0; from < portfolioIds.size(); from += PORTFOLIO_SLICE_SIZE) {
+                List<UUID> slice = portfolioIds.subList(from, Math.min(from + PORTFOLIO_SLICE_SIZE, portfolioIds.size()));
+                updated += refreshSlice(slice, entry.getKey(), unmaterialized);
+            }
+        }
+
+        // 직전 행이 계산되지 않은 포트폴리오는 전체 이력부터 계산
+        if (!unmaterialized.isEmpty()) {
+            List<UUID> portfolioIds = new ArrayList<>(unmaterialized);
+            for (int from = 0; from < portfolioIds.size(); from += PORTFOLIO_SLICE_SIZE) {
+                List<UUID> slice = portfolioIds.subList(from, Math.min(from + PORTFOLIO_SLICE_SIZE, portfolioIds.size()));
+                updated += refreshSlice(slice, LocalDate.EPOCH, new HashSet<>());
+            }
+            log.info("Materialized carried multipliers from full history for {} portfolios", unmaterialized.size());
+        }
+
+        log.debug("Refreshed carried multipliers for {} portfolio daily returns", updated);
+        return updated;
+    }
+
+    private int refreshSlice(List<UUID> portfolioIds, LocalDate fromDate, Set<UUID> unmaterialized) {
+        Date from = Date.valueOf(fromDate);
+
+        Map<UUID, CarryState> states = new HashMap<>(portfolioIds.size() * 2);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(PREVIOUS_ROW_SQL);
+            ps.setArray(1, uuidArray(con, portfolioIds));
+            ps.setDate(2, from);
+            return ps;
+        }, rs -> {
+            UUID portfolioId = rs.getObject("portfolio_id", UUID.class);
+            double carried = rs.getDouble("carried_multiplier");
+            if (rs.wasNull()) {
+                unmaterialized.add(portfolioId);
+                return;
+            }
+            states.put(portfolioId, new CarryState(
+                    carried,
+                    rs.getObject("snapshot_id", UUID.class),
+                    1.0 + rs.getBigDecimal("return_total").doubleValue() / 100.0));
+        });
+
+        List<CarriedRow> updates = new ArrayList<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(ROWS_FROM_SQL);
+            ps.setArray(1, uuidArray(con, portfolioIds));
+            ps.setDate(2, from);
+            return ps;
+        }, rs -> {
+            UUID portfolioId = rs.getObject("portfolio_id", UUID.class);
+            if (unmaterialized.contains(portfolioId)) {
+                return;
+            }
+            CarryState state = states.computeIfAbsent(portfolioId, id -> new CarryState(1.0, null, 1.0));
+            UUID snapshotId = rs.getObject("snapshot_id", UUID.class);
+            double carried = state.advance(snapshotId, rs.getBigDecimal("return_total").doubleValue());
+            updates.add(new CarriedRow(portfolioId, rs.getDate("return_date"), carried));
+        });
+
+        for (int start = 0; start < updates.size(); start += UPDATE_CHUNK_SIZE) {
+            update(updates.subList(start, Math.min(start + UPDATE_CHUNK_SIZE, updates.size())));
+        }
+        return updates.size();
+    }
+
+    /**
+     * 배열 3개(unnest)로 묶어 UPDATE ... FROM 한 문장으로 갱신 (행마다 UPDATE를 보내지 않음)
+     */
+    private void update(List<CarriedRow> rows) {
+        Object[] portfolioIds = new Object[rows.size()];
+        Object[] returnDates = new Object[rows.size()];
+        Object[] multipliers = new Object[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            CarriedRow row = rows.get(i);
+            portfolioIds[i] = row.portfolioId();
+            returnDates[i] = row.returnDate();
+            multipliers[i] = row.carriedMultiplier();
+        }
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(UPDATE_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", portfolioIds));
+            ps.setArray(2, con.createArrayOf("date", returnDates));
+            ps.setArray(3, con.createArrayOf("float8", multipliers));
+            return ps;
+        });
+    }
+
+    private record CarriedRow(UUID portfolioId, Date returnDate, double carriedMultiplier) {
+    }
+
+    private static Array uuidArray(Connection con, List<UUID> ids) throws SQLException {
+        return con.createArrayOf("uuid", ids.toArray());
+    }
+
+    /**
+     * 포트폴리오 하나의 누적 진행 상태
+     * (PortfolioReturnCalculator.calculatePortfolioValueSeries의 루프와 같은 순서로 곱함)
+     */
+    private static final class CarryState {
+
+        private double carriedMultiplier;
+        private UUID currentSnapshotId;
+        private double lastSnapshotMultiplier;
+
+        private CarryState(double carriedMultiplier, UUID currentSnapshotId, double lastSnapshotMultiplier) {
+            this.carriedMultiplier = carriedMultiplier;
+            this.currentSnapshotId = currentSnapshotId;
+            this.lastSnapshotMultiplier = lastSnapshotMultiplier;
+        }
+
+        /**
+         * 다음 날짜 행으로 진행하고 그 행의 carried 배수를 반환
+         */
+        private double advance(UUID snapshotId, double returnTotal) {
+            if (currentSnapshotId != null && !currentSnapshotId.equals(snapshotId)) {
+                carriedMultiplier *= lastSnapshotMultiplier;
+            }
+            currentSnapshotId = snapshotId;
+            lastSnapshotMultiplier = 1.0 + returnTotal / 100.0;
+            return carriedMultiplier;
+        }
+    }
+}
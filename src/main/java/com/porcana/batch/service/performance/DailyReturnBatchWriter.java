@@ -0,0 +1,249 @@
+package com.porcana.batch.service.performance;
+
+import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
+import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 일별 수익률 JDBC 배치 writer
+ *
+ * portfolio_daily_returns / snapshot_asset_daily_returns를 JPA saveAll(엔티티당 INSERT) 대신
+ * JDBC batch INSERT ... ON CONFLICT DO UPDATE로 저장합니다.
+ * - id는 DB 기본값(gen_random_uuid())으로 생성
+ * - 유니크 키가 같은 행이 있으면 값과 calculated_at을 갱신하므로 재실행이 멱등입니다 (delete-then-insert 불필요)
+ *
+ * 포트폴리오 수익률을 쓴 뒤에는 바뀐 날짜부터 carried_multiplier(누적 배수)를 다시 계산합니다
+ * ({@link CarriedMultiplierMaterializer}). portfolio_daily_returns 쓰기는 모두 이 writer를 거칩니다.
+ * 한 포트폴리오를 여러 번 나눠 쓰는 경로(백필, weight 재계산)는 {@link #deferCarry()}로 갱신을 모아 마지막에 한 번만 합니다.
+ * 자산 수익률을 쓴 뒤에는 자산별 최신 행 projection(portfolio_asset_latest)을 함께 갱신합니다.
+ *
+ * JPA 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 해당 엔티티를 다시 읽어야 한다면
+ * 호출 측에서 먼저 flush/clear 해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyReturnBatchWriter {
+
+    /**
+     * JDBC batch 크기 (executeBatch 단위)
+     */
+    static final int BATCH_SIZE = 1000;
+
+    private static final String UPSERT_PORTFOLIO_RETURN_SQL = """
+            INSERT INTO portfolio_daily_returns
+                (portfolio_id, snapshot_id, return_date, return_total, return_local, return_fx, total_value_krw)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (portfolio_id, return_date) DO UPDATE SET
+                snapshot_id = EXCLUDED.snapshot_id,
+                return_total = EXCLUDED.return_total,
+                return_local = EXCLUDED.return_local,
+                return_fx = EXCLUDED.return_fx,
+                total_value_krw = EXCLUDED.total_value_krw,
+                calculated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String UPSERT_ASSET_RETURN_SQL = """
+            INSERT INTO snapshot_asset_daily_returns
+                (portfolio_id, snapshot_id, asset_id, return_date, weight_used,
+                 asset_return_local, asset_return_total, fx_return, contribution_total, value_krw)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (portfolio_id, snapshot_id, asset_id, return_date) DO UPDATE SET
+                weight_used = EXCLUDED.weight_used,
+                asset_return_local = EXCLUDED.asset_return_local,
+                asset_return_total = EXCLUDED.asset_return_total,
+                fx_return = EXCLUDED.fx_return,
+                contribution_total = EXCLUDED.contribution_total,
+                value_krw = EXCLUDED.value_krw,
+                calculated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String UPSERT_ASSET_LATEST_SQL = """
+            INSERT INTO portfolio_asset_latest
+                (portfolio_id, asset_id, snapshot_id, return_date, weight_used, asset_return_total, value_krw)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (portfolio_id, asset_id) DO UPDATE SET
+                snapshot_id = EXCLUDED.snapshot_id,
+                return_date = EXCLUDED.return_date,
+                weight_used = EXCLUDED.weight_used,
+                asset_return_total = EXCLUDED.asset_return_total,
+                value_krw = EXCLUDED.value_krw,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE portfolio_asset_latest.return_date <= EXCLUDED.return_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CarriedMultiplierMaterializer carriedMultiplierMaterializer;
+
+    /**
+     * 계산 결과(포트폴리오 + 자산별 수익률)를 한 번에 upsert
+     *
+     * @return upsert된 포트폴리오 일별 수익률 수
+     */
+    public int write(Collection<PortfolioPerformanceResult> results) {
+        Map<UUID, LocalDate> fromDates = new HashMap<>();
+        int written = write(results, fromDates);
+        carriedMultiplierMaterializer.refresh(fromDates);
+        return written;
+    }
+
+    /**
+     * portfolio_daily_returns upsert (portfolio_id, return_date 기준) + 누적 배수 갱신
+     */
+    public void upsertPortfolioReturns(Collection<PortfolioDailyReturn> dailyReturns) {
+        Map<UUID, LocalDate> fromDates = new HashMap<>();
+        upsertPortfolioReturns(dailyReturns, fromDates);
+        carriedMultiplierMaterializer.refresh(fromDates);
+    }
+
+    /**
+     * 누적 배수 갱신을 미루는 쓰기 시작
+     * chunk마다 갱신하면 이미 쓴 이후 이력을 매번 다시 계산하게 되므로(이력 길이의 제곱),
+     * 쓰인 가장 이른 날짜만 모아 두었다가 {@link DeferredCarry#flush()}에서 포트폴리오마다 한 번 갱신합니다.
+     */
+    public DeferredCarry deferCarry() {
+        return new DeferredCarry();
+    }
+
+    private int write(Collection<PortfolioPerformanceResult> results, Map<UUID, LocalDate> fromDates) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+
+        List<PortfolioDailyReturn> dailyReturns = new ArrayList<>(results.size());
+        List<SnapshotAssetDailyReturn> assetReturns = new ArrayList<>();
+        for (PortfolioPerformanceResult result : results) {
+            dailyReturns.add(result.portfolioDailyReturn());
+            assetReturns.addAll(result.assetDailyReturns());
+        }
+
+        upsertPortfolioReturns(dailyReturns, fromDates);
+        upsertAssetReturns(assetReturns);
+        return dailyReturns.size();
+    }
+
+    /**
+     * portfolio_daily_returns upsert 후 포트폴리오별 가장 이른 날짜를 fromDates에 병합 (누적 배수는 갱신하지 않음)
+     */
+    private void upsertPortfolioReturns(Collection<PortfolioDailyReturn> dailyReturns, Map<UUID, LocalDate> fromDates) {
+        if (dailyReturns.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_PORTFOLIO_RETURN_SQL, dailyReturns, BATCH_SIZE, (ps, r) -> {
+            ps.setObject(1, r.getPortfolioId());
+            ps.setObject(2, r.getSnapshotId());
+            ps.setDate(3, Date.valueOf(r.getReturnDate()));
+            ps.setBigDecimal(4, r.getReturnTotal());
+            ps.setBigDecimal(5, r.getReturnLocal());
+            ps.setBigDecimal(6, r.getReturnFx());
+            ps.setBigDecimal(7, r.getTotalValueKrw());
+        });
+        log.debug("Upserted {} portfolio daily returns", dailyReturns.size());
+
+        for (PortfolioDailyReturn r : dailyReturns) {
+            fromDates.merge(r.getPortfolioId(), r.getReturnDate(), (a, b) -> a.isBefore(b) ? a : b);
+        }
+    }
+
+    /**
+     * snapshot_asset_daily_returns upsert (portfolio_id, snapshot_id, asset_id, return_date 기준)
+     */
+    public void upsertAssetReturns(Collection<SnapshotAssetDailyReturn> assetReturns) {
+        if (assetReturns.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_ASSET_RETURN_SQL, assetReturns, BATCH_SIZE, (ps, r) -> {
+            ps.setObject(1, r.getPortfolioId());
+            ps.setObject(2, r.getSnapshotId());
+            ps.setObject(3, r.getAssetId());
+            ps.setDate(4, Date.valueOf(r.getReturnDate()));
+            ps.setBigDecimal(5, r.getWeightUsed());
+            ps.setBigDecimal(6, r.getAssetReturnLocal());
+            ps.setBigDecimal(7, r.getAssetReturnTotal());
+            ps.setBigDecimal(8, r.getFxReturn());
+            ps.setBigDecimal(9, r.getContributionTotal());
+            ps.setBigDecimal(10, r.getValueKrw());
+        });
+        log.debug("Upserted {} asset daily returns", assetReturns.size());
+
+        upsertAssetLatest(assetReturns);
+    }
+
+    /**
+     * portfolio_asset_latest upsert (portfolio_id, asset_id 기준)
+     * 쓰인 행 중 자산별 가장 최근 날짜만 반영하며, 이미 더 최근 날짜가 있으면 유지
+     */
+    private void upsertAssetLatest(Collection<SnapshotAssetDailyReturn> assetReturns) {
+        Map<AssetKey, SnapshotAssetDailyReturn> latestByAsset = new HashMap<>();
+        for (SnapshotAssetDailyReturn r : assetReturns) {
+            latestByAsset.merge(new AssetKey(r.getPortfolioId(), r.getAssetId()), r,
+                    (current, next) -> next.getReturnDate().isBefore(current.getReturnDate()) ? current : next);
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_ASSET_LATEST_SQL, latestByAsset.values(), BATCH_SIZE, (ps, r) -> {
+            ps.setObject(1, r.getPortfolioId());
+            ps.setObject(2, r.getAssetId());
+            ps.setObject(3, r.getSnapshotId());
+            ps.setDate(4, Date.valueOf(r.getReturnDate()));
+            ps.setBigDecimal(5, r.getWeightUsed());
+            ps.setBigDecimal(6, r.getAssetReturnTotal());
+            ps.setBigDecimal(7, r.getValueKrw());
+        });
+        log.debug("Upserted {} latest asset returns", latestByAsset.size());
+    }
+
+    private record AssetKey(UUID portfolioId, UUID assetId) {
+    }
+
+    /**
+     * 누적 배수 갱신을 미룬 쓰기 묶음 (같은 트랜잭션 안에서 쓰고 마지막에 {@link #flush()})
+     */
+    public final class DeferredCarry {
+
+        private final Map<UUID, LocalDate> fromDates = new HashMap<>();
+
+        private DeferredCarry() {
+        }
+
+        /**
+         * 계산 결과 upsert (누적 배수는 flush 때 갱신)
+         *
+         * @return upsert된 포트폴리오 일별 수익률 수
+         */
+        public int write(Collection<PortfolioPerformanceResult> results) {
+            return DailyReturnBatchWriter.this.write(results, fromDates);
+        }
+
+        /**
+         * portfolio_daily_returns upsert (누적 배수는 flush 때 갱신)
+         */
+        public void upsertPortfolioReturns(Collection<PortfolioDailyReturn> dailyReturns) {
+            DailyReturnBatchWriter.this.upsertPortfolioReturns(dailyReturns, fromDates);
+        }
+
+        /**
+         * 지금까지 쓴 포트폴리오별 가장 이른 날짜부터 누적 배수를 한 번 갱신
+         *
+         * @return 갱신한 행 수
+         */
+        public int flush() {
+            int updated = carriedMultiplierMaterializer.refresh(fromDates);
+            fromDates.clear();
+            return updated;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.porcana.batch.service.performance;
+
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.price.PriceSeries;
+import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
+import com.porcana.domain.portfolio.entity.PortfolioSnapshot;
+import com.porcana.domain.portfolio.entity.PortfolioSnapshotAsset;
+import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 포트폴리오 일별 수익률 계산기 (순수 계산, DB 접근 없음)
+ * 스냅샷 구성과 가격 행렬만으로 포트폴리오/자산별 수익률을 계산합니다.
+ * 연산은 {@link ReturnKernel}의 고정소수점 long으로 수행하며, 결과는 기존 BigDecimal 연산과 같은 값/스케일입니다.
+ * 환율 효과를 분리하여 추적합니다 (return_local vs return_fx)
+ */
+@Slf4j
+@Component
+public class PortfolioPerformanceCalculator {
+
+    /**
+     * 수익률 계산 실패 표시값 (정상 수익률은 -100% = -1,000,000 ratio micros 미만이 될 수 없음)
+     * 초기 가상 투자금은 10,000,000원으로 가정합니다 ({@link ReturnKernel#INITIAL_INVESTMENT_CENTS})
+     */
+    private static final long NO_RETURN = Long.MIN_VALUE;
+
+    /**
+     * 자산 단위 계산 실패 통지 (배치 이슈 수집용)
+     */
+    @FunctionalInterface
+    public interface AssetIssueReporter {
+        AssetIssueReporter NONE = (asset, issueCode, issueMessage) -> { };
+
+        void report(Asset asset, String issueCode, String issueMessage);
+    }
+
+    /**
+     * 포트폴리오의 특정 날짜 수익률을 계산합니다
+     *
+     * @param portfolioId    대상 포트폴리오 ID
+     * @param snapshot       targetDate에 적용되는 스냅샷 (effectiveDate <= targetDate)
+     * @param snapshotAssets 스냅샷 자산 구성
+     * @param assetMap       자산 ID → 자산
+     * @param prices         가격 행렬 (스냅샷 시작일/목표일 주변 가격 포함)
+     * @param targetDate     계산 날짜
+     * @param issueReporter  자산 단위 실패 통지
+     * @return 계산 결과, 데이터 부족 시 empty
+     */
+    public Optional<PortfolioPerformanceResult> calculate(UUID portfolioId,
+                                                          PortfolioSnapshot snapshot,
+                                                          List<PortfolioSnapshotAsset> snapshotAssets,
+                                                          Map<UUID, Asset> assetMap,
+                                                          PriceMatrix prices,
+                                                          LocalDate targetDate,
+                                                          AssetIssueReporter issueReporter) {
+        if (snapshotAssets == null || snapshotAssets.isEmpty()) {
+            log.warn("Snapshot {} has no assets", snapshot.getId());
+            return Optional.empty();
+        }
+
+        LocalDate snapshotDate = snapshot.getEffectiveDate();
+        int size = snapshotAssets.size();
+
+        // First pass: Calculate returns and current values (KRW-based) for all assets
+        // 자산별 중간값은 고정소수점 long 배열로 유지합니다 (ReturnKernel 단위 참고)
+        Asset[] assets = new Asset[size];
+        long[] localReturns = new long[size];
+        long[] fxReturns = new long[size];
+        long[] initialWeights = new long[size];
+        long[] currentValues = new long[size];
+        long totalCurrentValueCents = 0;
+        FxReturn fxReturn = null;
+
+        for (int i = 0; i < size; i++) {
+            PortfolioSnapshotAsset snapshotAsset = snapshotAssets.get(i);
+            Asset asset = assetMap.get(snapshotAsset.getAssetId());
+            if (asset == null) {
+                log.warn("Asset {} not found for portfolio {}", snapshotAsset.getAssetId(), portfolioId);
+                return Optional.empty();
+            }
+
+            long localReturn = calculateLocalReturn(asset, prices, snapshotDate, targetDate, issueReporter);
+            if (localReturn == NO_RETURN) {
+                log.warn("Failed to calculate return for asset {} ({})", asset.getSymbol(), asset.getId());
+                return Optional.empty();
+            }
+
+            // Calculate FX return for US assets (same for every US asset, computed once)
+            if (asset.getMarket() == Asset.Market.US) {
+                if (fxReturn == null) {
+                    fxReturn = calculateFxReturn(prices, snapshotDate, targetDate);
+                }
+                if (!fxReturn.available()) {
+                    log.warn("Failed to calculate FX return for {}", asset.getSymbol());
+                    issueReporter.report(asset, "FX_RETURN_FAILED", "Failed to calculate FX return");
+                    log.warn("Failed to calculate return for asset {} ({})", asset.getSymbol(), asset.getId());
+                    return Optional.empty();
+                }
+                fxReturns[i] = fxReturn.ratioMicros();
+            }
+
+            assets[i] = asset;
+            localReturns[i] = localReturn;
+            initialWeights[i] = ReturnKernel.toUnscaled(snapshotAsset.getWeight(), ReturnKernel.RATIO_SCALE);
+
+            // Calculate initial investment amount in KRW
+            // 예: 10% → 10,000,000 × 0.10 = 1,000,000원
+            long initialValueCents = ReturnKernel.initialValueCents(initialWeights[i]);
+
+            // Calculate current value: initialValueKrw × (1 + totalReturn/100)
+            // 예: 1,000,000 × 1.20 = 1,200,000원
+            currentValues[i] = ReturnKernel.currentValueCents(initialValueCents, localReturn + fxReturns[i]);
+            totalCurrentValueCents += currentValues[i];
+        }
+
+        // Second pass: Calculate normalized weights and contributions
+        List<SnapshotAssetDailyReturn> assetReturns = new ArrayList<>(size);
+        long totalReturnLocal = 0;
+        long totalReturnFx = 0;
+
+        for (int i = 0; i < size; i++) {
+            long assetReturnTotal = localReturns[i] + fxReturns[i];
+
+            // Calculate current weight based on market value (KRW)
+            // 예: 1,200,000 / 11,000,000 × 100 = 10.91%
+            BigDecimal currentWeight = totalCurrentValueCents > 0
+                    ? ReturnKernel.ratioToPercent(ReturnKernel.ratioMicros(currentValues[i], totalCurrentValueCents))
+                    : snapshotAssets.get(i).getWeight();
+
+            // Calculate contribution to portfolio return using initial weight
+            long contributionTotal = ReturnKernel.weightedReturnMicros(assetReturnTotal, initialWeights[i]);
+
+            assetReturns.add(SnapshotAssetDailyReturn.from(
+                    portfolioId,
+                    snapshot.getId(),
+                    assets[i].getId(),
+                    targetDate,
+                    currentWeight,  // 시가총액 기반 현재 비중
+                    ReturnKernel.ratioToPercent(localReturns[i]),
+                    ReturnKernel.ratioToPercent(assetReturnTotal),
+                    assets[i].getMarket() == Asset.Market.US
+                            ? ReturnKernel.ratioToPercent(fxReturns[i])
+                            : BigDecimal.ZERO,
+                    BigDecimal.valueOf(contributionTotal, ReturnKernel.CONTRIBUTION_SCALE),
+                    BigDecimal.valueOf(currentValues[i], ReturnKernel.MONEY_SCALE)  // 자산 평가금액 (원화)
+            ));
+
+            // Accumulate weighted returns using initial weight
+            totalReturnLocal += ReturnKernel.weightedReturnMicros(localReturns[i], initialWeights[i]);
+            totalReturnFx += ReturnKernel.weightedReturnMicros(fxReturns[i], initialWeights[i]);
+        }
+
+        BigDecimal returnLocal = BigDecimal.valueOf(totalReturnLocal, ReturnKernel.CONTRIBUTION_SCALE);
+        BigDecimal returnFx = BigDecimal.valueOf(totalReturnFx, ReturnKernel.CONTRIBUTION_SCALE);
+        BigDecimal totalReturn = BigDecimal.valueOf(totalReturnLocal + totalReturnFx, ReturnKernel.CONTRIBUTION_SCALE);
+        BigDecimal totalCurrentValueKrw = BigDecimal.valueOf(totalCurrentValueCents, ReturnKernel.MONEY_SCALE);
+
+        PortfolioDailyReturn dailyReturn = PortfolioDailyReturn.from(
+                portfolioId,
+                snapshot.getId(),
+                targetDate,
+                totalReturn,
+                returnLocal,
+                returnFx,
+                totalCurrentValueKrw  // 포트폴리오 전체 평가금액
+        );
+
+        log.debug("Calculated performance for portfolio {} on {}: total={}% (local={}%, fx={}%), totalValueKrw={}",
+                portfolioId, targetDate, totalReturn, returnLocal, returnFx, totalCurrentValueKrw);
+
+        return Optional.of(new PortfolioPerformanceResult(dailyReturn, assetReturns));
+    }
+
+    /**
+     * 자산의 로컬 수익률을 계산합니다 (현지 통화 기준 가격 변동률)
+     *
+     * @return ratio micros, 실패 시 {@link #NO_RETURN}
+     */
+    private long calculateLocalReturn(Asset asset, PriceMatrix prices,
+                                      LocalDate startDate, LocalDate targetDate,
+                                      AssetIssueReporter issueReporter) {
+        PriceSeries series = prices.series(asset.getId());
+
+        int startIndex = series.indexOnOrBefore(startDate, PriceMatrix.LOOKBACK_DAYS);
+        if (startIndex < 0) {
+            log.warn("No start price found for asset {} on {}", asset.getSymbol(), startDate);
+            issueReporter.report(asset, "NO_START_PRICE",
+                    "No start price found for portfolio performance calculation");
+            return NO_RETURN;
+        }
+
+        int targetIndex = series.indexOnOrBefore(targetDate, PriceMatrix.LOOKBACK_DAYS);
+        if (targetIndex < 0) {
+            log.warn("No target price found for asset {} on {}", asset.getSymbol(), targetDate);
+            issueReporter.report(asset, "NO_TARGET_PRICE",
+                    "No target price found for portfolio performance calculation");
+            return NO_RETURN;
+        }
+
+        long startPrice = series.unscaledAt(startIndex);
+        long targetPrice = series.unscaledAt(targetIndex);
+
+        // Skip if price is invalid (0 or negative)
+        if (startPrice <= 0 || targetPrice <= 0) {
+            log.warn("Invalid price for asset {} (start={}, target={})",
+                    asset.getSymbol(), series.valueAt(startIndex), series.valueAt(targetIndex));
+            issueReporter.report(asset, "INVALID_PRICE_NON_POSITIVE",
+                    String.format("Invalid price detected (start=%s, target=%s)",
+                            series.valueAt(startIndex), series.valueAt(targetIndex)));
+            return NO_RETURN;
+        }
+
+        // (targetPrice - startPrice) / startPrice
+        return ReturnKernel.returnMicros(startPrice, targetPrice);
+    }
+
+    /**
+     * 환율 수익률을 계산합니다 (USD/KRW 변동률)
+     */
+    private FxReturn calculateFxReturn(PriceMatrix prices, LocalDate startDate, LocalDate targetDate) {
+        PriceSeries usdKrw = prices.usdKrwSeries();
+
+        int startIndex = usdKrw.indexOnOrBefore(startDate, PriceMatrix.LOOKBACK_DAYS);
+        if (startIndex < 0) {
+            log.warn("No USD exchange rate found for start date {}", startDate);
+            return FxReturn.UNAVAILABLE;
+        }
+
+        int targetIndex = usdKrw.indexOnOrBefore(targetDate, PriceMatrix.LOOKBACK_DAYS);
+        if (targetIndex < 0) {
+            log.warn("No USD exchange rate found for target date {}", targetDate);
+            return FxReturn.UNAVAILABLE;
+        }
+
+        // FX return = (targetRate - startRate) / startRate
+        return new FxReturn(true,
+                ReturnKernel.returnMicros(usdKrw.unscaledAt(startIndex), usdKrw.unscaledAt(targetIndex)));
+    }
+
+    /**
+     * 환율 수익률 계산 결과 (ratio micros)
+     */
+    private record FxReturn(boolean available, long ratioMicros) {
+        private static final FxReturn UNAVAILABLE = new FxReturn(false, 0);
+    }
+}
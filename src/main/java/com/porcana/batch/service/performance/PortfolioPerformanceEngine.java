@@ -0,0 +1,197 @@
+package com.porcana.batch.service.performance;
+
+import com.porcana.batch.support.BatchIssueCollector;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.price.PriceSeriesCache;
+import com.porcana.domain.portfolio.entity.Portfolio;
+import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
+import com.porcana.domain.portfolio.entity.PortfolioSnapshot;
+import com.porcana.domain.portfolio.entity.PortfolioSnapshotAsset;
+import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import com.porcana.domain.portfolio.repository.PortfolioDailyReturnRepository;
+import com.porcana.domain.portfolio.repository.PortfolioRepository;
+import com.porcana.domain.portfolio.repository.PortfolioSnapshotAssetRepository;
+import com.porcana.domain.portfolio.repository.PortfolioSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 집합 기반(set-based) 포트폴리오 수익률 계산 엔진
+ *
+ * 포트폴리오마다 스냅샷/자산/가격을 개별 조회하는 대신,
+ * 포트폴리오 묶음(slice) 단위로 필요한 데이터를 한 번에 적재합니다.
+ * - 이미 계산된 포트폴리오 ID (1 쿼리)
+ * - 포트폴리오, 적용 스냅샷, 스냅샷 자산, 자산 (각 1 쿼리)
+ * - 종가/USD-KRW 환율은 {@link PriceSeriesCache}에서 조회 (캐시에 없는 자산만 1 쿼리)
+ * 이후 모든 계산은 메모리의 {@link PriceMatrix} 위에서 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortfolioPerformanceEngine {
+
+    /**
+     * 한 번에 적재하는 포트폴리오 수 (IN 절 파라미터 수 및 메모리 사용량 제한)
+     */
+    public static final int SLICE_SIZE = 500;
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioSnapshotRepository snapshotRepository;
+    private final PortfolioSnapshotAssetRepository snapshotAssetRepository;
+    private final AssetRepository assetRepository;
+    private final PriceSeriesCache priceSeriesCache;
+    private final PortfolioDailyReturnRepository dailyReturnRepository;
+    private final PortfolioPerformanceCalculator calculator;
+    private final DailyReturnBatchWriter dailyReturnBatchWriter;
+    private final BatchIssueCollector batchIssueCollector;
+
+    /**
+     * 주어진 포트폴리오들의 targetDate 수익률을 계산하고 저장합니다
+     *
+     * @param portfolioIds   대상 포트폴리오 ID 목록
+     * @param targetDate     계산 날짜
+     * @param jobExecutionId 배치 이슈 수집용 Job 실행 ID (null 허용)
+     * @param stepName       배치 이슈 수집용 Step 이름
+     * @return 처리 결과 요약
+     */
+    @Transactional
+    public Summary calculateForDate(List<UUID> portfolioIds, LocalDate targetDate,
+                                    Long jobExecutionId, String stepName) {
+        Summary summary = Summary.EMPTY;
+        for (int from = 0; from < portfolioIds.size(); from += SLICE_SIZE) {
+            List<UUID> slice = portfolioIds.subList(from, Math.min(from + SLICE_SIZE, portfolioIds.size()));
+            summary = summary.plus(calculateSlice(slice, targetDate, jobExecutionId, stepName));
+        }
+
+        log.info("Portfolio performance for {}: {} calculated, {} skipped, {} failed",
+                targetDate, summary.calculated(), summary.skipped(), summary.failed());
+        return summary;
+    }
+
+    private Summary calculateSlice(List<UUID> portfolioIds, LocalDate targetDate,
+                                   Long jobExecutionId, String stepName) {
+        if (portfolioIds.isEmpty()) {
+            return Summary.EMPTY;
+        }
+
+        // 1. Skip portfolios already calculated for this date
+        Set<UUID> alreadyCalculated = new HashSet<>(
+                dailyReturnRepository.findPortfolioIdsWithReturnOn(portfolioIds, targetDate));
+        int skipped = alreadyCalculated.size();
+
+        // 2. Skip portfolios that have not started yet
+        List<Portfolio> candidates = new ArrayList<>();
+        for (Portfolio portfolio : portfolioRepository.findAllById(
+                portfolioIds.stream().filter(id -> !alreadyCalculated.contains(id)).toList())) {
+            if (portfolio.getStartedAt() == null || targetDate.isBefore(portfolio.getStartedAt())) {
+                log.debug("Target date {} is before portfolio {} start date {}, skipping",
+                        targetDate, portfolio.getId(), portfolio.getStartedAt());
+                skipped++;
+                continue;
+            }
+            candidates.add(portfolio);
+        }
+
+        if (candidates.isEmpty()) {
+            return new Summary(0, skipped, 0);
+        }
+
+        // 3. Load applicable snapshots, their assets and the assets themselves in bulk
+        List<UUID> candidateIds = candidates.stream().map(Portfolio::getId).toList();
+        Map<UUID, PortfolioSnapshot> snapshotByPortfolio = snapshotRepository
+                .findLatestByPortfolioIdsOnOrBefore(candidateIds, targetDate).stream()
+                .collect(Collectors.toMap(PortfolioSnapshot::getPortfolioId, Function.identity(), (a, b) -> a));
+
+        Map<UUID, List<PortfolioSnapshotAsset>> assetsBySnapshot = snapshotByPortfolio.isEmpty()
+                ? Collections.emptyMap()
+                : snapshotAssetRepository.findBySnapshotIdIn(
+                        snapshotByPortfolio.values().stream().map(PortfolioSnapshot::getId).toList()).stream()
+                .collect(Collectors.groupingBy(PortfolioSnapshotAsset::getSnapshotId));
+
+        Set<UUID> assetIds = assetsBySnapshot.values().stream()
+                .flatMap(List::stream)
+                .map(PortfolioSnapshotAsset::getAssetId)
+                .collect(Collectors.toSet());
+        Map<UUID, Asset> assetMap = assetIds.isEmpty()
+                ? Collections.emptyMap()
+                : assetRepository.findAllById(assetIds).stream()
+                .collect(Collectors.toMap(Asset::getId, Function.identity()));
+
+        // 4. Price series for every asset in the slice (shared in-memory cache)
+        PriceMatrix prices = PriceMatrix.of(priceSeriesCache, assetMap);
+
+        // 5. Calculate in memory
+        PortfolioPerformanceCalculator.AssetIssueReporter issueReporter = (asset, issueCode, issueMessage) ->
+                batchIssueCollector.recordAssetIssue(jobExecutionId, stepName, asset, issueCode, issueMessage);
+
+        List<PortfolioDailyReturn> dailyReturns = new ArrayList<>();
+        List<SnapshotAssetDailyReturn> assetReturns = new ArrayList<>();
+        int failed = 0;
+
+        for (Portfolio portfolio : candidates) {
+            PortfolioSnapshot snapshot = snapshotByPortfolio.get(portfolio.getId());
+            if (snapshot == null) {
+                log.warn("No snapshot found for portfolio {} on or before {}", portfolio.getId(), targetDate);
+                failed++;
+                continue;
+            }
+
+            Optional<PortfolioPerformanceResult> resultOpt = calculator.calculate(
+                    portfolio.getId(),
+                    snapshot,
+                    assetsBySnapshot.getOrDefault(snapshot.getId(), Collections.emptyList()),
+                    assetMap,
+                    prices,
+                    targetDate,
+                    issueReporter);
+
+            if (resultOpt.isEmpty()) {
+                log.warn("Failed to calculate performance for portfolio {}: insufficient data", portfolio.getId());
+                failed++;
+                continue;
+            }
+
+            dailyReturns.add(resultOpt.get().portfolioDailyReturn());
+            assetReturns.addAll(resultOpt.get().assetDailyReturns());
+        }
+
+        // 6. Persist (JDBC batch upsert)
+        if (!dailyReturns.isEmpty()) {
+            dailyReturnBatchWriter.upsertPortfolioReturns(dailyReturns);
+            log.info("Saved {} portfolio daily returns", dailyReturns.size());
+        }
+        if (!assetReturns.isEmpty()) {
+            dailyReturnBatchWriter.upsertAssetReturns(assetReturns);
+            log.info("Saved {} asset daily returns", assetReturns.size());
+        }
+
+        return new Summary(dailyReturns.size(), skipped, failed);
+    }
+
+    /**
+     * 수익률 계산 결과 요약
+     */
+    public record Summary(int calculated, int skipped, int failed) {
+
+        public static final Summary EMPTY = new Summary(0, 0, 0);
+
+        public Summary plus(Summary other) {
+            return new Summary(calculated + other.calculated, skipped + other.skipped, failed + other.failed);
+        }
+    }
+}
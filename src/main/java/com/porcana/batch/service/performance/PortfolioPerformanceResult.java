@@ -0,0 +1,16 @@
+package com.porcana.batch.service.performance;
+
+import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
+import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+
+import java.util.List;
+
+/**
+ * 포트폴리오 하루치 수익률 계산 결과
+ * 포트폴리오 일별 수익률 1건과 자산별 일별 수익률 목록
+ */
+public record PortfolioPerformanceResult(
+        PortfolioDailyReturn portfolioDailyReturn,
+        List<SnapshotAssetDailyReturn> assetDailyReturns
+) {
+}
@@ -0,0 +1,61 @@
+package com.porcana.batch.service.performance;
+
+import com.porcana.batch.service.price.CloseArchive;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.price.PriceSeries;
+import com.porcana.domain.asset.price.PriceSeriesCache;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 날짜 인덱스 가격 행렬
+ * 계산 대상 자산들의 종가 시계열과 USD/KRW 환율 시계열을 묶어
+ * 수익률 계산 시 자산/날짜마다 DB를 조회하지 않도록 합니다.
+ *
+ * 조회 규칙은 기존 findClosestPrice / findClosestExchangeRate와 동일합니다:
+ * 정확한 날짜가 없으면 7일 이내 가장 최근 값을 사용합니다.
+ */
+public class PriceMatrix {
+
+    public static final int LOOKBACK_DAYS = 7;
+
+    private final Map<UUID, PriceSeries> closesByAsset;
+    private final PriceSeries usdKrw;
+
+    public PriceMatrix(Map<UUID, PriceSeries> closesByAsset, PriceSeries usdKrw) {
+        this.closesByAsset = closesByAsset;
+        this.usdKrw = usdKrw != null ? usdKrw : PriceSeries.empty();
+    }
+
+    /**
+     * 가격 시계열 캐시에서 자산들의 가격 행렬을 구성합니다
+     * USD/KRW 시계열은 미국 자산이 있을 때만 조회합니다.
+     */
+    public static PriceMatrix of(PriceSeriesCache priceSeriesCache, Map<UUID, Asset> assetMap) {
+        boolean hasUsAsset = assetMap.values().stream().anyMatch(asset -> asset.getMarket() == Asset.Market.US);
+        return new PriceMatrix(
+                priceSeriesCache.closes(assetMap.keySet()),
+                hasUsAsset ? priceSeriesCache.usdKrw() : PriceSeries.empty());
+    }
+
+    /**
+     * 종가는 종가 아카이브(memory-mapped)에서, USD/KRW 시계열은 가격 시계열 캐시에서 구성합니다
+     * 전체 기간을 훑는 배치(백필)용입니다.
+     */
+    public static PriceMatrix of(CloseArchive.Snapshot closeArchive, PriceSeriesCache priceSeriesCache,
+                                 Map<UUID, Asset> assetMap) {
+        boolean hasUsAsset = assetMap.values().stream().anyMatch(asset -> asset.getMarket() == Asset.Market.US);
+        return new PriceMatrix(
+                closeArchive.closes(assetMap.keySet()),
+                hasUsAsset ? priceSeriesCache.usdKrw() : PriceSeries.empty());
+    }
+
+    public PriceSeries series(UUID assetId) {
+        return closesByAsset.getOrDefault(assetId, PriceSeries.empty());
+    }
+
+    public PriceSeries usdKrwSeries() {
+        return usdKrw;
+    }
+}
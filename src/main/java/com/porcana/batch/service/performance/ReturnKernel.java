@@ -0,0 +1,114 @@
+package com.porcana.batch.service.performance;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 수익률 계산용 고정소수점(long) 연산 모음
+ *
+ * 기존 BigDecimal 연산 체인과 비트 단위로 같은 결과를 내도록 스케일과 반올림(HALF_UP, 0에서 먼 쪽)을 고정했습니다.
+ * 사용하는 단위:
+ * - ratio micros: 비율 × 10^6 (BigDecimal divide(…, 6, HALF_UP)의 unscaled 값).
+ *   수익률/비중에서는 "퍼센트 × 10^4"와 같은 값입니다 (예: 12.3456% = 123456)
+ * - percent micros: 퍼센트 × 10^6 (기여도, 가중 수익률)
+ * - cents: 원화 금액 × 10^2
+ *
+ * 중간값이 long 범위를 넘으면 잘못된 값을 내는 대신 ArithmeticException을 던집니다.
+ */
+public final class ReturnKernel {
+
+    public static final int RATIO_SCALE = 6;
+    public static final int PERCENT_SCALE = 4;
+    public static final int CONTRIBUTION_SCALE = 6;
+    public static final int MONEY_SCALE = 2;
+
+    private static final long MICROS = 1_000_000L;
+
+    /**
+     * 초기 가상 투자금 10,000,000원 (cents)
+     */
+    public static final long INITIAL_INVESTMENT_CENTS = 1_000_000_000L;
+
+    private ReturnKernel() {
+    }
+
+    /**
+     * numerator / denominator를 HALF_UP(0에서 먼 쪽)으로 반올림한 정수 몫
+     */
+    public static long divideHalfUp(long numerator, long denominator) {
+        long quotient = numerator / denominator;
+        long remainder = Math.abs(numerator % denominator);
+        long divisor = Math.abs(denominator);
+        if (remainder != 0 && remainder >= divisor - remainder) {
+            quotient += (numerator < 0) == (denominator < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    /**
+     * numerator / denominator를 ratio micros로 (BigDecimal divide(denominator, 6, HALF_UP)과 동일)
+     */
+    public static long ratioMicros(long numerator, long denominator) {
+        return divideHalfUp(Math.multiplyExact(numerator, MICROS), denominator);
+    }
+
+    /**
+     * 시작값 대비 변동률 (target - start) / start, ratio micros
+     * 같은 스케일의 고정소수점 가격/환율이면 스케일과 무관합니다.
+     */
+    public static long returnMicros(long start, long target) {
+        return ratioMicros(target - start, start);
+    }
+
+    /**
+     * 초기 투자금 × 비중 / 100 (cents)
+     *
+     * @param weightPercentMicros 비중 (퍼센트 × 10^6)
+     */
+    public static long initialValueCents(long weightPercentMicros) {
+        return divideHalfUp(Math.multiplyExact(INITIAL_INVESTMENT_CENTS, weightPercentMicros), 100 * MICROS);
+    }
+
+    /**
+     * 초기 금액 × (1 + 누적 수익률) (cents)
+     *
+     * @param returnRatioMicros 누적 수익률 (ratio micros = 퍼센트 × 10^4)
+     */
+    public static long currentValueCents(long initialValueCents, long returnRatioMicros) {
+        return divideHalfUp(Math.multiplyExact(initialValueCents, MICROS + returnRatioMicros), MICROS);
+    }
+
+    /**
+     * 수익률 × 비중 / 100 (percent micros)
+     *
+     * @param returnRatioMicros   수익률 (퍼센트 × 10^4)
+     * @param weightPercentMicros 비중 (퍼센트 × 10^6)
+     */
+    public static long weightedReturnMicros(long returnRatioMicros, long weightPercentMicros) {
+        return divideHalfUp(Math.multiplyExact(returnRatioMicros, weightPercentMicros), MICROS);
+    }
+
+    /**
+     * 수익률 × 비중 / 100, 퍼센트 × 10^4 단위
+     *
+     * @param returnRatioMicros 수익률 (퍼센트 × 10^4)
+     * @param weightRatioMicros 비중 (비율 ratio micros = 퍼센트 × 10^4)
+     */
+    public static long weightedReturnPercentScale4(long returnRatioMicros, long weightRatioMicros) {
+        return divideHalfUp(Math.multiplyExact(returnRatioMicros, weightRatioMicros), MICROS);
+    }
+
+    /**
+     * BigDecimal → 지정 스케일의 unscaled long (스케일이 더 크면 HALF_UP 반올림)
+     */
+    public static long toUnscaled(BigDecimal value, int scale) {
+        return value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * ratio micros → 퍼센트 BigDecimal (기존 divide(…, 6, HALF_UP).multiply(100)과 같은 값과 스케일)
+     */
+    public static BigDecimal ratioToPercent(long ratioMicros) {
+        return BigDecimal.valueOf(Math.multiplyExact(ratioMicros, 100L), RATIO_SCALE);
+    }
+}
@@ -0,0 +1,188 @@
+package com.porcana.batch.service.price;
+
+import com.porcana.domain.asset.entity.AssetPrice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * asset_prices 대량 적재 (COPY → staging → merge)
+ *
+ * 가격 백필과 일별 가격 배치는 행마다 exists/select 후 INSERT/UPDATE 하던 것을 다음 순서로 처리합니다.
+ * 1. 적재할 연도의 파티션이 없으면 만듭니다 (ensure_asset_prices_partition, 프로세스에서 한 번만 확인)
+ * 2. 세션 임시 테이블(asset_price_staging)에 COPY FROM STDIN으로 한 번에 싣습니다
+ * 3. INSERT ... SELECT ... ON CONFLICT (asset_id, price_date) 한 문장으로 본 테이블에 합칩니다
+ *
+ * 같은 (자산, 날짜)가 여러 번 들어오면 마지막 값이 남습니다.
+ * 호출한 트랜잭션이 있으면 그 트랜잭션에 참여하며, 임시 테이블 행은 커밋 시 비워집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetPriceBulkWriter {
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE IF NOT EXISTS asset_price_staging (
+                seq BIGSERIAL,
+                asset_id UUID NOT NULL,
+                price_date DATE NOT NULL,
+                open_price NUMERIC(20, 4) NOT NULL,
+                high_price NUMERIC(20, 4) NOT NULL,
+                low_price NUMERIC(20, 4) NOT NULL,
+                close_price NUMERIC(20, 4) NOT NULL,
+                volume BIGINT NOT NULL
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY_SQL = """
+            COPY asset_price_staging (asset_id, price_date, open_price, high_price, low_price, close_price, volume)
+            FROM STDIN (FORMAT csv)
+            """;
+
+    /**
+     * staging의 (자산, 날짜) 중 이미 저장된 키 수
+     */
+    private static final String COUNT_EXISTING_SQL = """
+            SELECT COUNT(*)
+            FROM (SELECT DISTINCT asset_id, price_date FROM asset_price_staging) s
+            JOIN asset_prices ap ON ap.asset_id = s.asset_id AND ap.price_date = s.price_date
+            """;
+
+    private static final String LATEST_STAGED_SQL = """
+            SELECT DISTINCT ON (asset_id, price_date)
+                   asset_id, price_date, open_price, high_price, low_price, close_price, volume
+            FROM asset_price_staging
+            ORDER BY asset_id, price_date, seq DESC
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO asset_prices (asset_id, price_date, open_price, high_price, low_price, close_price, volume)
+            """ + LATEST_STAGED_SQL + """
+            ON CONFLICT (asset_id, price_date) DO UPDATE
+            SET open_price = EXCLUDED.open_price,
+                high_price = EXCLUDED.high_price,
+                low_price = EXCLUDED.low_price,
+                close_price = EXCLUDED.close_price,
+                volume = EXCLUDED.volume
+            """;
+
+    private static final String INSERT_MISSING_SQL = """
+            INSERT INTO asset_prices (asset_id, price_date, open_price, high_price, low_price, close_price, volume)
+            """ + LATEST_STAGED_SQL + """
+            ON CONFLICT (asset_id, price_date) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션이 있다고 확인한 연도
+     */
+    private final Set<Integer> ensuredYears = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 없는 날짜는 추가하고 있는 날짜는 OHLCV를 덮어씀 (백필)
+     */
+    @Transactional
+    public MergeResult upsert(Collection<AssetPrice> prices) {
+        if (prices.isEmpty()) {
+            return MergeResult.EMPTY;
+        }
+        stage(prices);
+        long existing = jdbcTemplate.queryForObject(COUNT_EXISTING_SQL, Long.class);
+        int merged = jdbcTemplate.update(UPSERT_SQL);
+        jdbcTemplate.execute("TRUNCATE asset_price_staging");
+        return new MergeResult(merged - (int) existing, (int) existing);
+    }
+
+    /**
+     * 없는 날짜만 추가하고 이미 있는 날짜는 건너뜀 (일별 가격 배치)
+     */
+    @Transactional
+    public MergeResult insertMissing(Collection<AssetPrice> prices) {
+        if (prices.isEmpty()) {
+            return MergeResult.EMPTY;
+        }
+        stage(prices);
+        int inserted = jdbcTemplate.update(INSERT_MISSING_SQL);
+        jdbcTemplate.execute("TRUNCATE asset_price_staging");
+        return new MergeResult(inserted, 0);
+    }
+
+    private void stage(Collection<AssetPrice> prices) {
+        ensurePartitions(prices);
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        jdbcTemplate.execute("TRUNCATE asset_price_staging");
+
+        String csv = toCsv(prices);
+        long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                copyIn(connection.unwrap(PGConnection.class), csv));
+        log.debug("Staged {} asset prices", copied);
+    }
+
+    private static long copyIn(PGConnection connection, String csv) {
+        try {
+            return connection.getCopyAPI().copyIn(COPY_SQL, new StringReader(csv));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to COPY asset prices into staging", e);
+        }
+    }
+
+    private void ensurePartitions(Collection<AssetPrice> prices) {
+        Set<Integer> years = new TreeSet<>();
+        for (AssetPrice price : prices) {
+            years.add(price.getPriceDate().getYear());
+        }
+        for (Integer year : years) {
+            if (ensuredYears.contains(year)) {
+                continue;
+            }
+            Boolean created = jdbcTemplate.queryForObject(
+                    "SELECT ensure_asset_prices_partition(?)", Boolean.class, year);
+            if (Boolean.TRUE.equals(created)) {
+                log.info("Created asset_prices partition for {}", year);
+            }
+            ensuredYears.add(year);
+        }
+    }
+
+    /**
+     * asset_id,price_date,open,high,low,close,volume (UUID / ISO 날짜 / 숫자뿐이라 따옴표 불필요)
+     */
+    private static String toCsv(Collection<AssetPrice> prices) {
+        StringBuilder csv = new StringBuilder(prices.size() * 96);
+        for (AssetPrice price : prices) {
+            csv.append(price.getAsset().getId()).append(',')
+                    .append(price.getPriceDate()).append(',')
+                    .append(price.getOpenPrice().toPlainString()).append(',')
+                    .append(price.getHighPrice().toPlainString()).append(',')
+                    .append(price.getLowPrice().toPlainString()).append(',')
+                    .append(price.getClosePrice().toPlainString()).append(',')
+                    .append(price.getVolume()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * @param inserted 새로 추가된 (자산, 날짜) 수
+     * @param updated  덮어쓴 (자산, 날짜) 수
+     */
+    public record MergeResult(int inserted, int updated) {
+
+        static final MergeResult EMPTY = new MergeResult(0, 0);
+    }
+}
@@ -0,0 +1,667 @@
+package com.porcana.batch.service.price;
+
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.price.PriceDataChangedEvent;
+import com.porcana.domain.asset.price.PriceSeries;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 자산 종가 컬럼형 아카이브 (memory-mapped 파일)
+ *
+ * 위험도 계산과 성과 백필은 실행할 때마다 asset_prices에서 종가 이력을 다시 읽었습니다.
+ * 종가를 모든 자산이 공유하는 날짜 축에 맞춘 자산별 컬럼으로 로컬 파일에 쓰고,
+ * 파일을 메모리에 매핑해 힙으로 복사하지 않고 읽습니다.
+ * - 값은 {@link PriceSeries}와 같은 소수점 4자리 고정소수점(long)이라 DB 값과 계산 결과가 그대로 일치합니다
+ * - 날짜 축을 일정한 일수의 블록으로 나누고 블록마다 파일 하나를 따로 매핑하므로, 전체 크기가 2 GiB를 넘어도 됩니다
+ *   (블록 하나는 매핑 한계보다 작도록 자산 수에 맞춰 블록 일수를 줄임)
+ * - 처음 요청될 때 전체를 만들고, 일별 가격/환율 배치가 끝나면 최근 구간이 걸친 마지막 블록부터만 다시 써서 뒤에 붙입니다
+ *   (그 앞 블록 파일과 매핑은 새 스냅샷이 그대로 공유)
+ * - 과거 구간이 바뀌었다는 이벤트(HISTORY 범위)를 받았거나 최근 구간에 새 자산이 생기면 전체를 다시 만듭니다
+ * - 새 스냅샷이 쓰지 않는 이전 블록 파일은 삭제하지만, 이전 스냅샷을 잡고 있는 읽기는 기존 매핑을 그대로 사용합니다
+ *
+ * 블록 파일 구성 (little endian):
+ * header(32) | 날짜 축 int[dayCount] (8바이트 정렬) | 자산 UUID × assetCount
+ * | 종가 long[assetCount][dayCount] (값이 없는 칸은 {@link #MISSING})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CloseArchive {
+
+    /**
+     * 값이 없는 칸 (해당 날짜에 가격 없음)
+     */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    /**
+     * 증분 갱신 시 다시 읽는 구간 (마지막 날짜 기준, 휴일/늦게 들어온 가격 포함)
+     */
+    private static final int INCREMENTAL_OVERLAP_DAYS = 14;
+
+    /**
+     * 종가 조회 1회당 자산 수
+     */
+    private static final int LOAD_SLICE_SIZE = 200;
+
+    private static final String FILE_PREFIX = "close-archive-";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${batch.close-archive.dir:${java.io.tmpdir}/porcana-close-archive}")
+    private String directory;
+
+    /**
+     * 블록 하나의 최대 날짜 수 (자산이 많으면 매핑 한계에 맞춰 더 줄어듦)
+     */
+    @Value("${batch.close-archive.block-days:256}")
+    private int blockDays;
+
+    private final AtomicLong fileSequence = new AtomicLong();
+    private final AtomicReference<Refresh> pendingRefresh = new AtomicReference<>(Refresh.NONE);
+    private volatile Snapshot snapshot;
+
+    /**
+     * 현재 스냅샷 (없으면 만들고, 변경 이벤트를 받았으면 갱신)
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && pendingRefresh.get() == Refresh.NONE) {
+            return current;
+        }
+
+        synchronized (this) {
+            Refresh refresh = pendingRefresh.getAndSet(Refresh.NONE);
+            Snapshot previous = snapshot;
+            if (previous != null && refresh == Refresh.NONE) {
+                return previous;
+            }
+
+            Snapshot built;
+            try {
+                built = previous != null && refresh == Refresh.INCREMENTAL ? refresh(previous) : rebuild();
+            } catch (RuntimeException e) {
+                // 다음 요청에서 다시 시도
+                pendingRefresh.accumulateAndGet(refresh, Refresh::max);
+                throw e;
+            }
+
+            snapshot = built;
+            if (previous != null) {
+                for (Path path : previous.paths()) {
+                    if (!built.paths().contains(path)) {
+                        deleteQuietly(path);
+                    }
+                }
+            } else {
+                deleteStaleFiles(built.paths());
+            }
+            return built;
+        }
+    }
+
+    @EventListener
+    public void onPriceDataChanged(PriceDataChangedEvent event) {
+        Refresh refresh = event.scope() == PriceDataChangedEvent.Scope.HISTORY ? Refresh.FULL : Refresh.INCREMENTAL;
+        pendingRefresh.accumulateAndGet(refresh, Refresh::max);
+        log.info("Close archive marked for {} refresh after {} ({})", refresh, event.source(), event.scope());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAssetDataChanged(AssetDataChangedEvent event) {
+        // 새 자산의 과거 가격은 증분 갱신에서 감지해 전체 재생성으로 전환
+        pendingRefresh.accumulateAndGet(Refresh.INCREMENTAL, Refresh::max);
+    }
+
+    private Snapshot rebuild() {
+        int[] epochDays = jdbcTemplate.queryForList(
+                        "SELECT DISTINCT price_date FROM asset_prices ORDER BY price_date", LocalDate.class)
+                .stream()
+                .mapToInt(date -> (int) date.toEpochDay())
+                .toArray();
+        List<UUID> assetIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT asset_id FROM asset_prices", UUID.class);
+
+        Writer writer = Writer.create(this::nextPath, epochDays, assetIds,
+                Writer.daysPerBlock(assetIds.size(), blockDays, Writer.MAX_BLOCK_BYTES));
+        loadCloses(writer, assetIds, null);
+        Snapshot built = writer.finish();
+        log.info("Built close archive: {} assets x {} days in {} blocks ({} bytes)",
+                built.assetCount(), built.dayCount(), built.paths().size(), built.sizeInBytes());
+        return built;
+    }
+
+    private Snapshot refresh(Snapshot previous) {
+        if (previous.dayCount() == 0) {
+            return rebuild();
+        }
+
+        LocalDate cutoff = previous.lastDate().minusDays(INCREMENTAL_OVERLAP_DAYS);
+        List<UUID> recentAssetIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT asset_id FROM asset_prices WHERE price_date >= ?", UUID.class, cutoff);
+        for (UUID assetId : recentAssetIds) {
+            if (!previous.contains(assetId)) {
+                log.info("Close archive has no column for asset {}, rebuilding", assetId);
+                return rebuild();
+            }
+        }
+
+        // 날짜 축: 이전 스냅샷의 cutoff 이전 구간 + DB의 cutoff 이후 날짜 (cutoff가 걸친 블록부터 새로 씀)
+        int keptDays = previous.indexOnOrAfter((int) cutoff.toEpochDay());
+        int[] recentDays = jdbcTemplate.queryForList(
+                        "SELECT DISTINCT price_date FROM asset_prices WHERE price_date >= ? ORDER BY price_date",
+                        LocalDate.class, cutoff)
+                .stream()
+                .mapToInt(date -> (int) date.toEpochDay())
+                .toArray();
+
+        Writer writer = Writer.append(this::nextPath, previous, keptDays, recentDays);
+        loadCloses(writer, previous.assetIds(), cutoff);
+
+        Snapshot built = writer.finish();
+        log.info("Refreshed close archive from {}: {} assets x {} days, rewrote {} of {} blocks",
+                cutoff, built.assetCount(), built.dayCount(), writer.blockCount(), built.paths().size());
+        return built;
+    }
+
+    /**
+     * 자산 묶음별로 종가를 읽어 파일에 기록 (from이 있으면 그 날짜 이후만)
+     */
+    private void loadCloses(Writer writer, List<UUID> assetIds, LocalDate from) {
+        String sql = from == null
+                ? "SELECT asset_id, price_date, close_price FROM asset_prices WHERE asset_id = ANY(?)"
+                : "SELECT asset_id, price_date, close_price FROM asset_prices WHERE asset_id = ANY(?) AND price_date >= ?";
+
+        RowCallbackHandler handler = rs -> writer.put(
+                rs.getObject(1, UUID.class),
+                (int) rs.getObject(2, LocalDate.class).toEpochDay(),
+                toUnscaled(rs.getBigDecimal(3)));
+
+        for (int start = 0; start < assetIds.size(); start += LOAD_SLICE_SIZE) {
+            UUID[] slice = assetIds.subList(start, Math.min(start + LOAD_SLICE_SIZE, assetIds.size()))
+                    .toArray(UUID[]::new);
+            jdbcTemplate.query(sql, ps -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("uuid", slice));
+                if (from != null) {
+                    ps.setObject(2, from);
+                }
+            }, handler);
+        }
+    }
+
+    private Path nextPath() {
+        Path dir = Paths.get(directory);
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create close archive directory " + dir, e);
+        }
+        return dir.resolve(FILE_PREFIX + System.currentTimeMillis() + "-" + fileSequence.incrementAndGet() + FILE_SUFFIX);
+    }
+
+    /**
+     * 이전 실행에서 남은 아카이브 파일 정리
+     */
+    private void deleteStaleFiles(List<Path> keep) {
+        Path dir = Paths.get(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (!keep.contains(file)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up close archive directory {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 매핑이 열려 있어 지울 수 없는 플랫폼이면 다음 실행에서 정리
+            log.debug("Could not delete close archive file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static long toUnscaled(BigDecimal value) {
+        return value.setScale(PriceSeries.SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private enum Refresh {
+        NONE, INCREMENTAL, FULL;
+
+        static Refresh max(Refresh a, Refresh b) {
+            return a.compareTo(b) >= 0 ? a : b;
+        }
+    }
+
+    /**
+     * 아카이브 스냅샷 (변경 불가, 스레드 간 공유)
+     * 종가 값은 블록별로 매핑된 파일에서 바로 읽습니다.
+     */
+    public static final class Snapshot {
+
+        private final List<Block> blocks;
+        private final int daysPerBlock;
+        private final int[] epochDays;
+        private final UUID[] assetIds;
+        private final Map<UUID, Integer> columns;
+        private final int[] firstIndex;
+        private final int[] lastIndex;
+        private final List<Path> paths;
+
+        private Snapshot(List<Block> blocks, int daysPerBlock, int[] epochDays, UUID[] assetIds,
+                         int[] firstIndex, int[] lastIndex) {
+            this.blocks = blocks;
+            this.daysPerBlock = daysPerBlock;
+            this.epochDays = epochDays;
+            this.assetIds = assetIds;
+            this.firstIndex = firstIndex;
+            this.lastIndex = lastIndex;
+            this.columns = new HashMap<>(assetIds.length * 2);
+            for (int i = 0; i < assetIds.length; i++) {
+                columns.put(assetIds[i], i);
+            }
+            this.paths = blocks.stream().map(Block::path).toList();
+        }
+
+        public int assetCount() {
+            return assetIds.length;
+        }
+
+        public int dayCount() {
+            return epochDays.length;
+        }
+
+        public LocalDate lastDate() {
+            return epochDays.length == 0 ? null : LocalDate.ofEpochDay(epochDays[epochDays.length - 1]);
+        }
+
+        public boolean contains(UUID assetId) {
+            return columns.containsKey(assetId);
+        }
+
+        /**
+         * 자산의 최근 종가 최대 limit개를 오래된 것부터 target에 채움
+         * (asset_prices에서 price_date 내림차순 limit개를 읽어 오름차순으로 뒤집은 것과 같음)
+         *
+         * @param target 길이 limit 이상인 배열 (실제 값 × 10^{@link PriceSeries#SCALE})
+         * @return 채운 개수
+         */
+        public int trailingCloses(UUID assetId, int limit, long[] target) {
+            Integer column = columns.get(assetId);
+            if (column == null || firstIndex[column] < 0) {
+                return 0;
+            }
+
+            int count = 0;
+            for (int day = lastIndex[column]; day >= firstIndex[column] && count < limit; day--) {
+                if (valueAt(column, day) != MISSING) {
+                    count++;
+                }
+            }
+
+            int filled = 0;
+            for (int day = lastIndex[column]; filled < count; day--) {
+                long value = valueAt(column, day);
+                if (value != MISSING) {
+                    target[count - 1 - filled] = value;
+                    filled++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * 자산의 전체 종가 시계열 (가격이 없으면 빈 시계열)
+         */
+        public PriceSeries series(UUID assetId) {
+            Integer column = columns.get(assetId);
+            if (column == null || firstIndex[column] < 0) {
+                return PriceSeries.empty();
+            }
+
+            PriceSeries.Builder builder = PriceSeries.builder();
+            for (int day = firstIndex[column]; day <= lastIndex[column]; day++) {
+                long value = valueAt(column, day);
+                if (value != MISSING) {
+                    builder.addUnscaled(epochDays[day], value);
+                }
+            }
+            return builder.build();
+        }
+
+        /**
+         * 여러 자산의 전체 종가 시계열 (가격이 없는 자산은 빈 시계열)
+         */
+        public Map<UUID, PriceSeries> closes(Collection<UUID> assetIds) {
+            Map<UUID, PriceSeries> result = new HashMap<>(assetIds.size() * 2);
+            for (UUID assetId : assetIds) {
+                result.computeIfAbsent(assetId, this::series);
+            }
+            return result;
+        }
+
+        /**
+         * 마지막 블록을 제외한 모든 블록은 daysPerBlock일을 꽉 채우므로 나눗셈으로 블록을 찾음
+         */
+        long valueAt(int column, int day) {
+            return blocks.get(day / daysPerBlock).valueAt(column, day % daysPerBlock);
+        }
+
+        /**
+         * epochDay 이상인 첫 날짜 인덱스 (없으면 dayCount)
+         */
+        int indexOnOrAfter(int epochDay) {
+            int pos = Arrays.binarySearch(epochDays, epochDay);
+            return pos >= 0 ? pos : -pos - 1;
+        }
+
+        List<UUID> assetIds() {
+            return List.of(assetIds);
+        }
+
+        /**
+         * 블록 파일 경로 (날짜 순)
+         */
+        List<Path> paths() {
+            return paths;
+        }
+
+        long sizeInBytes() {
+            long size = 0;
+            for (Block block : blocks) {
+                size += block.buffer.capacity();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * 날짜 블록 하나 (파일 하나, 매핑 하나)
+     */
+    private static final class Block {
+
+        private final Path path;
+        private final ByteBuffer buffer;
+        private final int valuesOffset;
+        private final int dayCount;
+
+        private Block(Path path, ByteBuffer buffer, int valuesOffset, int dayCount) {
+            this.path = path;
+            this.buffer = buffer;
+            this.valuesOffset = valuesOffset;
+            this.dayCount = dayCount;
+        }
+
+        Path path() {
+            return path;
+        }
+
+        long valueAt(int column, int day) {
+            return buffer.getLong(valuesOffset + ((column * dayCount) + day) * Long.BYTES);
+        }
+
+        void set(int column, int day, long value) {
+            buffer.putLong(valuesOffset + ((column * dayCount) + day) * Long.BYTES, value);
+        }
+    }
+
+    /**
+     * 아카이브 블록 파일 작성기
+     * 새로 쓰는 블록마다 파일을 만들어 읽기/쓰기로 매핑하고, 모든 칸을 MISSING으로 채운 뒤 값을 기록합니다.
+     * 증분 갱신({@link #append})이면 이전 스냅샷의 앞쪽 블록은 다시 쓰지 않고 새 스냅샷에서 그대로 공유합니다.
+     */
+    static final class Writer {
+
+        /**
+         * 블록 파일 하나의 최대 크기 (MappedByteBuffer 하나로 매핑할 수 있는 크기)
+         */
+        static final long MAX_BLOCK_BYTES = Integer.MAX_VALUE;
+
+        private static final int MAGIC = 0x50434132; // "PCA2"
+        private static final int VERSION = 2;
+        private static final int HEADER_BYTES = 32;
+        private static final int DIRECTORY_ENTRY_BYTES = 16;
+
+        private final Snapshot base;
+        private final int keptBlocks;
+        private final int startDay;
+        private final int daysPerBlock;
+        private final int[] epochDays;
+        private final UUID[] assetIds;
+        private final Map<UUID, Integer> columns;
+        private final List<MappedByteBuffer> buffers;
+        private final List<Block> blocks;
+        private final int[] firstIndex;
+        private final int[] lastIndex;
+
+        private int cachedColumn = -1;
+        private UUID cachedAssetId;
+
+        private Writer(Supplier<Path> pathSupplier, Snapshot base, int keptBlocks, int daysPerBlock,
+                       int[] epochDays, UUID[] assetIds) {
+            this.base = base;
+            this.keptBlocks = keptBlocks;
+            this.startDay = keptBlocks * daysPerBlock;
+            this.daysPerBlock = daysPerBlock;
+            this.epochDays = epochDays;
+            this.assetIds = assetIds;
+            this.columns = new HashMap<>(assetIds.length * 2);
+            for (int i = 0; i < assetIds.length; i++) {
+                columns.put(assetIds[i], i);
+            }
+
+            // 공유하는 앞쪽 블록의 첫/마지막 날짜 인덱스는 그대로 이어받음
+            this.firstIndex = new int[assetIds.length];
+            this.lastIndex = new int[assetIds.length];
+            for (int column = 0; column < assetIds.length; column++) {
+                firstIndex[column] = base != null && base.firstIndex[column] < startDay ? base.firstIndex[column] : -1;
+                lastIndex[column] = base != null && base.lastIndex[column] < startDay ? base.lastIndex[column] : -1;
+            }
+
+            int blockCount = (epochDays.length + daysPerBlock - 1) / daysPerBlock;
+            this.buffers = new ArrayList<>(blockCount);
+            this.blocks = new ArrayList<>(blockCount);
+            for (int block = 0; block < blockCount; block++) {
+                int from = block * daysPerBlock;
+                int[] blockDays = Arrays.copyOfRange(epochDays, from, Math.min(from + daysPerBlock, epochDays.length));
+                createBlock(pathSupplier.get(), blockDays, startDay + from);
+            }
+        }
+
+        /**
+         * 새 아카이브 작성
+         *
+         * @param epochDays    오름차순 날짜 축
+         * @param daysPerBlock 블록 하나의 날짜 수 ({@link #daysPerBlock(int, int, long)})
+         */
+        static Writer create(Supplier<Path> paths, int[] epochDays, List<UUID> assetIds, int daysPerBlock) {
+            return new Writer(paths, null, 0, daysPerBlock, epochDays.clone(), assetIds.toArray(UUID[]::new));
+        }
+
+        /**
+         * 이전 스냅샷 뒤에 이어 쓰기 (자산 목록과 블록 일수는 이전 스냅샷과 같음)
+         * keptDays가 걸친 블록부터 새로 쓰고, 그 블록의 keptDays 이전 값은 이전 스냅샷에서 복사합니다.
+         *
+         * @param keptDays 이전 스냅샷에서 유지할 날짜 수 (앞쪽부터)
+         * @param newDays  keptDays 뒤에 붙일 오름차순 날짜
+         */
+        static Writer append(Supplier<Path> paths, Snapshot previous, int keptDays, int[] newDays) {
+            int keptBlocks = keptDays / previous.daysPerBlock;
+            int rewriteFrom = keptBlocks * previous.daysPerBlock;
+
+            int[] epochDays = Arrays.copyOfRange(previous.epochDays, rewriteFrom, keptDays + newDays.length);
+            System.arraycopy(newDays, 0, epochDays, keptDays - rewriteFrom, newDays.length);
+
+            Writer writer = new Writer(paths, previous, keptBlocks, previous.daysPerBlock, epochDays, previous.assetIds);
+            for (int column = 0; column < previous.assetIds.length; column++) {
+                for (int day = rewriteFrom; day < keptDays; day++) {
+                    long value = previous.valueAt(column, day);
+                    if (value != MISSING) {
+                        writer.set(column, day - rewriteFrom, value);
+                    }
+                }
+            }
+            return writer;
+        }
+
+        /**
+         * 블록 파일 하나가 매핑 한계를 넘지 않는 블록 일수 (최소 1일)
+         */
+        static int daysPerBlock(int assetCount, int maxDays, long maxBlockBytes) {
+            if (assetCount == 0) {
+                return Math.max(1, maxDays);
+            }
+            long fixedBytes = HEADER_BYTES + (long) assetCount * DIRECTORY_ENTRY_BYTES;
+            for (int days = Math.max(1, maxDays); days > 1; days = days * 3 / 4) {
+                if (blockBytes(fixedBytes, assetCount, days) <= maxBlockBytes) {
+                    return days;
+                }
+            }
+            return 1;
+        }
+
+        /**
+         * 종가 기록 (날짜 축이나 자산 목록에 없는 값은 무시)
+         */
+        void put(UUID assetId, int epochDay, long unscaled) {
+            if (!assetId.equals(cachedAssetId)) {
+                Integer column = columns.get(assetId);
+                if (column == null) {
+                    return;
+                }
+                cachedAssetId = assetId;
+                cachedColumn = column;
+            }
+            int day = Arrays.binarySearch(epochDays, epochDay);
+            if (day < 0) {
+                return;
+            }
+            set(cachedColumn, day, unscaled);
+        }
+
+        /**
+         * 새로 쓴 블록 수
+         */
+        int blockCount() {
+            return blocks.size();
+        }
+
+        Snapshot finish() {
+            List<Block> allBlocks = new ArrayList<>(keptBlocks + blocks.size());
+            if (base != null) {
+                allBlocks.addAll(base.blocks.subList(0, keptBlocks));
+            }
+            for (int i = 0; i < blocks.size(); i++) {
+                MappedByteBuffer buffer = buffers.get(i);
+                buffer.force();
+                Block block = blocks.get(i);
+                allBlocks.add(new Block(block.path, buffer.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN),
+                        block.valuesOffset, block.dayCount));
+            }
+
+            int[] allDays = new int[startDay + epochDays.length];
+            if (base != null) {
+                System.arraycopy(base.epochDays, 0, allDays, 0, startDay);
+            }
+            System.arraycopy(epochDays, 0, allDays, startDay, epochDays.length);
+
+            return new Snapshot(List.copyOf(allBlocks), daysPerBlock, allDays, assetIds, firstIndex, lastIndex);
+        }
+
+        private void createBlock(Path path, int[] blockDays, int blockStartDay) {
+            long fixedBytes = HEADER_BYTES + (long) assetIds.length * DIRECTORY_ENTRY_BYTES;
+            int daysBytes = (blockDays.length * Integer.BYTES + 7) & ~7;
+            long directoryOffset = HEADER_BYTES + (long) daysBytes;
+            long valuesOffset = directoryOffset + (long) assetIds.length * DIRECTORY_ENTRY_BYTES;
+            long size = blockBytes(fixedBytes, assetIds.length, blockDays.length);
+            if (size > MAX_BLOCK_BYTES) {
+                // daysPerBlock()로 정한 블록 일수를 넘겨받은 경우에만 발생
+                throw new IllegalArgumentException("Close archive block too large: " + size + " bytes");
+            }
+
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create close archive block " + path, e);
+            }
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, blockDays.length);
+            buffer.putInt(12, assetIds.length);
+            buffer.putInt(16, blockStartDay);
+            for (int i = 0; i < blockDays.length; i++) {
+                buffer.putInt(HEADER_BYTES + i * Integer.BYTES, blockDays[i]);
+            }
+            for (int column = 0; column < assetIds.length; column++) {
+                int offset = (int) directoryOffset + column * DIRECTORY_ENTRY_BYTES;
+                buffer.putLong(offset, assetIds[column].getMostSignificantBits());
+                buffer.putLong(offset + 8, assetIds[column].getLeastSignificantBits());
+            }
+            for (long offset = valuesOffset; offset < size; offset += Long.BYTES) {
+                buffer.putLong((int) offset, MISSING);
+            }
+
+            buffers.add(buffer);
+            blocks.add(new Block(path, buffer, (int) valuesOffset, blockDays.length));
+        }
+
+        private static long blockBytes(long fixedBytes, int assetCount, int days) {
+            long daysBytes = ((long) days * Integer.BYTES + 7) & ~7L;
+            return fixedBytes + daysBytes + (long) assetCount * days * Long.BYTES;
+        }
+
+        /**
+         * @param day 이 작성기의 날짜 축 인덱스
+         */
+        private void set(int column, int day, long value) {
+            blocks.get(day / daysPerBlock).set(column, day % daysPerBlock, value);
+            int globalDay = startDay + day;
+            if (firstIndex[column] < 0 || globalDay < firstIndex[column]) {
+                firstIndex[column] = globalDay;
+            }
+            if (globalDay > lastIndex[column]) {
+                lastIndex[column] = globalDay;
+            }
+        }
+    }
+}
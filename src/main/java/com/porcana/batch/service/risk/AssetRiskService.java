@@ -1,22 +1,26 @@
 package com.porcana.batch.service.risk;
 
-import com.porcana.domain.asset.AssetPriceRepository;
+import com.porcana.batch.service.price.CloseArchive;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.AssetRiskHistoryRepository;
 import com.porcana.domain.asset.entity.Asset;
-import com.porcana.domain.asset.entity.AssetPrice;
 import com.porcana.domain.asset.entity.AssetRiskHistory;
+import com.porcana.domain.asset.price.PriceSeries;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.WeekFields;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * 자산 위험도 계산 및 저장 서비스
@@ -28,11 +32,15 @@ public class AssetRiskService {
 
     private static final DateTimeFormatter WEEK_FORMATTER = DateTimeFormatter.ofPattern("YYYY-'W'ww");
     private static final int MIN_PRICE_DATA_REQUIRED = 60; // 최소 60일 데이터 필요
+    private static final int LOAD_SLICE_SIZE = 200; // worker 작업 1개당 자산 수
 
     private final AssetRepository assetRepository;
-    private final AssetPriceRepository assetPriceRepository;
     private final AssetRiskHistoryRepository assetRiskHistoryRepository;
     private final RiskCalculator riskCalculator;
+    private final CloseArchive closeArchive;
+
+    @Value("${batch.asset-risk.parallelism:4}")
+    private int parallelism;
 
     /**
      * 모든 활성 자산의 위험도 계산 및 저장
@@ -50,38 +58,18 @@ public class AssetRiskService {
             return;
         }
 
-        // 2. 각 자산별 가격 데이터 조회 및 위험도 메트릭 계산
+        // 2. 종가 아카이브에서 자산별 최근 종가만 읽어 병렬로 위험도 메트릭 계산
+        Map<UUID, RiskMetrics> calculated = calculateMetricsInParallel(activeAssets);
+
         // LinkedHashMap을 사용하여 순서 유지
-        Map<UUID, RiskMetrics> assetMetricsMap = new LinkedHashMap<>();
         Map<UUID, Asset> validAssetMap = new LinkedHashMap<>();
         List<RiskMetrics> allMetrics = new ArrayList<>();
 
         for (Asset asset : activeAssets) {
-            try {
-                List<AssetPrice> prices = assetPriceRepository.findByAssetIdOrderByPriceDateAsc(asset.getId());
-
-                if (prices.size() < MIN_PRICE_DATA_REQUIRED) {
-                    log.debug("Insufficient price data for asset {}: {} days (minimum {} required)",
-                            asset.getSymbol(), prices.size(), MIN_PRICE_DATA_REQUIRED);
-                    continue;
-                }
-
-                // 가격 리스트 추출
-                List<BigDecimal> priceValues = prices.stream()
-                        .map(AssetPrice::getPrice)
-                        .collect(Collectors.toList());
-
-                // 위험도 메트릭 계산
-                RiskMetrics metrics = riskCalculator.calculateMetrics(priceValues);
-
-                if (metrics != null) {
-                    assetMetricsMap.put(asset.getId(), metrics);
-                    validAssetMap.put(asset.getId(), asset);
-                    allMetrics.add(metrics);
-                }
-
-            } catch (Exception e) {
-                log.error("Failed to calculate risk metrics for asset {}: {}", asset.getSymbol(), e.getMessage(), e);
+            RiskMetrics metrics = calculated.get(asset.getId());
+            if (metrics != null) {
+                validAssetMap.put(asset.getId(), asset);
+                allMetrics.add(metrics);
             }
         }
 
@@ -144,6 +132,65 @@ public class AssetRiskService {
                 updatedCount, savedCount);
     }
 
+    /**
+     * 자산을 LOAD_SLICE_SIZE개씩 나눠 worker 스레드에서 계산
+     * 각 작업은 같은 아카이브 스냅샷(memory-mapped)에서 최근 종가만 읽고, DB는 조회하지 않습니다.
+     */
+    private Map<UUID, RiskMetrics> calculateMetricsInParallel(List<Asset> assets) {
+        Map<UUID, RiskMetrics> result = new HashMap<>();
+        CloseArchive.Snapshot archive = closeArchive.snapshot();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, parallelism), new CustomizableThreadFactory("asset-risk-"));
+
+        try {
+            List<Future<Map<UUID, RiskMetrics>>> futures = new ArrayList<>();
+            for (int from = 0; from < assets.size(); from += LOAD_SLICE_SIZE) {
+                List<Asset> slice = assets.subList(from, Math.min(from + LOAD_SLICE_SIZE, assets.size()));
+                futures.add(executor.submit(() -> calculateSlice(archive, slice)));
+            }
+
+            for (Future<Map<UUID, RiskMetrics>> future : futures) {
+                try {
+                    result.putAll(future.get());
+                } catch (ExecutionException e) {
+                    log.error("Failed to calculate risk metrics for asset slice: {}",
+                            e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Risk calculation interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return result;
+    }
+
+    private Map<UUID, RiskMetrics> calculateSlice(CloseArchive.Snapshot archive, List<Asset> slice) {
+        long[] closes = new long[RiskCalculator.REQUIRED_CLOSES];
+
+        Map<UUID, RiskMetrics> result = new HashMap<>();
+        for (Asset asset : slice) {
+            int count = archive.trailingCloses(asset.getId(), RiskCalculator.REQUIRED_CLOSES, closes);
+            if (count < MIN_PRICE_DATA_REQUIRED) {
+                log.debug("Insufficient price data for asset {}: {} days (minimum {} required)",
+                        asset.getSymbol(), count, MIN_PRICE_DATA_REQUIRED);
+                continue;
+            }
+
+            try {
+                RiskMetrics metrics = riskCalculator.calculateMetrics(closes, count, PriceSeries.SCALE);
+                if (metrics != null) {
+                    result.put(asset.getId(), metrics);
+                }
+            } catch (Exception e) {
+                log.error("Failed to calculate risk metrics for asset {}: {}", asset.getSymbol(), e.getMessage(), e);
+            }
+        }
+        return result;
+    }
+
     /**
      * 현재 주차 문자열 생성 (YYYY-WW 포맷)
      */
@@ -1,12 +1,12 @@
 package com.porcana.batch.service.risk;
 
+import com.porcana.batch.support.PercentileRanker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 위험도 계산 서비스
@@ -21,6 +21,17 @@ public class RiskCalculator {
     private static final double TRADING_DAYS_PER_YEAR = 252.0;
     private static final double SQRT_252 = Math.sqrt(TRADING_DAYS_PER_YEAR);
 
+    // 로그 수익률용 가격 비율 (기존 BigDecimal 계산과 같은 소수 10자리 HALF_UP)
+    private static final int RATIO_SCALE = 10;
+    private static final double RATIO_UNIT = 1e10;
+    private static final double EXACT_DOUBLE_LIMIT = 0x1p52;
+    private static final double RATIO_TIE_TOLERANCE = 1e-15;
+
+    /**
+     * 위험도 계산에 필요한 최근 종가 개수 (MDD/Worst Day 252일 = 종가 253개)
+     */
+    public static final int REQUIRED_CLOSES = MDD_WINDOW + 1;
+
     // 가중치
     private static final double VOLATILITY_WEIGHT = 0.45;
     private static final double MDD_WEIGHT = 0.45;
@@ -38,22 +49,62 @@ public class RiskCalculator {
             return null;
         }
 
-        // 1. 로그 수익률 계산
-        List<Double> returns = calculateLogReturns(prices);
+        int scale = 0;
+        for (BigDecimal price : prices) {
+            scale = Math.max(scale, price.scale());
+        }
+        long[] closes = new long[prices.size()];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = prices.get(i).setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        }
+        return calculateMetrics(closes, closes.length, scale);
+    }
 
-        if (returns.isEmpty()) {
+    /**
+     * 고정소수점 종가 배열로부터 위험도 지표 계산
+     * 수익률 배열 하나만 만들고, MDD / Worst Day / Volatility를 한 번에 계산
+     *
+     * 최근 MDD_WINDOW + 1개 종가만 있으면 결과가 전체 이력을 넘긴 경우와 같습니다.
+     *
+     * @param closes 시간순 종가 (실제 값 × 10^scale), 앞에서부터 count개 사용
+     * @param count  사용할 종가 개수
+     * @param scale  closes의 소수 자릿수
+     * @return RiskMetrics (퍼센타일은 null, 별도로 계산 필요)
+     */
+    public RiskMetrics calculateMetrics(long[] closes, int count, int scale) {
+        if (count < 2) {
+            log.warn("Insufficient price data for risk calculation: {}", count);
+            return null;
+        }
+
+        // 1. 로그 수익률 + Worst Day (양수 가격 쌍만)
+        double[] returns = new double[count - 1];
+        int returnCount = 0;
+        for (int i = 1; i < count; i++) {
+            long prevPrice = closes[i - 1];
+            long currentPrice = closes[i];
+            if (prevPrice > 0 && currentPrice > 0) {
+                returns[returnCount++] = Math.log(ratio(currentPrice, prevPrice));
+            }
+        }
+
+        if (returnCount == 0) {
             log.warn("No returns calculated from prices");
             return null;
         }
 
         // 2. Volatility 계산 (최근 60일)
-        BigDecimal volatility = calculateVolatility(returns);
+        BigDecimal volatility = calculateVolatility(returns, Math.max(0, returnCount - VOLATILITY_WINDOW), returnCount);
 
-        // 3. MDD 계산 (전체 기간)
-        BigDecimal maxDrawdown = calculateMaxDrawdown(prices);
+        // 3. MDD 계산 (최근 252일)
+        BigDecimal maxDrawdown = calculateMaxDrawdown(closes, Math.max(0, count - MDD_WINDOW), count, scale);
 
-        // 4. Worst Day Return 계산
-        BigDecimal worstDayReturn = calculateWorstDayReturn(returns);
+        // 4. Worst Day Return 계산 (최근 252일)
+        double worstReturn = Double.POSITIVE_INFINITY;
+        for (int i = Math.max(0, returnCount - MDD_WINDOW); i < returnCount; i++) {
+            worstReturn = Math.min(worstReturn, returns[i]);
+        }
+        BigDecimal worstDayReturn = BigDecimal.valueOf(worstReturn).setScale(6, RoundingMode.HALF_UP);
 
         return RiskMetrics.builder()
                 .volatility(volatility)
@@ -82,25 +133,29 @@ public class RiskCalculator {
             return Collections.emptyList();
         }
 
-        // 각 지표별 값 추출
-        List<Double> volatilities = validMetrics.stream()
-                .map(m -> m.getVolatility().doubleValue())
-                .collect(Collectors.toList());
-
-        List<Double> mdds = validMetrics.stream()
-                .map(m -> m.getMaxDrawdown().doubleValue())
-                .collect(Collectors.toList());
+        // 각 지표별 값 추출 후 지표마다 한 번씩 정렬해 순위 계산
+        int size = validMetrics.size();
+        double[] volatilities = new double[size];
+        double[] mdds = new double[size];
+        double[] worstDays = new double[size];
+        for (int i = 0; i < size; i++) {
+            RiskMetrics metrics = validMetrics.get(i);
+            volatilities[i] = metrics.getVolatility().doubleValue();
+            mdds[i] = metrics.getMaxDrawdown().doubleValue();
+            worstDays[i] = -metrics.getWorstDayReturn().doubleValue(); // 음수 처리 (더 큰 하락이 더 위험)
+        }
 
-        List<Double> worstDays = validMetrics.stream()
-                .map(m -> -m.getWorstDayReturn().doubleValue()) // 음수 처리 (더 큰 하락이 더 위험)
-                .collect(Collectors.toList());
+        double[] volPercentiles = PercentileRanker.rankAll(volatilities);
+        double[] mddPercentiles = PercentileRanker.rankAll(mdds);
+        double[] worstPercentiles = PercentileRanker.rankAll(worstDays);
 
-        // 퍼센타일 계산 및 점수 산출
-        List<RiskMetrics> result = new ArrayList<>();
-        for (RiskMetrics metrics : validMetrics) {
-            double volPct = calculatePercentileRank(metrics.getVolatility().doubleValue(), volatilities);
-            double mddPct = calculatePercentileRank(metrics.getMaxDrawdown().doubleValue(), mdds);
-            double worstPct = calculatePercentileRank(-metrics.getWorstDayReturn().doubleValue(), worstDays);
+        // 점수 산출
+        List<RiskMetrics> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            RiskMetrics metrics = validMetrics.get(i);
+            double volPct = volPercentiles[i];
+            double mddPct = mddPercentiles[i];
+            double worstPct = worstPercentiles[i];
 
             // RiskScore 계산 (0~100)
             double riskScore = 100.0 * (VOLATILITY_WEIGHT * volPct + MDD_WEIGHT * mddPct + WORST_DAY_WEIGHT * worstPct);
@@ -124,45 +179,44 @@ public class RiskCalculator {
     }
 
     /**
-     * 로그 수익률 계산
-     * r_t = ln(P_t / P_{t-1})
+     * P_t / P_{t-1}을 소수 10자리 HALF_UP으로 반올림한 값
+     * (BigDecimal.divide(prev, 10, HALF_UP).doubleValue()와 같은 double)
+     *
+     * double 나눗셈 결과로 반올림하되, .5 경계에 걸려 오차가 판정을 바꿀 수 있거나
+     * 정수부가 2^52 이상이면 BigDecimal로 계산합니다.
      */
-    private List<Double> calculateLogReturns(List<BigDecimal> prices) {
-        List<Double> returns = new ArrayList<>();
-        for (int i = 1; i < prices.size(); i++) {
-            BigDecimal prevPrice = prices.get(i - 1);
-            BigDecimal currentPrice = prices.get(i);
-
-            if (prevPrice.compareTo(BigDecimal.ZERO) > 0 && currentPrice.compareTo(BigDecimal.ZERO) > 0) {
-                double logReturn = Math.log(currentPrice.divide(prevPrice, 10, RoundingMode.HALF_UP).doubleValue());
-                returns.add(logReturn);
+    static double ratio(long currentPrice, long prevPrice) {
+        double scaled = (double) currentPrice / prevPrice * RATIO_UNIT;
+        if (scaled < EXACT_DOUBLE_LIMIT) {
+            double floor = Math.floor(scaled);
+            double fraction = scaled - floor;
+            if (Math.abs(fraction - 0.5) > scaled * RATIO_TIE_TOLERANCE + RATIO_TIE_TOLERANCE) {
+                long rounded = (long) floor + (fraction > 0.5 ? 1 : 0);
+                return rounded / RATIO_UNIT;
             }
         }
-        return returns;
+        return BigDecimal.valueOf(currentPrice)
+                .divide(BigDecimal.valueOf(prevPrice), RATIO_SCALE, RoundingMode.HALF_UP)
+                .doubleValue();
     }
 
     /**
      * 변동성 계산 (연율화된 표준편차)
      * vol = std(r_{t-59..t}) × √252
      */
-    private BigDecimal calculateVolatility(List<Double> returns) {
-        // 최근 60일치 또는 전체 데이터 사용
-        int startIdx = Math.max(0, returns.size() - VOLATILITY_WINDOW);
-        List<Double> recentReturns = returns.subList(startIdx, returns.size());
-
-        if (recentReturns.isEmpty()) {
+    private BigDecimal calculateVolatility(double[] returns, int from, int to) {
+        if (from >= to) {
             return BigDecimal.ZERO;
         }
 
         // 평균 계산
-        double mean = recentReturns.stream()
-                .mapToDouble(Double::doubleValue)
+        double mean = Arrays.stream(returns, from, to)
                 .average()
                 .orElse(0.0);
 
         // 표준편차 계산
-        double variance = recentReturns.stream()
-                .mapToDouble(r -> Math.pow(r - mean, 2))
+        double variance = Arrays.stream(returns, from, to)
+                .map(r -> Math.pow(r - mean, 2))
                 .average()
                 .orElse(0.0);
 
@@ -177,74 +231,43 @@ public class RiskCalculator {
     /**
      * 최대낙폭 (MDD) 계산
      * mdd = max_t(1 - P_t / max(P_{0..t}))
+     *
+     * 낙폭 비교는 double로 하고, 최대 낙폭을 만든 (최고가, 현재가) 쌍만 BigDecimal로 나눕니다.
      */
-    private BigDecimal calculateMaxDrawdown(List<BigDecimal> prices) {
-        if (prices.isEmpty()) {
+    private BigDecimal calculateMaxDrawdown(long[] closes, int from, int to, int scale) {
+        if (from >= to) {
             return BigDecimal.ZERO;
         }
 
-        // 최근 252일치 또는 전체 데이터 사용
-        int startIdx = Math.max(0, prices.size() - MDD_WINDOW);
-        List<BigDecimal> recentPrices = prices.subList(startIdx, prices.size());
+        long maxPrice = closes[from];
+        long worstPeak = 0;
+        long worstPrice = 0;
+        double maxDrawdown = 0.0;
 
-        BigDecimal maxPrice = recentPrices.get(0);
-        BigDecimal maxDrawdown = BigDecimal.ZERO;
-
-        for (BigDecimal price : recentPrices) {
+        for (int i = from; i < to; i++) {
+            long price = closes[i];
             // 현재까지의 최고가 업데이트
-            if (price.compareTo(maxPrice) > 0) {
+            if (price > maxPrice) {
                 maxPrice = price;
             }
 
             // 낙폭 계산: (최고가 - 현재가) / 최고가
-            if (maxPrice.compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal drawdown = maxPrice.subtract(price)
-                        .divide(maxPrice, 10, RoundingMode.HALF_UP);
-
-                if (drawdown.compareTo(maxDrawdown) > 0) {
+            if (maxPrice > 0 && price < maxPrice) {
+                double drawdown = (double) (maxPrice - price) / maxPrice;
+                if (drawdown > maxDrawdown) {
                     maxDrawdown = drawdown;
+                    worstPeak = maxPrice;
+                    worstPrice = price;
                 }
             }
         }
 
-        return maxDrawdown.setScale(6, RoundingMode.HALF_UP);
-    }
-
-    /**
-     * 1일 최악 하락률 계산
-     * worst = min(r_{t-251..t})
-     */
-    private BigDecimal calculateWorstDayReturn(List<Double> returns) {
-        if (returns.isEmpty()) {
-            return BigDecimal.ZERO;
+        if (worstPeak == 0) {
+            return BigDecimal.ZERO.setScale(6, RoundingMode.HALF_UP);
         }
-
-        // 최근 252일치 또는 전체 데이터 사용
-        int startIdx = Math.max(0, returns.size() - MDD_WINDOW);
-        List<Double> recentReturns = returns.subList(startIdx, returns.size());
-
-        double worstReturn = recentReturns.stream()
-                .mapToDouble(Double::doubleValue)
-                .min()
-                .orElse(0.0);
-
-        return BigDecimal.valueOf(worstReturn).setScale(6, RoundingMode.HALF_UP);
-    }
-
-    /**
-     * 퍼센타일 순위 계산 (0~1)
-     * 값이 전체 분포에서 어느 위치에 있는지 계산
-     */
-    private double calculatePercentileRank(double value, List<Double> allValues) {
-        if (allValues.isEmpty()) {
-            return 0.0;
-        }
-
-        long countBelow = allValues.stream()
-                .filter(v -> v < value)
-                .count();
-
-        return (double) countBelow / allValues.size();
+        return BigDecimal.valueOf(worstPeak - worstPrice, scale)
+                .divide(BigDecimal.valueOf(worstPeak, scale), 10, RoundingMode.HALF_UP)
+                .setScale(6, RoundingMode.HALF_UP);
     }
 
     /**
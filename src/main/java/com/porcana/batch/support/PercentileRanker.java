@@ -0,0 +1,74 @@
+package com.porcana.batch.support;
+
+import java.util.Arrays;
+
+/**
+ * 횡단면(cross-sectional) 퍼센타일 순위 계산
+ *
+ * 분포를 한 번 정렬해 두고 이분 탐색으로 순위를 매깁니다 (정렬 O(n log n), 조회 O(log n)).
+ * 순위는 "값보다 작은 원소 수 / 전체 원소 수"(0~1)이며, 같은 값끼리는 같은 순위를 받습니다.
+ * 즉 모든 원소를 훑으며 v < value를 세던 방식과 결과가 같습니다.
+ *
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 공유해도 됩니다.
+ */
+public final class PercentileRanker {
+
+    private final double[] sorted;
+
+    private PercentileRanker(double[] sorted) {
+        this.sorted = sorted;
+    }
+
+    /**
+     * 분포로 사용할 값들 (배열은 복사되므로 호출자가 이후에 변경해도 무관)
+     */
+    public static PercentileRanker of(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new PercentileRanker(sorted);
+    }
+
+    public int size() {
+        return sorted.length;
+    }
+
+    /**
+     * 분포에서 value보다 작은 원소 수
+     */
+    public int countBelow(double value) {
+        // 첫 번째로 sorted[i] < value가 거짓이 되는 위치 (lower bound)
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 퍼센타일 순위 (0~1), 분포가 비어 있으면 0
+     */
+    public double rank(double value) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        return (double) countBelow(value) / sorted.length;
+    }
+
+    /**
+     * 값 배열 전체를 분포로 삼아 각 원소의 퍼센타일 순위 계산
+     */
+    public static double[] rankAll(double[] values) {
+        PercentileRanker ranker = of(values);
+        double[] ranks = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ranks[i] = ranker.rank(values[i]);
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,54 @@
+package com.porcana.batch.support;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 포트폴리오 ID 해시 범위 기반 Partitioner
+ * 32비트 해시 공간을 gridSize개의 연속 구간으로 나누고,
+ * 각 파티션의 ExecutionContext에 [minHash, maxHash] 구간을 기록합니다.
+ *
+ * 해시는 UUID 자체에서 계산되므로 실행 간에 안정적이며,
+ * 재시작 시 각 파티션은 같은 포트폴리오 집합을 다시 처리합니다.
+ * 해시는 {@link UUID#hashCode()}이며, DB 함수 portfolio_id_hash(id)도 같은 값을 계산합니다 (worker는 SQL로 범위 조회).
+ */
+public class PortfolioHashRangePartitioner implements Partitioner {
+
+    public static final String MIN_HASH_KEY = "minHash";
+    public static final String MAX_HASH_KEY = "maxHash";
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        if (gridSize < 1) {
+            throw new IllegalArgumentException("gridSize must be positive");
+        }
+
+        long min = Integer.MIN_VALUE;
+        long span = (long) Integer.MAX_VALUE - Integer.MIN_VALUE + 1;
+        long rangeSize = span / gridSize;
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (int i = 0; i < gridSize; i++) {
+            long lower = min + rangeSize * i;
+            long upper = (i == gridSize - 1) ? Integer.MAX_VALUE : lower + rangeSize - 1;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_HASH_KEY, lower);
+            context.putLong(MAX_HASH_KEY, upper);
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    }
+
+    /**
+     * 포트폴리오 ID가 해시 구간 [minHash, maxHash]에 속하는지 확인합니다
+     */
+    public static boolean inRange(UUID portfolioId, long minHash, long maxHash) {
+        int hash = portfolioId.hashCode();
+        return hash >= minHash && hash <= maxHash;
+    }
+}
@@ -0,0 +1,78 @@
+package com.porcana.batch.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 방식 Rate Limiter
+ * 초당 permitsPerSecond개의 토큰이 채워지고, 최대 burst개까지 쌓아둘 수 있습니다.
+ *
+ * 호출 스레드는 자기 차례가 올 때까지 잠들며, 여러 스레드가 동시에 호출해도
+ * 전체 처리량은 설정한 속도를 넘지 않습니다.
+ * (락 안에서는 대기 시간만 예약하고, 실제 대기는 락 밖에서 합니다)
+ *
+ * 쌓아둔 burst는 속도 위에 더해지므로, 어떤 구간에서든 "구간 길이 × 속도 + burst - 1"개까지 발급될 수 있습니다.
+ * 동시 요청 수 제한은 이 클래스가 아니라 호출 측의 세마포어로 따로 겁니다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * 다음 토큰이 "이론상" 발급되는 시각 (GCRA theoretical arrival time)
+     */
+    private long nextPermitNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be positive");
+        }
+        // 올림: 간격이 짧아져 한도보다 하나 더 발급되는 일이 없도록
+        this.nanosPerPermit = (long) Math.ceil(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = nanosPerPermit * burst;
+        this.nanoClock = nanoClock;
+        this.nextPermitNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 분당 요청 수로 생성 (burst 1)
+     * 제공자 쿼터는 보통 고정/이동 1분 구간 기준이라, 어떤 60초 구간에서도 requestsPerMinute를 넘지 않도록
+     * 토큰을 쌓아두지 않고 균등한 간격으로만 발급합니다.
+     */
+    public static TokenBucketRateLimiter perMinute(int requestsPerMinute) {
+        return perMinute(requestsPerMinute, System::nanoTime);
+    }
+
+    static TokenBucketRateLimiter perMinute(int requestsPerMinute, LongSupplier nanoClock) {
+        return new TokenBucketRateLimiter(requestsPerMinute / 60.0, 1, nanoClock);
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰 하나를 예약하고, 사용 가능할 때까지 남은 대기 시간(ns)을 반환
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        long next = Math.max(nextPermitNanos, now) + nanosPerPermit;
+        nextPermitNanos = next;
+        return Math.max(0L, next - burstNanos - now);
+    }
+}
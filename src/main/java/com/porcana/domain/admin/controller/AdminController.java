@@ -12,23 +12,28 @@ import com.porcana.domain.admin.dto.response.AdminTodayBatchIssueListResponse;
 import com.porcana.domain.admin.dto.response.AdminUserDetailResponse;
 import com.porcana.domain.admin.dto.response.AdminUserListResponse;
 import com.porcana.domain.admin.service.AdminService;
+import com.porcana.domain.asset.dto.AssetCatalogResponse;
 import com.porcana.domain.asset.dto.AssetChartResponse;
 import com.porcana.domain.asset.dto.AssetDetailResponse;
 import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.service.AssetService;
 import com.porcana.domain.portfolio.dto.PortfolioPerformanceResponse;
 import com.porcana.domain.portfolio.entity.PortfolioStatus;
 import com.porcana.domain.user.entity.UserRole;
+import com.porcana.global.pagination.CountMode;
 import com.porcana.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -42,6 +47,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -69,8 +75,10 @@ public class AdminController {
     public ResponseEntity<AdminUserListResponse> getUsers(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @Parameter(description = "이메일 또는 닉네임 검색어") @RequestParam(required = false) String keyword,
-            @Parameter(description = "역할 필터 (USER, ADMIN)") @RequestParam(required = false) UserRole role) {
-        AdminUserListResponse response = adminService.getUsers(pageable, keyword, role);
+            @Parameter(description = "역할 필터 (USER, ADMIN)") @RequestParam(required = false) UserRole role,
+            @Parameter(description = "커서 (이전 응답의 nextCursor, 지정하면 커서 방식)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "건수 집계 방식 (EXACT, ESTIMATED, NONE / EXACT 이외는 커서 방식)") @RequestParam(required = false) CountMode count) {
+        AdminUserListResponse response = adminService.getUsers(pageable, keyword, role, cursor, count);
         return ResponseEntity.ok(response);
     }
 
@@ -96,11 +104,19 @@ public class AdminController {
             @PageableDefault(size = 20, sort = "symbol", direction = Sort.Direction.ASC) Pageable pageable,
             @Parameter(description = "심볼 또는 이름 검색어") @RequestParam(required = false) String keyword,
             @Parameter(description = "시장 필터 (KR, US)") @RequestParam(required = false) Asset.Market market,
-            @Parameter(description = "종목 타입 필터 (STOCK, ETF)") @RequestParam(required = false) Asset.AssetType type) {
-        AdminAssetListResponse response = adminService.getAssets(pageable, keyword, market, type);
+            @Parameter(description = "종목 타입 필터 (STOCK, ETF)") @RequestParam(required = false) Asset.AssetType type,
+            @Parameter(description = "커서 (이전 응답의 nextCursor, 지정하면 커서 방식)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "건수 집계 방식 (EXACT, ESTIMATED, NONE / EXACT 이외는 커서 방식)") @RequestParam(required = false) CountMode count) {
+        AdminAssetListResponse response = adminService.getAssets(pageable, keyword, market, type, cursor, count);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "종목 분포 조회", description = "섹터 / 시장 / 타입별 활성 종목 수를 조회합니다.")
+    @GetMapping("/assets/catalog")
+    public ResponseEntity<AssetCatalogResponse> getAssetCatalog() {
+        return ResponseEntity.ok(adminService.getAssetCatalog());
+    }
+
     @Operation(summary = "종목 상세 조회", description = "관리자용 종목 상세 정보를 조회합니다.")
     @GetMapping("/assets/{assetId}")
     public ResponseEntity<AssetDetailResponse> getAssetDetail(@PathVariable UUID assetId) {
@@ -113,8 +129,20 @@ public class AdminController {
             @PathVariable UUID assetId,
             @RequestParam
             @Pattern(regexp = "1M|3M|1Y", message = "range must be one of 1M, 3M, 1Y")
-            String range) {
-        return ResponseEntity.ok(adminService.getAssetChart(assetId, range));
+            String range,
+            @RequestParam(required = false)
+            @Min(value = 1, message = "points must be at least 1")
+            Integer points,
+            WebRequest webRequest) {
+        AssetService.PreparedChart chart = adminService.prepareAssetChart(assetId, range, points);
+        String eTag = chart.eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(adminService.getAssetChart(chart));
     }
 
     @Operation(summary = "종목 이미지 수정", description = "종목 이미지 URL을 수정합니다.")
@@ -140,8 +168,10 @@ public class AdminController {
     public ResponseEntity<AdminPortfolioListResponse> getPortfolios(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @Parameter(description = "포트폴리오 이름 검색어") @RequestParam(required = false) String keyword,
-            @Parameter(description = "상태 필터 (ACTIVE, FINISHED)") @RequestParam(required = false) PortfolioStatus status) {
-        AdminPortfolioListResponse response = adminService.getPortfolios(pageable, keyword, status);
+            @Parameter(description = "상태 필터 (ACTIVE, FINISHED)") @RequestParam(required = false) PortfolioStatus status,
+            @Parameter(description = "커서 (이전 응답의 nextCursor, 지정하면 커서 방식)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "건수 집계 방식 (EXACT, ESTIMATED, NONE / EXACT 이외는 커서 방식)") @RequestParam(required = false) CountMode count) {
+        AdminPortfolioListResponse response = adminService.getPortfolios(pageable, keyword, status, cursor, count);
         return ResponseEntity.ok(response);
     }
 
@@ -165,8 +195,10 @@ public class AdminController {
     @Operation(summary = "배치 실행 로그 목록", description = "배치 실행 로그를 조회합니다.")
     @GetMapping("/batch-runs")
     public ResponseEntity<AdminBatchRunListResponse> getBatchRuns(
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(adminService.getBatchRuns(pageable));
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "커서 (이전 응답의 nextCursor, 지정하면 커서 방식)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "건수 집계 방식 (EXACT, ESTIMATED, NONE / EXACT 이외는 커서 방식)") @RequestParam(required = false) CountMode count) {
+        return ResponseEntity.ok(adminService.getBatchRuns(pageable, cursor, count));
     }
 
     @Operation(summary = "배치 실행 로그 상세", description = "배치 실행 로그와 이슈 목록을 조회합니다.")
@@ -6,6 +6,7 @@ import com.porcana.domain.admin.dto.response.AdminInquiryDetailResponse;
 import com.porcana.domain.admin.dto.response.AdminInquiryListResponse;
 import com.porcana.domain.admin.service.AdminInquiryService;
 import com.porcana.domain.inquiry.entity.InquiryStatus;
+import com.porcana.global.pagination.CountMode;
 import com.porcana.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -45,9 +46,11 @@ public class AdminInquiryController {
     public ResponseEntity<AdminInquiryListResponse> getInquiries(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @Parameter(description = "Search by title, email, nickname") @RequestParam(required = false) String keyword,
-            @Parameter(description = "Inquiry status filter") @RequestParam(required = false) InquiryStatus status
+            @Parameter(description = "Inquiry status filter") @RequestParam(required = false) InquiryStatus status,
+            @Parameter(description = "Previous nextCursor (cursor paging)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Count mode (EXACT, ESTIMATED, NONE)") @RequestParam(required = false) CountMode count
     ) {
-        return ResponseEntity.ok(adminInquiryService.getInquiries(pageable, keyword, status));
+        return ResponseEntity.ok(adminInquiryService.getInquiries(pageable, keyword, status, cursor, count));
     }
 
     @Operation(summary = "Get inquiry detail", description = "Get inquiry detail and response history.")
@@ -4,6 +4,7 @@ import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.DividendCategory;
 import com.porcana.domain.asset.entity.DividendDataStatus;
 import com.porcana.domain.asset.entity.DividendFrequency;
+import com.porcana.global.pagination.CursorPage;
 import lombok.Builder;
 import org.springframework.data.domain.Page;
 
@@ -21,7 +22,8 @@ public record AdminAssetListResponse(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor
 ) {
     @Builder
     public record AssetItem(
@@ -74,4 +76,18 @@ public record AdminAssetListResponse(
                 .totalPages(page.getTotalPages())
                 .build();
     }
+
+    /**
+     * Cursor (keyset) page: page is always 0, totalElements / totalPages are -1 when not counted
+     */
+    public static AdminAssetListResponse from(CursorPage<Asset> page) {
+        return AdminAssetListResponse.builder()
+                .assets(page.content().stream().map(AssetItem::from).toList())
+                .page(0)
+                .size(page.size())
+                .totalElements(page.totalOrUnknown())
+                .totalPages(page.totalPagesOrUnknown())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
 }
@@ -1,6 +1,7 @@
 package com.porcana.domain.admin.dto.response;
 
 import com.porcana.domain.admin.entity.AdminBatchJobRun;
+import com.porcana.global.pagination.CursorPage;
 import lombok.Builder;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.data.domain.Page;
@@ -15,7 +16,8 @@ public record AdminBatchRunListResponse(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor
 ) {
     @Builder
     public record BatchRunItem(
@@ -53,4 +55,18 @@ public record AdminBatchRunListResponse(
                 .totalPages(page.getTotalPages())
                 .build();
     }
+
+    /**
+     * Cursor (keyset) page: page is always 0, totalElements / totalPages are -1 when not counted
+     */
+    public static AdminBatchRunListResponse from(CursorPage<AdminBatchJobRun> page) {
+        return AdminBatchRunListResponse.builder()
+                .runs(page.content().stream().map(BatchRunItem::from).toList())
+                .page(0)
+                .size(page.size())
+                .totalElements(page.totalOrUnknown())
+                .totalPages(page.totalPagesOrUnknown())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
 }
@@ -4,6 +4,7 @@ import com.porcana.domain.inquiry.entity.Inquiry;
 import com.porcana.domain.inquiry.entity.InquiryCategory;
 import com.porcana.domain.inquiry.entity.InquiryStatus;
 import com.porcana.domain.user.entity.User;
+import com.porcana.global.pagination.CursorPage;
 import lombok.Builder;
 import org.springframework.data.domain.Page;
 
@@ -17,7 +18,8 @@ public record AdminInquiryListResponse(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor
 ) {
     @Builder
     public record InquiryItem(
@@ -58,4 +60,18 @@ public record AdminInquiryListResponse(
                 .totalPages(page.getTotalPages())
                 .build();
     }
+
+    /**
+     * Cursor (keyset) page: page is always 0, totalElements / totalPages are -1 when not counted
+     */
+    public static AdminInquiryListResponse from(CursorPage<Inquiry> page) {
+        return AdminInquiryListResponse.builder()
+                .inquiries(page.content().stream().map(InquiryItem::from).toList())
+                .page(0)
+                .size(page.size())
+                .totalElements(page.totalOrUnknown())
+                .totalPages(page.totalPagesOrUnknown())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
 }
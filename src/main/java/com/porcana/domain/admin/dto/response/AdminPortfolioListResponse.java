@@ -2,6 +2,7 @@ package com.porcana.domain.admin.dto.response;
 
 import com.porcana.domain.portfolio.entity.Portfolio;
 import com.porcana.domain.portfolio.entity.PortfolioStatus;
+import com.porcana.global.pagination.CursorPage;
 import lombok.Builder;
 import org.springframework.data.domain.Page;
 
@@ -19,7 +20,8 @@ public record AdminPortfolioListResponse(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor
 ) {
     @Builder
     public record PortfolioItem(
@@ -55,4 +57,18 @@ public record AdminPortfolioListResponse(
                 .totalPages(page.getTotalPages())
                 .build();
     }
+
+    /**
+     * Cursor (keyset) page: page is always 0, totalElements / totalPages are -1 when not counted
+     */
+    public static AdminPortfolioListResponse from(CursorPage<Portfolio> page) {
+        return AdminPortfolioListResponse.builder()
+                .portfolios(page.content().stream().map(PortfolioItem::from).toList())
+                .page(0)
+                .size(page.size())
+                .totalElements(page.totalOrUnknown())
+                .totalPages(page.totalPagesOrUnknown())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
 }
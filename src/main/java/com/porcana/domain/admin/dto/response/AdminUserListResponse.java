@@ -2,6 +2,7 @@ package com.porcana.domain.admin.dto.response;
 
 import com.porcana.domain.user.entity.User;
 import com.porcana.domain.user.entity.UserRole;
+import com.porcana.global.pagination.CursorPage;
 import lombok.Builder;
 import org.springframework.data.domain.Page;
 
@@ -18,7 +19,8 @@ public record AdminUserListResponse(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor
 ) {
     @Builder
     public record UserItem(
@@ -52,4 +54,18 @@ public record AdminUserListResponse(
                 .totalPages(page.getTotalPages())
                 .build();
     }
+
+    /**
+     * Cursor (keyset) page: page is always 0, totalElements / totalPages are -1 when not counted
+     */
+    public static AdminUserListResponse from(CursorPage<User> page) {
+        return AdminUserListResponse.builder()
+                .users(page.content().stream().map(UserItem::from).toList())
+                .page(0)
+                .size(page.size())
+                .totalElements(page.totalOrUnknown())
+                .totalPages(page.totalPagesOrUnknown())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
 }
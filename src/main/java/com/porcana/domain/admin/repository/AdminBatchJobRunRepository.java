@@ -1,11 +1,34 @@
 package com.porcana.domain.admin.repository;
 
 import com.porcana.domain.admin.entity.AdminBatchJobRun;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface AdminBatchJobRunRepository extends JpaRepository<AdminBatchJobRun, UUID> {
+
+    /**
+     * Keyset 첫 페이지 (created_at DESC, id DESC)
+     */
+    @Query("SELECT r FROM AdminBatchJobRun r ORDER BY r.createdAt DESC, r.id DESC")
+    List<AdminBatchJobRun> findLatest(Pageable limit);
+
+    /**
+     * Keyset 다음 페이지: (created_at, id)가 커서보다 앞선 실행
+     */
+    @Query("""
+            SELECT r FROM AdminBatchJobRun r
+            WHERE r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<AdminBatchJobRun> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") UUID id,
+                                            Pageable limit);
 }
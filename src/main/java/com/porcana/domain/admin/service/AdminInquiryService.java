@@ -11,6 +11,9 @@ import com.porcana.domain.inquiry.repository.InquiryResponseRepository;
 import com.porcana.domain.user.entity.User;
 import com.porcana.domain.user.entity.UserRole;
 import com.porcana.domain.user.repository.UserRepository;
+import com.porcana.global.pagination.CountMode;
+import com.porcana.global.pagination.CursorRequest;
+import com.porcana.global.pagination.RowCountEstimator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -31,10 +34,18 @@ public class AdminInquiryService {
     private final InquiryRepository inquiryRepository;
     private final InquiryResponseRepository inquiryResponseRepository;
     private final UserRepository userRepository;
+    private final RowCountEstimator rowCountEstimator;
 
     @Transactional(readOnly = true)
-    public AdminInquiryListResponse getInquiries(Pageable pageable, String keyword, InquiryStatus status) {
+    public AdminInquiryListResponse getInquiries(Pageable pageable, String keyword, InquiryStatus status,
+                                                 String cursor, CountMode count) {
         String normalizedKeyword = StringUtils.hasText(keyword) ? keyword.trim() : null;
+        if (CursorRequest.isRequested(cursor, count)) {
+            CursorRequest request = CursorRequest.of(cursor, count, pageable.getPageSize());
+            return AdminInquiryListResponse.from(rowCountEstimator.applyEstimate(
+                    inquiryRepository.findAdminPage(normalizedKeyword, status, request),
+                    request, "inquiries", normalizedKeyword != null || status != null));
+        }
         return AdminInquiryListResponse.from(inquiryRepository.searchForAdmin(normalizedKeyword, status, pageable));
     }
 
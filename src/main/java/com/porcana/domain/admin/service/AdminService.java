@@ -8,10 +8,13 @@ import com.porcana.domain.admin.entity.AdminBatchJobRun;
 import com.porcana.domain.admin.repository.AdminBatchJobIssueRepository;
 import com.porcana.domain.admin.repository.AdminBatchJobRunRepository;
 import com.porcana.domain.arena.repository.ArenaSessionRepository;
+import com.porcana.domain.asset.AssetDataChangedEvent;
 import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.dto.AssetCatalogResponse;
 import com.porcana.domain.asset.dto.AssetChartResponse;
 import com.porcana.domain.asset.dto.AssetDetailResponse;
 import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.search.AssetSearchService;
 import com.porcana.domain.asset.service.AssetService;
 import com.porcana.domain.portfolio.dto.PortfolioPerformanceResponse;
 import com.porcana.domain.portfolio.entity.Portfolio;
@@ -23,8 +26,14 @@ import com.porcana.domain.portfolio.service.PortfolioService;
 import com.porcana.domain.user.entity.User;
 import com.porcana.domain.user.entity.UserRole;
 import com.porcana.domain.user.repository.UserRepository;
+import com.porcana.global.pagination.CountMode;
+import com.porcana.global.pagination.CreatedAtCursor;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
+import com.porcana.global.pagination.RowCountEstimator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -52,14 +61,19 @@ public class AdminService {
     private final ArenaSessionRepository arenaSessionRepository;
     private final AssetRepository assetRepository;
     private final AssetService assetService;
+    private final AssetSearchService assetSearchService;
     private final PortfolioService portfolioService;
     private final AdminBatchJobRunRepository adminBatchJobRunRepository;
     private final AdminBatchJobIssueRepository adminBatchJobIssueRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RowCountEstimator rowCountEstimator;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final Set<PortfolioStatus> ADMIN_VISIBLE_PORTFOLIO_STATUSES =
             Set.of(PortfolioStatus.ACTIVE, PortfolioStatus.FINISHED);
 
+    private static final String BATCH_RUN_CURSOR_SORT = "batchRuns:createdAt:desc";
+
     // ========================================
     // Admin Management
     // ========================================
@@ -96,7 +110,15 @@ public class AdminService {
      * Get paginated user list with optional search
      */
     @Transactional(readOnly = true)
-    public AdminUserListResponse getUsers(Pageable pageable, String keyword, UserRole role) {
+    public AdminUserListResponse getUsers(Pageable pageable, String keyword, UserRole role,
+                                          String cursor, CountMode count) {
+        if (CursorRequest.isRequested(cursor, count)) {
+            CursorRequest request = CursorRequest.of(cursor, count, pageable.getPageSize());
+            CursorPage<User> page = userRepository.findUserPage(keyword, role, request);
+            return AdminUserListResponse.from(rowCountEstimator.applyEstimateExcludingDeleted(
+                    page, request, "users", StringUtils.hasText(keyword) || role != null));
+        }
+
         Page<User> users;
 
         if (StringUtils.hasText(keyword) && role != null) {
@@ -155,24 +177,50 @@ public class AdminService {
             Pageable pageable,
             String keyword,
             Asset.Market market,
-            Asset.AssetType type
+            Asset.AssetType type,
+            String cursor,
+            CountMode count
     ) {
-        Page<Asset> assets = assetRepository.searchForAdmin(keyword, market, type, pageable);
+        if (CursorRequest.isRequested(cursor, count)) {
+            CursorRequest request = CursorRequest.of(cursor, count, pageable.getPageSize());
+            if (StringUtils.hasText(keyword)) {
+                return AdminAssetListResponse.from(assetSearchService.searchForAdmin(keyword, market, type, request));
+            }
+            CursorPage<Asset> page = assetRepository.findAdminPage(null, market, type, request);
+            return AdminAssetListResponse.from(rowCountEstimator.applyEstimate(
+                    page, request, "assets", market != null || type != null));
+        }
+
+        Page<Asset> assets = StringUtils.hasText(keyword)
+                ? assetSearchService.searchForAdmin(keyword, market, type, pageable)
+                : assetRepository.searchForAdmin(null, market, type, pageable);
         return AdminAssetListResponse.from(assets);
     }
 
+    /**
+     * Get active asset distribution (sector / market / type counts) for the dashboard
+     */
+    public AssetCatalogResponse getAssetCatalog() {
+        return assetService.getCatalog();
+    }
+
     @Transactional(readOnly = true)
     public AssetDetailResponse getAssetDetail(UUID assetId) {
         return assetService.getAsset(assetId);
     }
 
     @Transactional(readOnly = true)
-    public AssetChartResponse getAssetChart(UUID assetId, String range) {
-        return assetService.getAssetChart(assetId, range);
+    public AssetService.PreparedChart prepareAssetChart(UUID assetId, String range, Integer maxPoints) {
+        return assetService.prepareAssetChart(assetId, range, maxPoints);
+    }
+
+    public AssetChartResponse getAssetChart(AssetService.PreparedChart chart) {
+        return assetService.getAssetChart(chart);
     }
 
     /**
      * Update asset image URL
+     * Asset caches (catalog, search index, arena candidates, home payloads) are invalidated after commit
      */
     @Transactional
     public void updateAssetImage(UUID assetId, UpdateAssetImageRequest request) {
@@ -181,10 +229,12 @@ public class AdminService {
 
         asset.setImageUrl(request.imageUrl());
         log.info("Asset image updated: assetId={}, imageUrl={}", assetId, request.imageUrl());
+        eventPublisher.publishEvent(new AssetDataChangedEvent("updateAssetImage"));
     }
 
     /**
      * Update asset dividend information
+     * Asset caches are invalidated after commit
      */
     @Transactional
     public void updateAssetDividend(UUID assetId, UpdateAssetDividendRequest request) {
@@ -201,6 +251,7 @@ public class AdminService {
         );
 
         log.info("Asset dividend updated: assetId={}", assetId);
+        eventPublisher.publishEvent(new AssetDataChangedEvent("updateAssetDividend"));
     }
 
     // ========================================
@@ -211,11 +262,18 @@ public class AdminService {
      * Get paginated portfolio list with optional search
      */
     @Transactional(readOnly = true)
-    public AdminPortfolioListResponse getPortfolios(Pageable pageable, String keyword, PortfolioStatus status) {
+    public AdminPortfolioListResponse getPortfolios(Pageable pageable, String keyword, PortfolioStatus status,
+                                                    String cursor, CountMode count) {
         Page<Portfolio> portfolios;
         validateAdminPortfolioStatus(status);
         Set<PortfolioStatus> statuses = status == null ? ADMIN_VISIBLE_PORTFOLIO_STATUSES : Set.of(status);
 
+        if (CursorRequest.isRequested(cursor, count)) {
+            CursorRequest request = CursorRequest.of(cursor, count, pageable.getPageSize());
+            // DRAFT 제외 조건이 항상 붙어 테이블 추정치와 맞지 않으므로 ESTIMATED여도 건수를 채우지 않음
+            return AdminPortfolioListResponse.from(portfolioRepository.findPortfolioPage(keyword, statuses, request));
+        }
+
         if (StringUtils.hasText(keyword)) {
             portfolios = portfolioRepository.searchByNameAndStatuses(keyword, statuses, pageable);
         } else {
@@ -280,11 +338,34 @@ public class AdminService {
     }
 
     @Transactional(readOnly = true)
-    public AdminBatchRunListResponse getBatchRuns(Pageable pageable) {
+    public AdminBatchRunListResponse getBatchRuns(Pageable pageable, String cursor, CountMode count) {
+        if (CursorRequest.isRequested(cursor, count)) {
+            CursorRequest request = CursorRequest.of(cursor, count, pageable.getPageSize());
+            return AdminBatchRunListResponse.from(getBatchRunPage(request));
+        }
+
         Page<AdminBatchJobRun> runs = adminBatchJobRunRepository.findAll(pageable);
         return AdminBatchRunListResponse.from(runs);
     }
 
+    /**
+     * Keyset page of batch runs (created_at DESC, id DESC)
+     */
+    private CursorPage<AdminBatchJobRun> getBatchRunPage(CursorRequest request) {
+        CreatedAtCursor cursor = CreatedAtCursor.from(request, BATCH_RUN_CURSOR_SORT);
+        PageRequest limit = PageRequest.of(0, request.fetchSize());
+        List<AdminBatchJobRun> rows = cursor == null
+                ? adminBatchJobRunRepository.findLatest(limit)
+                : adminBatchJobRunRepository.findLatestBefore(cursor.createdAt(), cursor.id(), limit);
+
+        CursorPage<AdminBatchJobRun> page = CursorPage.of(rows, request,
+                last -> CreatedAtCursor.encode(BATCH_RUN_CURSOR_SORT, last.getCreatedAt(), last.getId()));
+        if (request.countMode() == CountMode.EXACT) {
+            return page.withTotal(adminBatchJobRunRepository.count());
+        }
+        return rowCountEstimator.applyEstimate(page, request, "admin_batch_job_runs", false);
+    }
+
     @Transactional(readOnly = true)
     public AdminBatchRunDetailResponse getBatchRunDetail(UUID runId) {
         AdminBatchJobRun run = adminBatchJobRunRepository.findById(runId)
@@ -8,11 +8,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -88,6 +94,30 @@ public class ArenaSession {
     @Column(name = "asset_type", length = 10)
     private List<Asset.AssetType> selectedAssetTypes = new ArrayList<>();
 
+    /**
+     * 현재 자산 라운드들에 제시된 자산 ID (라운드 생성 시 제외 대상)
+     * 라운드를 저장할 때 추가하고, 새로고침으로 라운드를 지우면 남은 라운드 기준으로 다시 만듭니다.
+     */
+    @Getter(AccessLevel.NONE)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "shown_asset_ids", nullable = false, columnDefinition = "uuid[]")
+    private UUID[] shownAssetIds = new UUID[0];
+
+    /**
+     * 지금까지 고른 자산 ID (고른 순서)
+     */
+    @Getter(AccessLevel.NONE)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "picked_asset_ids", nullable = false, columnDefinition = "uuid[]")
+    private UUID[] pickedAssetIds = new UUID[0];
+
+    /**
+     * 낙관적 락 (제시/선택 목록은 배열 전체를 다시 쓰므로 동시 요청의 변경이 유실되지 않도록)
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -212,6 +242,41 @@ public class ArenaSession {
         this.completedAt = completedAt;
     }
 
+    public Set<UUID> getShownAssetIds() {
+        return new LinkedHashSet<>(Arrays.asList(shownAssetIds));
+    }
+
+    public List<UUID> getPickedAssetIds() {
+        return List.of(pickedAssetIds);
+    }
+
+    /**
+     * 라운드에 제시된 자산을 제시 목록에 추가
+     */
+    public void markShown(Collection<UUID> assetIds) {
+        Set<UUID> shown = getShownAssetIds();
+        if (shown.addAll(assetIds)) {
+            this.shownAssetIds = shown.toArray(UUID[]::new);
+        }
+    }
+
+    /**
+     * 남아 있는 라운드들의 제시 자산으로 제시 목록을 다시 만듦 (새로고침으로 라운드를 지운 뒤)
+     * 같은 자산이 다른 라운드에도 제시됐을 수 있으므로(제시 제외 완화), 지운 라운드의 자산을 빼지 않고 다시 모읍니다.
+     */
+    public void resetShown(Collection<UUID> remainingPresentedIds) {
+        this.shownAssetIds = new LinkedHashSet<>(remainingPresentedIds).toArray(UUID[]::new);
+    }
+
+    /**
+     * 고른 자산 추가
+     */
+    public void markPicked(UUID assetId) {
+        UUID[] picked = Arrays.copyOf(pickedAssetIds, pickedAssetIds.length + 1);
+        picked[pickedAssetIds.length] = assetId;
+        this.pickedAssetIds = picked;
+    }
+
     public void complete() {
         this.status = SessionStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
@@ -0,0 +1,216 @@
+package com.porcana.domain.arena.service;
+
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.Sector;
+import com.porcana.global.cache.VersionedSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 아레나 후보 자산 메모리 인덱스
+ *
+ * 활성 자산 전체(1~2천 건)를 변경 불가능한 스냅샷으로 보관하고, 라운드 후보를 DB 없이 뽑습니다.
+ * - 자산은 섹터 × 시장 × 타입 × 위험 구간 셀로 나눠 셀별 위치 배열(int[])로 보관합니다
+ * - 제외 대상(덱에 담긴 자산, 이미 보여준 자산)은 위치 비트셋으로 표현합니다
+ * - 스냅샷은 처음 요청될 때 적재하고, 자산 배치가 끝나면 {@link AssetDataChangedEvent}로 무효화됩니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArenaCandidateIndex {
+
+    private final AssetRepository assetRepository;
+
+    private final VersionedSnapshot<Snapshot> snapshot = new VersionedSnapshot<>();
+
+    /**
+     * 현재 스냅샷 (없으면 적재)
+     * 한 라운드 안에서는 같은 스냅샷을 사용해야 제외 비트셋의 위치가 맞습니다.
+     */
+    public Snapshot snapshot() {
+        return snapshot.get(generation -> {
+            Snapshot loaded = Snapshot.of(assetRepository.findByActiveTrue());
+            log.info("Loaded arena candidate index: {} active assets", loaded.size());
+            return loaded;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAssetDataChanged(AssetDataChangedEvent event) {
+        snapshot.invalidate();
+        log.info("Invalidated arena candidate index after {}", event.source());
+    }
+
+    /**
+     * 후보 섹터 조건
+     */
+    public enum SectorFilter {
+        /**
+         * 선호 섹터에 속한 자산
+         */
+        PREFERRED,
+        /**
+         * 선호 섹터가 아닌 자산 (섹터 미분류 제외)
+         */
+        NON_PREFERRED,
+        /**
+         * 섹터 무관 (와일드)
+         */
+        ANY
+    }
+
+    /**
+     * 활성 자산 스냅샷 (변경 불가, 스레드 간 공유)
+     */
+    public static final class Snapshot {
+
+        private static final Sector[] SECTORS = Sector.values();
+        private static final Asset.Market[] MARKETS = Asset.Market.values();
+        private static final Asset.AssetType[] TYPES = Asset.AssetType.values();
+
+        // 각 차원의 마지막 슬롯은 값이 없는(null) 자산
+        private static final int SECTOR_SLOTS = SECTORS.length + 1;
+        private static final int MARKET_SLOTS = MARKETS.length + 1;
+        private static final int TYPE_SLOTS = TYPES.length + 1;
+        private static final int RISK_BAND_SLOTS = 4; // LOW, MID, HIGH, UNKNOWN
+        private static final int CELLS_PER_SECTOR = MARKET_SLOTS * TYPE_SLOTS * RISK_BAND_SLOTS;
+
+        private final Asset[] assets;
+        private final Map<UUID, Integer> positions;
+        private final int[][] cells;
+
+        private Snapshot(Asset[] assets, Map<UUID, Integer> positions, int[][] cells) {
+            this.assets = assets;
+            this.positions = positions;
+            this.cells = cells;
+        }
+
+        static Snapshot of(List<Asset> activeAssets) {
+            Asset[] assets = activeAssets.stream()
+                    .sorted(Comparator.comparing(Asset::getId))
+                    .toArray(Asset[]::new);
+
+            Map<UUID, Integer> positions = new HashMap<>(assets.length * 2);
+            int[] cellOf = new int[assets.length];
+            int[] cellSizes = new int[SECTOR_SLOTS * CELLS_PER_SECTOR];
+            for (int i = 0; i < assets.length; i++) {
+                positions.put(assets[i].getId(), i);
+                cellOf[i] = cell(assets[i]);
+                cellSizes[cellOf[i]]++;
+            }
+
+            int[][] cells = new int[cellSizes.length][];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = new int[cellSizes[c]];
+                cellSizes[c] = 0;
+            }
+            for (int i = 0; i < assets.length; i++) {
+                int c = cellOf[i];
+                cells[c][cellSizes[c]++] = i;
+            }
+
+            return new Snapshot(assets, positions, cells);
+        }
+
+        public int size() {
+            return assets.length;
+        }
+
+        /**
+         * 자산 ID 목록을 위치 비트셋으로 변환 (스냅샷에 없는 ID는 무시)
+         */
+        public BitSet exclusion(Collection<UUID> assetIds) {
+            BitSet excluded = new BitSet(assets.length);
+            for (UUID assetId : assetIds) {
+                Integer position = positions.get(assetId);
+                if (position != null) {
+                    excluded.set(position);
+                }
+            }
+            return excluded;
+        }
+
+        /**
+         * 조건에 맞고 제외되지 않은 자산 중 최대 limit개를 균등 비복원 추출
+         *
+         * @param preferredSectors 선호 섹터 (비어 있으면 PREFERRED / NON_PREFERRED는 빈 결과)
+         */
+        public List<Asset> sample(SectorFilter filter, Set<Sector> preferredSectors, BitSet excluded,
+                                  int limit, Random random) {
+            if (filter != SectorFilter.ANY && (preferredSectors == null || preferredSectors.isEmpty())) {
+                return new ArrayList<>();
+            }
+
+            int[] pool = new int[assets.length];
+            int poolSize = 0;
+            for (int sectorSlot = 0; sectorSlot < SECTOR_SLOTS; sectorSlot++) {
+                if (!matches(filter, preferredSectors, sectorSlot)) {
+                    continue;
+                }
+                int from = sectorSlot * CELLS_PER_SECTOR;
+                for (int c = from; c < from + CELLS_PER_SECTOR; c++) {
+                    for (int position : cells[c]) {
+                        if (!excluded.get(position)) {
+                            pool[poolSize++] = position;
+                        }
+                    }
+                }
+            }
+
+            // 앞에서부터 limit개만 섞는 partial Fisher-Yates
+            int count = Math.min(limit, poolSize);
+            List<Asset> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int j = i + random.nextInt(poolSize - i);
+                int picked = pool[j];
+                pool[j] = pool[i];
+                pool[i] = picked;
+                result.add(assets[picked]);
+            }
+            return result;
+        }
+
+        private static boolean matches(SectorFilter filter, Set<Sector> preferredSectors, int sectorSlot) {
+            if (filter == SectorFilter.ANY) {
+                return true;
+            }
+            // 섹터 미분류 자산은 선호/비선호 어느 쪽에도 속하지 않음 (기존 SQL의 NULL 비교와 동일)
+            if (sectorSlot == SECTORS.length) {
+                return false;
+            }
+            boolean preferred = preferredSectors.contains(SECTORS[sectorSlot]);
+            return filter == SectorFilter.PREFERRED ? preferred : !preferred;
+        }
+
+        private static int cell(Asset asset) {
+            int sector = asset.getSector() != null ? asset.getSector().ordinal() : SECTORS.length;
+            int market = asset.getMarket() != null ? asset.getMarket().ordinal() : MARKETS.length;
+            int type = asset.getType() != null ? asset.getType().ordinal() : TYPES.length;
+            return ((sector * MARKET_SLOTS + market) * TYPE_SLOTS + type) * RISK_BAND_SLOTS
+                    + riskBand(asset.getCurrentRiskLevel());
+        }
+
+        private static int riskBand(Integer riskLevel) {
+            if (riskLevel == null) return 3;
+            if (riskLevel <= 2) return 0;
+            if (riskLevel == 3) return 1;
+            return 2;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.porcana.domain.arena.service;
+
+import java.util.UUID;
+
+/**
+ * 아레나 라운드 선택지 사전 생성 요청
+ * 트랜잭션 커밋 후 {@link ArenaRoundPrefetcher}가 수신하여 백그라운드에서 선택지를 준비합니다.
+ *
+ * @param sessionId      세션 ID
+ * @param roundNumber    선택지를 준비할 라운드
+ * @param roundPresented 라운드 선택지가 이미 저장되었는지 (true면 새로고침용 대체 선택지만 준비)
+ */
+public record ArenaRoundPrefetchEvent(UUID sessionId, int roundNumber, boolean roundPresented) {
+}
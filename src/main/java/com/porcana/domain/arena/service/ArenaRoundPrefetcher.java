@@ -0,0 +1,201 @@
+package com.porcana.domain.arena.service;
+
+import com.porcana.domain.arena.entity.ArenaSession;
+import com.porcana.domain.arena.entity.SessionStatus;
+import com.porcana.domain.arena.repository.ArenaSessionRepository;
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.entity.Asset;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 아레나 라운드 선택지 사전 생성기
+ *
+ * 자산을 고르면(커밋 후) 다음 라운드 선택지 3개를 백그라운드에서 미리 만들고,
+ * 새로고침에 쓸 대체 선택지도 몇 벌 준비해 둡니다. 라운드 조회는 준비된 선택지를 꺼내 저장만 하면 됩니다.
+ * - 세션마다 현재 준비 중인 라운드 하나만 보관합니다 (메모리, 저장된 라운드는 여전히 DB가 기준)
+ * - 같은 라운드에 준비된 선택지끼리는 자산이 겹치지 않게 만듭니다
+ * - 생성 중이면 조회 요청은 PREFETCH_WAIT만큼 기다리고, 그래도 없으면 호출자가 직접 생성합니다
+ * - 자산 데이터가 바뀌면({@link AssetDataChangedEvent}) 준비된 선택지를 모두 버립니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArenaRoundPrefetcher {
+
+    private static final Duration PREFETCH_WAIT = Duration.ofSeconds(1);
+    private static final Duration ENTRY_TTL = Duration.ofMinutes(30);
+    private static final int PREFETCH_THREADS = 2;
+    private static final int PREFETCH_QUEUE_CAPACITY = 500;
+    private static final int ROUND_OPTION_COUNT = 3;
+
+    private final ArenaSessionRepository sessionRepository;
+    private final AssetRecommendationService recommendationService;
+
+    @Value("${arena.prefetch.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 라운드마다 준비해 둘 새로고침용 대체 선택지 수
+     */
+    @Value("${arena.prefetch.alternates:2}")
+    private int alternates;
+
+    private final Map<UUID, PreparedRound> preparedRounds = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor executor = createExecutor();
+
+    /**
+     * 준비된 선택지 하나를 꺼냄 (없으면 empty, 호출자가 직접 생성)
+     */
+    public Optional<List<Asset>> take(UUID sessionId, int roundNumber) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        PreparedRound prepared = preparedRounds.get(sessionId);
+        if (prepared == null || prepared.roundNumber != roundNumber) {
+            return Optional.empty();
+        }
+
+        List<Asset> options = prepared.options.poll();
+        if (options == null && prepared.pending != null && !prepared.pending.isDone()) {
+            try {
+                prepared.pending.get(PREFETCH_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                log.debug("Prefetched round not ready for session {} round {}", sessionId, roundNumber);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            options = prepared.options.poll();
+        }
+        return Optional.ofNullable(options);
+    }
+
+    /**
+     * 세션의 준비된 선택지 폐기 (세션 완료 등)
+     */
+    public void discard(UUID sessionId) {
+        preparedRounds.remove(sessionId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPrefetchRequested(ArenaRoundPrefetchEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        PreparedRound prepared = preparedRounds.compute(event.sessionId(), (id, current) ->
+                current != null && current.roundNumber == event.roundNumber()
+                        ? current
+                        : new PreparedRound(event.roundNumber()));
+        int desired = alternates + (event.roundPresented() ? 0 : 1);
+
+        synchronized (prepared) {
+            if (prepared.options.size() >= desired || (prepared.pending != null && !prepared.pending.isDone())) {
+                return;
+            }
+            try {
+                prepared.pending = CompletableFuture.runAsync(
+                        () -> fill(event.sessionId(), prepared, desired), executor);
+            } catch (TaskRejectedException e) {
+                log.debug("Arena prefetch queue full, skipping session {}", event.sessionId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAssetDataChanged(AssetDataChangedEvent event) {
+        preparedRounds.clear();
+    }
+
+    /**
+     * 오래된 준비 선택지 정리 (세션을 중간에 떠난 경우)
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void evictExpired() {
+        Instant threshold = Instant.now().minus(ENTRY_TTL);
+        preparedRounds.values().removeIf(prepared -> prepared.createdAt.isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void fill(UUID sessionId, PreparedRound prepared, int desired) {
+        try {
+            ArenaSession session = sessionRepository.findById(sessionId).orElse(null);
+            if (session == null
+                    || session.getStatus() != SessionStatus.IN_PROGRESS
+                    || session.getCurrentRound() != prepared.roundNumber) {
+                preparedRounds.remove(sessionId, prepared);
+                return;
+            }
+
+            while (prepared.options.size() < desired) {
+                Set<UUID> prepareExcludes = new HashSet<>();
+                for (List<Asset> options : prepared.options) {
+                    options.forEach(asset -> prepareExcludes.add(asset.getId()));
+                }
+
+                List<Asset> options = recommendationService.generateRoundOptions(
+                        session, prepared.roundNumber, prepareExcludes);
+                if (options.size() < ROUND_OPTION_COUNT) {
+                    break;
+                }
+                prepared.options.add(List.copyOf(options));
+            }
+        } catch (Exception e) {
+            // 사전 생성 실패는 조회 시 직접 생성으로 대체됨
+            log.warn("Failed to prefetch arena round {} for session {}: {}",
+                    prepared.roundNumber, sessionId, e.getMessage());
+        }
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(PREFETCH_THREADS);
+        executor.setMaxPoolSize(PREFETCH_THREADS);
+        executor.setQueueCapacity(PREFETCH_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("arena-prefetch-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 한 세션의 한 라운드에 대해 준비된 선택지
+     */
+    private static final class PreparedRound {
+
+        private final int roundNumber;
+        private final Instant createdAt = Instant.now();
+        private final ConcurrentLinkedDeque<List<Asset>> options = new ConcurrentLinkedDeque<>();
+        private volatile CompletableFuture<Void> pending;
+
+        private PreparedRound(int roundNumber) {
+            this.roundNumber = roundNumber;
+        }
+    }
+}
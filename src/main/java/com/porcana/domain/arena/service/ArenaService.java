@@ -10,6 +10,7 @@ import com.porcana.domain.arena.repository.ArenaSessionRepository;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.Sector;
+import com.porcana.domain.portfolio.PortfolioChangedEvent;
 import com.porcana.domain.portfolio.entity.Portfolio;
 import com.porcana.domain.portfolio.entity.PortfolioAsset;
 import com.porcana.domain.portfolio.repository.PortfolioAssetRepository;
@@ -19,6 +20,7 @@ import com.porcana.domain.user.repository.UserRepository;
 import com.porcana.global.exception.ForbiddenException;
 import com.porcana.global.exception.InvalidOperationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +29,6 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -44,6 +45,8 @@ public class ArenaService {
     private final PortfolioRepository portfolioRepository;
     private final UserRepository userRepository;
     private final AssetRecommendationService recommendationService;
+    private final ArenaRoundPrefetcher roundPrefetcher;
+    private final ApplicationEventPublisher eventPublisher;
     private final com.porcana.domain.portfolio.service.PortfolioSnapshotService portfolioSnapshotService;
 
     /**
@@ -104,13 +107,6 @@ public class ArenaService {
     public SessionResponse getSession(UUID sessionId, UUID userId, UUID guestSessionId) {
         ArenaSession session = getSessionAndValidateOwnership(sessionId, userId, guestSessionId);
 
-        // Get selected asset IDs from completed asset rounds
-        List<ArenaRound> assetRounds = roundRepository.findBySessionIdAndRoundType(sessionId, RoundType.ASSET);
-        List<UUID> selectedAssetIds = assetRounds.stream()
-                .map(ArenaRound::getSelectedAssetId)
-                .filter(id -> id != null)
-                .collect(Collectors.toList());
-
         return SessionResponse.builder()
                 .sessionId(session.getId())
                 .portfolioId(session.getPortfolioId())
@@ -121,7 +117,7 @@ public class ArenaService {
                 .selectedSectors(session.getSelectedSectors())
                 .selectedMarkets(session.getSelectedMarkets())
                 .selectedAssetTypes(session.getSelectedAssetTypes())
-                .selectedAssetIds(selectedAssetIds)
+                .selectedAssetIds(session.getPickedAssetIds())
                 .build();
     }
 
@@ -165,6 +161,10 @@ public class ArenaService {
         // If refresh requested, delete existing round to force new generation
         if (refresh) {
             roundRepository.deleteBySessionIdAndRoundNumber(session.getId(), currentRound);
+            session.resetShown(roundRepository.findBySessionIdAndRoundType(session.getId(), RoundType.ASSET).stream()
+                    .filter(round -> round.getRoundNumber() != currentRound)
+                    .flatMap(round -> round.getPresentedAssetIds().stream())
+                    .toList());
         }
 
         return buildAssetRound(session);
@@ -222,6 +222,9 @@ public class ArenaService {
         session.setCurrentRound(1);  // Move to Round 1 (first asset selection)
         sessionRepository.save(session);
 
+        // Prepare round 1 options in the background once committed
+        eventPublisher.publishEvent(new ArenaRoundPrefetchEvent(session.getId(), 1, false));
+
         return PickResponse.builder()
                 .sessionId(session.getId())
                 .status(session.getStatus())
@@ -278,6 +281,7 @@ public class ArenaService {
         round.setSelectedAssetId(command.getPickedAssetId());
         round.setPickedAt(LocalDateTime.now());
         roundRepository.save(round);
+        session.markPicked(command.getPickedAssetId());
 
         // Advance round
         boolean isLastRound = (currentRound == 10);
@@ -285,6 +289,7 @@ public class ArenaService {
         if (isLastRound) {
             // Complete session and update portfolio
             completeSession(session);
+            roundPrefetcher.discard(session.getId());
 
             return PickResponse.builder()
                     .sessionId(session.getId())
@@ -296,6 +301,9 @@ public class ArenaService {
             session.setCurrentRound(currentRound + 1);
             sessionRepository.save(session);
 
+            // Prepare next round options in the background once committed
+            eventPublisher.publishEvent(new ArenaRoundPrefetchEvent(session.getId(), currentRound + 1, false));
+
             return PickResponse.builder()
                     .sessionId(session.getId())
                     .status(SessionStatus.IN_PROGRESS)
@@ -398,8 +406,9 @@ public class ArenaService {
             List<UUID> assetIds = existingRound.get().getPresentedAssetIds();
             assets = assetRepository.findAllById(assetIds);
         } else {
-            // Generate new recommendations using weighted selection logic
-            assets = recommendationService.generateRoundOptions(session, currentRound);
+            // Use options prepared in the background, or generate now using weighted selection logic
+            assets = roundPrefetcher.take(session.getId(), currentRound)
+                    .orElseGet(() -> recommendationService.generateRoundOptions(session, currentRound));
 
             // Save the round with presented choices
             ArenaRound newRound = ArenaRound.create(
@@ -410,6 +419,11 @@ public class ArenaService {
                     null
             );
             roundRepository.save(newRound);
+            session.markShown(newRound.getPresentedAssetIds());
+            sessionRepository.save(session);
+
+            // Keep alternates ready for refresh
+            eventPublisher.publishEvent(new ArenaRoundPrefetchEvent(session.getId(), currentRound, true));
         }
 
         // Map to response
@@ -493,14 +507,8 @@ public class ArenaService {
         session.setCompletedAt(LocalDateTime.now());
         sessionRepository.save(session);
 
-        // Get all selected assets from asset rounds (Rounds 3-12)
-        List<ArenaRound> assetRounds = roundRepository.findBySessionIdAndRoundType(
-                session.getId(), RoundType.ASSET);
-
-        List<UUID> selectedAssetIds = assetRounds.stream()
-                .map(ArenaRound::getSelectedAssetId)
-                .filter(Objects::nonNull)
-                .toList();
+        // Selected assets from asset rounds, in pick order
+        List<UUID> selectedAssetIds = session.getPickedAssetIds();
 
         // Create PortfolioAsset entries with equal weighting
         // 10 assets = 10% each
@@ -535,6 +543,7 @@ public class ArenaService {
                     .orElseThrow(() -> new IllegalStateException("Portfolio not found or has been deleted"));
             portfolio.start();
             portfolioRepository.save(portfolio);
+            eventPublisher.publishEvent(new PortfolioChangedEvent(session.getUserId(), portfolio.getId(), "completeArenaSession"));
 
             // Set as main portfolio only for authenticated users
             if (session.getUserId() != null) {
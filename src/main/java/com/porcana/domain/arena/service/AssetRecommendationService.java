@@ -1,25 +1,23 @@
 package com.porcana.domain.arena.service;
 
-import com.porcana.domain.arena.entity.ArenaRound;
 import com.porcana.domain.arena.entity.ArenaSession;
 import com.porcana.domain.arena.entity.RiskProfile;
-import com.porcana.domain.arena.entity.RoundType;
-import com.porcana.domain.arena.repository.ArenaRoundRepository;
-import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.catalog.AssetCatalogCache;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.Sector;
 import com.porcana.global.exception.InsufficientAssetsException;
+import com.porcana.global.util.WeightedSampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
- * Asset recommendation service with bucket sampling optimization
- * Loads only ~140 assets instead of ~1000 for memory efficiency
+ * Asset recommendation service with bucket sampling
+ * Candidates (~140 per round) are sampled from the in-memory ArenaCandidateIndex, not the database
+ * Shown/picked exclusions are read from the session row (no round history scan)
  */
 @Slf4j
 @Service
@@ -27,8 +25,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AssetRecommendationService {
 
-    private final AssetRepository assetRepository;
-    private final ArenaRoundRepository roundRepository;
+    private final ArenaCandidateIndex candidateIndex;
+    private final AssetCatalogCache catalogCache;
     private final Random random;
 
     // Bucket sizes
@@ -45,27 +43,39 @@ public class AssetRecommendationService {
     private static final double SCARCITY_BOOST_CAP = 2.5;
     private static final double PREFERENCE_MATCH_BOOST = 1.35;
     private static final double PREFERENCE_MISMATCH_PENALTY = 0.85;
+    private static final int RISK_BAND_COUNT = 4;
+    private static final int RISK_BAND_UNKNOWN = 3;
 
     /**
      * Generate round options (3 assets) using bucket sampling
-     * Memory optimized: loads ~140 assets instead of ~1000
+     * Samples ~140 candidates from the in-memory index (no asset queries)
      */
     public List<Asset> generateRoundOptions(ArenaSession session, int roundNo) {
+        return generateRoundOptions(session, roundNo, Set.of());
+    }
+
+    /**
+     * Generate round options, additionally excluding assets that are not persisted as shown yet
+     * (e.g. options already prepared for the same round by ArenaRoundPrefetcher)
+     */
+    public List<Asset> generateRoundOptions(ArenaSession session, int roundNo, Set<UUID> additionalExcludeIds) {
         RiskProfile riskProfile = session.getRiskProfile();
         List<Sector> preferredSectors = session.getSelectedSectors();
         Set<Asset.Market> preferredMarkets = new HashSet<>(session.getSelectedMarkets());
         Set<Asset.AssetType> preferredAssetTypes = new HashSet<>(session.getSelectedAssetTypes());
-        Set<UUID> deckAssetIds = getDeckAssetIds(session.getId());
-        Set<UUID> shownAssetIds = getShownAssetIds(session.getId());
+        Set<UUID> deckAssetIds = new HashSet<>(session.getPickedAssetIds());
+        Set<UUID> shownAssetIds = session.getShownAssetIds();
         Set<UUID> excludeIds = new HashSet<>();
         excludeIds.addAll(deckAssetIds);
         excludeIds.addAll(shownAssetIds);
+        excludeIds.addAll(additionalExcludeIds);
 
-        // Bucket sampling: load only necessary candidates (~140 total)
-        UUID randId = generateRandomId();
-        List<Asset> preferredCandidates = samplePreferredBucket(preferredSectors, randId, excludeIds);
-        List<Asset> nonPreferredCandidates = sampleNonPreferredBucket(preferredSectors, randId, excludeIds);
-        List<Asset> wildCandidates = sampleWildBucket(randId, excludeIds);
+        // Bucket sampling: only necessary candidates (~140 total)
+        ArenaCandidateIndex.Snapshot snapshot = candidateIndex.snapshot();
+        BitSet excluded = snapshot.exclusion(excludeIds);
+        List<Asset> preferredCandidates = samplePreferredBucket(snapshot, preferredSectors, excluded);
+        List<Asset> nonPreferredCandidates = sampleNonPreferredBucket(snapshot, preferredSectors, excluded);
+        List<Asset> wildCandidates = sampleWildBucket(snapshot, excluded);
 
         log.debug("Bucket sizes - Preferred: {}, NonPreferred: {}, Wild: {}",
                 preferredCandidates.size(), nonPreferredCandidates.size(), wildCandidates.size());
@@ -77,40 +87,38 @@ public class AssetRecommendationService {
         normalPool.addAll(preferredCandidates);
         normalPool.addAll(nonPreferredCandidates);
 
-        for (int i = 0; i < NORMAL_COUNT && !normalPool.isEmpty(); i++) {
-            Asset next = weightedPickOne(
-                    normalPool,
-                    riskProfile,
-                    new HashSet<>(preferredSectors),
-                    preferredMarkets,
-                    preferredAssetTypes,
-                    picked,
-                    true
-            );
-            picked.add(next);
-            normalPool.remove(next);
-            wildCandidates.remove(next);
-        }
+        List<Asset> normalPicks = weightedPick(
+                normalPool,
+                NORMAL_COUNT,
+                riskProfile,
+                new HashSet<>(preferredSectors),
+                preferredMarkets,
+                preferredAssetTypes,
+                picked,
+                true
+        );
+        picked.addAll(normalPicks);
+        wildCandidates.removeAll(normalPicks);
 
         // 2) Wild pick: ignore sector preference, diversity only
         if (picked.size() < 3 && !wildCandidates.isEmpty()) {
-            Asset wild = weightedPickOne(
+            picked.addAll(weightedPick(
                     wildCandidates,
+                    WILD_COUNT,
                     riskProfile,
                     new HashSet<>(preferredSectors),
                     preferredMarkets,
                     preferredAssetTypes,
                     picked,
                     false
-            );
-            picked.add(wild);
-            wildCandidates.remove(wild);
+            ));
         }
 
         // Fallback: if not enough picked, relax constraints
         if (picked.size() < 3) {
             log.warn("Not enough candidates. Relaxing shown constraint. SessionId: {}", session.getId());
             picked = rerollWithRelaxation(
+                    snapshot,
                     preferredSectors,
                     preferredMarkets,
                     preferredAssetTypes,
@@ -131,6 +139,7 @@ public class AssetRecommendationService {
         while (retry < MAX_RETRY && !isDiverseEnough(picked)) {
             log.debug("Diversity check failed. Retrying... Attempt: {}/{}", retry + 1, MAX_RETRY);
             picked = rerollWithRelaxation(
+                    snapshot,
                     preferredSectors,
                     preferredMarkets,
                     preferredAssetTypes,
@@ -148,116 +157,57 @@ public class AssetRecommendationService {
         return picked;
     }
 
-    /**
-     * Generate random UUID for PK range sampling
-     */
-    private UUID generateRandomId() {
-        // Generate UUID using injected Random for testability
-        byte[] randomBytes = new byte[16];
-        random.nextBytes(randomBytes);
-        randomBytes[6] &= 0x0f;  // clear version
-        randomBytes[6] |= 0x40;  // set to version 4
-        randomBytes[8] &= 0x3f;  // clear variant
-        randomBytes[8] |= 0x80;  // set to IETF variant
-
-        long msb = 0L;
-        long lsb = 0L;
-        for (int i = 0; i < 8; i++) {
-            msb = (msb << 8) | (randomBytes[i] & 0xffL);
-        }
-
-        for (int i = 8; i < 16; i++) {
-            lsb = (lsb << 8) | (randomBytes[i] & 0xffL);
-        }
-        return new UUID(msb, lsb);
-    }
-
     /**
      * Sample preferred sector bucket (80 assets)
      */
-    private List<Asset> samplePreferredBucket(List<Sector> preferredSectors, UUID randId, Set<UUID> excludeIds) {
+    private List<Asset> samplePreferredBucket(ArenaCandidateIndex.Snapshot snapshot, List<Sector> preferredSectors,
+                                              BitSet excluded) {
         if (preferredSectors == null || preferredSectors.isEmpty()) {
             return new ArrayList<>();
         }
-
-        String[] sectorsArray = preferredSectors.stream()
-                .map(Enum::name)
-                .toArray(String[]::new);
-        UUID[] excludeArray = excludeIds.toArray(new UUID[0]);
-
-        List<Asset> result = assetRepository.findPreferredSectorBucket(
-                sectorsArray, randId, excludeArray, PREFERRED_BUCKET_SIZE
-        );
-
-        // Wrap-around if not enough
-        if (result.size() < PREFERRED_BUCKET_SIZE / 2) {
-            List<Asset> wrapAround = assetRepository.findPreferredSectorBucketWrapAround(
-                    sectorsArray, randId, excludeArray, PREFERRED_BUCKET_SIZE
-            );
-            result.addAll(wrapAround);
-        }
-
-        return result;
+        return snapshot.sample(ArenaCandidateIndex.SectorFilter.PREFERRED, EnumSet.copyOf(preferredSectors),
+                excluded, PREFERRED_BUCKET_SIZE, random);
     }
 
     /**
      * Sample non-preferred sector bucket (40 assets)
      */
-    private List<Asset> sampleNonPreferredBucket(List<Sector> preferredSectors, UUID randId, Set<UUID> excludeIds) {
+    private List<Asset> sampleNonPreferredBucket(ArenaCandidateIndex.Snapshot snapshot, List<Sector> preferredSectors,
+                                                 BitSet excluded) {
         if (preferredSectors == null || preferredSectors.isEmpty()) {
             return new ArrayList<>();
         }
-
-        String[] sectorsArray = preferredSectors.stream()
-                .map(Enum::name)
-                .toArray(String[]::new);
-        UUID[] excludeArray = excludeIds.toArray(new UUID[0]);
-
-        List<Asset> result = assetRepository.findNonPreferredSectorBucket(
-                sectorsArray, randId, excludeArray, NON_PREFERRED_BUCKET_SIZE
-        );
-
-        // Wrap-around if not enough
-        if (result.size() < NON_PREFERRED_BUCKET_SIZE / 2) {
-            List<Asset> wrapAround = assetRepository.findNonPreferredSectorBucketWrapAround(
-                    sectorsArray, randId, excludeArray, NON_PREFERRED_BUCKET_SIZE
-            );
-            result.addAll(wrapAround);
-        }
-
-        return result;
+        return snapshot.sample(ArenaCandidateIndex.SectorFilter.NON_PREFERRED, EnumSet.copyOf(preferredSectors),
+                excluded, NON_PREFERRED_BUCKET_SIZE, random);
     }
 
     /**
      * Sample wild bucket (20 assets)
      */
-    private List<Asset> sampleWildBucket(UUID randId, Set<UUID> excludeIds) {
-        UUID[] excludeArray = excludeIds.toArray(new UUID[0]);
-
-        List<Asset> result = assetRepository.findWildBucket(randId, excludeArray, WILD_BUCKET_SIZE);
-
-        // Wrap-around if not enough
-        if (result.size() < WILD_BUCKET_SIZE / 2) {
-            List<Asset> wrapAround = assetRepository.findWildBucketWrapAround(
-                    randId, excludeArray, WILD_BUCKET_SIZE
-            );
-            result.addAll(wrapAround);
-        }
-
-        return result;
+    private List<Asset> sampleWildBucket(ArenaCandidateIndex.Snapshot snapshot, BitSet excluded) {
+        return snapshot.sample(ArenaCandidateIndex.SectorFilter.ANY, null, excluded, WILD_BUCKET_SIZE, random);
     }
 
     /**
-     * Weighted pick with diversity penalty
+     * Weighted picks without replacement, with diversity penalty
+     * Base weights are computed once per pool; each pick is removed from the sampler and the
+     * diversity penalty is applied only to candidates sharing the picked sector / risk band
      */
-    private Asset weightedPickOne(List<Asset> candidates, RiskProfile riskProfile,
-                                   Set<Sector> preferredSectors, Set<Asset.Market> preferredMarkets,
-                                   Set<Asset.AssetType> preferredAssetTypes, List<Asset> alreadyPicked,
-                                   boolean useSectorPreference) {
-        Map<UUID, Double> weights = new HashMap<>();
+    private List<Asset> weightedPick(List<Asset> candidates, int count, RiskProfile riskProfile,
+                                     Set<Sector> preferredSectors, Set<Asset.Market> preferredMarkets,
+                                     Set<Asset.AssetType> preferredAssetTypes, List<Asset> alreadyPicked,
+                                     boolean useSectorPreference) {
+        int size = candidates.size();
+        if (size == 0 || count <= 0) {
+            return new ArrayList<>();
+        }
+
         CandidateDistribution distribution = CandidateDistribution.from(candidates);
+        double[] baseWeights = new double[size];
+        int[] bands = new int[size];
 
-        for (Asset asset : candidates) {
+        for (int i = 0; i < size; i++) {
+            Asset asset = candidates.get(i);
             double w = 1.0;
             w *= riskWeight(riskProfile, asset.getCurrentRiskLevel());
 
@@ -273,15 +223,64 @@ public class AssetRecommendationService {
                 w *= 1.5;  // Additional 1.5x for wild ETF picks
             }
 
-            w *= diversityPenalty(asset, alreadyPicked);
+            baseWeights[i] = w;
+            bands[i] = riskBand(asset.getCurrentRiskLevel());
+        }
 
-            // Safety: prevent zero weight
-            w = Math.max(w, MIN_WEIGHT);
+        // Sectors / risk bands already taken by earlier picks
+        Set<Sector> pickedSectors = EnumSet.noneOf(Sector.class);
+        boolean[] pickedBands = new boolean[RISK_BAND_COUNT];
+        for (Asset asset : alreadyPicked) {
+            if (asset.getSector() != null) {
+                pickedSectors.add(asset.getSector());
+            }
+            pickedBands[riskBand(asset.getCurrentRiskLevel())] = true;
+        }
 
-            weights.put(asset.getId(), w);
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = penalizedWeight(baseWeights[i], candidates.get(i).getSector(), bands[i],
+                    pickedSectors, pickedBands);
         }
+        WeightedSampler sampler = new WeightedSampler(weights);
 
-        return sampleByWeight(candidates, weights);
+        List<Asset> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            int index = sampler.sample(random);
+            if (index < 0) {
+                break;
+            }
+            Asset next = candidates.get(index);
+            result.add(next);
+            sampler.remove(index);
+
+            // Apply the diversity penalty to candidates matching the newly taken sector / band
+            Sector newSector = next.getSector() != null && pickedSectors.add(next.getSector())
+                    ? next.getSector() : null;
+            int newBand = pickedBands[bands[index]] ? -1 : bands[index];
+            if (newBand >= 0) {
+                pickedBands[newBand] = true;
+            }
+            if (newSector == null && newBand < 0) {
+                continue;
+            }
+            for (int i = 0; i < size; i++) {
+                Sector sector = candidates.get(i).getSector();
+                if (sampler.weight(i) > 0 && ((newSector != null && newSector == sector) || bands[i] == newBand)) {
+                    sampler.update(i, penalizedWeight(baseWeights[i], sector, bands[i], pickedSectors, pickedBands));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private double penalizedWeight(double baseWeight, Sector sector, int band,
+                                   Set<Sector> pickedSectors, boolean[] pickedBands) {
+        double w = baseWeight * diversityPenalty(sector, band, pickedSectors, pickedBands);
+
+        // Safety: prevent zero weight
+        return Math.max(w, MIN_WEIGHT);
     }
 
     /**
@@ -364,24 +363,17 @@ public class AssetRecommendationService {
     /**
      * Diversity penalty: reduce probability if same sector or risk band
      */
-    private double diversityPenalty(Asset candidate, List<Asset> alreadyPicked) {
-        if (alreadyPicked == null || alreadyPicked.isEmpty()) {
-            return 1.0;
-        }
-
+    private double diversityPenalty(Sector candidateSector, int candidateBand,
+                                    Set<Sector> pickedSectors, boolean[] pickedBands) {
         double penalty = 1.0;
 
         // Same sector penalty
-        Sector candidateSector = candidate.getSector();
-        if (candidateSector != null && alreadyPicked.stream()
-                .anyMatch(p -> candidateSector.equals(p.getSector()))) {
+        if (candidateSector != null && pickedSectors.contains(candidateSector)) {
             penalty *= 0.35;
         }
 
         // Same risk band penalty
-        String candidateBand = riskBand(candidate.getCurrentRiskLevel());
-        if (alreadyPicked.stream()
-                .anyMatch(p -> candidateBand.equals(riskBand(p.getCurrentRiskLevel())))) {
+        if (pickedBands[candidateBand]) {
             penalty *= 0.70;
         }
 
@@ -389,15 +381,15 @@ public class AssetRecommendationService {
     }
 
     /**
-     * Risk band categorization
+     * Risk band categorization (LOW, MID, HIGH, UNKNOWN)
      */
-    private String riskBand(Integer riskScore) {
+    private int riskBand(Integer riskScore) {
         if (riskScore == null) {
-            return "UNKNOWN";
+            return RISK_BAND_UNKNOWN;
         }
-        if (riskScore <= 2) return "LOW";
-        if (riskScore == 3) return "MID";
-        return "HIGH";
+        if (riskScore <= 2) return 0;
+        if (riskScore == 3) return 1;
+        return 2;
     }
 
     /**
@@ -427,36 +419,18 @@ public class AssetRecommendationService {
         return distinctBands >= 2;
     }
 
-    /**
-     * Weighted random sampling
-     */
-    private Asset sampleByWeight(List<Asset> candidates, Map<UUID, Double> weights) {
-        double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
-        double r = random.nextDouble() * total;
-        double acc = 0;
-
-        for (Asset asset : candidates) {
-            acc += weights.get(asset.getId());
-            if (acc >= r) {
-                return asset;
-            }
-        }
-
-        // Fallback to last candidate
-        return candidates.get(candidates.size() - 1);
-    }
-
     /**
      * Reroll with relaxed constraints (ignore shown constraint)
      */
-    private List<Asset> rerollWithRelaxation(List<Sector> preferredSectors, Set<Asset.Market> preferredMarkets,
+    private List<Asset> rerollWithRelaxation(ArenaCandidateIndex.Snapshot snapshot, List<Sector> preferredSectors,
+                                             Set<Asset.Market> preferredMarkets,
                                              Set<Asset.AssetType> preferredAssetTypes, Set<UUID> deckAssetIds,
                                              RiskProfile riskProfile) {
         // Relax shown constraint - only exclude deck assets
-        UUID randId = generateRandomId();
-        List<Asset> preferredCandidates = samplePreferredBucket(preferredSectors, randId, deckAssetIds);
-        List<Asset> nonPreferredCandidates = sampleNonPreferredBucket(preferredSectors, randId, deckAssetIds);
-        List<Asset> wildCandidates = sampleWildBucket(randId, deckAssetIds);
+        BitSet excluded = snapshot.exclusion(deckAssetIds);
+        List<Asset> preferredCandidates = samplePreferredBucket(snapshot, preferredSectors, excluded);
+        List<Asset> nonPreferredCandidates = sampleNonPreferredBucket(snapshot, preferredSectors, excluded);
+        List<Asset> wildCandidates = sampleWildBucket(snapshot, excluded);
 
         List<Asset> picked = new ArrayList<>();
         List<Asset> normalPool = new ArrayList<>();
@@ -464,105 +438,62 @@ public class AssetRecommendationService {
         normalPool.addAll(nonPreferredCandidates);
 
         // Try to pick 2 normal + 1 wild
-        while (picked.size() < NORMAL_COUNT && !normalPool.isEmpty()) {
-            Asset next = weightedPickOne(
-                    normalPool,
-                    riskProfile,
-                    new HashSet<>(preferredSectors),
-                    preferredMarkets,
-                    preferredAssetTypes,
-                    picked,
-                    true
-            );
-            picked.add(next);
-            normalPool.remove(next);
-            wildCandidates.remove(next);
-        }
+        List<Asset> normalPicks = weightedPick(
+                normalPool,
+                NORMAL_COUNT,
+                riskProfile,
+                new HashSet<>(preferredSectors),
+                preferredMarkets,
+                preferredAssetTypes,
+                picked,
+                true
+        );
+        picked.addAll(normalPicks);
+        wildCandidates.removeAll(normalPicks);
 
         if (picked.size() < 3 && !wildCandidates.isEmpty()) {
-            Asset wild = weightedPickOne(
+            picked.addAll(weightedPick(
                     wildCandidates,
+                    WILD_COUNT,
                     riskProfile,
                     new HashSet<>(preferredSectors),
                     preferredMarkets,
                     preferredAssetTypes,
                     picked,
                     false
-            );
-            picked.add(wild);
+            ));
         }
 
         return picked;
     }
 
-    /**
-     * Get already selected asset IDs (in deck)
-     */
-    private Set<UUID> getDeckAssetIds(UUID sessionId) {
-        List<ArenaRound> assetRounds = roundRepository.findBySessionIdAndRoundType(sessionId, RoundType.ASSET);
-
-        return assetRounds.stream()
-                .map(ArenaRound::getSelectedAssetId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-    }
-
-    /**
-     * Get already shown asset IDs (presented in previous rounds)
-     */
-    private Set<UUID> getShownAssetIds(UUID sessionId) {
-        List<ArenaRound> assetRounds = roundRepository.findBySessionIdAndRoundType(sessionId, RoundType.ASSET);
-
-        return assetRounds.stream()
-                .map(ArenaRound::getPresentedAssetIds)
-                .flatMap(List::stream)
-                .collect(Collectors.toSet());
-    }
-
     /**
      * Validate that a sector has enough active assets for arena rounds
      */
     public boolean hasEnoughAssets(Sector sector, int minimumCount) {
-        Integer count = assetRepository.countBySectorAndActiveTrue(sector);
-        return count != null && count >= minimumCount;
+        return catalogCache.get().sectorCount(sector) >= minimumCount;
     }
 
     /**
      * Get count of active assets in a sector
      */
     public Integer getAssetCount(Sector sector) {
-        Integer count = assetRepository.countBySectorAndActiveTrue(sector);
-        return count != null ? count : 0;
+        return catalogCache.get().sectorCount(sector);
     }
 
     /**
-     * Get counts of active assets by sector in a single query
+     * Get counts of active assets by sector (cached catalogue, refreshed after asset batch jobs)
      */
     public Map<Sector, Integer> getActiveAssetCountsBySector() {
-        List<AssetRepository.SectorCount> counts = assetRepository.countActiveBySector();
-        Map<Sector, Integer> result = new EnumMap<>(Sector.class);
-        for (AssetRepository.SectorCount count : counts) {
-            result.put(count.getSector(), (int) count.getCount());
-        }
-        return result;
+        return catalogCache.get().sectorCounts();
     }
 
     public Map<Asset.Market, Integer> getActiveAssetCountsByMarket() {
-        List<AssetRepository.MarketCount> counts = assetRepository.countActiveByMarket();
-        Map<Asset.Market, Integer> result = new EnumMap<>(Asset.Market.class);
-        for (AssetRepository.MarketCount count : counts) {
-            result.put(count.getMarket(), (int) count.getCount());
-        }
-        return result;
+        return catalogCache.get().marketCounts();
     }
 
     public Map<Asset.AssetType, Integer> getActiveAssetCountsByType() {
-        List<AssetRepository.AssetTypeCount> counts = assetRepository.countActiveByType();
-        Map<Asset.AssetType, Integer> result = new EnumMap<>(Asset.AssetType.class);
-        for (AssetRepository.AssetTypeCount count : counts) {
-            result.put(count.getType(), (int) count.getCount());
-        }
-        return result;
+        return catalogCache.get().typeCounts();
     }
 
     private record CandidateDistribution(
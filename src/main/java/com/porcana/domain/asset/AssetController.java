@@ -1,5 +1,6 @@
 package com.porcana.domain.asset;
 
+import com.porcana.domain.asset.dto.AssetCatalogResponse;
 import com.porcana.domain.asset.dto.AssetChartResponse;
 import com.porcana.domain.asset.dto.AssetDetailResponse;
 import com.porcana.domain.asset.dto.AssetInMainPortfolioResponse;
@@ -9,6 +10,7 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import com.porcana.domain.asset.service.AssetService;
+import com.porcana.global.pagination.CountMode;
 import com.porcana.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,8 +19,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -42,6 +47,7 @@ public class AssetController {
                     - 위험도(riskLevels): 1-5, 복수 선택 가능
                     - 검색어(query): symbol 또는 name으로 검색
                     - 정렬(sortBy): name, symbol, riskLevel
+                    - 커서(cursor) / 건수 집계(count): 무한 스크롤은 count=NONE으로 첫 페이지를 받고 nextCursor를 cursor로 전달
                     """,
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -51,11 +57,26 @@ public class AssetController {
     @GetMapping("/library")
     public ResponseEntity<AssetLibraryResponse> getLibrary(
             @ParameterObject AssetLibrarySearchCondition condition,
-            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
-        AssetLibraryResponse response = assetService.getLibrary(condition, pageable);
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "커서 (이전 응답의 nextCursor, 지정하면 커서 방식)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "건수 집계 방식 (EXACT, ESTIMATED, NONE / EXACT 이외는 커서 방식)") @RequestParam(required = false) CountMode count) {
+        AssetLibraryResponse response = assetService.getLibrary(condition, pageable, cursor, count);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "종목 라이브러리 필터 조회",
+            description = "라이브러리 필터에 표시할 섹터 / 시장 / 타입별 활성 종목 수를 조회합니다. 자산 배치가 끝날 때마다 version이 증가합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content)
+            }
+    )
+    @GetMapping("/library/filters")
+    public ResponseEntity<AssetCatalogResponse> getLibraryFilters() {
+        return ResponseEntity.ok(assetService.getCatalog());
+    }
+
     @Operation(
             summary = "자산 상세 조회",
             description = "자산의 상세 정보를 조회합니다.",
@@ -77,6 +98,7 @@ public class AssetController {
             description = "지정한 기간의 자산 가격 차트를 조회합니다. 1M, 3M, 1Y 중 선택 가능합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 ETag와 일치)", content = @Content),
                     @ApiResponse(responseCode = "400", description = "자산을 찾을 수 없음", content = @Content),
                     @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content)
             }
@@ -84,9 +106,17 @@ public class AssetController {
     @GetMapping("/{assetId}/chart")
     public ResponseEntity<AssetChartResponse> getAssetChart(
             @Parameter(description = "자산 ID", required = true) @PathVariable UUID assetId,
-            @Parameter(description = "조회 기간 (1M, 3M, 1Y)", required = true) @RequestParam String range) {
-        AssetChartResponse response = assetService.getAssetChart(assetId, range);
-        return ResponseEntity.ok(response);
+            @Parameter(description = "조회 기간 (1M, 3M, 1Y)", required = true) @RequestParam String range,
+            @Parameter(description = "최대 포인트 수 (생략 시 일봉 전체, 넘으면 OHLC를 보존하며 묶음)") @RequestParam(required = false) Integer points,
+            WebRequest webRequest) {
+        AssetService.PreparedChart chart = assetService.prepareAssetChart(assetId, range, points);
+        String eTag = chart.eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+
+        AssetChartResponse response = assetService.getAssetChart(chart);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(response);
     }
 
     @Operation(
@@ -0,0 +1,12 @@
+package com.porcana.domain.asset;
+
+/**
+ * 자산 마스터 데이터 변경 이벤트
+ * 자산 배치(상장/활성 상태, ETF, 유니버스, 위험도, 이미지)가 assets 테이블에 쓰기를 마치면 발행합니다.
+ * 관리자 수정(이미지, 배당)은 트랜잭션 안에서 발행하며, 수신 측은 커밋 후에 처리합니다(트랜잭션 밖 발행은 즉시 처리).
+ * 활성 자산을 메모리에 들고 있는 구성요소(아레나 후보 인덱스 등)가 수신하여 스냅샷을 무효화합니다.
+ *
+ * @param source 발행 주체 (배치 job 이름 또는 관리자 작업, 로그용)
+ */
+public record AssetDataChangedEvent(String source) {
+}
@@ -4,9 +4,13 @@ import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetPrice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,15 +41,18 @@ public interface AssetPriceRepository extends JpaRepository<AssetPrice, UUID>, A
 
     /**
      * Delete price data older than a specific date
+     * (single bulk DELETE; derived deletes would load and remove rows one by one)
      */
     @Modifying
-    void deleteByPriceDateBefore(LocalDate date);
+    @Query("DELETE FROM AssetPrice ap WHERE ap.priceDate < :date")
+    int deleteByPriceDateBefore(@Param("date") LocalDate date);
 
     /**
-     * Delete price data from a specific date onwards
+     * Delete price data from a specific date onwards (single bulk DELETE)
      */
     @Modifying
-    void deleteByPriceDateGreaterThanEqual(LocalDate date);
+    @Query("DELETE FROM AssetPrice ap WHERE ap.priceDate >= :date")
+    int deleteByPriceDateGreaterThanEqual(@Param("date") LocalDate date);
 
     /**
      * Check if any price data exists for an asset
@@ -63,4 +70,60 @@ public interface AssetPriceRepository extends JpaRepository<AssetPrice, UUID>, A
      * Find recent price data for an asset by asset ID
      */
     List<AssetPrice> findByAssetIdOrderByPriceDateAsc(UUID assetId);
-}
\ No newline at end of file
+
+    /**
+     * Find the full close price history of multiple assets, ordered by asset and date
+     * (projection, no entity hydration)
+     * Used to load PriceSeriesCache in slices
+     */
+    @Query("SELECT ap.asset.id AS assetId, ap.priceDate AS priceDate, ap.closePrice AS closePrice " +
+           "FROM AssetPrice ap " +
+           "WHERE ap.asset.id IN :assetIds " +
+           "ORDER BY ap.asset.id, ap.priceDate")
+    List<ClosePoint> findClosePointsByAssetIds(@Param("assetIds") Collection<UUID> assetIds);
+
+    /**
+     * Find the full OHLCV history of an asset, ordered by date
+     * (projection, no entity hydration)
+     * Used to load ChartSeriesCache
+     */
+    @Query("SELECT ap.priceDate AS priceDate, ap.openPrice AS openPrice, ap.highPrice AS highPrice, " +
+           "ap.lowPrice AS lowPrice, ap.closePrice AS closePrice, ap.volume AS volume " +
+           "FROM AssetPrice ap " +
+           "WHERE ap.asset.id = :assetId " +
+           "ORDER BY ap.priceDate")
+    List<OhlcvPoint> findOhlcvPointsByAssetId(@Param("assetId") UUID assetId);
+
+    /**
+     * Find (asset, date) keys already stored for a market within a date range
+     * (projection, no entity hydration)
+     * Used by daily price jobs to skip existing rows without a per-asset exists query
+     */
+    @Query("SELECT ap.asset.id AS assetId, ap.priceDate AS priceDate " +
+           "FROM AssetPrice ap " +
+           "WHERE ap.asset.market = :market " +
+           "AND ap.priceDate BETWEEN :startDate AND :endDate")
+    List<PriceKey> findPriceKeysByMarketAndPriceDateBetween(@Param("market") Asset.Market market,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
+
+    interface ClosePoint {
+        UUID getAssetId();
+        LocalDate getPriceDate();
+        BigDecimal getClosePrice();
+    }
+
+    interface OhlcvPoint {
+        LocalDate getPriceDate();
+        BigDecimal getOpenPrice();
+        BigDecimal getHighPrice();
+        BigDecimal getLowPrice();
+        BigDecimal getClosePrice();
+        Long getVolume();
+    }
+
+    interface PriceKey {
+        UUID getAssetId();
+        LocalDate getPriceDate();
+    }
+}
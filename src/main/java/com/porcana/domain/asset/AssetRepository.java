@@ -1,6 +1,7 @@
 package com.porcana.domain.asset;
 
 import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.AssetClass;
 import com.porcana.domain.asset.entity.Sector;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -111,6 +112,17 @@ public interface AssetRepository extends JpaRepository<Asset, UUID>, AssetReposi
      */
     Integer countBySectorAndActiveTrue(Sector sector);
 
+    /**
+     * Find the searchable fields of every asset (including inactive)
+     * (projection, no entity hydration)
+     * Used to build AssetSearchIndex
+     */
+    @Query("SELECT a.id AS id, a.symbol AS symbol, a.name AS name, a.active AS active, " +
+           "a.market AS market, a.type AS type, a.sector AS sector, a.assetClass AS assetClass, " +
+           "a.currentRiskLevel AS currentRiskLevel " +
+           "FROM Asset a")
+    List<SearchEntry> findSearchEntries();
+
     /**
      * Count active assets per sector
      * Used to reduce per-sector count queries in arena flows
@@ -133,6 +145,18 @@ public interface AssetRepository extends JpaRepository<Asset, UUID>, AssetReposi
            "GROUP BY a.type")
     List<AssetTypeCount> countActiveByType();
 
+    interface SearchEntry {
+        UUID getId();
+        String getSymbol();
+        String getName();
+        Boolean getActive();
+        Asset.Market getMarket();
+        Asset.AssetType getType();
+        Sector getSector();
+        AssetClass getAssetClass();
+        Integer getCurrentRiskLevel();
+    }
+
     interface SectorCount {
         Sector getSector();
         long getCount();
@@ -148,132 +172,6 @@ public interface AssetRepository extends JpaRepository<Asset, UUID>, AssetReposi
         long getCount();
     }
 
-    // ========================================
-    // Arena Bucket Sampling Queries
-    // ========================================
-
-    /**
-     * Find min and max ID for random sampling
-     */
-    @Query("SELECT MIN(a.id) FROM Asset a WHERE a.active = true")
-    Optional<UUID> findMinActiveId();
-
-    @Query("SELECT MAX(a.id) FROM Asset a WHERE a.active = true")
-    Optional<UUID> findMaxActiveId();
-
-    /**
-     * Sample preferred sector bucket (PK range random)
-     * Used for normal picks in arena
-     */
-    @Query(value = """
-        SELECT * FROM assets a
-        WHERE a.active = true
-          AND a.sector = ANY(CAST(:sectors AS varchar[]))
-          AND a.id >= :randId
-          AND NOT (a.id = ANY(:excludeIds))
-        ORDER BY a.id
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Asset> findPreferredSectorBucket(
-            @Param("sectors") String[] sectors,
-            @Param("randId") UUID randId,
-            @Param("excludeIds") UUID[] excludeIds,
-            @Param("limit") int limit
-    );
-
-    /**
-     * Sample preferred sector bucket (wrap-around fallback)
-     */
-    @Query(value = """
-        SELECT * FROM assets a
-        WHERE a.active = true
-          AND a.sector = ANY(CAST(:sectors AS varchar[]))
-          AND a.id < :randId
-          AND NOT (a.id = ANY(:excludeIds))
-        ORDER BY a.id
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Asset> findPreferredSectorBucketWrapAround(
-            @Param("sectors") String[] sectors,
-            @Param("randId") UUID randId,
-            @Param("excludeIds") UUID[] excludeIds,
-            @Param("limit") int limit
-    );
-
-    /**
-     * Sample non-preferred sector bucket (PK range random)
-     * Used for diversity in normal picks
-     */
-    @Query(value = """
-        SELECT * FROM assets a
-        WHERE a.active = true
-          AND NOT (a.sector = ANY(CAST(:sectors AS varchar[])))
-          AND a.id >= :randId
-          AND NOT (a.id = ANY(:excludeIds))
-        ORDER BY a.id
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Asset> findNonPreferredSectorBucket(
-            @Param("sectors") String[] sectors,
-            @Param("randId") UUID randId,
-            @Param("excludeIds") UUID[] excludeIds,
-            @Param("limit") int limit
-    );
-
-    /**
-     * Sample non-preferred sector bucket (wrap-around fallback)
-     */
-    @Query(value = """
-        SELECT * FROM assets a
-        WHERE a.active = true
-          AND NOT (a.sector = ANY(CAST(:sectors AS varchar[])))
-          AND a.id < :randId
-          AND NOT (a.id = ANY(:excludeIds))
-        ORDER BY a.id
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Asset> findNonPreferredSectorBucketWrapAround(
-            @Param("sectors") String[] sectors,
-            @Param("randId") UUID randId,
-            @Param("excludeIds") UUID[] excludeIds,
-            @Param("limit") int limit
-    );
-
-    /**
-     * Sample wild bucket (PK range random)
-     * Used for wild picks - no sector filter
-     */
-    @Query(value = """
-        SELECT * FROM assets a
-        WHERE a.active = true
-          AND a.id >= :randId
-          AND NOT (a.id = ANY(:excludeIds))
-        ORDER BY a.id
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Asset> findWildBucket(
-            @Param("randId") UUID randId,
-            @Param("excludeIds") UUID[] excludeIds,
-            @Param("limit") int limit
-    );
-
-    /**
-     * Sample wild bucket (wrap-around fallback)
-     */
-    @Query(value = """
-        SELECT * FROM assets a
-        WHERE a.active = true
-          AND a.id < :randId
-          AND NOT (a.id = ANY(:excludeIds))
-        ORDER BY a.id
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Asset> findWildBucketWrapAround(
-            @Param("randId") UUID randId,
-            @Param("excludeIds") UUID[] excludeIds,
-            @Param("limit") int limit
-    );
-
     // ========================================
     // Admin API Support
     // ========================================
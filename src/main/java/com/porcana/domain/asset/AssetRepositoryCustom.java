@@ -2,6 +2,8 @@ package com.porcana.domain.asset;
 
 import com.porcana.domain.asset.dto.AssetLibrarySearchCondition;
 import com.porcana.domain.asset.entity.Asset;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -15,6 +17,11 @@ public interface AssetRepositoryCustom {
      */
     Page<Asset> searchLibrary(AssetLibrarySearchCondition condition, Pageable pageable);
 
+    /**
+     * 종목 라이브러리 커서 페이지 (정렬 키 + id 기준 keyset)
+     */
+    CursorPage<Asset> findLibraryPage(AssetLibrarySearchCondition condition, CursorRequest request);
+
     /**
      * Search assets by symbol or name (for admin - includes inactive)
      */
@@ -24,4 +31,9 @@ public interface AssetRepositoryCustom {
      * Search assets for admin with optional keyword, market, and type filters
      */
     Page<Asset> searchForAdmin(String keyword, Asset.Market market, Asset.AssetType type, Pageable pageable);
+
+    /**
+     * Keyset page of assets for admin (symbol ASC, id ASC, includes inactive)
+     */
+    CursorPage<Asset> findAdminPage(String keyword, Asset.Market market, Asset.AssetType type, CursorRequest request);
 }
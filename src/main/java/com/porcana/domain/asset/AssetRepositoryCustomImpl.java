@@ -5,8 +5,14 @@ import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetClass;
 import com.porcana.domain.asset.entity.QAsset;
 import com.porcana.domain.asset.entity.Sector;
+import com.porcana.global.pagination.CountMode;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
+import com.porcana.global.pagination.KeysetCursor;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +22,7 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Asset Repository Custom Implementation using QueryDSL
@@ -23,6 +30,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AssetRepositoryCustomImpl implements AssetRepositoryCustom {
 
+    private static final String ADMIN_CURSOR_SORT = "adminAssets:symbol:asc";
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -63,6 +72,50 @@ public class AssetRepositoryCustomImpl implements AssetRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public CursorPage<Asset> findLibraryPage(AssetLibrarySearchCondition condition, CursorRequest request) {
+        QAsset asset = QAsset.asset;
+        LibrarySort sort = LibrarySort.of(condition.getSortBy(), condition.getSortDirection());
+        BooleanExpression afterCursor = request.isFirstPage()
+                ? null
+                : request.key(sort.cursorSort(), 2, values -> sort.after(values.get(0), UUID.fromString(values.get(1))));
+
+        List<Asset> rows = queryFactory
+                .selectFrom(asset)
+                .where(
+                        activeTrue(),
+                        marketEq(condition.getMarket()),
+                        typeEq(condition.getType()),
+                        sectorsIn(condition.getSectors()),
+                        assetClassesIn(condition.getAssetClasses()),
+                        riskLevelsIn(condition.getRiskLevels()),
+                        queryContains(condition.getQuery()),
+                        afterCursor
+                )
+                .orderBy(sort.orderSpecifiers())
+                .limit(request.fetchSize())
+                .fetch();
+
+        CursorPage<Asset> page = CursorPage.of(rows, request,
+                last -> KeysetCursor.encode(sort.cursorSort(), sort.keyOf(last), last.getId().toString()));
+        if (request.countMode() != CountMode.EXACT) {
+            return page;
+        }
+        return page.withTotal(queryFactory
+                .select(asset.count())
+                .from(asset)
+                .where(
+                        activeTrue(),
+                        marketEq(condition.getMarket()),
+                        typeEq(condition.getType()),
+                        sectorsIn(condition.getSectors()),
+                        assetClassesIn(condition.getAssetClasses()),
+                        riskLevelsIn(condition.getRiskLevels()),
+                        queryContains(condition.getQuery())
+                )
+                .fetchOne());
+    }
+
     private BooleanExpression activeTrue() {
         return QAsset.asset.active.isTrue();
     }
@@ -161,6 +214,45 @@ public class AssetRepositoryCustomImpl implements AssetRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public CursorPage<Asset> findAdminPage(String keyword, Asset.Market market, Asset.AssetType type, CursorRequest request) {
+        QAsset asset = QAsset.asset;
+        BooleanExpression afterCursor = request.isFirstPage()
+                ? null
+                : request.key(ADMIN_CURSOR_SORT, 2, values -> {
+                    String symbol = values.get(0);
+                    UUID id = UUID.fromString(values.get(1));
+                    return asset.symbol.gt(symbol).or(asset.symbol.eq(symbol).and(asset.id.gt(id)));
+                });
+
+        List<Asset> rows = queryFactory
+                .selectFrom(asset)
+                .where(
+                        keywordContainsForAdmin(keyword),
+                        marketEq(market),
+                        typeEq(type),
+                        afterCursor
+                )
+                .orderBy(asset.symbol.asc(), asset.id.asc())
+                .limit(request.fetchSize())
+                .fetch();
+
+        CursorPage<Asset> page = CursorPage.of(rows, request,
+                last -> KeysetCursor.encode(ADMIN_CURSOR_SORT, last.getSymbol(), last.getId().toString()));
+        if (request.countMode() != CountMode.EXACT) {
+            return page;
+        }
+        return page.withTotal(queryFactory
+                .select(asset.count())
+                .from(asset)
+                .where(
+                        keywordContainsForAdmin(keyword),
+                        marketEq(market),
+                        typeEq(type)
+                )
+                .fetchOne());
+    }
+
     private BooleanExpression keywordContainsForAdmin(String keyword) {
         if (!StringUtils.hasText(keyword)) {
             return null;
@@ -169,4 +261,76 @@ public class AssetRepositoryCustomImpl implements AssetRepositoryCustom {
         return QAsset.asset.symbol.lower().contains(lowerKeyword)
                 .or(QAsset.asset.name.lower().contains(lowerKeyword));
     }
+
+    /**
+     * 라이브러리 keyset 정렬 (getOrderSpecifier와 같은 기준 + 같은 값은 id로 순서 고정)
+     * 위험도는 PostgreSQL 기본값과 같이 오름차순에서 null이 뒤, 내림차순에서 null이 앞
+     */
+    private record LibrarySort(String column, boolean desc) {
+
+        static LibrarySort of(String sortBy, String sortDirection) {
+            boolean isDesc = "desc".equalsIgnoreCase(sortDirection);
+            if (sortBy == null) {
+                return new LibrarySort("symbol", false);
+            }
+            return switch (sortBy.toLowerCase()) {
+                case "name" -> new LibrarySort("name", isDesc);
+                case "risklevel", "risk" -> new LibrarySort("risk", isDesc);
+                case "symbol" -> new LibrarySort("symbol", isDesc);
+                default -> new LibrarySort("symbol", false);
+            };
+        }
+
+        String cursorSort() {
+            return "library:" + column + ":" + (desc ? "desc" : "asc");
+        }
+
+        OrderSpecifier<?>[] orderSpecifiers() {
+            QAsset asset = QAsset.asset;
+            OrderSpecifier<?> key = switch (column) {
+                case "name" -> desc ? asset.name.desc() : asset.name.asc();
+                case "risk" -> desc ? asset.currentRiskLevel.desc().nullsFirst() : asset.currentRiskLevel.asc().nullsLast();
+                default -> desc ? asset.symbol.desc() : asset.symbol.asc();
+            };
+            return new OrderSpecifier<?>[]{key, desc ? asset.id.desc() : asset.id.asc()};
+        }
+
+        String keyOf(Asset asset) {
+            return switch (column) {
+                case "name" -> asset.getName();
+                case "risk" -> asset.getCurrentRiskLevel() != null ? asset.getCurrentRiskLevel().toString() : null;
+                default -> asset.getSymbol();
+            };
+        }
+
+        /**
+         * 커서 행 다음에 오는 행 조건
+         */
+        BooleanExpression after(String value, UUID id) {
+            QAsset asset = QAsset.asset;
+            BooleanExpression sameKeyAfterId = desc ? asset.id.lt(id) : asset.id.gt(id);
+            return switch (column) {
+                case "name" -> stringAfter(asset.name, value, sameKeyAfterId);
+                case "risk" -> riskAfter(value != null ? Integer.valueOf(value) : null, sameKeyAfterId);
+                default -> stringAfter(asset.symbol, value, sameKeyAfterId);
+            };
+        }
+
+        private BooleanExpression stringAfter(StringPath path, String value, BooleanExpression sameKeyAfterId) {
+            return (desc ? path.lt(value) : path.gt(value))
+                    .or(path.eq(value).and(sameKeyAfterId));
+        }
+
+        private BooleanExpression riskAfter(Integer value, BooleanExpression sameKeyAfterId) {
+            NumberPath<Integer> risk = QAsset.asset.currentRiskLevel;
+            if (value == null) {
+                // null 구간은 오름차순에서 마지막, 내림차순에서 처음
+                BooleanExpression restOfNulls = risk.isNull().and(sameKeyAfterId);
+                return desc ? restOfNulls.or(risk.isNotNull()) : restOfNulls;
+            }
+            BooleanExpression after = (desc ? risk.lt(value) : risk.gt(value))
+                    .or(risk.eq(value).and(sameKeyAfterId));
+            return desc ? after : after.or(risk.isNull());
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package com.porcana.domain.asset.catalog;
+
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.Sector;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 활성 자산 분포 스냅샷 (섹터 / 시장 / 타입별 활성 자산 수)
+ *
+ * @param version      스냅샷 버전 (자산 데이터가 바뀔 때마다 증가)
+ * @param sectorCounts 섹터별 활성 자산 수 (섹터 미분류 자산 제외)
+ * @param marketCounts 시장별 활성 자산 수
+ * @param typeCounts   타입별 활성 자산 수
+ * @param loadedAt     적재 시각
+ */
+public record AssetCatalog(
+        long version,
+        Map<Sector, Integer> sectorCounts,
+        Map<Asset.Market, Integer> marketCounts,
+        Map<Asset.AssetType, Integer> typeCounts,
+        Instant loadedAt
+) {
+
+    public AssetCatalog {
+        sectorCounts = Collections.unmodifiableMap(copy(sectorCounts, Sector.class));
+        marketCounts = Collections.unmodifiableMap(copy(marketCounts, Asset.Market.class));
+        typeCounts = Collections.unmodifiableMap(copy(typeCounts, Asset.AssetType.class));
+    }
+
+    /**
+     * 전체 활성 자산 수
+     */
+    public int totalCount() {
+        return marketCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int sectorCount(Sector sector) {
+        return sectorCounts.getOrDefault(sector, 0);
+    }
+
+    private static <E extends Enum<E>> EnumMap<E, Integer> copy(Map<E, Integer> counts, Class<E> type) {
+        EnumMap<E, Integer> copy = new EnumMap<>(type);
+        copy.putAll(counts);
+        return copy;
+    }
+}
@@ -0,0 +1,68 @@
+package com.porcana.domain.asset.catalog;
+
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.Sector;
+import com.porcana.global.cache.VersionedSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 활성 자산 분포(섹터 / 시장 / 타입별 자산 수) 캐시
+ *
+ * 분포는 자산 배치가 돌 때만 바뀌므로, GROUP BY 집계 3개를 요청마다 실행하지 않고 버전이 붙은 스냅샷으로 보관합니다.
+ * - 아레나 사전 라운드, 종목 라이브러리 필터, 관리자 자산 현황이 같은 스냅샷을 사용합니다
+ * - 스냅샷은 처음 요청될 때 적재하고, 자산 배치가 끝나면 {@link AssetDataChangedEvent}로 무효화됩니다
+ * - 분포 버전은 적재를 시작한 세대 번호입니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetCatalogCache {
+
+    private final AssetRepository assetRepository;
+
+    private final VersionedSnapshot<AssetCatalog> catalog = new VersionedSnapshot<>();
+
+    /**
+     * 현재 분포 스냅샷 (없으면 적재)
+     */
+    public AssetCatalog get() {
+        return catalog.get(this::load);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAssetDataChanged(AssetDataChangedEvent event) {
+        catalog.invalidate();
+        log.info("Invalidated asset catalog after {}", event.source());
+    }
+
+    private AssetCatalog load(long version) {
+        Map<Sector, Integer> sectorCounts = new EnumMap<>(Sector.class);
+        for (AssetRepository.SectorCount count : assetRepository.countActiveBySector()) {
+            sectorCounts.put(count.getSector(), (int) count.getCount());
+        }
+
+        Map<Asset.Market, Integer> marketCounts = new EnumMap<>(Asset.Market.class);
+        for (AssetRepository.MarketCount count : assetRepository.countActiveByMarket()) {
+            marketCounts.put(count.getMarket(), (int) count.getCount());
+        }
+
+        Map<Asset.AssetType, Integer> typeCounts = new EnumMap<>(Asset.AssetType.class);
+        for (AssetRepository.AssetTypeCount count : assetRepository.countActiveByType()) {
+            typeCounts.put(count.getType(), (int) count.getCount());
+        }
+
+        AssetCatalog loaded = new AssetCatalog(version, sectorCounts, marketCounts, typeCounts, Instant.now());
+        log.info("Loaded asset catalog v{}: {} active assets", loaded.version(), loaded.totalCount());
+        return loaded;
+    }
+}
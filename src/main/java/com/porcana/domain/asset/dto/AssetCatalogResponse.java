@@ -0,0 +1,68 @@
+package com.porcana.domain.asset.dto;
+
+import com.porcana.domain.asset.catalog.AssetCatalog;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.Sector;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 활성 종목 분포 응답 DTO (라이브러리 필터 / 관리자 현황)
+ */
+@Getter
+@Builder
+@Schema(description = "활성 종목 분포 (섹터 / 시장 / 타입별 종목 수)")
+public class AssetCatalogResponse {
+
+    @Schema(description = "분포 버전 (자산 배치가 끝날 때마다 증가)")
+    private long version;
+
+    @Schema(description = "전체 활성 종목 수")
+    private int totalCount;
+
+    @Schema(description = "섹터별 종목 수")
+    private List<SectorCount> sectors;
+
+    @Schema(description = "시장별 종목 수")
+    private List<MarketCount> markets;
+
+    @Schema(description = "타입별 종목 수")
+    private List<AssetTypeCount> assetTypes;
+
+    @Schema(description = "집계 시각")
+    private Instant loadedAt;
+
+    public static AssetCatalogResponse from(AssetCatalog catalog) {
+        return AssetCatalogResponse.builder()
+                .version(catalog.version())
+                .totalCount(catalog.totalCount())
+                .sectors(Arrays.stream(Sector.values())
+                        .map(sector -> new SectorCount(sector, sector.getKoreanName(), catalog.sectorCount(sector)))
+                        .toList())
+                .markets(Arrays.stream(Asset.Market.values())
+                        .map(market -> new MarketCount(market, catalog.marketCounts().getOrDefault(market, 0)))
+                        .toList())
+                .assetTypes(Arrays.stream(Asset.AssetType.values())
+                        .map(type -> new AssetTypeCount(type, catalog.typeCounts().getOrDefault(type, 0)))
+                        .toList())
+                .loadedAt(catalog.loadedAt())
+                .build();
+    }
+
+    @Schema(description = "섹터별 종목 수")
+    public record SectorCount(Sector sector, String sectorKorean, int count) {
+    }
+
+    @Schema(description = "시장별 종목 수")
+    public record MarketCount(Asset.Market market, int count) {
+    }
+
+    @Schema(description = "타입별 종목 수")
+    public record AssetTypeCount(Asset.AssetType type, int count) {
+    }
+}
@@ -3,6 +3,7 @@ package com.porcana.domain.asset.dto;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.entity.AssetClass;
 import com.porcana.domain.asset.entity.Sector;
+import com.porcana.global.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,10 +23,10 @@ public class AssetLibraryResponse {
     @Schema(description = "종목 목록")
     private List<AssetItem> assets;
 
-    @Schema(description = "전체 종목 수")
+    @Schema(description = "전체 종목 수 (커서 방식에서 집계하지 않으면 -1)")
     private long totalCount;
 
-    @Schema(description = "전체 페이지 수")
+    @Schema(description = "전체 페이지 수 (커서 방식에서 집계하지 않으면 -1)")
     private int totalPages;
 
     @Schema(description = "현재 페이지 (0부터 시작)")
@@ -37,6 +38,9 @@ public class AssetLibraryResponse {
     @Schema(description = "다음 페이지 존재 여부")
     private boolean hasNext;
 
+    @Schema(description = "다음 페이지 커서 (커서 방식 요청, 마지막 페이지면 null)")
+    private String nextCursor;
+
     public static AssetLibraryResponse from(Page<Asset> page) {
         return AssetLibraryResponse.builder()
                 .assets(page.getContent().stream()
@@ -50,6 +54,20 @@ public class AssetLibraryResponse {
                 .build();
     }
 
+    public static AssetLibraryResponse from(CursorPage<Asset> page) {
+        return AssetLibraryResponse.builder()
+                .assets(page.content().stream()
+                        .map(AssetItem::from)
+                        .toList())
+                .totalCount(page.totalOrUnknown())
+                .totalPages(page.totalPagesOrUnknown())
+                .currentPage(0)
+                .pageSize(page.size())
+                .hasNext(page.hasNext())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+
     @Getter
     @Builder
     @Schema(description = "종목 정보")
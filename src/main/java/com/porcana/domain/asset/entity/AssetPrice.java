@@ -15,12 +15,12 @@ import java.util.UUID;
 /**
  * End-of-Day (EOD) price data for assets
  * Stores historical daily OHLC (Open, High, Low, Close) price information
+ *
+ * The table is range-partitioned by year of price_date (V37); bulk writes go through AssetPriceBulkWriter.
  */
 @Entity
-@Table(name = "asset_prices", indexes = {
-        @Index(name = "idx_asset_price_asset_date", columnList = "asset_id, price_date", unique = true),
-        @Index(name = "idx_asset_price_date", columnList = "price_date"),
-        @Index(name = "idx_asset_price_asset", columnList = "asset_id")
+@Table(name = "asset_prices", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_asset_price_asset_date", columnNames = {"asset_id", "price_date"})
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,94 @@
+package com.porcana.domain.asset.price;
+
+import com.porcana.domain.asset.AssetPriceRepository;
+import com.porcana.global.cache.VersionedSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 자산 차트용 OHLCV 메모리 시계열 캐시
+ *
+ * 자산별 전체 일봉을 {@link OhlcvSeries}(primitive 배열)로 보관하고
+ * 차트 요청은 기간 자르기와 다운샘플링만 메모리에서 처리합니다.
+ * - 자산 시계열은 처음 요청될 때 projection 쿼리 하나로 적재합니다
+ * - 가격을 쓰는 배치(일별 가격, 백필, 신규 자산 과거 가격 적재)가 끝나면 {@link PriceDataChangedEvent}로 전체 무효화됩니다
+ *   (가격이 없어 빈 시계열로 보관한 자산 포함)
+ * - 자산별 맵 자체를 스냅샷으로 두므로, 무효화 전에 시작한 적재는 버려진 맵에만 들어가 오래된 값이 남지 않습니다
+ * - 최대 자산 수를 넘으면 가장 오래 조회되지 않은 자산부터 내보냅니다 (접근 순서 LRU)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartSeriesCache {
+
+    private final AssetPriceRepository assetPriceRepository;
+
+    /**
+     * 메모리에 보관하는 최대 자산 수
+     */
+    @Value("${chart.cache.max-entries:2000}")
+    private int maxEntries;
+
+    private final VersionedSnapshot<Map<UUID, OhlcvSeries>> seriesByAsset = new VersionedSnapshot<>();
+
+    /**
+     * 캐시된 자산 일봉 시계열 (적재 전이면 empty)
+     */
+    public Optional<OhlcvSeries> get(UUID assetId) {
+        return seriesByAsset.peek().map(cached -> cached.get(assetId));
+    }
+
+    /**
+     * 자산 일봉 시계열 적재 후 캐시에 보관 (가격이 없으면 빈 시계열)
+     */
+    public OhlcvSeries load(UUID assetId) {
+        Map<UUID, OhlcvSeries> cached = seriesByAsset.get(generation -> newLruMap());
+
+        OhlcvSeries.Builder builder = OhlcvSeries.builder();
+        for (AssetPriceRepository.OhlcvPoint point : assetPriceRepository.findOhlcvPointsByAssetId(assetId)) {
+            builder.add(point.getPriceDate(), point.getOpenPrice(), point.getHighPrice(),
+                    point.getLowPrice(), point.getClosePrice(), point.getVolume());
+        }
+        OhlcvSeries series = builder.build();
+
+        cached.put(assetId, series);
+        log.debug("Loaded {} OHLCV points for asset {}", series.size(), assetId);
+        return series;
+    }
+
+    /**
+     * 접근 순서 맵 (조회도 순서를 바꾸므로 동기화)
+     */
+    private Map<UUID, OhlcvSeries> newLruMap() {
+        int capacity = maxEntries;
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, OhlcvSeries> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        seriesByAsset.invalidate();
+    }
+
+    @EventListener
+    public void onPriceDataChanged(PriceDataChangedEvent event) {
+        log.info("Price data changed by {}, invalidating chart series cache ({} assets cached)",
+                event.source(), seriesByAsset.peek().map(Map::size).orElse(0));
+        invalidateAll();
+    }
+}
@@ -0,0 +1,241 @@
+package com.porcana.domain.asset.price;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 자산 일봉(OHLCV) 시계열
+ * 날짜(epoch day), 시가/고가/저가/종가, 거래량을 날짜 오름차순의 primitive 배열로 보관합니다.
+ * 가격은 {@link PriceSeries}와 같은 소수점 4자리 고정소수점(long)입니다.
+ *
+ * 차트 응답용으로 기간 자르기({@link #window})와 포인트 수 줄이기({@link #downsample})를 제공합니다.
+ */
+public final class OhlcvSeries {
+
+    public static final int SCALE = PriceSeries.SCALE;
+
+    private static final double UNIT = Math.pow(10, SCALE);
+
+    private static final OhlcvSeries EMPTY = new OhlcvSeries(new int[0], new long[0], new long[0],
+            new long[0], new long[0], new long[0]);
+
+    private final int[] epochDays;
+    private final long[] opens;
+    private final long[] highs;
+    private final long[] lows;
+    private final long[] closes;
+    private final long[] volumes;
+
+    /**
+     * 내용 해시 캐시 (0이면 아직 계산 전, String#hashCode와 같은 방식)
+     */
+    private int contentHash;
+
+    private OhlcvSeries(int[] epochDays, long[] opens, long[] highs, long[] lows, long[] closes, long[] volumes) {
+        this.epochDays = epochDays;
+        this.opens = opens;
+        this.highs = highs;
+        this.lows = lows;
+        this.closes = closes;
+        this.volumes = volumes;
+    }
+
+    public static OhlcvSeries empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    public LocalDate dateAt(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    public double openAt(int index) {
+        return opens[index] / UNIT;
+    }
+
+    public double highAt(int index) {
+        return highs[index] / UNIT;
+    }
+
+    public double lowAt(int index) {
+        return lows[index] / UNIT;
+    }
+
+    public double closeAt(int index) {
+        return closes[index] / UNIT;
+    }
+
+    public long volumeAt(int index) {
+        return volumes[index];
+    }
+
+    public LocalDate lastDate() {
+        return isEmpty() ? null : dateAt(epochDays.length - 1);
+    }
+
+    /**
+     * 날짜와 OHLCV 전체의 해시 (차트 ETag용)
+     * 마지막 날짜가 같아도 과거 구간이 바뀌어 다시 적재되면 값이 달라집니다.
+     */
+    public int contentHash() {
+        int hash = contentHash;
+        if (hash == 0) {
+            hash = Arrays.hashCode(epochDays);
+            hash = 31 * hash + Arrays.hashCode(opens);
+            hash = 31 * hash + Arrays.hashCode(highs);
+            hash = 31 * hash + Arrays.hashCode(lows);
+            hash = 31 * hash + Arrays.hashCode(closes);
+            hash = 31 * hash + Arrays.hashCode(volumes);
+            contentHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * 기간 [startDate, endDate] 안의 구간 (배열 복사)
+     */
+    public OhlcvSeries window(LocalDate startDate, LocalDate endDate) {
+        int from = lowerBound((int) startDate.toEpochDay());
+        int to = lowerBound((int) endDate.toEpochDay() + 1);
+        if (from == 0 && to == epochDays.length) {
+            return this;
+        }
+        if (from >= to) {
+            return EMPTY;
+        }
+        return new OhlcvSeries(
+                Arrays.copyOfRange(epochDays, from, to),
+                Arrays.copyOfRange(opens, from, to),
+                Arrays.copyOfRange(highs, from, to),
+                Arrays.copyOfRange(lows, from, to),
+                Arrays.copyOfRange(closes, from, to),
+                Arrays.copyOfRange(volumes, from, to));
+    }
+
+    /**
+     * 포인트 수를 maxPoints 이하로 줄임 (OHLC 보존)
+     * 연속한 일봉을 거의 같은 크기의 묶음으로 나누고, 묶음마다 하나의 봉으로 합칩니다.
+     * - 날짜/시가: 묶음 첫 일봉, 종가: 묶음 마지막 일봉
+     * - 고가/저가: 묶음 안 최댓값/최솟값, 거래량: 합계
+     * 그래서 구간 전체의 시작가, 마지막 종가, 최고가, 최저가가 그대로 남습니다.
+     */
+    public OhlcvSeries downsample(int maxPoints) {
+        int size = epochDays.length;
+        if (maxPoints <= 0 || size <= maxPoints) {
+            return this;
+        }
+
+        int[] days = new int[maxPoints];
+        long[] o = new long[maxPoints];
+        long[] h = new long[maxPoints];
+        long[] l = new long[maxPoints];
+        long[] c = new long[maxPoints];
+        long[] v = new long[maxPoints];
+
+        for (int bucket = 0; bucket < maxPoints; bucket++) {
+            int from = (int) ((long) bucket * size / maxPoints);
+            int to = (int) ((long) (bucket + 1) * size / maxPoints);
+
+            long high = highs[from];
+            long low = lows[from];
+            long volume = 0;
+            for (int i = from; i < to; i++) {
+                high = Math.max(high, highs[i]);
+                low = Math.min(low, lows[i]);
+                volume += volumes[i];
+            }
+
+            days[bucket] = epochDays[from];
+            o[bucket] = opens[from];
+            h[bucket] = high;
+            l[bucket] = low;
+            c[bucket] = closes[to - 1];
+            v[bucket] = volume;
+        }
+        return new OhlcvSeries(days, o, h, l, c, v);
+    }
+
+    /**
+     * day 이상인 첫 인덱스
+     */
+    private int lowerBound(int day) {
+        int pos = Arrays.binarySearch(epochDays, day);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+
+    /**
+     * 시계열 빌더
+     * 날짜 오름차순으로만 추가할 수 있습니다 (같은 날짜가 다시 추가되면 마지막 값 유지).
+     */
+    public static final class Builder {
+
+        private int[] epochDays = new int[16];
+        private long[] opens = new long[16];
+        private long[] highs = new long[16];
+        private long[] lows = new long[16];
+        private long[] closes = new long[16];
+        private long[] volumes = new long[16];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(LocalDate date, BigDecimal open, BigDecimal high, BigDecimal low,
+                           BigDecimal close, Long volume) {
+            int day = (int) date.toEpochDay();
+            if (size > 0 && day < epochDays[size - 1]) {
+                throw new IllegalArgumentException("OHLCV points must be added in ascending date order");
+            }
+            if (size > 0 && day == epochDays[size - 1]) {
+                size--;
+            }
+            if (size == epochDays.length) {
+                int capacity = size * 2;
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                opens = Arrays.copyOf(opens, capacity);
+                highs = Arrays.copyOf(highs, capacity);
+                lows = Arrays.copyOf(lows, capacity);
+                closes = Arrays.copyOf(closes, capacity);
+                volumes = Arrays.copyOf(volumes, capacity);
+            }
+            epochDays[size] = day;
+            opens[size] = toUnscaled(open);
+            highs[size] = toUnscaled(high);
+            lows[size] = toUnscaled(low);
+            closes[size] = toUnscaled(close);
+            volumes[size] = volume != null ? volume : 0L;
+            size++;
+            return this;
+        }
+
+        public OhlcvSeries build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new OhlcvSeries(
+                    Arrays.copyOf(epochDays, size),
+                    Arrays.copyOf(opens, size),
+                    Arrays.copyOf(highs, size),
+                    Arrays.copyOf(lows, size),
+                    Arrays.copyOf(closes, size),
+                    Arrays.copyOf(volumes, size));
+        }
+
+        private static long toUnscaled(BigDecimal value) {
+            return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.porcana.domain.asset.price;
+
+/**
+ * 가격/환율 데이터 변경 이벤트
+ * 일별 가격 배치, 환율 배치, 가격 백필, 신규 자산의 과거 가격을 적재하는 자산 배치가
+ * asset_prices / exchange_rates에 쓰기를 마치면 발행합니다.
+ * {@link PriceSeriesCache}, {@link ChartSeriesCache}가 수신하여 메모리 시계열을 무효화합니다.
+ *
+ * @param source 발행 주체 (배치 job 또는 runner 이름, 로그용)
+ * @param scope  바뀌었을 수 있는 날짜 범위 (종가 아카이브 갱신 방식 결정)
+ */
+public record PriceDataChangedEvent(String source, Scope scope) {
+
+    public enum Scope {
+        /**
+         * 최근 날짜만 추가/수정됨 (일별 가격/환율 배치)
+         */
+        RECENT,
+
+        /**
+         * 과거 어느 날짜든 추가/수정되었을 수 있음 (가격 백필, 신규 자산 과거 가격 적재)
+         */
+        HISTORY
+    }
+}
@@ -0,0 +1,169 @@
+package com.porcana.domain.asset.price;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 단일 가격 시계열 (자산 종가 또는 환율)
+ * 날짜(epoch day)와 가격을 날짜 오름차순의 primitive 배열로 보관하고,
+ * "기준일 이전 N일 이내 가장 최근 값" 조회를 이진 탐색으로 처리합니다.
+ *
+ * 가격은 소수점 4자리 고정소수점(long)으로 저장합니다.
+ * asset_prices(scale 4), exchange_rates(scale 2) 값을 손실 없이 복원할 수 있습니다.
+ */
+public final class PriceSeries {
+
+    public static final int SCALE = 4;
+
+    private static final PriceSeries EMPTY = new PriceSeries(new int[0], new long[0]);
+
+    private final int[] epochDays;
+    private final long[] values;
+
+    private PriceSeries(int[] epochDays, long[] values) {
+        this.epochDays = epochDays;
+        this.values = values;
+    }
+
+    public static PriceSeries empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    /**
+     * 기준일 이전(포함) lookbackDays 이내의 가장 최근 인덱스를 찾습니다
+     *
+     * @return 인덱스, 없으면 -1
+     */
+    public int indexOnOrBefore(LocalDate date, int lookbackDays) {
+        int day = (int) date.toEpochDay();
+        int pos = Arrays.binarySearch(epochDays, day);
+        int index = pos >= 0 ? pos : -pos - 2;
+        if (index < 0 || epochDays[index] < day - lookbackDays) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * 기준일 이전(포함) lookbackDays 이내의 가장 최근 값을 찾습니다
+     */
+    public Optional<BigDecimal> latestOnOrBefore(LocalDate date, int lookbackDays) {
+        int index = indexOnOrBefore(date, lookbackDays);
+        return index < 0 ? Optional.empty() : Optional.of(valueAt(index));
+    }
+
+    public LocalDate dateAt(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    public int epochDayAt(int index) {
+        return epochDays[index];
+    }
+
+    /**
+     * 고정소수점 원시값 (실제 값 × 10^SCALE)
+     */
+    public long unscaledAt(int index) {
+        return values[index];
+    }
+
+    public BigDecimal valueAt(int index) {
+        return BigDecimal.valueOf(values[index], SCALE);
+    }
+
+    public LocalDate firstDate() {
+        return isEmpty() ? null : dateAt(0);
+    }
+
+    public LocalDate lastDate() {
+        return isEmpty() ? null : dateAt(epochDays.length - 1);
+    }
+
+    /**
+     * 시계열 빌더
+     * 날짜 오름차순으로 추가하면 정렬 비용이 없으며, 순서가 뒤섞인 경우 build 시 정렬합니다.
+     * 같은 날짜가 여러 번 추가되면 마지막 값이 유지됩니다.
+     */
+    public static final class Builder {
+
+        private int[] epochDays = new int[16];
+        private long[] values = new long[16];
+        private int size;
+        private boolean sorted = true;
+
+        private Builder() {
+        }
+
+        public Builder add(LocalDate date, BigDecimal value) {
+            if (date == null || value == null) {
+                return this;
+            }
+            return addUnscaled((int) date.toEpochDay(), toUnscaled(value));
+        }
+
+        public Builder addUnscaled(int epochDay, long unscaledValue) {
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            if (size > 0 && epochDay <= epochDays[size - 1]) {
+                sorted = false;
+            }
+            epochDays[size] = epochDay;
+            values[size] = unscaledValue;
+            size++;
+            return this;
+        }
+
+        public PriceSeries build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            if (sorted) {
+                return new PriceSeries(Arrays.copyOf(epochDays, size), Arrays.copyOf(values, size));
+            }
+
+            // 인덱스 정렬 후 중복 날짜 제거 (마지막 값 유지)
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> epochDays[a] != epochDays[b]
+                    ? Integer.compare(epochDays[a], epochDays[b])
+                    : Integer.compare(a, b));
+
+            int[] sortedDays = new int[size];
+            long[] sortedValues = new long[size];
+            int count = 0;
+            for (Integer i : order) {
+                if (count > 0 && sortedDays[count - 1] == epochDays[i]) {
+                    sortedValues[count - 1] = values[i];
+                    continue;
+                }
+                sortedDays[count] = epochDays[i];
+                sortedValues[count] = values[i];
+                count++;
+            }
+            return new PriceSeries(Arrays.copyOf(sortedDays, count), Arrays.copyOf(sortedValues, count));
+        }
+
+        private static long toUnscaled(BigDecimal value) {
+            return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+    }
+}
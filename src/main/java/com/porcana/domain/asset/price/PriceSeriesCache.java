@@ -0,0 +1,187 @@
+package com.porcana.domain.asset.price;
+
+import com.porcana.domain.asset.AssetPriceRepository;
+import com.porcana.domain.exchangerate.ExchangeRateRepository;
+import com.porcana.domain.exchangerate.entity.CurrencyCode;
+import com.porcana.domain.exchangerate.entity.ExchangeRate;
+import com.porcana.global.cache.VersionedSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자산 종가 / USD-KRW 환율 메모리 시계열 캐시
+ *
+ * 자산별 전체 종가 이력과 USD/KRW 환율 이력을 {@link PriceSeries}(정렬된 primitive 배열)로 보관하고,
+ * "기준일 이전 N일 이내 가장 최근 값"을 이진 탐색으로 응답합니다.
+ * - 자산 시계열은 처음 요청될 때 500개 단위 projection 쿼리로 한 번에 적재합니다
+ * - 가격/환율을 쓰는 배치(일별 가격, 환율, 백필, 신규 자산 과거 가격 적재)가 끝나면
+ *   {@link PriceDataChangedEvent}로 전체 무효화됩니다 (가격이 없어 빈 시계열로 보관한 자산 포함)
+ * - 자산별 맵 자체를 스냅샷으로 두므로, 무효화 전에 시작한 적재는 버려진 맵에만 들어가 오래된 값이 남지 않습니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceSeriesCache {
+
+    /**
+     * 한 번에 적재하는 자산 수 (IN 절 크기)
+     */
+    private static final int LOAD_SLICE_SIZE = 500;
+
+    /**
+     * exchange_rates.base_rate 컬럼 스케일
+     */
+    private static final int EXCHANGE_RATE_SCALE = 2;
+
+    private final AssetPriceRepository assetPriceRepository;
+    private final ExchangeRateRepository exchangeRateRepository;
+
+    private final VersionedSnapshot<Map<UUID, PriceSeries>> closesByAsset = new VersionedSnapshot<>();
+    private final VersionedSnapshot<PriceSeries> usdKrw = new VersionedSnapshot<>();
+
+    /**
+     * 자산 하나의 종가 시계열 (가격이 없으면 빈 시계열)
+     */
+    public PriceSeries closes(UUID assetId) {
+        return closes(List.of(assetId)).getOrDefault(assetId, PriceSeries.empty());
+    }
+
+    /**
+     * 여러 자산의 종가 시계열 (가격이 없는 자산은 빈 시계열)
+     * 캐시에 없는 자산만 모아서 한 번에 적재합니다.
+     */
+    public Map<UUID, PriceSeries> closes(Collection<UUID> assetIds) {
+        Map<UUID, PriceSeries> cached = closesByAsset.get(generation -> new ConcurrentHashMap<>());
+        Map<UUID, PriceSeries> result = new HashMap<>(assetIds.size() * 2);
+        List<UUID> missing = new ArrayList<>();
+        for (UUID assetId : assetIds) {
+            PriceSeries series = cached.get(assetId);
+            if (series != null) {
+                result.put(assetId, series);
+            } else if (!result.containsKey(assetId)) {
+                missing.add(assetId);
+                result.put(assetId, PriceSeries.empty());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<UUID, PriceSeries> loaded = load(missing);
+            cached.putAll(loaded);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    /**
+     * USD/KRW 환율 시계열
+     */
+    public PriceSeries usdKrw() {
+        return usdKrw.get(generation -> {
+            PriceSeries.Builder builder = PriceSeries.builder();
+            for (ExchangeRate rate : exchangeRateRepository.findByCurrencyCodeOrderByExchangeDateAsc(CurrencyCode.USD)) {
+                builder.add(rate.getExchangeDate(), rate.getBaseRate());
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * 특정 날짜에 가장 가까운 자산 종가 (lookbackDays 이내)
+     */
+    public Optional<BigDecimal> closeOnOrBefore(UUID assetId, LocalDate date, int lookbackDays) {
+        return closes(assetId).latestOnOrBefore(date, lookbackDays);
+    }
+
+    /**
+     * 특정 날짜에 가장 가까운 USD/KRW 환율 (lookbackDays 이내, exchange_rates와 같은 scale 2)
+     */
+    public Optional<BigDecimal> usdKrwOnOrBefore(LocalDate date, int lookbackDays) {
+        return usdKrw().latestOnOrBefore(date, lookbackDays).map(PriceSeriesCache::toExchangeRateScale);
+    }
+
+    /**
+     * 여러 자산의 최신 종가 (최신 값이 0 이하이면 제외)
+     */
+    public Map<UUID, BigDecimal> latestCloses(Collection<UUID> assetIds) {
+        Map<UUID, BigDecimal> latest = new HashMap<>();
+        closes(assetIds).forEach((assetId, series) -> latestValue(series)
+                .ifPresent(price -> latest.put(assetId, price)));
+        return latest;
+    }
+
+    /**
+     * 자산의 최신 종가 (없거나 0 이하이면 empty)
+     */
+    public Optional<BigDecimal> latestClose(UUID assetId) {
+        return latestValue(closes(assetId));
+    }
+
+    /**
+     * 최신 USD/KRW 환율 (없거나 0 이하이면 empty, exchange_rates와 같은 scale 2)
+     */
+    public Optional<BigDecimal> latestUsdKrw() {
+        return latestValue(usdKrw()).map(PriceSeriesCache::toExchangeRateScale);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        closesByAsset.invalidate();
+        usdKrw.invalidate();
+    }
+
+    @EventListener
+    public void onPriceDataChanged(PriceDataChangedEvent event) {
+        log.info("Price data changed by {}, invalidating price series cache ({} assets cached)",
+                event.source(), closesByAsset.peek().map(Map::size).orElse(0));
+        invalidateAll();
+    }
+
+    private Map<UUID, PriceSeries> load(List<UUID> assetIds) {
+        Map<UUID, PriceSeries> loaded = new HashMap<>(assetIds.size() * 2);
+
+        for (int from = 0; from < assetIds.size(); from += LOAD_SLICE_SIZE) {
+            List<UUID> slice = assetIds.subList(from, Math.min(from + LOAD_SLICE_SIZE, assetIds.size()));
+
+            Map<UUID, PriceSeries.Builder> builders = new HashMap<>(slice.size() * 2);
+            for (AssetPriceRepository.ClosePoint point : assetPriceRepository.findClosePointsByAssetIds(slice)) {
+                builders.computeIfAbsent(point.getAssetId(), id -> PriceSeries.builder())
+                        .add(point.getPriceDate(), point.getClosePrice());
+            }
+            for (UUID assetId : slice) {
+                PriceSeries.Builder builder = builders.get(assetId);
+                loaded.put(assetId, builder != null ? builder.build() : PriceSeries.empty());
+            }
+        }
+
+        log.debug("Loaded price series for {} assets", loaded.size());
+        return loaded;
+    }
+
+    private static Optional<BigDecimal> latestValue(PriceSeries series) {
+        if (series.isEmpty()) {
+            return Optional.empty();
+        }
+        BigDecimal value = series.valueAt(series.size() - 1);
+        return value.compareTo(BigDecimal.ZERO) > 0 ? Optional.of(value) : Optional.empty();
+    }
+
+    private static BigDecimal toExchangeRateScale(BigDecimal rate) {
+        return rate.setScale(EXCHANGE_RATE_SCALE, RoundingMode.HALF_UP);
+    }
+}
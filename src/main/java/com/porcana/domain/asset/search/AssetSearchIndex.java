@@ -0,0 +1,275 @@
+package com.porcana.domain.asset.search;
+
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.AssetClass;
+import com.porcana.domain.asset.entity.Sector;
+import com.porcana.global.cache.VersionedSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * 자산 검색 메모리 인덱스 (심볼 / 이름)
+ *
+ * `lower(symbol) LIKE %q% OR lower(name) LIKE %q%`는 인덱스를 탈 수 없어 검색어를 입력할 때마다 assets 전체를 읽었습니다.
+ * 전체 자산(비활성 포함)의 심볼/이름을 n-gram(1~3글자) 역색인으로 보관하고 검색을 메모리에서 처리합니다.
+ * - 3글자 이하 검색어는 같은 n-gram의 posting 목록이 곧 결과입니다
+ * - 더 긴 검색어는 검색어 trigram들의 posting을 교집합한 뒤 실제 포함 여부를 확인합니다
+ * - 결과는 심볼 일치 > 심볼 접두어 > 이름 접두어 > 이름 단어 접두어 > 포함 순으로 정렬합니다
+ * - 스냅샷은 처음 요청될 때 적재하고, 자산 배치가 끝나면 {@link AssetDataChangedEvent}로 무효화됩니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetSearchIndex {
+
+    private final AssetRepository assetRepository;
+
+    private final VersionedSnapshot<Snapshot> snapshot = new VersionedSnapshot<>();
+
+    /**
+     * 현재 스냅샷 (없으면 적재)
+     */
+    public Snapshot snapshot() {
+        return snapshot.get(generation -> {
+            Snapshot loaded = Snapshot.of(assetRepository.findSearchEntries().stream()
+                    .map(Entry::from)
+                    .toList());
+            log.info("Loaded asset search index: {} assets, {} grams", loaded.size(), loaded.gramCount());
+            return loaded;
+        });
+    }
+
+    /**
+     * 검색어와 조건에 맞는 자산 (순위 순)
+     */
+    public List<Entry> search(String query, Predicate<Entry> filter) {
+        return snapshot().search(query, filter);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAssetDataChanged(AssetDataChangedEvent event) {
+        snapshot.invalidate();
+        log.info("Invalidated asset search index after {}", event.source());
+    }
+
+    /**
+     * 검색 대상 자산 (필터/정렬에 쓰는 컬럼만 보관)
+     */
+    public record Entry(UUID id, String symbol, String name, boolean active, Asset.Market market,
+                        Asset.AssetType type, Sector sector, AssetClass assetClass, Integer currentRiskLevel) {
+
+        static Entry from(AssetRepository.SearchEntry entry) {
+            return new Entry(entry.getId(), entry.getSymbol(), entry.getName(),
+                    Boolean.TRUE.equals(entry.getActive()), entry.getMarket(), entry.getType(),
+                    entry.getSector(), entry.getAssetClass(), entry.getCurrentRiskLevel());
+        }
+    }
+
+    /**
+     * 검색 스냅샷 (변경 불가, 스레드 간 공유)
+     */
+    public static final class Snapshot {
+
+        private static final int MAX_GRAM = 3;
+
+        // 순위 (작을수록 앞)
+        private static final int RANK_SYMBOL_EXACT = 0;
+        private static final int RANK_SYMBOL_PREFIX = 1;
+        private static final int RANK_NAME_PREFIX = 2;
+        private static final int RANK_NAME_WORD_PREFIX = 3;
+        private static final int RANK_CONTAINS = 4;
+        private static final int NO_MATCH = -1;
+
+        private static final int[] EMPTY = new int[0];
+
+        private final Entry[] entries;
+        private final String[] symbols;
+        private final String[] names;
+        private final Map<String, int[]> postings;
+
+        private Snapshot(Entry[] entries, String[] symbols, String[] names, Map<String, int[]> postings) {
+            this.entries = entries;
+            this.symbols = symbols;
+            this.names = names;
+            this.postings = postings;
+        }
+
+        static Snapshot of(List<Entry> assets) {
+            Entry[] entries = assets.stream()
+                    .sorted(Comparator.comparing(Entry::symbol))
+                    .toArray(Entry[]::new);
+
+            String[] symbols = new String[entries.length];
+            String[] names = new String[entries.length];
+            Map<String, PostingBuilder> builders = new HashMap<>();
+            for (int i = 0; i < entries.length; i++) {
+                symbols[i] = normalize(entries[i].symbol());
+                names[i] = normalize(entries[i].name());
+                addGrams(builders, symbols[i], i);
+                addGrams(builders, names[i], i);
+            }
+
+            Map<String, int[]> postings = new HashMap<>(builders.size() * 2);
+            builders.forEach((gram, builder) -> postings.put(gram, builder.toArray()));
+            return new Snapshot(entries, symbols, names, postings);
+        }
+
+        public int size() {
+            return entries.length;
+        }
+
+        int gramCount() {
+            return postings.size();
+        }
+
+        /**
+         * 검색어를 심볼 또는 이름에 포함하고 조건에 맞는 자산 (순위, 심볼 순)
+         */
+        public List<Entry> search(String query, Predicate<Entry> filter) {
+            String q = normalize(query);
+            if (q.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            int[] candidates = candidates(q);
+            List<int[]> hits = new ArrayList<>();
+            for (int position : candidates) {
+                if (!filter.test(entries[position])) {
+                    continue;
+                }
+                int rank = rank(position, q);
+                if (rank != NO_MATCH) {
+                    hits.add(new int[]{rank, position});
+                }
+            }
+
+            // 같은 순위는 위치(= 심볼) 순
+            hits.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]));
+            List<Entry> result = new ArrayList<>(hits.size());
+            for (int[] hit : hits) {
+                result.add(entries[hit[1]]);
+            }
+            return result;
+        }
+
+        /**
+         * 후보 위치 (오름차순)
+         * 3글자 이하는 posting 그대로, 더 길면 trigram posting들의 교집합
+         */
+        private int[] candidates(String q) {
+            if (q.length() <= MAX_GRAM) {
+                return postings.getOrDefault(q, EMPTY);
+            }
+
+            int gramCount = q.length() - MAX_GRAM + 1;
+            int[][] lists = new int[gramCount][];
+            for (int i = 0; i < gramCount; i++) {
+                int[] posting = postings.get(q.substring(i, i + MAX_GRAM));
+                if (posting == null) {
+                    return EMPTY;
+                }
+                lists[i] = posting;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+            int[] result = lists[0];
+            for (int i = 1; i < lists.length && result.length > 0; i++) {
+                result = intersect(result, lists[i]);
+            }
+            return result;
+        }
+
+        private int rank(int position, String q) {
+            String symbol = symbols[position];
+            String name = names[position];
+            if (symbol.equals(q)) {
+                return RANK_SYMBOL_EXACT;
+            }
+            if (symbol.startsWith(q)) {
+                return RANK_SYMBOL_PREFIX;
+            }
+            if (name.startsWith(q)) {
+                return RANK_NAME_PREFIX;
+            }
+            if (name.contains(" " + q)) {
+                return RANK_NAME_WORD_PREFIX;
+            }
+            if (symbol.contains(q) || name.contains(q)) {
+                return RANK_CONTAINS;
+            }
+            return NO_MATCH;
+        }
+
+        private static void addGrams(Map<String, PostingBuilder> builders, String text, int position) {
+            for (int length = 1; length <= MAX_GRAM; length++) {
+                for (int i = 0; i + length <= text.length(); i++) {
+                    builders.computeIfAbsent(text.substring(i, i + length), g -> new PostingBuilder()).add(position);
+                }
+            }
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] result = new int[Math.min(a.length, b.length)];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    result[size++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        /**
+         * DB의 lower()와 같은 기준으로 소문자화
+         */
+        private static String normalize(String text) {
+            return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 위치 오름차순 posting 목록 빌더 (같은 위치는 한 번만 추가)
+     */
+    private static final class PostingBuilder {
+
+        private int[] positions = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.porcana.domain.asset.search;
+
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.dto.AssetLibrarySearchCondition;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.global.pagination.CountMode;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
+import com.porcana.global.pagination.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어가 있는 자산 검색 (종목 라이브러리 / 관리자 종목 목록)
+ *
+ * 검색어 매칭, 필터, 정렬, 전체 건수는 {@link AssetSearchIndex}에서 처리하고,
+ * DB에서는 현재 페이지 자산만 ID로 조회합니다 (카운트 쿼리 없음).
+ * 커서 방식 요청의 커서는 검색 결과 안의 다음 위치이며, 검색어와 정렬이 같을 때만 유효합니다 (토큰에 해시 포함).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AssetSearchService {
+
+    private final AssetSearchIndex searchIndex;
+    private final AssetRepository assetRepository;
+
+    /**
+     * 종목 라이브러리 검색 (활성 자산)
+     * 정렬 기준이 없으면 검색 순위 순, 있으면 해당 컬럼 순
+     */
+    public Page<Asset> searchLibrary(AssetLibrarySearchCondition condition, Pageable pageable) {
+        return page(libraryHits(condition), pageable);
+    }
+
+    /**
+     * 종목 라이브러리 검색 (커서 방식)
+     */
+    public CursorPage<Asset> searchLibrary(AssetLibrarySearchCondition condition, CursorRequest request) {
+        String cursorSort = "librarySearch:" + Objects.hash(condition.getQuery().trim().toLowerCase(),
+                condition.getSortBy(), condition.getSortDirection());
+        return cursorPage(libraryHits(condition), request, cursorSort);
+    }
+
+    private List<AssetSearchIndex.Entry> libraryHits(AssetLibrarySearchCondition condition) {
+        Predicate<AssetSearchIndex.Entry> filter = entry -> entry.active()
+                && (condition.getMarket() == null || condition.getMarket() == entry.market())
+                && (condition.getType() == null || condition.getType() == entry.type())
+                && (isEmpty(condition.getSectors()) || condition.getSectors().contains(entry.sector()))
+                && (isEmpty(condition.getAssetClasses()) || condition.getAssetClasses().contains(entry.assetClass()))
+                && (isEmpty(condition.getRiskLevels()) || condition.getRiskLevels().contains(entry.currentRiskLevel()));
+
+        List<AssetSearchIndex.Entry> hits = searchIndex.search(condition.getQuery(), filter);
+        Comparator<AssetSearchIndex.Entry> order = comparator(condition.getSortBy(), condition.getSortDirection());
+        if (order != null) {
+            hits.sort(order);
+        }
+        return hits;
+    }
+
+    /**
+     * 관리자 종목 검색 (비활성 포함, 검색 순위 순)
+     */
+    public Page<Asset> searchForAdmin(String keyword, Asset.Market market, Asset.AssetType type, Pageable pageable) {
+        return page(adminHits(keyword, market, type), pageable);
+    }
+
+    /**
+     * 관리자 종목 검색 (커서 방식)
+     */
+    public CursorPage<Asset> searchForAdmin(String keyword, Asset.Market market, Asset.AssetType type,
+                                            CursorRequest request) {
+        String cursorSort = "adminSearch:" + Objects.hash(keyword.trim().toLowerCase());
+        return cursorPage(adminHits(keyword, market, type), request, cursorSort);
+    }
+
+    private List<AssetSearchIndex.Entry> adminHits(String keyword, Asset.Market market, Asset.AssetType type) {
+        return searchIndex.search(keyword, entry ->
+                (market == null || market == entry.market()) && (type == null || type == entry.type()));
+    }
+
+    private Page<Asset> page(List<AssetSearchIndex.Entry> hits, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        return new PageImpl<>(load(hits.subList(from, to)), pageable, hits.size());
+    }
+
+    /**
+     * 검색 결과는 메모리에 있으므로 커서에는 다음 위치만 담고, 전체 건수도 추가 비용 없이 채웁니다
+     */
+    private CursorPage<Asset> cursorPage(List<AssetSearchIndex.Entry> hits, CursorRequest request, String cursorSort) {
+        int from = request.isFirstPage()
+                ? 0
+                : request.key(cursorSort, 1, values -> Integer.parseInt(values.get(0)));
+        if (from < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        from = Math.min(from, hits.size());
+        int to = Math.min(from + request.size(), hits.size());
+
+        String nextCursor = to < hits.size() ? KeysetCursor.encode(cursorSort, String.valueOf(to)) : null;
+        Long total = request.countMode() != CountMode.NONE ? (long) hits.size() : null;
+        return new CursorPage<>(load(hits.subList(from, to)), request.size(), nextCursor, total);
+    }
+
+    private List<Asset> load(List<AssetSearchIndex.Entry> entries) {
+        List<UUID> ids = entries.stream()
+                .map(AssetSearchIndex.Entry::id)
+                .toList();
+
+        Map<UUID, Asset> assets = assetRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Asset::getId, Function.identity()));
+        return ids.stream()
+                .map(assets::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 라이브러리 정렬 (AssetRepositoryCustomImpl과 같은 기준, null은 오름차순에서 뒤 / 내림차순에서 앞)
+     */
+    private Comparator<AssetSearchIndex.Entry> comparator(String sortBy, String sortDirection) {
+        if (sortBy == null) {
+            return null;
+        }
+        boolean isDesc = "desc".equalsIgnoreCase(sortDirection);
+
+        Comparator<AssetSearchIndex.Entry> order = switch (sortBy.toLowerCase()) {
+            case "name" -> Comparator.comparing(AssetSearchIndex.Entry::name);
+            case "risklevel", "risk" -> Comparator.comparing(AssetSearchIndex.Entry::currentRiskLevel,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case "symbol" -> Comparator.comparing(AssetSearchIndex.Entry::symbol);
+            default -> null;
+        };
+        if (order == null) {
+            return Comparator.comparing(AssetSearchIndex.Entry::symbol);
+        }
+        return isDesc ? order.reversed() : order;
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+}
@@ -1,7 +1,9 @@
 package com.porcana.domain.asset.service;
 
-import com.porcana.domain.asset.AssetPriceRepository;
 import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.catalog.AssetCatalog;
+import com.porcana.domain.asset.catalog.AssetCatalogCache;
+import com.porcana.domain.asset.dto.AssetCatalogResponse;
 import com.porcana.domain.asset.dto.AssetChartResponse;
 import com.porcana.domain.asset.dto.AssetDetailResponse;
 import com.porcana.domain.asset.dto.AssetInMainPortfolioResponse;
@@ -10,7 +12,9 @@ import com.porcana.domain.asset.dto.AssetLibrarySearchCondition;
 import com.porcana.domain.asset.dto.personality.AssetPersonality;
 import com.porcana.domain.asset.dto.personality.AssetPersonalityResponse;
 import com.porcana.domain.asset.entity.Asset;
-import com.porcana.domain.asset.entity.AssetPrice;
+import com.porcana.domain.asset.price.ChartSeriesCache;
+import com.porcana.domain.asset.price.OhlcvSeries;
+import com.porcana.domain.asset.search.AssetSearchService;
 import com.porcana.domain.asset.service.personality.AssetPersonalityRuleEngine;
 import com.porcana.domain.portfolio.entity.Portfolio;
 import com.porcana.domain.portfolio.entity.PortfolioAsset;
@@ -18,11 +22,15 @@ import com.porcana.domain.portfolio.repository.PortfolioAssetRepository;
 import com.porcana.domain.portfolio.repository.PortfolioRepository;
 import com.porcana.domain.user.entity.User;
 import com.porcana.domain.user.repository.UserRepository;
+import com.porcana.global.pagination.CountMode;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -34,11 +42,13 @@ import java.util.stream.Collectors;
 public class AssetService {
 
     private final AssetRepository assetRepository;
-    private final AssetPriceRepository assetPriceRepository;
     private final UserRepository userRepository;
     private final PortfolioRepository portfolioRepository;
     private final PortfolioAssetRepository portfolioAssetRepository;
     private final com.porcana.domain.portfolio.service.PortfolioReturnCalculator portfolioReturnCalculator;
+    private final AssetCatalogCache catalogCache;
+    private final ChartSeriesCache chartSeriesCache;
+    private final AssetSearchService assetSearchService;
 
     public AssetDetailResponse getAsset(UUID assetId) {
         Asset asset = assetRepository.findById(assetId)
@@ -62,34 +72,81 @@ public class AssetService {
                 .build();
     }
 
-    public AssetChartResponse getAssetChart(UUID assetId, String range) {
-        Asset asset = assetRepository.findById(assetId)
-                .orElseThrow(() -> new IllegalArgumentException("Asset not found"));
-
+    /**
+     * 자산 차트 요청 준비 (시계열을 한 번만 조회해 ETag와 본문을 같은 시계열에서 만듦)
+     *
+     * @param maxPoints 최대 포인트 수 (null이면 기간 내 일봉 전체, 넘으면 OHLC를 보존하며 묶음)
+     */
+    public PreparedChart prepareAssetChart(UUID assetId, String range, Integer maxPoints) {
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate = calculateStartDate(endDate, range);
-
-        List<AssetPrice> prices = assetPriceRepository
-                .findByAssetAndPriceDateBetweenOrderByPriceDateAsc(asset, startDate, endDate);
-
-        List<AssetChartResponse.ChartPoint> points = prices.stream()
-                .map(price -> AssetChartResponse.ChartPoint.builder()
-                        .date(price.getPriceDate())
-                        .open(price.getOpenPrice().doubleValue())
-                        .high(price.getHighPrice().doubleValue())
-                        .low(price.getLowPrice().doubleValue())
-                        .close(price.getClosePrice().doubleValue())
-                        .volume(price.getVolume())
-                        .build())
-                .collect(Collectors.toList());
+        return new PreparedChart(assetId, range, chartSeries(assetId),
+                calculateStartDate(endDate, range), endDate, pointBudget(maxPoints));
+    }
+
+    /**
+     * 자산 차트 조회 (준비한 시계열에서 기간 자르기와 다운샘플링)
+     */
+    public AssetChartResponse getAssetChart(PreparedChart chart) {
+        OhlcvSeries window = chart.series().window(chart.startDate(), chart.endDate()).downsample(chart.pointBudget());
+
+        List<AssetChartResponse.ChartPoint> points = new ArrayList<>(window.size());
+        for (int i = 0; i < window.size(); i++) {
+            points.add(AssetChartResponse.ChartPoint.builder()
+                    .date(window.dateAt(i))
+                    .open(window.openAt(i))
+                    .high(window.highAt(i))
+                    .low(window.lowAt(i))
+                    .close(window.closeAt(i))
+                    .volume(window.volumeAt(i))
+                    .build());
+        }
 
         return AssetChartResponse.builder()
-                .assetId(asset.getId().toString())
-                .range(range)
+                .assetId(chart.assetId().toString())
+                .range(chart.range())
                 .points(points)
                 .build();
     }
 
+    /**
+     * 한 요청에서 조회한 자산 일봉 시계열과 차트 조건
+     */
+    public record PreparedChart(UUID assetId, String range, OhlcvSeries series,
+                                LocalDate startDate, LocalDate endDate, int pointBudget) {
+
+        /**
+         * 자산 차트 ETag
+         * 최신 가격일뿐 아니라 일봉 전체의 내용 해시를 포함하므로,
+         * 과거 구간이 채워지거나 고쳐져도(백필, 신규 자산 과거 가격 적재) 캐시 무효화 후 ETag가 바뀝니다
+         */
+        public String eTag() {
+            return "\"" + series.lastDate() + "-" + Integer.toHexString(series.contentHash())
+                    + "-" + startDate + "-" + pointBudget + "\"";
+        }
+    }
+
+    /**
+     * 최대 포인트 수 (0이면 다운샘플링 없음)
+     */
+    private int pointBudget(Integer maxPoints) {
+        if (maxPoints == null) {
+            return 0;
+        }
+        if (maxPoints < 1) {
+            throw new IllegalArgumentException("points must be at least 1");
+        }
+        return maxPoints;
+    }
+
+    private OhlcvSeries chartSeries(UUID assetId) {
+        return chartSeriesCache.get(assetId).orElseGet(() -> {
+            if (!assetRepository.existsById(assetId)) {
+                throw new IllegalArgumentException("Asset not found");
+            }
+            return chartSeriesCache.load(assetId);
+        });
+    }
+
     public AssetInMainPortfolioResponse isAssetInMainPortfolio(UUID assetId, UUID userId) {
         User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
@@ -145,9 +202,60 @@ public class AssetService {
 
     /**
      * 종목 라이브러리 조회 (동적 필터링 + 페이지네이션)
+     * 검색어가 있으면 자산 검색 인덱스에서 찾습니다.
+     * 커서나 COUNT(*) 이외의 집계 방식을 요청하면 OFFSET 대신 커서(keyset) 방식으로 조회합니다.
      */
-    public AssetLibraryResponse getLibrary(AssetLibrarySearchCondition condition, Pageable pageable) {
-        Page<Asset> page = assetRepository.searchLibrary(condition, pageable);
+    public AssetLibraryResponse getLibrary(AssetLibrarySearchCondition condition, Pageable pageable,
+                                           String cursor, CountMode count) {
+        boolean hasQuery = StringUtils.hasText(condition.getQuery());
+
+        if (CursorRequest.isRequested(cursor, count)) {
+            CursorRequest request = CursorRequest.of(cursor, count, pageable.getPageSize());
+            if (hasQuery) {
+                return AssetLibraryResponse.from(assetSearchService.searchLibrary(condition, request));
+            }
+            CursorPage<Asset> page = assetRepository.findLibraryPage(condition, request);
+            if (request.countMode() == CountMode.ESTIMATED) {
+                page = page.withTotal(estimateLibraryTotal(condition));
+            }
+            return AssetLibraryResponse.from(page);
+        }
+
+        Page<Asset> page = hasQuery
+                ? assetSearchService.searchLibrary(condition, pageable)
+                : assetRepository.searchLibrary(condition, pageable);
         return AssetLibraryResponse.from(page);
     }
+
+    /**
+     * 활성 종목 분포 캐시로 구하는 라이브러리 건수 (필터 없음 / 시장만 / 타입만, 그 외에는 null)
+     */
+    private Long estimateLibraryTotal(AssetLibrarySearchCondition condition) {
+        boolean otherFilters = !isEmpty(condition.getSectors()) || !isEmpty(condition.getAssetClasses())
+                || !isEmpty(condition.getRiskLevels());
+        if (otherFilters || (condition.getMarket() != null && condition.getType() != null)) {
+            return null;
+        }
+
+        AssetCatalog catalog = catalogCache.get();
+        if (condition.getMarket() != null) {
+            return (long) catalog.marketCounts().getOrDefault(condition.getMarket(), 0);
+        }
+        if (condition.getType() != null) {
+            return (long) catalog.typeCounts().getOrDefault(condition.getType(), 0);
+        }
+        return (long) catalog.totalCount();
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    /**
+     * 활성 종목 분포 조회 (라이브러리 필터 / 관리자 현황)
+     * 자산 배치 후 갱신되는 캐시에서 응답합니다.
+     */
+    public AssetCatalogResponse getCatalog() {
+        return AssetCatalogResponse.from(catalogCache.get());
+    }
 }
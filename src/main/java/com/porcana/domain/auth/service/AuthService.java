@@ -11,6 +11,7 @@ import com.porcana.domain.auth.oauth.OAuth2Provider;
 import com.porcana.domain.auth.oauth.OAuth2ProviderFactory;
 import com.porcana.domain.auth.repository.EmailVerificationTokenRepository;
 import com.porcana.domain.auth.repository.PasswordResetTokenRepository;
+import com.porcana.domain.portfolio.PortfolioChangedEvent;
 import com.porcana.domain.portfolio.entity.Portfolio;
 import com.porcana.domain.portfolio.repository.PortfolioRepository;
 import com.porcana.domain.user.dto.UserResponse;
@@ -21,6 +22,7 @@ import com.porcana.global.security.JwtTokenProvider;
 import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -45,6 +47,7 @@ public class AuthService {
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AuthResponse signup(SignupCommand command) {
@@ -295,6 +298,7 @@ public class AuthService {
                         .getId();
 
                 user.setMainPortfolioId(newestPortfolioId);
+                eventPublisher.publishEvent(new PortfolioChangedEvent(userId, newestPortfolioId, "claimGuestData"));
                 log.info("Set main portfolio {} for user {}", newestPortfolioId, userId);
             }
         }
@@ -42,4 +42,10 @@ public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, UUID
      */
     List<ExchangeRate> findByCurrencyCodeAndExchangeDateBetweenOrderByExchangeDateDesc(
             CurrencyCode currencyCode, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Find the full history of a currency (ordered by date)
+     * Used to build the in-memory USD/KRW series of PriceSeriesCache
+     */
+    List<ExchangeRate> findByCurrencyCodeOrderByExchangeDateAsc(CurrencyCode currencyCode);
 }
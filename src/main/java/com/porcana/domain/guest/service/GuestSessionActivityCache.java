@@ -0,0 +1,159 @@
+package com.porcana.domain.guest.service;
+
+import com.porcana.domain.guest.GuestSessionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게스트 세션 확인 / 마지막 활동 시각 캐시
+ *
+ * 게스트 요청마다 guest_sessions를 조회(existsById)하고 last_seen_at을 UPDATE하던 것을 메모리에서 처리합니다.
+ * - 존재가 확인된 세션 ID는 knownTtl 동안 다시 조회하지 않습니다 (최대 maxKnown개)
+ * - 마지막 활동 시각은 세션별 최신 값만 모아 두었다가 주기적으로 JDBC batch UPDATE 합니다
+ *
+ * 만료 판단(일 단위)에 비해 반영 지연(플러시 주기)이 짧으므로 last_seen_at 정밀도는 실질적으로 같습니다.
+ * 플러시 전에 프로세스가 비정상 종료되면 마지막 주기의 활동 시각만 유실됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuestSessionActivityCache {
+
+    /**
+     * JDBC batch 크기 (executeBatch 단위)
+     */
+    static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_LAST_SEEN_SQL = """
+            UPDATE guest_sessions
+            SET last_seen_at = ?
+            WHERE id = ? AND last_seen_at < ?
+            """;
+
+    private final GuestSessionRepository guestSessionRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 존재가 확인된 세션 ID를 다시 조회하지 않는 기간
+     */
+    @Value("${guest-session.known-ttl:10m}")
+    private Duration knownTtl;
+
+    /**
+     * 메모리에 보관하는 확인된 세션 ID 최대 수
+     */
+    @Value("${guest-session.max-known:100000}")
+    private int maxKnown;
+
+    /**
+     * 세션 ID -> 확인 만료 시각 (System.nanoTime 기준)
+     */
+    private final Map<UUID, Long> knownUntil = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 ID -> 아직 반영하지 않은 마지막 활동 시각
+     */
+    private final Map<UUID, LocalDateTime> pendingLastSeen = new ConcurrentHashMap<>();
+
+    /**
+     * 게스트 세션 존재 여부 (확인된 지 knownTtl 이내면 DB를 조회하지 않음)
+     */
+    public boolean exists(UUID guestSessionId) {
+        Long until = knownUntil.get(guestSessionId);
+        if (until != null && until - System.nanoTime() > 0) {
+            return true;
+        }
+
+        boolean exists = guestSessionRepository.existsById(guestSessionId);
+        if (exists) {
+            remember(guestSessionId);
+        } else {
+            knownUntil.remove(guestSessionId);
+        }
+        return exists;
+    }
+
+    /**
+     * 존재가 확인된(또는 방금 생성한) 세션 기록
+     */
+    public void remember(UUID guestSessionId) {
+        if (knownUntil.size() >= maxKnown && !knownUntil.containsKey(guestSessionId)) {
+            evictExpired();
+            if (knownUntil.size() >= maxKnown) {
+                // 가득 차면 기록하지 않음 (다음 요청은 DB 확인으로 처리)
+                return;
+            }
+        }
+        knownUntil.put(guestSessionId, System.nanoTime() + knownTtl.toNanos());
+    }
+
+    /**
+     * 마지막 활동 시각 기록 (다음 플러시 때 DB에 반영)
+     */
+    public void touch(UUID guestSessionId) {
+        pendingLastSeen.put(guestSessionId, LocalDateTime.now());
+    }
+
+    /**
+     * 모아 둔 마지막 활동 시각을 batch UPDATE로 반영
+     *
+     * @return 반영을 시도한 세션 수
+     */
+    @Scheduled(fixedDelayString = "${guest-session.last-seen-flush-interval:60000}")
+    public int flush() {
+        evictExpired();
+        if (pendingLastSeen.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<UUID, LocalDateTime>> updates = new ArrayList<>(pendingLastSeen.size());
+        for (UUID guestSessionId : pendingLastSeen.keySet()) {
+            LocalDateTime lastSeenAt = pendingLastSeen.remove(guestSessionId);
+            if (lastSeenAt != null) {
+                updates.add(Map.entry(guestSessionId, lastSeenAt));
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_SEEN_SQL, updates, BATCH_SIZE, (ps, update) -> {
+                Timestamp lastSeenAt = Timestamp.valueOf(update.getValue());
+                ps.setTimestamp(1, lastSeenAt);
+                ps.setObject(2, update.getKey());
+                ps.setTimestamp(3, lastSeenAt);
+            });
+            log.debug("Flushed last_seen_at for {} guest sessions", updates.size());
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (그 사이 더 최근 활동이 기록됐다면 그 값을 유지)
+            for (Map.Entry<UUID, LocalDateTime> update : updates) {
+                pendingLastSeen.merge(update.getKey(), update.getValue(),
+                        (newer, failed) -> newer.isAfter(failed) ? newer : failed);
+            }
+            log.warn("Failed to flush last_seen_at for {} guest sessions: {}", updates.size(), e.getMessage());
+        }
+        return updates.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        knownUntil.values().removeIf(until -> until - now <= 0);
+    }
+}
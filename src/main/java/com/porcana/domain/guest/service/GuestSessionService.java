@@ -18,6 +18,7 @@ import java.util.UUID;
 public class GuestSessionService {
 
     private final GuestSessionRepository guestSessionRepository;
+    private final GuestSessionActivityCache activityCache;
 
     /**
      * 새로운 게스트 세션 생성
@@ -27,29 +28,26 @@ public class GuestSessionService {
     public UUID createGuestSession() {
         GuestSession guestSession = GuestSession.create();
         GuestSession saved = guestSessionRepository.save(guestSession);
+        activityCache.remember(saved.getId());
         log.info("Created guest session: {}", saved.getId());
         return saved.getId();
     }
 
     /**
      * 게스트 세션의 마지막 활동 시각 업데이트
+     * 요청마다 UPDATE하지 않고 메모리에 모았다가 주기적으로 batch UPDATE 합니다.
      * @param guestSessionId 게스트 세션 ID
      */
-    @Transactional
     public void updateLastSeenAt(UUID guestSessionId) {
-        guestSessionRepository.findById(guestSessionId).ifPresent(session -> {
-            session.updateLastSeenAt();
-            log.debug("Updated last_seen_at for guest session: {}", guestSessionId);
-        });
+        activityCache.touch(guestSessionId);
     }
 
     /**
-     * 게스트 세션 존재 여부 확인
+     * 게스트 세션 존재 여부 확인 (최근 확인된 세션은 DB를 조회하지 않음)
      * @param guestSessionId 게스트 세션 ID
      * @return 존재 여부
      */
-    @Transactional(readOnly = true)
     public boolean exists(UUID guestSessionId) {
-        return guestSessionRepository.existsById(guestSessionId);
+        return activityCache.exists(guestSessionId);
     }
 }
@@ -0,0 +1,169 @@
+package com.porcana.domain.home.service;
+
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.home.dto.HomeResponse;
+import com.porcana.domain.portfolio.PortfolioChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 홈 화면 payload 캐시
+ *
+ * 홈은 앱을 열 때마다 호출되지만 내용은 수익률 배치나 포트폴리오 변경 때만 바뀝니다.
+ * 미리 만든 payload를 사용자 ID로 보관하여 홈 조회를 키 조회 한 번으로 처리합니다.
+ * - 포트폴리오/메인 포트폴리오 변경은 커밋 후 {@link PortfolioChangedEvent}로 해당 사용자 payload만 무효화합니다
+ * - 수익률 배치가 끝나면 {@link HomePayloadRefresher}가 전체를 새 버전으로 다시 만듭니다
+ * - 자산 정보(이름/이미지)가 바뀌면 {@link AssetDataChangedEvent}로 전체를 무효화합니다
+ * - 적재 중에 무효화되면(세대 번호 또는 사용자 항목 불일치) 적재 결과를 설치하지 않아 오래된 payload가 남지 않습니다
+ * - 다른 경로로 바뀐 데이터가 오래 남지 않도록 항목은 ttl이 지나면 다시 만듭니다
+ */
+@Slf4j
+@Component
+public class HomePayloadCache {
+
+    /**
+     * payload 유효 기간 (이벤트로 무효화되지 않은 변경의 최대 반영 지연)
+     */
+    @Value("${home.cache.ttl:30m}")
+    private Duration ttl;
+
+    /**
+     * 메모리에 보관하는 최대 사용자 수
+     */
+    @Value("${home.cache.max-entries:50000}")
+    private int maxEntries;
+
+    private final AtomicLong generation = new AtomicLong(1);
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 보관된 payload (없거나 무효화/만료됐으면 empty)
+     */
+    public Optional<HomeResponse> get(UUID userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null || entry.payload() == null || entry.isExpired(System.nanoTime())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.payload());
+    }
+
+    /**
+     * 적재 시작 시점 기록 (payload를 만들기 전에 호출)
+     */
+    public LoadToken beginLoad(UUID userId) {
+        return new LoadToken(userId, generation.get(), entries.get(userId));
+    }
+
+    /**
+     * 만든 payload 설치 (적재 중 무효화됐으면 설치하지 않음)
+     *
+     * @return 설치 여부
+     */
+    public boolean put(LoadToken token, HomeResponse payload) {
+        if (generation.get() != token.generation()) {
+            return false;
+        }
+        if (token.previous() == null && entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                // 가득 차면 보관하지 않음 (다음 요청도 직접 생성)
+                return false;
+            }
+        }
+
+        Entry entry = new Entry(token.generation(), payload, System.nanoTime() + ttl.toNanos());
+        boolean installed = token.previous() == null
+                ? entries.putIfAbsent(token.userId(), entry) == null
+                : entries.replace(token.userId(), token.previous(), entry);
+        if (installed && generation.get() != token.generation()) {
+            // 설치 직전에 전체 무효화가 끼어든 경우
+            entries.remove(token.userId(), entry);
+            return false;
+        }
+        return installed;
+    }
+
+    /**
+     * 한 사용자의 payload 무효화
+     * 진행 중인 적재가 설치되지 않도록 빈 항목(tombstone)을 남김
+     */
+    public void evict(UUID userId) {
+        entries.put(userId, new Entry(generation.get(), null, System.nanoTime() + ttl.toNanos()));
+    }
+
+    /**
+     * 전체 payload 무효화 (새 버전 시작)
+     *
+     * @return payload를 보관하고 있던 사용자 ID (다시 만들 대상)
+     */
+    public Set<UUID> invalidateAll() {
+        long version = generation.incrementAndGet();
+        Set<UUID> userIds = new HashSet<>();
+        entries.forEach((userId, entry) -> {
+            if (entry.payload() != null) {
+                userIds.add(userId);
+            }
+        });
+        entries.clear();
+        log.info("Invalidated {} home payloads, now v{}", userIds.size(), version);
+        return userIds;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.userId() != null) {
+            evict(event.userId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAssetDataChanged(AssetDataChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * 만료된 항목 정리 (tombstone 포함)
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    /**
+     * 적재 시작 시점의 캐시 상태
+     *
+     * @param userId     대상 사용자
+     * @param generation 적재 시작 시점의 세대 번호
+     * @param previous   적재 시작 시점의 사용자 항목 (없으면 null)
+     */
+    public record LoadToken(UUID userId, long generation, Entry previous) {
+    }
+
+    /**
+     * 사용자 항목 (payload가 null이면 무효화 표시)
+     *
+     * @param version   payload를 만든 세대 번호
+     * @param payload   홈 화면 응답
+     * @param expiresAt 만료 시각 (System.nanoTime 기준)
+     */
+    record Entry(long version, HomeResponse payload, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt - now <= 0;
+        }
+    }
+}
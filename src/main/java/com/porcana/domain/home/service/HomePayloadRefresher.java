@@ -0,0 +1,80 @@
+package com.porcana.domain.home.service;
+
+import com.porcana.domain.portfolio.PortfolioReturnsChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 홈 화면 payload 재생성기
+ *
+ * 수익률 배치가 끝나면({@link PortfolioReturnsChangedEvent}) 전체 payload를 무효화하고,
+ * 무효화 직전까지 캐시되어 있던(최근 홈을 연) 사용자의 payload를 백그라운드에서 다시 만들어 둡니다.
+ * 배치 직후 아침 첫 조회도 생성 비용 없이 캐시에서 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomePayloadRefresher {
+
+    private final HomePayloadCache homePayloadCache;
+    private final HomePayloadBuilder homePayloadBuilder;
+
+    @Value("${home.cache.refresh-on-returns-changed:true}")
+    private boolean refreshEnabled;
+
+    private final ThreadPoolTaskExecutor executor = createExecutor();
+
+    @EventListener
+    public void onPortfolioReturnsChanged(PortfolioReturnsChangedEvent event) {
+        Set<UUID> userIds = homePayloadCache.invalidateAll();
+        if (!refreshEnabled || userIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> refresh(userIds, event.source()));
+        } catch (TaskRejectedException e) {
+            log.warn("Home payload refresh already queued, skipping refresh after {}", event.source());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void refresh(Set<UUID> userIds, String source) {
+        int refreshed = 0;
+        for (UUID userId : userIds) {
+            try {
+                HomePayloadCache.LoadToken token = homePayloadCache.beginLoad(userId);
+                if (homePayloadCache.put(token, homePayloadBuilder.build(userId))) {
+                    refreshed++;
+                }
+            } catch (Exception e) {
+                // 실패한 사용자는 다음 홈 조회 때 직접 생성됨
+                log.debug("Failed to refresh home payload for user {}: {}", userId, e.getMessage());
+            }
+        }
+        log.info("Refreshed {}/{} home payloads after {}", refreshed, userIds.size(), source);
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("home-refresh-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,78 +1,44 @@
 package com.porcana.domain.home.service;
 
-import com.porcana.domain.asset.AssetRepository;
-import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.home.dto.HomeResponse;
 import com.porcana.domain.home.dto.MainPortfolioIdResponse;
-import com.porcana.domain.portfolio.entity.*;
-import com.porcana.domain.portfolio.repository.*;
-import com.porcana.domain.portfolio.service.PortfolioReturnCalculator;
+import com.porcana.domain.portfolio.PortfolioChangedEvent;
+import com.porcana.domain.portfolio.entity.Portfolio;
+import com.porcana.domain.portfolio.repository.PortfolioRepository;
 import com.porcana.domain.user.entity.User;
 import com.porcana.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class HomeService {
 
     private final UserRepository userRepository;
     private final PortfolioRepository portfolioRepository;
-    private final PortfolioAssetRepository portfolioAssetRepository;
-    private final PortfolioDailyReturnRepository portfolioDailyReturnRepository;
-    private final AssetRepository assetRepository;
-    private final PortfolioReturnCalculator portfolioReturnCalculator;
-    private final SnapshotAssetDailyReturnRepository snapshotAssetDailyReturnRepository;
-    private final PortfolioSnapshotRepository portfolioSnapshotRepository;
-    private final PortfolioSnapshotAssetRepository portfolioSnapshotAssetRepository;
+    private final HomePayloadCache homePayloadCache;
+    private final HomePayloadBuilder homePayloadBuilder;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 홈 화면 조회
+     * 캐시된 payload가 있으면 DB를 조회하지 않고 반환하고, 없으면 만들어서 캐시에 보관
+     */
     public HomeResponse getHome(UUID userId) {
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        UUID mainPortfolioId = user.getMainPortfolioId();
-
-        if (mainPortfolioId == null) {
-            return HomeResponse.noMainPortfolio();
-        }
-
-        Portfolio portfolio = portfolioRepository.findById(mainPortfolioId)
-                .orElse(null);
-
-        if (portfolio == null) {
-            return HomeResponse.noMainPortfolio();
+        Optional<HomeResponse> cached = homePayloadCache.get(userId);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
-        // Calculate total return
-        Double totalReturnPct = calculateTotalReturn(portfolio.getId());
-
-        // Build main portfolio info
-        HomeResponse.MainPortfolioInfo mainPortfolioInfo = HomeResponse.MainPortfolioInfo.builder()
-                .portfolioId(portfolio.getId().toString())
-                .name(portfolio.getName())
-                .startedAt(portfolio.getStartedAt())
-                .totalReturnPct(totalReturnPct)
-                .build();
-
-        // Build chart data
-        List<HomeResponse.ChartPoint> chart = buildChartData(portfolio.getId());
-
-        // Build positions
-        List<HomeResponse.PositionInfo> positions = buildPositions(portfolio.getId());
-
-        return HomeResponse.builder()
-                .hasMainPortfolio(true)
-                .mainPortfolio(mainPortfolioInfo)
-                .chart(chart)
-                .positions(positions)
-                .build();
+        HomePayloadCache.LoadToken token = homePayloadCache.beginLoad(userId);
+        HomeResponse response = homePayloadBuilder.build(userId);
+        homePayloadCache.put(token, response);
+        return response;
     }
 
     @Transactional
@@ -85,183 +51,10 @@ public class HomeService {
 
         user.setMainPortfolioId(portfolio.getId());
         userRepository.save(user);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, portfolio.getId(), "setMainPortfolio"));
 
         return MainPortfolioIdResponse.builder()
                 .mainPortfolioId(portfolio.getId())
                 .build();
     }
-
-    private Double calculateTotalReturn(UUID portfolioId) {
-        return portfolioReturnCalculator.calculateTotalReturn(portfolioId);
-    }
-
-    private List<HomeResponse.ChartPoint> buildChartData(UUID portfolioId) {
-        List<PortfolioDailyReturn> returns = portfolioDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(portfolioId);
-
-        if (returns.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        List<HomeResponse.ChartPoint> chartPoints = new ArrayList<>();
-
-        // Start with 100 at the first date
-        Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow();
-        LocalDate startDate = portfolio.getStartedAt();
-        if (startDate != null && (returns.isEmpty() || !returns.get(0).getReturnDate().equals(startDate))) {
-            chartPoints.add(HomeResponse.ChartPoint.builder()
-                    .date(startDate)
-                    .value(100.0)
-                    .build());
-        }
-
-        for (PortfolioReturnCalculator.PortfolioValuePoint point :
-                portfolioReturnCalculator.calculatePortfolioValueSeries(returns, 100.0)) {
-            chartPoints.add(HomeResponse.ChartPoint.builder()
-                    .date(point.date())
-                    .value(point.value())
-                    .build());
-        }
-
-        return chartPoints;
-    }
-
-    private List<HomeResponse.PositionInfo> buildPositions(UUID portfolioId) {
-        List<PortfolioAsset> portfolioAssets = portfolioAssetRepository.findByPortfolioId(portfolioId);
-
-        if (portfolioAssets.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // Load all assets
-        Set<UUID> assetIds = portfolioAssets.stream()
-                .map(PortfolioAsset::getAssetId)
-                .collect(Collectors.toSet());
-
-        Map<UUID, Asset> assetMap = assetRepository.findAllById(assetIds).stream()
-                .collect(Collectors.toMap(Asset::getId, asset -> asset));
-
-        // Calculate individual asset returns
-        Map<UUID, Double> assetReturns = calculateAssetReturns(portfolioId, assetIds);
-
-        // Get latest market-cap based weights
-        Map<UUID, Double> latestWeights = getLatestWeights(portfolioId, assetIds);
-
-        // Get snapshot target weights
-        Map<UUID, Double> snapshotWeights = getSnapshotWeights(portfolioId, assetIds);
-
-        return portfolioAssets.stream()
-                .map(pa -> {
-                    Asset asset = assetMap.get(pa.getAssetId());
-                    if (asset == null) {
-                        return null;
-                    }
-
-                    Double returnPct = assetReturns.getOrDefault(pa.getAssetId(), 0.0);
-                    // Use latest market-cap based weight, fallback to initial weight if not available
-                    Double weightPct = latestWeights.getOrDefault(pa.getAssetId(), pa.getWeightPct().doubleValue());
-                    // Snapshot target weight
-                    Double targetWeightPct = snapshotWeights.getOrDefault(pa.getAssetId(), pa.getWeightPct().doubleValue());
-
-                    return HomeResponse.PositionInfo.builder()
-                            .assetId(asset.getId().toString())
-                            .ticker(asset.getSymbol())
-                            .name(asset.getName())
-                            .imageUrl(asset.getImageUrl())
-                            .weightPct(weightPct)
-                            .targetWeightPct(targetWeightPct)
-                            .returnPct(returnPct)
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .sorted((p1, p2) -> Double.compare(p2.getWeightPct(), p1.getWeightPct())) // Sort by weight descending
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Get latest market-cap based weights for assets
-     * Priority:
-     * 1. Most recent weightUsed from SnapshotAssetDailyReturn (if exists for latest snapshot)
-     * 2. Latest PortfolioSnapshotAsset weight (after rebalancing)
-     * 3. PortfolioAsset weight (fallback in buildPositions)
-     */
-    private Map<UUID, Double> getLatestWeights(UUID portfolioId, Set<UUID> assetIds) {
-        Map<UUID, Double> weights = new HashMap<>();
-
-        // Get the latest snapshot
-        Optional<PortfolioSnapshot> latestSnapshotOpt = portfolioSnapshotRepository
-                .findFirstByPortfolioIdAndEffectiveDateLessThanEqualOrderByEffectiveDateDesc(
-                        portfolioId, LocalDate.now());
-
-        if (latestSnapshotOpt.isEmpty()) {
-            return weights; // No snapshot yet, will fallback to PortfolioAsset weights
-        }
-
-        PortfolioSnapshot latestSnapshot = latestSnapshotOpt.get();
-
-        // Get snapshot assets for the latest snapshot (this includes rebalanced weights)
-        List<PortfolioSnapshotAsset> snapshotAssets = portfolioSnapshotAssetRepository
-                .findBySnapshotId(latestSnapshot.getId());
-        Map<UUID, BigDecimal> snapshotWeightMap = snapshotAssets.stream()
-                .collect(Collectors.toMap(
-                        PortfolioSnapshotAsset::getAssetId,
-                        PortfolioSnapshotAsset::getWeight
-                ));
-
-        // For each asset, try to get the most recent weightUsed from daily returns
-        // If daily return exists for the latest snapshot, use it (market-adjusted weight)
-        // Otherwise, use the snapshot weight (rebalanced weight)
-        for (UUID assetId : assetIds) {
-            Optional<SnapshotAssetDailyReturn> dailyReturnOpt = snapshotAssetDailyReturnRepository
-                    .findFirstByPortfolioIdAndAssetIdOrderByReturnDateDesc(portfolioId, assetId);
-
-            if (dailyReturnOpt.isPresent()) {
-                SnapshotAssetDailyReturn dailyReturn = dailyReturnOpt.get();
-                // Only use daily return if it's from the current snapshot (or later)
-                if (!dailyReturn.getReturnDate().isBefore(latestSnapshot.getEffectiveDate())) {
-                    weights.put(assetId, dailyReturn.getWeightUsed().doubleValue());
-                    continue;
-                }
-            }
-
-            // Fallback to snapshot weight (after rebalancing)
-            if (snapshotWeightMap.containsKey(assetId)) {
-                weights.put(assetId, snapshotWeightMap.get(assetId).doubleValue());
-            }
-        }
-
-        return weights;
-    }
-
-    private Map<UUID, Double> calculateAssetReturns(UUID portfolioId, Set<UUID> assetIds) {
-        return portfolioReturnCalculator.calculateAssetReturns(portfolioId, assetIds);
-    }
-
-    /**
-     * Get snapshot target weights for assets
-     * Returns the weights set in the latest snapshot (target/initial allocation)
-     */
-    private Map<UUID, Double> getSnapshotWeights(UUID portfolioId, Set<UUID> assetIds) {
-        Map<UUID, Double> weights = new HashMap<>();
-
-        // Get the latest snapshot
-        Optional<PortfolioSnapshot> latestSnapshotOpt = portfolioSnapshotRepository
-                .findFirstByPortfolioIdAndEffectiveDateLessThanEqualOrderByEffectiveDateDesc(
-                        portfolioId, LocalDate.now());
-
-        if (latestSnapshotOpt.isEmpty()) {
-            return weights;
-        }
-
-        // Get snapshot assets
-        List<PortfolioSnapshotAsset> snapshotAssets = portfolioSnapshotAssetRepository
-                .findBySnapshotId(latestSnapshotOpt.get().getId());
-
-        for (PortfolioSnapshotAsset sa : snapshotAssets) {
-            if (assetIds.contains(sa.getAssetId())) {
-                weights.put(sa.getAssetId(), sa.getWeight().doubleValue());
-            }
-        }
-
-        return weights;
-    }
 }
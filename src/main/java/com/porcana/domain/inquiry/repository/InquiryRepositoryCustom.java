@@ -2,10 +2,14 @@ package com.porcana.domain.inquiry.repository;
 
 import com.porcana.domain.inquiry.entity.Inquiry;
 import com.porcana.domain.inquiry.entity.InquiryStatus;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface InquiryRepositoryCustom {
 
     Page<Inquiry> searchForAdmin(String keyword, InquiryStatus status, Pageable pageable);
+
+    CursorPage<Inquiry> findAdminPage(String keyword, InquiryStatus status, CursorRequest request);
 }
\ No newline at end of file
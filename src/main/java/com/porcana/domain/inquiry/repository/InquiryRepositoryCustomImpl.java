@@ -4,6 +4,10 @@ import com.porcana.domain.inquiry.entity.Inquiry;
 import com.porcana.domain.inquiry.entity.InquiryStatus;
 import com.porcana.domain.inquiry.entity.QInquiry;
 import com.porcana.domain.user.entity.QUser;
+import com.porcana.global.pagination.CountMode;
+import com.porcana.global.pagination.CreatedAtCursor;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -18,6 +22,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class InquiryRepositoryCustomImpl implements InquiryRepositoryCustom {
 
+    private static final String CURSOR_SORT = "inquiries:createdAt:desc";
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -49,6 +55,40 @@ public class InquiryRepositoryCustomImpl implements InquiryRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public CursorPage<Inquiry> findAdminPage(String keyword, InquiryStatus status, CursorRequest request) {
+        QInquiry inquiry = QInquiry.inquiry;
+        QUser user = QUser.user;
+        CreatedAtCursor cursor = CreatedAtCursor.from(request, CURSOR_SORT);
+
+        List<Inquiry> rows = queryFactory
+                .selectFrom(inquiry)
+                .leftJoin(inquiry.user, user).fetchJoin()
+                .where(
+                        statusEq(status),
+                        keywordContains(keyword),
+                        cursor != null ? cursor.before(inquiry.createdAt, inquiry.id) : null
+                )
+                .orderBy(inquiry.createdAt.desc(), inquiry.id.desc())
+                .limit(request.fetchSize())
+                .fetch();
+
+        CursorPage<Inquiry> page = CursorPage.of(rows, request,
+                last -> CreatedAtCursor.encode(CURSOR_SORT, last.getCreatedAt(), last.getId()));
+        if (request.countMode() != CountMode.EXACT) {
+            return page;
+        }
+        return page.withTotal(queryFactory
+                .select(inquiry.count())
+                .from(inquiry)
+                .leftJoin(inquiry.user, user)
+                .where(
+                        statusEq(status),
+                        keywordContains(keyword)
+                )
+                .fetchOne());
+    }
+
     private BooleanExpression statusEq(InquiryStatus status) {
         return status != null ? QInquiry.inquiry.status.eq(status) : null;
     }
@@ -0,0 +1,15 @@
+package com.porcana.domain.portfolio;
+
+import java.util.UUID;
+
+/**
+ * 포트폴리오 변경 이벤트
+ * 포트폴리오 이름/상태/비중, 일별 수익률(백필), 사용자의 메인 포트폴리오가 바뀌는 트랜잭션에서 발행합니다.
+ * 홈 화면 payload 캐시가 커밋 후 수신하여 해당 사용자의 payload를 무효화합니다.
+ *
+ * @param userId      소유 사용자 ID (게스트 포트폴리오면 null)
+ * @param portfolioId 변경된 포트폴리오 ID (메인 포트폴리오 지정만 바뀐 경우 새 메인 포트폴리오 ID, 없으면 null)
+ * @param source      발행 주체 (로그용)
+ */
+public record PortfolioChangedEvent(UUID userId, UUID portfolioId, String source) {
+}
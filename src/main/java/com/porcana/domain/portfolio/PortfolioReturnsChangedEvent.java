@@ -0,0 +1,11 @@
+package com.porcana.domain.portfolio;
+
+/**
+ * 전체 포트폴리오 수익률 갱신 이벤트
+ * 포트폴리오 성과 배치와 수익률 백필/재구축/weightUsed 재계산 runner가 일별 수익률 쓰기를 마치면 발행합니다.
+ * 홈 화면 payload 캐시가 수신하여 모든 payload를 새 버전으로 다시 만듭니다.
+ *
+ * @param source 발행 주체 (배치 job 또는 runner 이름, 로그용)
+ */
+public record PortfolioReturnsChangedEvent(String source) {
+}
@@ -0,0 +1,69 @@
+package com.porcana.domain.portfolio.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 포트폴리오 자산별 최신 수익률/비중/평가금액 (읽기 전용 projection)
+ * 자산별 가장 최근 snapshot_asset_daily_returns 행을 (portfolio_id, asset_id)당 한 행으로 유지
+ * 일별 수익률 writer(DailyReturnBatchWriter)가 upsert하며, 애플리케이션에서는 조회만 합니다.
+ */
+@Entity
+@Table(name = "portfolio_asset_latest", indexes = {
+        @Index(name = "idx_portfolio_asset_latest_portfolio_asset",
+               columnList = "portfolio_id, asset_id", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PortfolioAssetLatest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "portfolio_id", nullable = false)
+    private UUID portfolioId;
+
+    @Column(name = "asset_id", nullable = false)
+    private UUID assetId;
+
+    /**
+     * 최신 수익률이 계산된 스냅샷
+     */
+    @Column(name = "snapshot_id", nullable = false)
+    private UUID snapshotId;
+
+    /**
+     * 최신 수익률 기준일
+     */
+    @Column(nullable = false, name = "return_date")
+    private LocalDate returnDate;
+
+    /**
+     * 최신 자산 비중 (%, 시가총액 기준)
+     */
+    @Column(nullable = false, precision = 5, scale = 2, name = "weight_used")
+    private BigDecimal weightUsed;
+
+    /**
+     * 최신 자산 전체 수익률 (%, 스냅샷 기준)
+     */
+    @Column(nullable = false, precision = 10, scale = 4, name = "asset_return_total")
+    private BigDecimal assetReturnTotal;
+
+    /**
+     * 최신 자산 평가금액 (원화 기준)
+     */
+    @Column(nullable = false, precision = 20, scale = 2, name = "value_krw")
+    private BigDecimal valueKrw;
+
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -74,6 +74,14 @@ public class PortfolioDailyReturn {
     @Column(nullable = false, precision = 20, scale = 2, name = "total_value_krw")
     private BigDecimal totalValueKrw;
 
+    /**
+     * 이전 스냅샷들에서 이어받은 누적 배수 (각 스냅샷 마지막 날의 1 + return_total / 100 을 곱한 값)
+     * 이 날의 누적 가치 배수 = carried_multiplier * (1 + return_total / 100)
+     * 일별 수익률 writer가 저장 후 갱신하며, 아직 계산되지 않은 행은 NULL
+     */
+    @Column(name = "carried_multiplier")
+    private Double carriedMultiplier;
+
     /**
      * 계산 완료 시각
      */
@@ -94,6 +102,16 @@ public class PortfolioDailyReturn {
         this.totalValueKrw = totalValueKrw;
     }
 
+    /**
+     * 이 날의 누적 가치 배수 (계산되지 않은 행이면 null)
+     */
+    public Double getCumulativeMultiplier() {
+        if (carriedMultiplier == null) {
+            return null;
+        }
+        return carriedMultiplier * (1.0 + returnTotal.doubleValue() / 100.0);
+    }
+
     public static PortfolioDailyReturn from(UUID portfolioId, UUID snapshotId, LocalDate returnDate,
                                             BigDecimal returnTotal, BigDecimal returnLocal, BigDecimal returnFx,
                                             BigDecimal totalValueKrw) {
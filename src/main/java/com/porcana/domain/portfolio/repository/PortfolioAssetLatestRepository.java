@@ -0,0 +1,29 @@
+package com.porcana.domain.portfolio.repository;
+
+import com.porcana.domain.portfolio.entity.PortfolioAssetLatest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PortfolioAssetLatestRepository extends JpaRepository<PortfolioAssetLatest, UUID> {
+
+    /**
+     * Find the latest return/weight of every asset of a portfolio
+     */
+    List<PortfolioAssetLatest> findByPortfolioId(UUID portfolioId);
+
+    /**
+     * Find the latest return/weight of every asset of multiple portfolios (set-based)
+     */
+    List<PortfolioAssetLatest> findByPortfolioIdIn(Collection<UUID> portfolioIds);
+
+    /**
+     * Delete the projection rows of a portfolio (when its asset daily returns are purged)
+     * Returns the number of deleted records
+     */
+    int deleteByPortfolioId(UUID portfolioId);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +19,11 @@ public interface PortfolioAssetRepository extends JpaRepository<PortfolioAsset,
      */
     List<PortfolioAsset> findByPortfolioId(UUID portfolioId);
 
+    /**
+     * Find all assets in multiple portfolios (set-based variant of findByPortfolioId)
+     */
+    List<PortfolioAsset> findByPortfolioIdIn(Collection<UUID> portfolioIds);
+
     /**
      * Find asset in portfolio
      */
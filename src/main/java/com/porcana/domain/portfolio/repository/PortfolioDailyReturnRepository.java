@@ -2,9 +2,13 @@ package com.porcana.domain.portfolio.repository;
 
 import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,11 +37,39 @@ public interface PortfolioDailyReturnRepository extends JpaRepository<PortfolioD
      */
     Optional<PortfolioDailyReturn> findFirstByPortfolioIdOrderByReturnDateDesc(UUID portfolioId);
 
+    /**
+     * Find the latest daily return of each of the given portfolios
+     * (set-based variant of findFirstByPortfolioIdOrderByReturnDateDesc, projection only)
+     */
+    @Query("SELECT r.portfolioId AS portfolioId, r.returnTotal AS returnTotal, " +
+           "r.carriedMultiplier AS carriedMultiplier " +
+           "FROM PortfolioDailyReturn r " +
+           "WHERE r.portfolioId IN :portfolioIds " +
+           "AND r.returnDate = (SELECT MAX(r2.returnDate) FROM PortfolioDailyReturn r2 " +
+           "                    WHERE r2.portfolioId = r.portfolioId)")
+    List<LatestReturn> findLatestByPortfolioIdIn(@Param("portfolioIds") Collection<UUID> portfolioIds);
+
     /**
      * Check if daily return exists for portfolio and date
      */
     boolean existsByPortfolioIdAndReturnDate(UUID portfolioId, LocalDate returnDate);
 
+    /**
+     * Find which of the given portfolios already have a daily return for the date
+     * (set-based variant of existsByPortfolioIdAndReturnDate)
+     */
+    @Query("SELECT r.portfolioId FROM PortfolioDailyReturn r " +
+           "WHERE r.portfolioId IN :portfolioIds AND r.returnDate = :returnDate")
+    List<UUID> findPortfolioIdsWithReturnOn(@Param("portfolioIds") Collection<UUID> portfolioIds,
+                                            @Param("returnDate") LocalDate returnDate);
+
+    /**
+     * Find the dates that already have a daily return for a portfolio
+     * Used by range backfills to detect missing days with a single query
+     */
+    @Query("SELECT r.returnDate FROM PortfolioDailyReturn r WHERE r.portfolioId = :portfolioId")
+    List<LocalDate> findReturnDatesByPortfolioId(@Param("portfolioId") UUID portfolioId);
+
     /**
      * Delete daily returns older than a specific date
      */
@@ -53,4 +85,10 @@ public interface PortfolioDailyReturnRepository extends JpaRepository<PortfolioD
      * Returns the number of deleted records
      */
     int deleteByPortfolioId(UUID portfolioId);
-}
\ No newline at end of file
+
+    interface LatestReturn {
+        UUID getPortfolioId();
+        BigDecimal getReturnTotal();
+        Double getCarriedMultiplier();
+    }
+}
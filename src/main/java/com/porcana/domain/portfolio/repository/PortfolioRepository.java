@@ -49,6 +49,26 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, UUID>, Por
      */
     Page<Portfolio> findByStatusAndDeletedAtIsNull(PortfolioStatus status, Pageable pageable);
 
+    /**
+     * Find the next page of portfolio IDs in a hash range, ordered by id (for partitioned batch processing, excluding deleted)
+     * portfolio_id_hash(id) equals UUID#hashCode, so the range matches PortfolioHashRangePartitioner.
+     * Restarts resume from the last processed id, so portfolios removed or added meanwhile do not shift the position.
+     */
+    @Query(value = """
+            SELECT p.id FROM portfolios p
+            WHERE p.status = :status
+              AND p.deleted_at IS NULL
+              AND portfolio_id_hash(p.id) BETWEEN :minHash AND :maxHash
+              AND p.id > :afterId
+            ORDER BY p.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findIdsInHashRangeAfter(@Param("status") String status,
+                                       @Param("minHash") long minHash,
+                                       @Param("maxHash") long maxHash,
+                                       @Param("afterId") UUID afterId,
+                                       @Param("limit") int limit);
+
     // ===== Guest Session Support =====
 
     /**
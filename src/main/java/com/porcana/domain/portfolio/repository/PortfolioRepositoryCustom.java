@@ -2,6 +2,8 @@ package com.porcana.domain.portfolio.repository;
 
 import com.porcana.domain.portfolio.entity.Portfolio;
 import com.porcana.domain.portfolio.entity.PortfolioStatus;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -26,4 +28,9 @@ public interface PortfolioRepositoryCustom {
      * Find portfolios by allowed statuses (excluding deleted)
      */
     Page<Portfolio> findByStatuses(Set<PortfolioStatus> statuses, Pageable pageable);
+
+    /**
+     * Keyset page of portfolios (created_at DESC, id DESC) by allowed statuses and optional name keyword (excluding deleted)
+     */
+    CursorPage<Portfolio> findPortfolioPage(String keyword, Set<PortfolioStatus> statuses, CursorRequest request);
 }
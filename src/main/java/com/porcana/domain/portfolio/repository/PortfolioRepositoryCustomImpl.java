@@ -3,6 +3,10 @@ package com.porcana.domain.portfolio.repository;
 import com.porcana.domain.portfolio.entity.Portfolio;
 import com.porcana.domain.portfolio.entity.PortfolioStatus;
 import com.porcana.domain.portfolio.entity.QPortfolio;
+import com.porcana.global.pagination.CountMode;
+import com.porcana.global.pagination.CreatedAtCursor;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -21,6 +25,8 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class PortfolioRepositoryCustomImpl implements PortfolioRepositoryCustom {
 
+    private static final String CURSOR_SORT = "portfolios:createdAt:desc";
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -103,6 +109,39 @@ public class PortfolioRepositoryCustomImpl implements PortfolioRepositoryCustom
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public CursorPage<Portfolio> findPortfolioPage(String keyword, Set<PortfolioStatus> statuses, CursorRequest request) {
+        QPortfolio portfolio = QPortfolio.portfolio;
+        CreatedAtCursor cursor = CreatedAtCursor.from(request, CURSOR_SORT);
+
+        List<Portfolio> rows = queryFactory
+                .selectFrom(portfolio)
+                .where(
+                        deletedAtIsNull(),
+                        nameContains(keyword),
+                        statusIn(statuses),
+                        cursor != null ? cursor.before(portfolio.createdAt, portfolio.id) : null
+                )
+                .orderBy(portfolio.createdAt.desc(), portfolio.id.desc())
+                .limit(request.fetchSize())
+                .fetch();
+
+        CursorPage<Portfolio> page = CursorPage.of(rows, request,
+                last -> CreatedAtCursor.encode(CURSOR_SORT, last.getCreatedAt(), last.getId()));
+        if (request.countMode() != CountMode.EXACT) {
+            return page;
+        }
+        return page.withTotal(queryFactory
+                .select(portfolio.count())
+                .from(portfolio)
+                .where(
+                        deletedAtIsNull(),
+                        nameContains(keyword),
+                        statusIn(statuses)
+                )
+                .fetchOne());
+    }
+
     private BooleanExpression deletedAtIsNull() {
         return QPortfolio.portfolio.deletedAt.isNull();
     }
@@ -4,6 +4,7 @@ import com.porcana.domain.portfolio.entity.PortfolioSnapshotAsset;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +17,11 @@ public interface PortfolioSnapshotAssetRepository extends JpaRepository<Portfoli
      */
     List<PortfolioSnapshotAsset> findBySnapshotId(UUID snapshotId);
 
+    /**
+     * Find all assets in multiple snapshots (set-based batch processing)
+     */
+    List<PortfolioSnapshotAsset> findBySnapshotIdIn(Collection<UUID> snapshotIds);
+
     /**
      * Find specific asset in a snapshot
      */
@@ -2,9 +2,12 @@ package com.porcana.domain.portfolio.repository;
 
 import com.porcana.domain.portfolio.entity.PortfolioSnapshot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +31,17 @@ public interface PortfolioSnapshotRepository extends JpaRepository<PortfolioSnap
     Optional<PortfolioSnapshot> findFirstByPortfolioIdAndEffectiveDateLessThanEqualOrderByEffectiveDateDesc(
             UUID portfolioId, LocalDate date);
 
+    /**
+     * Find the latest snapshot on or before a specific date for each of the given portfolios
+     * (set-based variant of findFirstByPortfolioIdAndEffectiveDateLessThanEqualOrderByEffectiveDateDesc)
+     */
+    @Query("SELECT s FROM PortfolioSnapshot s " +
+           "WHERE s.portfolioId IN :portfolioIds " +
+           "AND s.effectiveDate = (SELECT MAX(s2.effectiveDate) FROM PortfolioSnapshot s2 " +
+           "                       WHERE s2.portfolioId = s.portfolioId AND s2.effectiveDate <= :date)")
+    List<PortfolioSnapshot> findLatestByPortfolioIdsOnOrBefore(@Param("portfolioIds") Collection<UUID> portfolioIds,
+                                                               @Param("date") LocalDate date);
+
     /**
      * Find the first (initial) snapshot for a portfolio
      */
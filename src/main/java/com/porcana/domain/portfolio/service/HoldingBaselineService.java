@@ -1,12 +1,8 @@
 package com.porcana.domain.portfolio.service;
 
-import com.porcana.domain.asset.AssetPriceRepository;
 import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.entity.Asset;
-import com.porcana.domain.asset.entity.AssetPrice;
-import com.porcana.domain.exchangerate.ExchangeRateRepository;
-import com.porcana.domain.exchangerate.entity.CurrencyCode;
-import com.porcana.domain.exchangerate.entity.ExchangeRate;
+import com.porcana.domain.asset.price.PriceSeriesCache;
 import com.porcana.domain.portfolio.dto.PortfolioDetailResponse;
 import com.porcana.domain.portfolio.dto.baseline.*;
 import com.porcana.domain.portfolio.entity.Portfolio;
@@ -35,8 +31,7 @@ public class HoldingBaselineService {
     private final PortfolioAssetRepository portfolioAssetRepository;
     private final PortfolioHoldingBaselineRepository baselineRepository;
     private final AssetRepository assetRepository;
-    private final AssetPriceRepository assetPriceRepository;
-    private final ExchangeRateRepository exchangeRateRepository;
+    private final PriceSeriesCache priceSeriesCache;
 
     /**
      * 시드 금액 미리보기 (저장하지 않음)
@@ -863,22 +858,18 @@ public class HoldingBaselineService {
     }
 
     private BigDecimal getLatestExchangeRate() {
-        return exchangeRateRepository.findTopByCurrencyCodeOrderByExchangeDateDesc(CurrencyCode.USD)
-                .map(ExchangeRate::getBaseRate)
-                .filter(rate -> rate.compareTo(BigDecimal.ZERO) > 0)
+        return priceSeriesCache.latestUsdKrw()
                 .orElseThrow(() -> new IllegalStateException("USD/KRW 환율 데이터가 없습니다."));
     }
 
     private BigDecimal getLatestPrice(Asset asset) {
-        return assetPriceRepository.findFirstByAssetOrderByPriceDateDesc(asset)
-                .map(AssetPrice::getClosePrice)
-                .filter(price -> price.compareTo(BigDecimal.ZERO) > 0)
+        return priceSeriesCache.latestClose(asset.getId())
                 .orElseThrow(() -> new IllegalStateException(
                         String.format("가격 데이터가 없습니다: %s (%s)", asset.getSymbol(), asset.getMarket())));
     }
 
     /**
-     * 여러 자산의 최신 가격을 한 번에 조회 (N+1 쿼리 방지)
+     * 여러 자산의 최신 가격을 한 번에 조회 (메모리 가격 시계열 캐시, N+1 쿼리 방지)
      * @param assetIds 조회할 자산 ID 목록
      * @return Map<AssetId, ClosePrice>
      */
@@ -886,13 +877,7 @@ public class HoldingBaselineService {
         if (assetIds == null || assetIds.isEmpty()) {
             return Collections.emptyMap();
         }
-        return assetPriceRepository.findLatestPricesByAssetIds(assetIds).stream()
-                .filter(ap -> ap.getClosePrice() != null && ap.getClosePrice().compareTo(BigDecimal.ZERO) > 0)
-                .collect(Collectors.toMap(
-                        ap -> ap.getAsset().getId(),
-                        AssetPrice::getClosePrice,
-                        (existing, replacement) -> existing  // 중복 시 첫 번째 값 유지
-                ));
+        return priceSeriesCache.latestCloses(assetIds);
     }
 
     private PortfolioHoldingBaseline.Currency parseCurrency(String currency) {
@@ -1,14 +1,17 @@
 package com.porcana.domain.portfolio.service;
 
+import com.porcana.domain.portfolio.entity.PortfolioAssetLatest;
 import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
-import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import com.porcana.domain.portfolio.repository.PortfolioAssetLatestRepository;
 import com.porcana.domain.portfolio.repository.PortfolioDailyReturnRepository;
-import com.porcana.domain.portfolio.repository.SnapshotAssetDailyReturnRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,13 +24,22 @@ import java.util.stream.Collectors;
 public class PortfolioReturnCalculator {
 
     private final PortfolioDailyReturnRepository portfolioDailyReturnRepository;
-    private final SnapshotAssetDailyReturnRepository snapshotAssetDailyReturnRepository;
+    private final PortfolioAssetLatestRepository portfolioAssetLatestRepository;
 
     /**
      * Calculate compounded portfolio return across snapshots.
      * Each snapshot stores returns relative to its own effective date.
+     * Reads the materialized multiplier of the latest day; falls back to the full history
+     * when the batch has not materialized it yet.
      */
     public Double calculateTotalReturn(UUID portfolioId) {
+        Optional<Double> materialized = portfolioDailyReturnRepository
+                .findFirstByPortfolioIdOrderByReturnDateDesc(portfolioId)
+                .map(PortfolioDailyReturn::getCumulativeMultiplier);
+        if (materialized.isPresent()) {
+            return (materialized.get() - 1.0) * 100.0;
+        }
+
         List<PortfolioDailyReturn> returns = portfolioDailyReturnRepository
                 .findByPortfolioIdOrderByReturnDateAsc(portfolioId);
 
@@ -56,9 +68,40 @@ public class PortfolioReturnCalculator {
         return (cumulativeReturn - 1.0) * 100.0;
     }
 
+    /**
+     * Calculate compounded portfolio returns for multiple portfolios
+     * (set-based variant of calculateTotalReturn for list views)
+     * Portfolios whose latest day is not materialized yet fall back to calculateTotalReturn;
+     * portfolios without any daily return are 0.
+     */
+    public Map<UUID, Double> calculateTotalReturns(Collection<UUID> portfolioIds) {
+        Map<UUID, Double> totalReturns = new HashMap<>();
+        if (portfolioIds.isEmpty()) {
+            return totalReturns;
+        }
+
+        for (PortfolioDailyReturnRepository.LatestReturn latest
+                : portfolioDailyReturnRepository.findLatestByPortfolioIdIn(portfolioIds)) {
+            if (latest.getCarriedMultiplier() == null) {
+                totalReturns.put(latest.getPortfolioId(), calculateTotalReturn(latest.getPortfolioId()));
+                continue;
+            }
+            double multiplier = latest.getCarriedMultiplier()
+                    * (1.0 + latest.getReturnTotal().doubleValue() / 100.0);
+            totalReturns.put(latest.getPortfolioId(), (multiplier - 1.0) * 100.0);
+        }
+
+        // 일별 수익률이 아직 없는 포트폴리오
+        for (UUID portfolioId : portfolioIds) {
+            totalReturns.putIfAbsent(portfolioId, 0.0);
+        }
+        return totalReturns;
+    }
+
     /**
      * Build a continuous chart series from snapshot-based cumulative returns.
      * Snapshot changes should not reset the portfolio chart.
+     * The series is rebased so that multipliers carried from snapshots before the first row are excluded.
      */
     public List<PortfolioValuePoint> calculatePortfolioValueSeries(List<PortfolioDailyReturn> returns, double baseValue) {
         if (returns.isEmpty()) {
@@ -69,11 +112,25 @@ public class PortfolioReturnCalculator {
                 .sorted(Comparator.comparing(PortfolioDailyReturn::getReturnDate))
                 .toList();
 
+        Double firstCarried = sortedReturns.get(0).getCarriedMultiplier();
+        if (firstCarried != null && firstCarried != 0.0
+                && sortedReturns.stream().allMatch(r -> r.getCarriedMultiplier() != null)) {
+            List<PortfolioValuePoint> points = new ArrayList<>(sortedReturns.size());
+            for (PortfolioDailyReturn dailyReturn : sortedReturns) {
+                points.add(new PortfolioValuePoint(
+                        dailyReturn.getReturnDate(),
+                        baseValue * (dailyReturn.getCarriedMultiplier() / firstCarried)
+                                * (1.0 + dailyReturn.getReturnTotal().doubleValue() / 100.0)
+                ));
+            }
+            return points;
+        }
+
         double carriedMultiplier = 1.0;
         UUID currentSnapshotId = null;
         double lastSnapshotMultiplier = 1.0;
 
-        java.util.ArrayList<PortfolioValuePoint> points = new java.util.ArrayList<>(sortedReturns.size());
+        List<PortfolioValuePoint> points = new ArrayList<>(sortedReturns.size());
         for (PortfolioDailyReturn dailyReturn : sortedReturns) {
             if (currentSnapshotId != null && !currentSnapshotId.equals(dailyReturn.getSnapshotId())) {
                 carriedMultiplier *= lastSnapshotMultiplier;
@@ -94,27 +151,20 @@ public class PortfolioReturnCalculator {
     /**
      * Current asset return should reflect the latest snapshot only.
      * After rebalancing, per-asset return resets to the new snapshot baseline.
+     * Reads the per-asset latest row projection maintained by the performance batch.
      */
     public Map<UUID, Double> calculateAssetReturns(UUID portfolioId, Set<UUID> assetIds) {
-        List<SnapshotAssetDailyReturn> assetReturns = snapshotAssetDailyReturnRepository
-                .findByPortfolioIdOrderByReturnDateAsc(portfolioId);
-
-        if (assetReturns.isEmpty()) {
-            return assetIds.stream()
-                    .collect(Collectors.toMap(assetId -> assetId, assetId -> 0.0));
-        }
-
-        Map<UUID, List<SnapshotAssetDailyReturn>> assetReturnsByAsset = assetReturns.stream()
-                .filter(assetReturn -> assetIds.contains(assetReturn.getAssetId()))
-                .collect(Collectors.groupingBy(SnapshotAssetDailyReturn::getAssetId));
+        Map<UUID, Double> latestReturns = portfolioAssetLatestRepository.findByPortfolioId(portfolioId).stream()
+                .filter(latest -> assetIds.contains(latest.getAssetId()))
+                .collect(Collectors.toMap(
+                        PortfolioAssetLatest::getAssetId,
+                        latest -> latest.getAssetReturnTotal().doubleValue()
+                ));
 
         return assetIds.stream()
                 .collect(Collectors.toMap(
                         assetId -> assetId,
-                        assetId -> assetReturnsByAsset.getOrDefault(assetId, List.of()).stream()
-                                .max(Comparator.comparing(SnapshotAssetDailyReturn::getReturnDate))
-                                .map(snapshotAssetDailyReturn -> snapshotAssetDailyReturn.getAssetReturnTotal().doubleValue())
-                                .orElse(0.0)
+                        assetId -> latestReturns.getOrDefault(assetId, 0.0)
                 ));
     }
 
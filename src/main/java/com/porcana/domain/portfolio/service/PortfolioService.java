@@ -4,6 +4,7 @@ import com.porcana.domain.asset.AssetRepository;
 import com.porcana.domain.asset.dto.personality.AssetPersonality;
 import com.porcana.domain.asset.entity.Asset;
 import com.porcana.domain.asset.service.personality.AssetPersonalityRuleEngine;
+import com.porcana.domain.portfolio.PortfolioChangedEvent;
 import com.porcana.domain.portfolio.command.CreatePortfolioCommand;
 import com.porcana.domain.portfolio.command.DirectCreatePortfolioCommand;
 import com.porcana.domain.portfolio.command.UpdateAssetWeightsCommand;
@@ -18,6 +19,7 @@ import com.porcana.domain.portfolio.service.deck.DeckAnalysisEngine;
 import com.porcana.domain.user.entity.User;
 import com.porcana.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,11 +47,12 @@ public class PortfolioService {
     private final UserRepository userRepository;
     private final PortfolioReturnCalculator portfolioReturnCalculator;
     private final PortfolioSnapshotService portfolioSnapshotService;
-    private final SnapshotAssetDailyReturnRepository snapshotAssetDailyReturnRepository;
+    private final PortfolioAssetLatestRepository portfolioAssetLatestRepository;
     private final PortfolioSnapshotRepository portfolioSnapshotRepository;
     private final PortfolioSnapshotAssetRepository portfolioSnapshotAssetRepository;
     private final PortfolioHoldingBaselineRepository holdingBaselineRepository;
     private final HoldingBaselineService holdingBaselineService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX_GUEST_PORTFOLIOS = 3;
 
@@ -81,20 +84,26 @@ public class PortfolioService {
             throw new IllegalArgumentException("Either userId or guestSessionId must be provided");
         }
 
+        if (portfolios.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 포트폴리오 수와 무관하게 고정된 수의 쿼리로 조립 (수익률 / 상위 자산 / baseline 여부)
         final UUID finalMainPortfolioId = mainPortfolioId;
-        Set<UUID> portfolioIds = portfolios.stream()
+        List<UUID> portfolioIds = portfolios.stream()
                 .map(Portfolio::getId)
-                .collect(Collectors.toSet());
-        Set<UUID> baselinePortfolioIds = portfolioIds.isEmpty()
-                ? Collections.emptySet()
-                : new HashSet<>(holdingBaselineRepository.findPortfolioIdsByPortfolioIdIn(portfolioIds.stream().toList()));
+                .toList();
+        Map<UUID, Double> totalReturns = portfolioReturnCalculator.calculateTotalReturns(portfolioIds);
+        Map<UUID, List<PortfolioListResponse.TopAsset>> topAssetsByPortfolio = getTopAssets(portfolioIds);
+        Set<UUID> baselinePortfolioIds = new HashSet<>(holdingBaselineRepository.findPortfolioIdsByPortfolioIdIn(portfolioIds));
 
         return portfolios.stream()
                 .map(portfolio -> {
-                    Double totalReturnPct = calculateTotalReturn(portfolio.getId());
+                    Double totalReturnPct = totalReturns.get(portfolio.getId());
                     boolean isMain = portfolio.getId().equals(finalMainPortfolioId);
                     boolean hasBaseline = baselinePortfolioIds.contains(portfolio.getId());
-                    List<PortfolioListResponse.TopAsset> topAssets = getTopAssets(portfolio.getId());
+                    List<PortfolioListResponse.TopAsset> topAssets =
+                            topAssetsByPortfolio.getOrDefault(portfolio.getId(), Collections.emptyList());
                     return PortfolioListResponse.from(portfolio, isMain, totalReturnPct, hasBaseline, topAssets);
                 })
                 .collect(Collectors.toList());
@@ -283,6 +292,7 @@ public class PortfolioService {
 
         portfolio.start();
         Portfolio saved = portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(saved.getUserId(), saved.getId(), "startPortfolio"));
         return StartPortfolioResponse.from(saved);
     }
 
@@ -406,7 +416,7 @@ public class PortfolioService {
     /**
      * Get latest market-cap based weights for assets
      * Priority:
-     * 1. Most recent weightUsed from SnapshotAssetDailyReturn (if exists for latest snapshot)
+     * 1. Most recent weightUsed from PortfolioAssetLatest (if exists for latest snapshot)
      * 2. Latest PortfolioSnapshotAsset weight (after rebalancing)
      * 3. PortfolioAsset weight (fallback in buildPositions)
      */
@@ -433,20 +443,21 @@ public class PortfolioService {
                         PortfolioSnapshotAsset::getWeight
                 ));
 
+        // Most recent weightUsed of every asset (latest daily return row projection)
+        Map<UUID, PortfolioAssetLatest> latestByAsset = portfolioAssetLatestRepository
+                .findByPortfolioId(portfolioId).stream()
+                .collect(Collectors.toMap(PortfolioAssetLatest::getAssetId, latest -> latest));
+
         // For each asset, try to get the most recent weightUsed from daily returns
         // If daily return exists for the latest snapshot, use it (market-adjusted weight)
         // Otherwise, use the snapshot weight (rebalanced weight)
         for (UUID assetId : assetIds) {
-            Optional<SnapshotAssetDailyReturn> dailyReturnOpt = snapshotAssetDailyReturnRepository
-                    .findFirstByPortfolioIdAndAssetIdOrderByReturnDateDesc(portfolioId, assetId);
-
-            if (dailyReturnOpt.isPresent()) {
-                SnapshotAssetDailyReturn dailyReturn = dailyReturnOpt.get();
-                // Only use daily return if it's from the current snapshot (or later)
-                if (!dailyReturn.getReturnDate().isBefore(latestSnapshot.getEffectiveDate())) {
-                    weights.put(assetId, dailyReturn.getWeightUsed().doubleValue());
-                    continue;
-                }
+            PortfolioAssetLatest latest = latestByAsset.get(assetId);
+
+            // Only use daily return if it's from the current snapshot (or later)
+            if (latest != null && !latest.getReturnDate().isBefore(latestSnapshot.getEffectiveDate())) {
+                weights.put(assetId, latest.getWeightUsed().doubleValue());
+                continue;
             }
 
             // Fallback to snapshot weight (after rebalancing)
@@ -621,51 +632,95 @@ public class PortfolioService {
     }
 
     /**
-     * Get top 3 assets by weight for portfolio list
-     * Uses QueryDSL to fetch latest market-cap based weights in a single query
-     * Falls back to PortfolioAsset if no daily return data exists
+     * Get top 3 assets by weight for each portfolio of the portfolio list
+     * Applies the same weight priority as getLatestWeights, but loads every portfolio at once:
+     * portfolio assets, latest snapshots, snapshot assets, latest daily weights and assets
+     * are each fetched with a single set-based query
      */
-    private List<PortfolioListResponse.TopAsset> getTopAssets(UUID portfolioId) {
-        List<PortfolioAsset> portfolioAssets = portfolioAssetRepository.findByPortfolioId(portfolioId);
+    private Map<UUID, List<PortfolioListResponse.TopAsset>> getTopAssets(List<UUID> portfolioIds) {
+        Map<UUID, List<PortfolioAsset>> assetsByPortfolio = portfolioAssetRepository.findByPortfolioIdIn(portfolioIds)
+                .stream()
+                .collect(Collectors.groupingBy(PortfolioAsset::getPortfolioId));
 
-        if (portfolioAssets.isEmpty()) {
-            return Collections.emptyList();
+        if (assetsByPortfolio.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        // Get latest weights using the same logic as buildPositions
-        Set<UUID> assetIds = portfolioAssets.stream()
-                .map(PortfolioAsset::getAssetId)
-                .collect(Collectors.toSet());
-
-        Map<UUID, Double> latestWeights = getLatestWeights(portfolioId, assetIds);
+        Map<UUID, Map<UUID, Double>> latestWeights = getLatestWeights(assetsByPortfolio.keySet());
 
         // Load asset information
+        Set<UUID> assetIds = assetsByPortfolio.values().stream()
+                .flatMap(List::stream)
+                .map(PortfolioAsset::getAssetId)
+                .collect(Collectors.toSet());
         Map<UUID, Asset> assetMap = assetRepository.findAllById(assetIds).stream()
                 .collect(Collectors.toMap(Asset::getId, asset -> asset));
 
-        // Build TopAsset DTOs with latest weights
-        return portfolioAssets.stream()
-                .map(pa -> {
-                    Asset asset = assetMap.get(pa.getAssetId());
-                    if (asset == null) {
-                        return null;
-                    }
+        Map<UUID, List<PortfolioListResponse.TopAsset>> topAssets = new HashMap<>();
+        assetsByPortfolio.forEach((portfolioId, portfolioAssets) -> {
+            Map<UUID, Double> weights = latestWeights.getOrDefault(portfolioId, Collections.emptyMap());
+            topAssets.put(portfolioId, portfolioAssets.stream()
+                    .map(pa -> {
+                        Asset asset = assetMap.get(pa.getAssetId());
+                        if (asset == null) {
+                            return null;
+                        }
+
+                        // Use latest weight, fallback to PortfolioAsset weight if not available
+                        Double weight = weights.getOrDefault(pa.getAssetId(), pa.getWeightPct().doubleValue());
+
+                        return new PortfolioListResponse.TopAsset(
+                                asset.getId(),
+                                asset.getSymbol(),
+                                asset.getName(),
+                                asset.getImageUrl(),
+                                BigDecimal.valueOf(weight)
+                        );
+                    })
+                    .filter(Objects::nonNull)
+                    .sorted((x, y) -> y.weight().compareTo(x.weight())) // Sort by weight descending
+                    .limit(3)
+                    .collect(Collectors.toList()));
+        });
+        return topAssets;
+    }
 
-                    // Use latest weight, fallback to PortfolioAsset weight if not available
-                    Double weight = latestWeights.getOrDefault(pa.getAssetId(), pa.getWeightPct().doubleValue());
+    /**
+     * Get latest market-cap based weights for the assets of multiple portfolios
+     * (set-based variant of getLatestWeights; same priority per portfolio)
+     */
+    private Map<UUID, Map<UUID, Double>> getLatestWeights(Set<UUID> portfolioIds) {
+        Map<UUID, PortfolioSnapshot> latestSnapshots = portfolioSnapshotRepository
+                .findLatestByPortfolioIdsOnOrBefore(portfolioIds, LocalDate.now())
+                .stream()
+                .collect(Collectors.toMap(PortfolioSnapshot::getPortfolioId, snapshot -> snapshot, (a, b) -> a));
+
+        if (latestSnapshots.isEmpty()) {
+            return Collections.emptyMap(); // No snapshot yet, will fallback to PortfolioAsset weights
+        }
+
+        Map<UUID, UUID> portfolioBySnapshot = latestSnapshots.values().stream()
+                .collect(Collectors.toMap(PortfolioSnapshot::getId, PortfolioSnapshot::getPortfolioId));
+
+        // Snapshot weights (after rebalancing)
+        Map<UUID, Map<UUID, Double>> weights = new HashMap<>();
+        for (PortfolioSnapshotAsset snapshotAsset : portfolioSnapshotAssetRepository
+                .findBySnapshotIdIn(portfolioBySnapshot.keySet())) {
+            weights.computeIfAbsent(portfolioBySnapshot.get(snapshotAsset.getSnapshotId()), id -> new HashMap<>())
+                    .put(snapshotAsset.getAssetId(), snapshotAsset.getWeight().doubleValue());
+        }
+
+        // Most recent weightUsed overrides it only if it's from the current snapshot (or later)
+        for (PortfolioAssetLatest latest : portfolioAssetLatestRepository
+                .findByPortfolioIdIn(latestSnapshots.keySet())) {
+            PortfolioSnapshot snapshot = latestSnapshots.get(latest.getPortfolioId());
+            if (!latest.getReturnDate().isBefore(snapshot.getEffectiveDate())) {
+                weights.computeIfAbsent(latest.getPortfolioId(), id -> new HashMap<>())
+                        .put(latest.getAssetId(), latest.getWeightUsed().doubleValue());
+            }
+        }
 
-                    return new PortfolioListResponse.TopAsset(
-                            asset.getId(),
-                            asset.getSymbol(),
-                            asset.getName(),
-                            asset.getImageUrl(),
-                            BigDecimal.valueOf(weight)
-                    );
-                })
-                .filter(Objects::nonNull)
-                .sorted((a, b) -> b.weight().compareTo(a.weight())) // Sort by weight descending
-                .limit(3)
-                .collect(Collectors.toList());
+        return weights;
     }
 
     /**
@@ -720,6 +775,7 @@ public class PortfolioService {
 
         portfolio.updateName(command.getName());
         Portfolio saved = portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(saved.getUserId(), saved.getId(), "updatePortfolioName"));
         return UpdatePortfolioNameResponse.from(saved);
     }
 
@@ -742,6 +798,7 @@ public class PortfolioService {
 
         portfolio.delete();
         portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(portfolio.getUserId(), portfolioId, "deletePortfolio"));
     }
 
     /**
@@ -755,6 +812,7 @@ public class PortfolioService {
             portfolio.delete();
         }
         portfolioRepository.saveAll(portfolios);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, null, "deleteAllPortfoliosForUser"));
     }
 
     @Transactional
@@ -831,6 +889,7 @@ public class PortfolioService {
                     });
         }
 
+        eventPublisher.publishEvent(new PortfolioChangedEvent(portfolio.getUserId(), portfolio.getId(), "updateAssetWeights"));
         return UpdateAssetWeightsResponse.from(portfolio, updatedWeights);
     }
 
@@ -2,6 +2,8 @@ package com.porcana.domain.user.repository;
 
 import com.porcana.domain.user.entity.User;
 import com.porcana.domain.user.entity.UserRole;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -19,4 +21,9 @@ public interface UserRepositoryCustom {
      * Search users by email or nickname with role filter
      */
     Page<User> searchByKeywordAndRole(String keyword, UserRole role, Pageable pageable);
+
+    /**
+     * Keyset page of users (created_at DESC, id DESC) with optional keyword / role filters
+     */
+    CursorPage<User> findUserPage(String keyword, UserRole role, CursorRequest request);
 }
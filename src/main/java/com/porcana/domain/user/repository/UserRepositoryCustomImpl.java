@@ -3,6 +3,10 @@ package com.porcana.domain.user.repository;
 import com.porcana.domain.user.entity.QUser;
 import com.porcana.domain.user.entity.User;
 import com.porcana.domain.user.entity.UserRole;
+import com.porcana.global.pagination.CountMode;
+import com.porcana.global.pagination.CreatedAtCursor;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -20,6 +24,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
+    private static final String CURSOR_SORT = "users:createdAt:desc";
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -76,6 +82,39 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public CursorPage<User> findUserPage(String keyword, UserRole role, CursorRequest request) {
+        QUser user = QUser.user;
+        CreatedAtCursor cursor = CreatedAtCursor.from(request, CURSOR_SORT);
+
+        List<User> rows = queryFactory
+                .selectFrom(user)
+                .where(
+                        deletedAtIsNull(),
+                        roleEq(role),
+                        keywordContains(keyword),
+                        cursor != null ? cursor.before(user.createdAt, user.id) : null
+                )
+                .orderBy(user.createdAt.desc(), user.id.desc())
+                .limit(request.fetchSize())
+                .fetch();
+
+        CursorPage<User> page = CursorPage.of(rows, request,
+                last -> CreatedAtCursor.encode(CURSOR_SORT, last.getCreatedAt(), last.getId()));
+        if (request.countMode() != CountMode.EXACT) {
+            return page;
+        }
+        return page.withTotal(queryFactory
+                .select(user.count())
+                .from(user)
+                .where(
+                        deletedAtIsNull(),
+                        roleEq(role),
+                        keywordContains(keyword)
+                )
+                .fetchOne());
+    }
+
     private BooleanExpression deletedAtIsNull() {
         return QUser.user.deletedAt.isNull();
     }
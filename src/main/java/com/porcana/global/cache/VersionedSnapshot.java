@@ -0,0 +1,63 @@
+package com.porcana.global.cache;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 세대 번호가 붙은 지연 적재 스냅샷
+ *
+ * 변경 불가능한 스냅샷 하나를 처음 요청될 때 적재해 두고, 원본 데이터가 바뀌면 {@link #invalidate()}로 버립니다.
+ * - 적재는 한 번에 하나만 실행되고, 그동안 들어온 요청은 적재 결과를 함께 사용합니다
+ * - 무효화와 적재가 겹치면(세대 번호 불일치) 적재 결과를 돌려주기만 하고 설치하지 않아 오래된 스냅샷이 남지 않습니다
+ *
+ * @param <T> 스냅샷 타입 (스레드 간 공유되므로 변경 불가 또는 스레드 안전해야 함)
+ */
+public final class VersionedSnapshot<T> {
+
+    private final AtomicLong generation = new AtomicLong(1);
+    private volatile T snapshot;
+
+    /**
+     * 현재 스냅샷 (없으면 적재)
+     *
+     * @param loader 적재 시작 시점의 세대 번호를 받아 스냅샷을 만드는 함수
+     */
+    public T get(LongFunction<? extends T> loader) {
+        T current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (snapshot != null) {
+                return snapshot;
+            }
+            long loadGeneration = generation.get();
+            T loaded = loader.apply(loadGeneration);
+            if (generation.get() == loadGeneration) {
+                snapshot = loaded;
+                if (generation.get() != loadGeneration) {
+                    // invalidated while installing
+                    snapshot = null;
+                }
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * 적재된 스냅샷 (적재 전이거나 무효화된 뒤면 empty, 적재하지 않음)
+     */
+    public Optional<T> peek() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * 스냅샷 무효화 (다음 요청에서 다시 적재)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+}
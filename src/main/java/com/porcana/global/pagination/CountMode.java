@@ -0,0 +1,22 @@
+package com.porcana.global.pagination;
+
+/**
+ * 목록 응답의 전체 건수 집계 방식
+ */
+public enum CountMode {
+
+    /**
+     * COUNT(*) 쿼리로 정확한 건수 (기본값)
+     */
+    EXACT,
+
+    /**
+     * 테이블 통계(pg_class.reltuples) 기반 추정 건수 (필터 없는 목록에서만 제공)
+     */
+    ESTIMATED,
+
+    /**
+     * 건수를 집계하지 않음 (무한 스크롤)
+     */
+    NONE
+}
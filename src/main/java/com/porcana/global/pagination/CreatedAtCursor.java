@@ -0,0 +1,42 @@
+package com.porcana.global.pagination;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 생성일 최신순(created_at DESC, id DESC) 목록의 커서 키
+ * 같은 시각에 생성된 행은 id로 순서를 고정합니다.
+ */
+public record CreatedAtCursor(LocalDateTime createdAt, UUID id) {
+
+    public static String encode(String sort, LocalDateTime createdAt, UUID id) {
+        return KeysetCursor.encode(sort, createdAt.toString(), id.toString());
+    }
+
+    /**
+     * 요청 커서 복원 (첫 페이지면 null)
+     */
+    public static CreatedAtCursor from(CursorRequest request, String sort) {
+        if (request.isFirstPage()) {
+            return null;
+        }
+        return request.key(sort, 2, CreatedAtCursor::parse);
+    }
+
+    /**
+     * 커서 다음 행 조건 (created_at, id) < (커서 created_at, 커서 id)
+     */
+    public BooleanExpression before(DateTimePath<LocalDateTime> createdAtPath, ComparableExpression<UUID> idPath) {
+        return createdAtPath.lt(createdAt)
+                .or(createdAtPath.eq(createdAt).and(idPath.lt(id)));
+    }
+
+    private static CreatedAtCursor parse(List<String> values) {
+        return new CreatedAtCursor(LocalDateTime.parse(values.get(0)), UUID.fromString(values.get(1)));
+    }
+}
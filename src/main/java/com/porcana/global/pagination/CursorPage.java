@@ -0,0 +1,53 @@
+package com.porcana.global.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반(keyset) 목록 결과
+ *
+ * @param content       현재 페이지 행
+ * @param size          요청한 페이지 크기
+ * @param nextCursor    다음 페이지 토큰 (마지막 페이지면 null)
+ * @param totalElements 전체 건수 (집계하지 않았거나 추정할 수 없으면 null)
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor, Long totalElements) {
+
+    /**
+     * size + 1개까지 조회한 행으로 페이지 구성
+     *
+     * @param cursorOf 행의 정렬 키로 토큰 생성
+     */
+    public static <T> CursorPage<T> of(List<T> rows, CursorRequest request, Function<T, String> cursorOf) {
+        if (rows.size() <= request.size()) {
+            return new CursorPage<>(rows, request.size(), null, null);
+        }
+        List<T> content = rows.subList(0, request.size());
+        return new CursorPage<>(content, request.size(), cursorOf.apply(content.get(content.size() - 1)), null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public CursorPage<T> withTotal(Long total) {
+        return new CursorPage<>(content, size, nextCursor, total);
+    }
+
+    /**
+     * 응답 DTO용 전체 건수 (없으면 -1)
+     */
+    public long totalOrUnknown() {
+        return totalElements != null ? totalElements : -1;
+    }
+
+    /**
+     * 응답 DTO용 전체 페이지 수 (건수가 없으면 -1)
+     */
+    public int totalPagesOrUnknown() {
+        if (totalElements == null) {
+            return -1;
+        }
+        return size == 0 ? 1 : (int) Math.ceil((double) totalElements / size);
+    }
+}
@@ -0,0 +1,52 @@
+package com.porcana.global.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반(keyset) 목록 요청
+ *
+ * @param cursor    직전 응답의 nextCursor (첫 페이지는 null)
+ * @param size      페이지 크기
+ * @param countMode 전체 건수 집계 방식
+ */
+public record CursorRequest(String cursor, int size, CountMode countMode) {
+
+    /**
+     * 커서 방식 요청 여부
+     * 커서가 있거나 COUNT(*) 이외의 집계 방식을 요청하면 커서 방식, 아니면 기존 OFFSET 방식
+     */
+    public static boolean isRequested(String cursor, CountMode countMode) {
+        return cursor != null || (countMode != null && countMode != CountMode.EXACT);
+    }
+
+    /**
+     * 집계 방식을 지정하지 않으면 건수를 집계하지 않음
+     */
+    public static CursorRequest of(String cursor, CountMode countMode, int size) {
+        return new CursorRequest(cursor, size, countMode != null ? countMode : CountMode.NONE);
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인용으로 한 행 더 조회
+     */
+    public int fetchSize() {
+        return size + 1;
+    }
+
+    /**
+     * 커서의 정렬 키 복원 (형식이 맞지 않으면 IllegalArgumentException)
+     */
+    public <K> K key(String sort, int keyCount, Function<List<String>, K> parser) {
+        List<String> values = KeysetCursor.decode(cursor, sort, keyCount);
+        try {
+            return parser.apply(values);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.porcana.global.pagination;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 기반(keyset) 페이지네이션 연속 토큰
+ *
+ * 직전 페이지 마지막 행의 정렬 키 값을 정렬 식별자(예: "users:createdAt:desc")와 함께 URL-safe Base64로 묶습니다.
+ * 클라이언트에는 내용을 알 수 없는 문자열로 취급하도록 안내하며,
+ * 다른 정렬로 만든 토큰이나 손상된 토큰은 {@link IllegalArgumentException}(400)으로 거부합니다.
+ * null 값도 그대로 보존합니다 (nullable 정렬 키).
+ */
+public final class KeysetCursor {
+
+    private static final int VERSION = 1;
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * 정렬 식별자와 정렬 키 값으로 토큰 생성
+     */
+    public static String encode(String sort, String... values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(sort);
+            out.writeByte(values.length);
+            for (String value : values) {
+                out.writeBoolean(value != null);
+                if (value != null) {
+                    out.writeUTF(value);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * 토큰에서 정렬 키 값 복원
+     *
+     * @param sort 현재 요청의 정렬 식별자 (토큰과 다르면 거부)
+     * @param size 정렬 키 개수
+     */
+    public static List<String> decode(String token, String sort, int size) {
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != VERSION || !sort.equals(in.readUTF()) || in.readByte() != size) {
+                throw invalid();
+            }
+            List<String> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(in.readBoolean() ? in.readUTF() : null);
+            }
+            if (in.available() > 0) {
+                throw invalid();
+            }
+            return values;
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Invalid cursor");
+    }
+}
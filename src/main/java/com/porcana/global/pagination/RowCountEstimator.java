@@ -0,0 +1,75 @@
+package com.porcana.global.pagination;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 테이블 통계 기반 행 수 추정 (CountMode.ESTIMATED)
+ *
+ * autovacuum/ANALYZE가 갱신하는 pg_class.reltuples를 읽으므로 비용이 테이블 크기와 무관합니다.
+ * 테이블 전체 행 수의 추정치라 필터 없는 목록에서만 사용합니다.
+ * reltuples에는 소프트 삭제된 행도 포함되므로, deleted_at으로 삭제를 표시하는 테이블은
+ * 삭제 행 수를 빼는 {@link #applyEstimateExcludingDeleted}를 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RowCountEstimator {
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[a-z_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 추정 행 수 (통계가 아직 없으면 null)
+     */
+    public Long estimate(String table) {
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table);
+        if (rows.isEmpty() || rows.get(0) == null || rows.get(0) < 0) {
+            return null;
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * 소프트 삭제된 행을 뺀 추정 행 수 (통계가 아직 없으면 null)
+     *
+     * 삭제 행은 전체의 일부라 deleted_at 인덱스로 정확히 세어 뺍니다.
+     */
+    public Long estimateExcludingDeleted(String table) {
+        if (!TABLE_NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException("Invalid table name: " + table);
+        }
+        Long total = estimate(table);
+        if (total == null) {
+            return null;
+        }
+        Long deleted = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + table + " WHERE deleted_at IS NOT NULL", Long.class);
+        return Math.max(0L, total - (deleted != null ? deleted : 0L));
+    }
+
+    /**
+     * ESTIMATED 요청이고 필터가 없으면 추정 건수를 채운 페이지
+     */
+    public <T> CursorPage<T> applyEstimate(CursorPage<T> page, CursorRequest request, String table, boolean filtered) {
+        if (request.countMode() != CountMode.ESTIMATED || filtered) {
+            return page;
+        }
+        return page.withTotal(estimate(table));
+    }
+
+    /**
+     * ESTIMATED 요청이고 필터가 없으면 소프트 삭제 행을 뺀 추정 건수를 채운 페이지
+     */
+    public <T> CursorPage<T> applyEstimateExcludingDeleted(CursorPage<T> page, CursorRequest request, String table, boolean filtered) {
+        if (request.countMode() != CountMode.ESTIMATED || filtered) {
+            return page;
+        }
+        return page.withTotal(estimateExcludingDeleted(table));
+    }
+}
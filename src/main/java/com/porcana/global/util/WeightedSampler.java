@@ -0,0 +1,125 @@
+package com.porcana.global.util;
+
+import java.util.Random;
+
+/**
+ * 가중치 비례 무작위 추출기 (Fenwick tree)
+ *
+ * 항목별 가중치를 primitive 배열 기반 Fenwick tree에 보관합니다.
+ * - 추출: 누적합 탐색 O(log n)
+ * - 가중치 변경 / 항목 제거(가중치 0): O(log n), 다시 만들 필요 없음
+ *
+ * 항목을 하나씩 비복원 추출하면서 남은 항목의 가중치가 바뀌는 경우(다양성 패널티 등)에 맞춘 구조라,
+ * 정적 가중치 전용인 alias table 대신 사용합니다. 가중치 0인 항목은 뽑히지 않습니다.
+ * 스레드 안전하지 않습니다 (추출 한 번 동안만 쓰는 용도).
+ */
+public final class WeightedSampler {
+
+    private final double[] weights;
+    private final double[] tree; // 1-based
+    private final int highestPowerOfTwo;
+
+    /**
+     * @param weights 항목별 가중치 (0 이상, 배열은 복사됨)
+     */
+    public WeightedSampler(double[] weights) {
+        int size = weights.length;
+        this.weights = new double[size];
+        this.tree = new double[size + 1];
+
+        // O(n) 구성: 각 노드 값을 부모 노드로 전파
+        for (int i = 0; i < size; i++) {
+            double weight = checkWeight(weights[i]);
+            this.weights[i] = weight;
+            tree[i + 1] += weight;
+            int parent = (i + 1) + Integer.lowestOneBit(i + 1);
+            if (parent <= size) {
+                tree[parent] += tree[i + 1];
+            }
+        }
+        this.highestPowerOfTwo = size == 0 ? 0 : Integer.highestOneBit(size);
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    public double weight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * 남은 가중치 합계
+     */
+    public double total() {
+        double sum = 0.0;
+        for (int i = weights.length; i > 0; i -= Integer.lowestOneBit(i)) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 항목 가중치 변경
+     */
+    public void update(int index, double weight) {
+        double delta = checkWeight(weight) - weights[index];
+        weights[index] = weight;
+        for (int i = index + 1; i <= weights.length; i += Integer.lowestOneBit(i)) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * 항목 제거 (이후 추출되지 않음)
+     */
+    public void remove(int index) {
+        update(index, 0.0);
+    }
+
+    /**
+     * 가중치에 비례해 항목 하나의 위치를 추출
+     *
+     * @return 추출된 위치, 남은 가중치가 없으면 -1
+     */
+    public int sample(Random random) {
+        double total = total();
+        if (!(total > 0.0)) {
+            return -1;
+        }
+        return find(random.nextDouble() * total);
+    }
+
+    /**
+     * 누적 가중치가 target을 처음으로 넘는 위치
+     */
+    int find(double target) {
+        int position = 0;
+        double remaining = target;
+        for (int step = highestPowerOfTwo; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= weights.length && tree[next] <= remaining) {
+                remaining -= tree[next];
+                position = next;
+            }
+        }
+
+        if (position < weights.length) {
+            return position;
+        }
+        // 부동소수점 오차로 끝을 넘은 경우: 가중치가 남은 마지막 항목
+        for (int i = weights.length - 1; i >= 0; i--) {
+            if (weights[i] > 0.0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static double checkWeight(double weight) {
+        if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("weight must be a finite non-negative number: " + weight);
+        }
+        return weight;
+    }
+}
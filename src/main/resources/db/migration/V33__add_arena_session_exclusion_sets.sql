@@ -0,0 +1,23 @@
+-- Session-scoped exclusion state for arena round generation
+-- shown_asset_ids: assets presented in the session's current asset rounds
+-- picked_asset_ids: assets picked so far, in pick order
+ALTER TABLE arena_sessions
+    ADD COLUMN IF NOT EXISTS shown_asset_ids UUID[] NOT NULL DEFAULT '{}',
+    ADD COLUMN IF NOT EXISTS picked_asset_ids UUID[] NOT NULL DEFAULT '{}';
+
+-- Backfill from existing rounds
+UPDATE arena_sessions s
+SET shown_asset_ids = COALESCE((
+        SELECT array_agg(DISTINCT c.asset_id)
+        FROM arena_rounds r
+        JOIN arena_round_choices c ON c.round_id = r.id
+        WHERE r.session_id = s.id
+          AND r.round_type = 'ASSET'
+    ), '{}'),
+    picked_asset_ids = COALESCE((
+        SELECT array_agg(r.selected_asset_id ORDER BY r.round_number)
+        FROM arena_rounds r
+        WHERE r.session_id = s.id
+          AND r.round_type = 'ASSET'
+          AND r.selected_asset_id IS NOT NULL
+    ), '{}');
@@ -0,0 +1,7 @@
+-- Materialized compounding state per portfolio-day
+-- carried_multiplier: product of the closing multipliers (1 + return_total / 100) of all earlier snapshots.
+-- Cumulative value on a day = carried_multiplier * (1 + return_total / 100).
+-- Maintained by the daily return writer; NULL until the first batch run after this migration
+-- (readers fall back to recomputing from history).
+ALTER TABLE portfolio_daily_returns
+    ADD COLUMN IF NOT EXISTS carried_multiplier DOUBLE PRECISION;
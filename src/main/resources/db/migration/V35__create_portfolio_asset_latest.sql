@@ -0,0 +1,27 @@
+-- Latest per-asset return/weight/value of each portfolio
+-- Projection of the most recent snapshot_asset_daily_returns row per (portfolio_id, asset_id),
+-- upserted by the daily return writer so readers do not scan the portfolio's whole history.
+CREATE TABLE portfolio_asset_latest (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    portfolio_id UUID NOT NULL,
+    asset_id UUID NOT NULL,
+    snapshot_id UUID NOT NULL,
+    return_date DATE NOT NULL,
+    weight_used DECIMAL(5, 2) NOT NULL,
+    asset_return_total DECIMAL(10, 4) NOT NULL,
+    value_krw DECIMAL(20, 2) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_portfolio_asset_latest_portfolio FOREIGN KEY (portfolio_id)
+        REFERENCES portfolios(id) ON DELETE CASCADE,
+    CONSTRAINT fk_portfolio_asset_latest_asset FOREIGN KEY (asset_id)
+        REFERENCES assets(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX idx_portfolio_asset_latest_portfolio_asset ON portfolio_asset_latest(portfolio_id, asset_id);
+
+-- Backfill from existing history
+INSERT INTO portfolio_asset_latest (portfolio_id, asset_id, snapshot_id, return_date, weight_used, asset_return_total, value_krw)
+SELECT DISTINCT ON (r.portfolio_id, r.asset_id)
+       r.portfolio_id, r.asset_id, r.snapshot_id, r.return_date, r.weight_used, r.asset_return_total, r.value_krw
+FROM snapshot_asset_daily_returns r
+ORDER BY r.portfolio_id, r.asset_id, r.return_date DESC, r.calculated_at DESC;
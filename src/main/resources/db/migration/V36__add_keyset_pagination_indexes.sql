@@ -0,0 +1,18 @@
+-- Keyset (cursor) pagination indexes
+-- Admin / library lists page by (sort key, id) so the next page is an index range scan
+-- instead of OFFSET rows being read and discarded.
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id
+    ON users (created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_portfolios_created_at_id
+    ON portfolios (created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_inquiries_created_at_id
+    ON inquiries (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_admin_batch_job_runs_created_at_id
+    ON admin_batch_job_runs (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_assets_symbol_id ON assets (symbol, id);
+CREATE INDEX IF NOT EXISTS idx_assets_active_name_id ON assets (name, id) WHERE active = true;
+CREATE INDEX IF NOT EXISTS idx_assets_active_risk_level_id ON assets (current_risk_level, id) WHERE active = true;
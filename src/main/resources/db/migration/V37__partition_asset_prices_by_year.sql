@@ -0,0 +1,87 @@
+-- Range-partition asset_prices by price_date (one partition per calendar year)
+-- Hot queries filter by (asset_id, price_date), so the unique (asset_id, price_date) index is kept per partition
+-- and date-range scans only touch the matching years. Old years can later be detached
+-- (ALTER TABLE asset_prices DETACH PARTITION asset_prices_YYYY) without a bulk DELETE.
+
+-- Step 1: Move the existing table aside (rename index-backed constraints so the new names are free)
+ALTER TABLE asset_prices RENAME TO asset_prices_legacy;
+ALTER TABLE asset_prices_legacy RENAME CONSTRAINT uk_asset_price_asset_date TO uk_asset_price_legacy_asset_date;
+DROP INDEX IF EXISTS idx_asset_price_asset_date;
+DROP INDEX IF EXISTS idx_asset_price_date;
+DROP INDEX IF EXISTS idx_asset_price_asset;
+DROP INDEX IF EXISTS idx_asset_price_asset_date_desc;
+
+-- Step 2: Partitioned table (the primary key must include the partition key)
+CREATE TABLE asset_prices (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    asset_id UUID NOT NULL REFERENCES assets(id) ON DELETE CASCADE,
+    price_date DATE NOT NULL,
+    open_price NUMERIC(20, 4) NOT NULL,
+    high_price NUMERIC(20, 4) NOT NULL,
+    low_price NUMERIC(20, 4) NOT NULL,
+    close_price NUMERIC(20, 4) NOT NULL,
+    volume BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_asset_prices PRIMARY KEY (id, price_date),
+    CONSTRAINT uk_asset_price_asset_date UNIQUE (asset_id, price_date)
+) PARTITION BY RANGE (price_date);
+
+-- Rows outside every yearly partition land here until their year is created
+CREATE TABLE asset_prices_default PARTITION OF asset_prices DEFAULT;
+
+-- Step 3: Yearly partition helper (idempotent, also used by the bulk loader before each load)
+-- Rows of that year already sitting in the default partition are moved into the new partition.
+CREATE OR REPLACE FUNCTION ensure_asset_prices_partition(p_year INT) RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := format('asset_prices_%s', p_year);
+    range_start DATE := make_date(p_year, 1, 1);
+    range_end DATE := make_date(p_year + 1, 1, 1);
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    PERFORM pg_advisory_xact_lock(hashtext('asset_prices_partition'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE asset_prices INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format('INSERT INTO %I SELECT * FROM asset_prices_default WHERE price_date >= %L AND price_date < %L',
+                   partition_name, range_start, range_end);
+    DELETE FROM asset_prices_default WHERE price_date >= range_start AND price_date < range_end;
+    EXECUTE format('ALTER TABLE asset_prices ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, range_end);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Step 4: Partitions from the oldest stored year through next year
+DO $$
+DECLARE
+    first_year INT := COALESCE(
+            (SELECT EXTRACT(YEAR FROM MIN(price_date))::INT FROM asset_prices_legacy),
+            EXTRACT(YEAR FROM CURRENT_DATE)::INT);
+    last_year INT := EXTRACT(YEAR FROM CURRENT_DATE)::INT + 1;
+BEGIN
+    FOR y IN first_year..last_year LOOP
+        PERFORM ensure_asset_prices_partition(y);
+    END LOOP;
+END;
+$$;
+
+-- Step 5: Copy history in date order (keeps each partition physically clustered by date for BRIN)
+INSERT INTO asset_prices (id, asset_id, price_date, open_price, high_price, low_price, close_price, volume, created_at)
+SELECT id, asset_id, price_date, open_price, high_price, low_price, close_price, volume, created_at
+FROM asset_prices_legacy
+ORDER BY price_date, asset_id;
+
+DROP TABLE asset_prices_legacy;
+
+-- Step 6: Date-only scans (daily key lookups, range deletes) use a BRIN index instead of a B-tree:
+-- daily loads append in date order, so the summary stays tight and inserts stay cheap
+CREATE INDEX idx_asset_price_date_brin ON asset_prices USING BRIN (price_date);
+
+COMMENT ON TABLE asset_prices IS 'End-of-Day OHLC price data for assets, range-partitioned by year of price_date';
+COMMENT ON FUNCTION ensure_asset_prices_partition(INT) IS
+'Creates the yearly asset_prices partition if missing (moves matching default-partition rows); returns true when created';
@@ -0,0 +1,13 @@
+-- Portfolio ID hash used by the partitioned portfolio performance job
+-- Same value as java.util.UUID#hashCode (int)(hilo >> 32) ^ (int) hilo, where hilo = msb ^ lsb,
+-- so each worker can page its hash range in SQL (id > :lastId) instead of filtering every active id in Java.
+CREATE OR REPLACE FUNCTION portfolio_id_hash(p_id UUID) RETURNS INT AS $$
+    SELECT ((((hilo >> 32) # hilo) << 32)::bit(64)::bit(32))::int
+    FROM (
+        SELECT ('x' || substr(hex, 1, 16))::bit(64)::bigint # ('x' || substr(hex, 17, 16))::bit(64)::bigint AS hilo
+        FROM (SELECT translate(p_id::text, '-', '') AS hex) h
+    ) x
+$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE;
+
+COMMENT ON FUNCTION portfolio_id_hash(UUID) IS
+'java.util.UUID#hashCode of the portfolio id (PortfolioHashRangePartitioner hash ranges)';
@@ -0,0 +1,5 @@
+-- Optimistic lock for arena_sessions
+-- shown_asset_ids / picked_asset_ids are rewritten as whole arrays, so concurrent pick/refresh
+-- requests on the same session must not overwrite each other's changes
+ALTER TABLE arena_sessions
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,48 @@
+package com.porcana.batch.listener;
+
+import com.porcana.domain.asset.price.PriceDataChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PriceDataChangedListenerTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PriceDataChangedListener listener;
+
+    @Test
+    @DisplayName("과거 가격을 쓴 step이 없으면 RECENT 범위로 발행")
+    void afterJob_publishesRecentScope() {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "krDailyPriceJob"), new JobParameters());
+
+        listener.afterJob(jobExecution);
+
+        verify(eventPublisher).publishEvent(
+                new PriceDataChangedEvent("krDailyPriceJob", PriceDataChangedEvent.Scope.RECENT));
+    }
+
+    @Test
+    @DisplayName("신규 자산의 과거 가격을 쓴 step이 있으면 HISTORY 범위로 발행")
+    void afterJob_publishesHistoryScopeWhenMarked() {
+        JobExecution jobExecution = new JobExecution(new JobInstance(2L, "krAssetJob"), new JobParameters());
+        PriceDataChangedListener.markHistoryWritten(jobExecution.createStepExecution("fetchKrHistoricalPricesStep"));
+
+        listener.afterJob(jobExecution);
+
+        verify(eventPublisher).publishEvent(
+                new PriceDataChangedEvent("krAssetJob", PriceDataChangedEvent.Scope.HISTORY));
+    }
+}
@@ -0,0 +1,263 @@
+package com.porcana.batch.provider.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.porcana.batch.support.TokenBucketRateLimiter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProviderHttpClientTest {
+
+    private static final String BODY = "[{\"symbol\":\"AAPL\",\"close\":190.5}]";
+    private static final String ETAG = "\"v1\"";
+    private static final String DART_RATE_LIMITED = "{\"status\":\"020\",\"message\":\"요청 제한을 초과하였습니다.\"}";
+    private static final String DART_OK = "{\"status\":\"000\",\"message\":\"정상\",\"list\":[]}";
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final Map<String, String> lastIfNoneMatch = new ConcurrentHashMap<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-09T07:00:00Z"));
+
+    private ProviderHttpClient client;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        AtomicInteger flakyCalls = new AtomicInteger();
+        AtomicInteger dartCalls = new AtomicInteger();
+
+        server.createContext("/prices", exchange -> {
+            hits.incrementAndGet();
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (ifNoneMatch != null) {
+                lastIfNoneMatch.put("/prices", ifNoneMatch);
+            }
+            if (ETAG.equals(ifNoneMatch)) {
+                respond(exchange, 304, null);
+            } else {
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                respond(exchange, 200, BODY);
+            }
+        });
+        server.createContext("/flaky", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, flakyCalls.incrementAndGet() < 3 ? 503 : 200, BODY);
+        });
+        server.createContext("/missing", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 404, null);
+        });
+        server.createContext("/bad-request", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 400, "{}");
+        });
+        server.createContext("/not-json", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 200, "<html>rate limit reached</html>");
+        });
+        server.createContext("/dart", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 200, dartCalls.incrementAndGet() == 1 ? DART_RATE_LIMITED : DART_OK);
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        client = clientBuilder("test").build();
+    }
+
+    private ProviderHttpClient.ProviderHttpClientBuilder clientBuilder(String name) {
+        return ProviderHttpClient.builder()
+                .name(name)
+                .connectTimeout(Duration.ofSeconds(2))
+                .readTimeout(Duration.ofSeconds(2))
+                .rateLimiter(new TokenBucketRateLimiter(1000, 10))
+                .maxConcurrentRequests(2)
+                .maxAttempts(3)
+                .initialBackoff(Duration.ofMillis(1))
+                .maxBackoff(Duration.ofMillis(5))
+                .cache(new ProviderResponseCache(cacheDir, 7, clock))
+                .cacheFreshFor(Duration.ofHours(1))
+                .objectMapper(new ObjectMapper())
+                .clock(clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("같은 날 freshFor 이내 재요청은 디스크 캐시에서 응답")
+    void servesRepeatedRequestFromCache() {
+        String first = client.getForObject(baseUrl + "/prices?symbol=AAPL", String.class);
+        String second = client.getForObject(baseUrl + "/prices?symbol=AAPL", String.class);
+
+        assertThat(first).isEqualTo(BODY);
+        assertThat(second).isEqualTo(BODY);
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("freshFor가 지나면 ETag로 조건부 요청하고 304면 캐시 본문을 재사용")
+    void revalidatesWithEtagAfterFreshPeriod() {
+        client.getForObject(baseUrl + "/prices?symbol=AAPL", String.class);
+        clock.advance(Duration.ofHours(2));
+
+        String body = client.getForObject(baseUrl + "/prices?symbol=AAPL", String.class);
+
+        assertThat(body).isEqualTo(BODY);
+        assertThat(hits).hasValue(2);
+        assertThat(lastIfNoneMatch).containsEntry("/prices", ETAG);
+    }
+
+    @Test
+    @DisplayName("5xx는 재시도 후 성공 응답을 반환")
+    void retriesServerErrors() {
+        PriceDto[] prices = client.getForObject(baseUrl + "/flaky", PriceDto[].class);
+
+        assertThat(prices).hasSize(1);
+        assertThat(prices[0].symbol).isEqualTo("AAPL");
+        assertThat(hits).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("404는 null, 그 밖의 4xx는 재시도 없이 예외")
+    void clientErrors() {
+        assertThat(client.getForObject(baseUrl + "/missing", String.class)).isNull();
+
+        assertThatThrownBy(() -> client.getForObject(baseUrl + "/bad-request", String.class))
+                .isInstanceOf(ProviderHttpException.class)
+                .extracting("statusCode").isEqualTo(400);
+        assertThat(hits).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 응답은 캐시에서 제거되어 다음 요청에서 다시 받음")
+    void evictsUnparseableResponse() {
+        assertThatThrownBy(() -> client.getForObject(baseUrl + "/not-json", PriceDto[].class))
+                .isInstanceOf(ProviderHttpException.class);
+        assertThatThrownBy(() -> client.getForObject(baseUrl + "/not-json", PriceDto[].class))
+                .isInstanceOf(ProviderHttpException.class);
+
+        assertThat(hits).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("HTTP 200으로 온 제공자 오류 응답은 캐시하지 않아 다음 요청에서 다시 받음")
+    void doesNotCacheErrorEnvelopeWithOkStatus() {
+        ProviderHttpClient dartClient = clientBuilder("dart")
+                .responseValidator(ProviderResponseValidators.forProvider("dart", new ObjectMapper()))
+                .build();
+
+        DartDto first = dartClient.getForObject(baseUrl + "/dart?corp_code=00126380", DartDto.class);
+        DartDto second = dartClient.getForObject(baseUrl + "/dart?corp_code=00126380", DartDto.class);
+        DartDto third = dartClient.getForObject(baseUrl + "/dart?corp_code=00126380", DartDto.class);
+
+        assertThat(first.status).isEqualTo("020");
+        assertThat(second.status).isEqualTo("000");
+        assertThat(third.status).isEqualTo("000");
+        assertThat(hits).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("제공자별 오류 응답 판별 (JSON이 아닌 본문은 통과)")
+    void providerResponseValidators() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(ProviderResponseValidators.forProvider("dart", objectMapper))
+                .accepts(bytes(DART_OK), bytes("{\"status\":\"013\"}"), bytes("PK\u0003\u0004zip"))
+                .rejects(bytes(DART_RATE_LIMITED));
+        assertThat(ProviderResponseValidators.forProvider("data-go-kr", objectMapper))
+                .accepts(bytes("{\"response\":{\"header\":{\"resultCode\":\"00\"},\"body\":{}}}"),
+                        bytes("<OpenAPI_ServiceResponse/>"))
+                .rejects(bytes("{\"response\":{\"header\":{\"resultCode\":\"22\",\"resultMsg\":\"LIMITED\"}}}"));
+        assertThat(ProviderResponseValidators.forProvider("fmp", objectMapper))
+                .accepts(bytes(BODY))
+                .rejects(bytes("{\"Error Message\":\"Limit Reach\"}"));
+        assertThat(ProviderResponseValidators.forProvider("korea-exim", objectMapper))
+                .accepts(bytes("[{\"result\":1,\"cur_unit\":\"USD\"}]"))
+                .rejects(bytes("[{\"result\":4}]"));
+        assertThat(ProviderResponseValidators.forProvider("wikipedia", objectMapper)).isNull();
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    static class DartDto {
+        public String status;
+        public String message;
+        public List<Object> list;
+    }
+
+    static class PriceDto {
+        public String symbol;
+        public double close;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.porcana.batch.service;
+
+import com.porcana.batch.service.performance.CarriedMultiplierMaterializer;
+import com.porcana.batch.service.performance.PortfolioPerformanceEngine;
+import com.porcana.domain.asset.price.PriceDataChangedEvent;
+import com.porcana.domain.portfolio.entity.Portfolio;
+import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
+import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import com.porcana.domain.portfolio.repository.PortfolioDailyReturnRepository;
+import com.porcana.domain.portfolio.repository.PortfolioRepository;
+import com.porcana.domain.portfolio.repository.SnapshotAssetDailyReturnRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(scripts = "/sql/portfolio-performance-backfill-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class PortfolioPerformanceBackfillServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("porcana_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private PortfolioPerformanceBackfillService backfillService;
+
+    @Autowired
+    private PortfolioPerformanceEngine engine;
+
+    @Autowired
+    private CarriedMultiplierMaterializer carriedMultiplierMaterializer;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private PortfolioDailyReturnRepository dailyReturnRepository;
+
+    @Autowired
+    private SnapshotAssetDailyReturnRepository assetDailyReturnRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Test IDs from SQL file
+    private static final UUID PORTFOLIO_ID = UUID.fromString("f2000000-0000-0000-0000-000000000001");
+    private static final LocalDate START_DATE = LocalDate.of(2019, 4, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2019, 4, 10);
+
+    /**
+     * 04-03은 첫 스냅샷의 마지막 날 (이후 carried 배수가 이 날 수익률에 의존)
+     */
+    private static final List<LocalDate> GAP_DATES = List.of(
+            LocalDate.of(2019, 4, 2), LocalDate.of(2019, 4, 3), LocalDate.of(2019, 4, 8));
+
+    @BeforeEach
+    void setUp() {
+        // SQL 파일로 넣은 과거 가격/환율을 종가 아카이브와 가격 캐시에 반영
+        eventPublisher.publishEvent(new PriceDataChangedEvent("test", PriceDataChangedEvent.Scope.HISTORY));
+    }
+
+    @Test
+    @DisplayName("중간에 빈 날짜와 스냅샷 변경이 있는 구간을 백필하면 빈 날짜만 쓰고, 결과와 carried 배수가 일별 계산과 같음")
+    void backfillPortfolio_fillsOnlyGapsAndMatchesDailyCalculation() {
+        // Given - day-by-day calculation over the whole range is the reference
+        for (LocalDate date = START_DATE; !date.isAfter(END_DATE); date = date.plusDays(1)) {
+            engine.calculateForDate(List.of(PORTFOLIO_ID), date, null, "test");
+        }
+        Map<LocalDate, PortfolioDailyReturn> expectedReturns = dailyReturnsByDate();
+        Map<String, SnapshotAssetDailyReturn> expectedAssetReturns = assetReturnsByKey();
+        assertThat(expectedReturns).hasSize(10);
+
+        // Gaps: rows missing, later rows carrying multipliers computed without them
+        for (LocalDate gap : GAP_DATES) {
+            jdbcTemplate.update("DELETE FROM snapshot_asset_daily_returns WHERE portfolio_id = ? AND return_date = ?",
+                    PORTFOLIO_ID, gap);
+            jdbcTemplate.update("DELETE FROM portfolio_daily_returns WHERE portfolio_id = ? AND return_date = ?",
+                    PORTFOLIO_ID, gap);
+        }
+        carriedMultiplierMaterializer.refresh(Map.of(PORTFOLIO_ID, START_DATE));
+        LocalDate rebalanceDate = LocalDate.of(2019, 4, 4);
+        assertThat(dailyReturnsByDate().get(rebalanceDate).getCarriedMultiplier())
+                .isNotCloseTo(expectedReturns.get(rebalanceDate).getCarriedMultiplier(), within(1e-12));
+
+        Map<LocalDate, Timestamp> calculatedAtBefore = calculatedAtByDate();
+
+        // When
+        Portfolio portfolio = portfolioRepository.findById(PORTFOLIO_ID).orElseThrow();
+        int[] result = backfillService.backfillPortfolio(portfolio, END_DATE);
+
+        // Then - only the missing days were written
+        assertThat(result).containsExactly(GAP_DATES.size(), 10 - GAP_DATES.size());
+        Map<LocalDate, Timestamp> calculatedAtAfter = calculatedAtByDate();
+        calculatedAtBefore.forEach((date, calculatedAt) ->
+                assertThat(calculatedAtAfter.get(date)).as("existing row %s", date).isEqualTo(calculatedAt));
+        assertThat(calculatedAtAfter.keySet()).containsAll(GAP_DATES);
+
+        // Same values and carried multipliers as the day-by-day calculation
+        Map<LocalDate, PortfolioDailyReturn> actualReturns = dailyReturnsByDate();
+        assertThat(actualReturns).hasSameSizeAs(expectedReturns);
+        expectedReturns.forEach((date, expected) -> assertThat(actualReturns.get(date))
+                .as("portfolio return %s", date)
+                .satisfies(actual -> {
+                    assertThat(actual.getSnapshotId()).isEqualTo(expected.getSnapshotId());
+                    assertThat(actual.getReturnTotal()).isEqualByComparingTo(expected.getReturnTotal());
+                    assertThat(actual.getReturnLocal()).isEqualByComparingTo(expected.getReturnLocal());
+                    assertThat(actual.getReturnFx()).isEqualByComparingTo(expected.getReturnFx());
+                    assertThat(actual.getTotalValueKrw()).isEqualByComparingTo(expected.getTotalValueKrw());
+                    assertThat(actual.getCarriedMultiplier()).isCloseTo(expected.getCarriedMultiplier(), within(1e-12));
+                }));
+
+        Map<String, SnapshotAssetDailyReturn> actualAssetReturns = assetReturnsByKey();
+        assertThat(actualAssetReturns).hasSameSizeAs(expectedAssetReturns);
+        expectedAssetReturns.forEach((key, expected) -> assertThat(actualAssetReturns.get(key))
+                .as("asset return %s", key)
+                .satisfies(actual -> {
+                    assertThat(actual.getWeightUsed()).isEqualByComparingTo(expected.getWeightUsed());
+                    assertThat(actual.getAssetReturnLocal()).isEqualByComparingTo(expected.getAssetReturnLocal());
+                    assertThat(actual.getAssetReturnTotal()).isEqualByComparingTo(expected.getAssetReturnTotal());
+                    assertThat(actual.getFxReturn()).isEqualByComparingTo(expected.getFxReturn());
+                    assertThat(actual.getContributionTotal()).isEqualByComparingTo(expected.getContributionTotal());
+                    assertThat(actual.getValueKrw()).isEqualByComparingTo(expected.getValueKrw());
+                }));
+    }
+
+    private Map<LocalDate, PortfolioDailyReturn> dailyReturnsByDate() {
+        return dailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID).stream()
+                .collect(Collectors.toMap(PortfolioDailyReturn::getReturnDate, Function.identity()));
+    }
+
+    private Map<String, SnapshotAssetDailyReturn> assetReturnsByKey() {
+        return assetDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID).stream()
+                .collect(Collectors.toMap(r -> r.getReturnDate() + "/" + r.getSnapshotId() + "/" + r.getAssetId(),
+                        Function.identity()));
+    }
+
+    private Map<LocalDate, Timestamp> calculatedAtByDate() {
+        Map<LocalDate, Timestamp> calculatedAt = new HashMap<>();
+        jdbcTemplate.query("SELECT return_date, calculated_at FROM portfolio_daily_returns WHERE portfolio_id = ?",
+                (RowCallbackHandler) rs -> calculatedAt.put(rs.getDate(1).toLocalDate(), rs.getTimestamp(2)),
+                PORTFOLIO_ID);
+        return calculatedAt;
+    }
+}
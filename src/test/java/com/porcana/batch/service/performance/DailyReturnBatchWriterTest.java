@@ -0,0 +1,260 @@
+package com.porcana.batch.service.performance;
+
+import com.porcana.domain.portfolio.entity.PortfolioAssetLatest;
+import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
+import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import com.porcana.domain.portfolio.repository.PortfolioAssetLatestRepository;
+import com.porcana.domain.portfolio.repository.PortfolioDailyReturnRepository;
+import com.porcana.domain.portfolio.repository.SnapshotAssetDailyReturnRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(scripts = "/sql/portfolio-with-daily-returns-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class DailyReturnBatchWriterTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("porcana_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private DailyReturnBatchWriter dailyReturnBatchWriter;
+
+    @Autowired
+    private PortfolioDailyReturnRepository portfolioDailyReturnRepository;
+
+    @Autowired
+    private SnapshotAssetDailyReturnRepository snapshotAssetDailyReturnRepository;
+
+    @Autowired
+    private PortfolioAssetLatestRepository portfolioAssetLatestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Test IDs from SQL file
+    private static final UUID PORTFOLIO_ID = UUID.fromString("77777777-7777-7777-7777-777777777777");
+    private static final UUID SNAPSHOT_ID = UUID.fromString("cccccccc-cccc-cccc-cccc-cccccccccccc");
+    private static final UUID KR_ASSET_ID = UUID.fromString("88888888-8888-8888-8888-888888888888");
+    private static final UUID US_ASSET_ID = UUID.fromString("99999999-9999-9999-9999-999999999999");
+    private static final UUID REBALANCED_SNAPSHOT_ID = UUID.fromString("cccccccc-cccc-cccc-cccc-cccccccccccd");
+
+    @Test
+    @DisplayName("기존 (portfolio_id, return_date) 행은 갱신되고 새 날짜는 삽입됨")
+    void upsertPortfolioReturns_updatesExistingAndInsertsNew() {
+        // Given - 3 daily returns loaded from SQL file (D-3, D-2, D-1)
+        LocalDate existingDate = LocalDate.now().minusDays(1);
+        LocalDate newDate = LocalDate.now();
+
+        // When
+        dailyReturnBatchWriter.upsertPortfolioReturns(List.of(
+                portfolioReturn(existingDate, "7.0000", "10700000.00"),
+                portfolioReturn(newDate, "8.0000", "10800000.00")
+        ));
+
+        // Then
+        List<PortfolioDailyReturn> returns = portfolioDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID);
+        assertThat(returns).hasSize(4);
+        assertThat(portfolioDailyReturnRepository.findByPortfolioIdAndReturnDate(PORTFOLIO_ID, existingDate))
+                .get()
+                .satisfies(r -> {
+                    assertThat(r.getReturnTotal()).isEqualByComparingTo("7.0000");
+                    assertThat(r.getTotalValueKrw()).isEqualByComparingTo("10700000.00");
+                });
+    }
+
+    @Test
+    @DisplayName("upsert 후 누적 배수가 채워지고, 최신 행의 누적 배수는 전체 이력 재계산과 같음")
+    void upsertPortfolioReturns_materializesCarriedMultipliers() {
+        // Given - SQL file rows have no carried multiplier yet (full-history materialization)
+        dailyReturnBatchWriter.upsertPortfolioReturns(List.of(
+                portfolioReturn(LocalDate.now(), "8.0000", "10800000.00")
+        ));
+
+        // When - next day only the previous row is read
+        dailyReturnBatchWriter.upsertPortfolioReturns(List.of(
+                portfolioReturn(LocalDate.now().plusDays(1), "9.0000", "10900000.00")
+        ));
+
+        // Then
+        List<PortfolioDailyReturn> returns = portfolioDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID);
+        assertThat(returns).hasSize(5)
+                .allSatisfy(r -> assertThat(r.getCarriedMultiplier()).isEqualTo(1.0));
+        assertThat(returns.get(4).getCumulativeMultiplier()).isCloseTo(1.09, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("누적 배수 갱신을 미루면 여러 번 나눠 써도 flush 때 가장 이른 날짜부터 한 번만 계산됨")
+    void deferCarry_refreshesOnceFromEarliestWrittenDate() {
+        // Given
+        DailyReturnBatchWriter.DeferredCarry writes = dailyReturnBatchWriter.deferCarry();
+
+        // When - two chunks, the later one rewriting an earlier day
+        writes.upsertPortfolioReturns(List.of(
+                portfolioReturn(LocalDate.now(), "8.0000", "10800000.00")
+        ));
+        writes.upsertPortfolioReturns(List.of(
+                portfolioReturn(LocalDate.now().minusDays(1), "7.0000", "10700000.00"),
+                portfolioReturn(LocalDate.now().plusDays(1), "9.0000", "10900000.00")
+        ));
+
+        // Then - nothing materialized until flush
+        assertThat(portfolioDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID))
+                .allSatisfy(r -> assertThat(r.getCarriedMultiplier()).isNull());
+
+        assertThat(writes.flush()).isEqualTo(5);
+
+        List<PortfolioDailyReturn> returns = portfolioDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID);
+        assertThat(returns).hasSize(5)
+                .allSatisfy(r -> assertThat(r.getCarriedMultiplier()).isEqualTo(1.0));
+        assertThat(returns.get(4).getCumulativeMultiplier()).isCloseTo(1.09, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("같은 자산 수익률을 두 번 upsert해도 행이 중복되지 않음 (멱등)")
+    void upsertAssetReturns_isIdempotent() {
+        // Given - 6 asset daily returns loaded from SQL file
+        LocalDate existingDate = LocalDate.now().minusDays(2);
+        SnapshotAssetDailyReturn updated = SnapshotAssetDailyReturn.from(
+                PORTFOLIO_ID, SNAPSHOT_ID, KR_ASSET_ID, existingDate,
+                new BigDecimal("60.00"), new BigDecimal("3.5000"), new BigDecimal("3.5000"),
+                BigDecimal.ZERO, new BigDecimal("2.1000"), new BigDecimal("5360000.00"));
+
+        // When
+        dailyReturnBatchWriter.upsertAssetReturns(List.of(updated));
+        dailyReturnBatchWriter.upsertAssetReturns(List.of(updated));
+
+        // Then
+        List<SnapshotAssetDailyReturn> returns = snapshotAssetDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID);
+        assertThat(returns).hasSize(6);
+        assertThat(returns)
+                .filteredOn(r -> r.getAssetId().equals(KR_ASSET_ID) && r.getReturnDate().equals(existingDate))
+                .singleElement()
+                .satisfies(r -> {
+                    assertThat(r.getWeightUsed()).isEqualByComparingTo("60.00");
+                    assertThat(r.getContributionTotal()).isEqualByComparingTo("2.1000");
+                });
+    }
+
+    @Test
+    @DisplayName("자산 수익률을 쓰면 자산별 최신 행 projection이 최신 날짜 기준으로 갱신됨")
+    void upsertAssetReturns_refreshesLatestProjection() {
+        // Given - latest rows (D-1) loaded from SQL file
+        LocalDate today = LocalDate.now();
+        LocalDate olderDate = today.minusDays(2);
+        SnapshotAssetDailyReturn newer = SnapshotAssetDailyReturn.from(
+                PORTFOLIO_ID, SNAPSHOT_ID, KR_ASSET_ID, today,
+                new BigDecimal("57.00"), new BigDecimal("7.0000"), new BigDecimal("7.0000"),
+                BigDecimal.ZERO, new BigDecimal("3.9900"), new BigDecimal("5885000.00"));
+        SnapshotAssetDailyReturn older = SnapshotAssetDailyReturn.from(
+                PORTFOLIO_ID, SNAPSHOT_ID, KR_ASSET_ID, olderDate,
+                new BigDecimal("52.00"), new BigDecimal("3.5000"), new BigDecimal("3.5000"),
+                BigDecimal.ZERO, new BigDecimal("1.8200"), new BigDecimal("5360000.00"));
+
+        // When - an older day re-written after the newer one must not roll the projection back
+        dailyReturnBatchWriter.upsertAssetReturns(List.of(newer));
+        dailyReturnBatchWriter.upsertAssetReturns(List.of(older));
+
+        // Then
+        List<PortfolioAssetLatest> latest = portfolioAssetLatestRepository.findByPortfolioId(PORTFOLIO_ID);
+        assertThat(latest).hasSize(2);
+        assertThat(latest)
+                .filteredOn(l -> l.getAssetId().equals(KR_ASSET_ID))
+                .singleElement()
+                .satisfies(l -> {
+                    assertThat(l.getReturnDate()).isEqualTo(today);
+                    assertThat(l.getWeightUsed()).isEqualByComparingTo("57.00");
+                    assertThat(l.getAssetReturnTotal()).isEqualByComparingTo("7.0000");
+                });
+    }
+
+    @Test
+    @DisplayName("리밸런싱 후 이전 스냅샷의 과거 날짜가 늦게 다시 쓰여도 자산별 최신 행은 새 스냅샷 값을 유지")
+    void upsertAssetReturns_keepsRebalancedSnapshotAgainstLateOlderWrite() {
+        // Given - rebalanced today (KR 50 -> 30, US 50 -> 70)
+        LocalDate today = LocalDate.now();
+        jdbcTemplate.update("""
+                INSERT INTO portfolio_snapshots (id, portfolio_id, effective_date, note, created_at)
+                VALUES (?, ?, ?, 'Rebalance', NOW())
+                """, REBALANCED_SNAPSHOT_ID, PORTFOLIO_ID, today);
+
+        // When - snapshot A rows, then snapshot B rows, then a late re-write of an older snapshot A day
+        dailyReturnBatchWriter.upsertAssetReturns(List.of(
+                assetReturn(SNAPSHOT_ID, KR_ASSET_ID, today.minusDays(1), "55.00", "6.0000", "5775000.00"),
+                assetReturn(SNAPSHOT_ID, US_ASSET_ID, today.minusDays(1), "45.00", "4.0000", "4725000.00")
+        ));
+        dailyReturnBatchWriter.upsertAssetReturns(List.of(
+                assetReturn(REBALANCED_SNAPSHOT_ID, KR_ASSET_ID, today, "30.00", "0.8000", "3177000.00"),
+                assetReturn(REBALANCED_SNAPSHOT_ID, US_ASSET_ID, today, "70.00", "1.2000", "7434000.00")
+        ));
+        dailyReturnBatchWriter.upsertAssetReturns(List.of(
+                assetReturn(SNAPSHOT_ID, KR_ASSET_ID, today.minusDays(2), "52.00", "3.5000", "5360000.00"),
+                assetReturn(SNAPSHOT_ID, US_ASSET_ID, today.minusDays(2), "48.00", "2.4000", "4960000.00")
+        ));
+
+        // Then - asset returns restart from the rebalanced snapshot
+        List<PortfolioAssetLatest> latest = portfolioAssetLatestRepository.findByPortfolioId(PORTFOLIO_ID);
+        assertThat(latest).hasSize(2)
+                .allSatisfy(l -> {
+                    assertThat(l.getSnapshotId()).isEqualTo(REBALANCED_SNAPSHOT_ID);
+                    assertThat(l.getReturnDate()).isEqualTo(today);
+                });
+        assertThat(latest)
+                .filteredOn(l -> l.getAssetId().equals(KR_ASSET_ID))
+                .singleElement()
+                .satisfies(l -> {
+                    assertThat(l.getWeightUsed()).isEqualByComparingTo("30.00");
+                    assertThat(l.getAssetReturnTotal()).isEqualByComparingTo("0.8000");
+                });
+        assertThat(latest)
+                .filteredOn(l -> l.getAssetId().equals(US_ASSET_ID))
+                .singleElement()
+                .satisfies(l -> {
+                    assertThat(l.getWeightUsed()).isEqualByComparingTo("70.00");
+                    assertThat(l.getAssetReturnTotal()).isEqualByComparingTo("1.2000");
+                });
+    }
+
+    private SnapshotAssetDailyReturn assetReturn(UUID snapshotId, UUID assetId, LocalDate date,
+                                                 String weightUsed, String returnTotal, String valueKrw) {
+        BigDecimal assetReturn = new BigDecimal(returnTotal);
+        BigDecimal contribution = assetReturn.multiply(new BigDecimal(weightUsed)).movePointLeft(2);
+        return SnapshotAssetDailyReturn.from(PORTFOLIO_ID, snapshotId, assetId, date,
+                new BigDecimal(weightUsed), assetReturn, assetReturn, BigDecimal.ZERO,
+                contribution, new BigDecimal(valueKrw));
+    }
+
+    private PortfolioDailyReturn portfolioReturn(LocalDate date, String returnTotal, String totalValueKrw) {
+        return PortfolioDailyReturn.from(PORTFOLIO_ID, SNAPSHOT_ID, date,
+                new BigDecimal(returnTotal), new BigDecimal(returnTotal), BigDecimal.ZERO,
+                new BigDecimal(totalValueKrw));
+    }
+}
@@ -0,0 +1,324 @@
+package com.porcana.batch.service.performance;
+
+import com.porcana.domain.asset.AssetPriceRepository;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.AssetPrice;
+import com.porcana.domain.asset.price.PriceSeriesCache;
+import com.porcana.domain.exchangerate.ExchangeRateRepository;
+import com.porcana.domain.exchangerate.entity.CurrencyCode;
+import com.porcana.domain.exchangerate.entity.ExchangeRate;
+import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
+import com.porcana.domain.portfolio.entity.PortfolioSnapshot;
+import com.porcana.domain.portfolio.entity.PortfolioSnapshotAsset;
+import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import com.porcana.domain.portfolio.repository.PortfolioDailyReturnRepository;
+import com.porcana.domain.portfolio.repository.PortfolioSnapshotAssetRepository;
+import com.porcana.domain.portfolio.repository.PortfolioSnapshotRepository;
+import com.porcana.domain.portfolio.repository.SnapshotAssetDailyReturnRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집합 기반 엔진의 저장 결과가 변경 전 포트폴리오 단위 계산(BigDecimal, 자산/날짜마다 DB 조회)과 같은지 검증
+ * 기준 구현은 이 테스트 안에 그대로 옮겨 둔 변경 전 PortfolioPerformanceBatchJob#calculatePerformance 입니다.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(scripts = "/sql/portfolio-performance-engine-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class PortfolioPerformanceEngineTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("porcana_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private PortfolioPerformanceEngine engine;
+
+    @Autowired
+    private PriceSeriesCache priceSeriesCache;
+
+    @Autowired
+    private PortfolioSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private PortfolioSnapshotAssetRepository snapshotAssetRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetPriceRepository assetPriceRepository;
+
+    @Autowired
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @Autowired
+    private PortfolioDailyReturnRepository dailyReturnRepository;
+
+    @Autowired
+    private SnapshotAssetDailyReturnRepository assetDailyReturnRepository;
+
+    private static final BigDecimal INITIAL_INVESTMENT_KRW = new BigDecimal("10000000.00");
+    private static final LocalDate TARGET_DATE = LocalDate.of(2019, 3, 8);
+
+    // Test IDs from SQL file
+    private static final UUID CALCULATED = UUID.fromString("e2000000-0000-0000-0000-000000000001");
+    private static final UUID ALREADY_CALCULATED = UUID.fromString("e2000000-0000-0000-0000-000000000002");
+    private static final UUID NO_SNAPSHOT = UUID.fromString("e2000000-0000-0000-0000-000000000003");
+    private static final UUID NO_TARGET_PRICE = UUID.fromString("e2000000-0000-0000-0000-000000000004");
+    private static final UUID REBALANCED = UUID.fromString("e2000000-0000-0000-0000-000000000005");
+    private static final UUID NOT_STARTED = UUID.fromString("e2000000-0000-0000-0000-000000000006");
+    private static final UUID REBALANCED_SNAPSHOT_ID = UUID.fromString("e3000000-0000-0000-0000-000000000015");
+
+    @BeforeEach
+    void setUp() {
+        // SQL 파일로 넣은 가격/환율은 변경 이벤트를 거치지 않음
+        priceSeriesCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("엔진 결과가 포트폴리오 단위 기준 계산과 같고, 이미 계산/스냅샷 없음/가격 없음은 기준과 같이 처리됨")
+    void calculateForDate_matchesPerPortfolioBaseline() {
+        List<UUID> portfolioIds = List.of(
+                CALCULATED, ALREADY_CALCULATED, NO_SNAPSHOT, NO_TARGET_PRICE, REBALANCED, NOT_STARTED);
+
+        // Baseline before the engine writes anything
+        Map<UUID, Optional<PortfolioPerformanceResult>> baseline = portfolioIds.stream()
+                .collect(Collectors.toMap(Function.identity(), id -> baseline(id, TARGET_DATE)));
+
+        PortfolioPerformanceEngine.Summary summary = engine.calculateForDate(portfolioIds, TARGET_DATE, null, "test");
+
+        assertThat(summary).isEqualTo(new PortfolioPerformanceEngine.Summary(2, 2, 2));
+
+        // Calculated portfolios: same values as the per-portfolio baseline
+        for (UUID portfolioId : List.of(CALCULATED, REBALANCED)) {
+            PortfolioPerformanceResult expected = baseline.get(portfolioId).orElseThrow();
+            assertSameAsBaseline(portfolioId, expected);
+        }
+        assertThat(dailyReturnRepository.findByPortfolioIdAndReturnDate(REBALANCED, TARGET_DATE))
+                .get()
+                .extracting(PortfolioDailyReturn::getSnapshotId)
+                .isEqualTo(REBALANCED_SNAPSHOT_ID);
+
+        // Already calculated: existing row untouched, no asset rows written
+        assertThat(dailyReturnRepository.findByPortfolioIdAndReturnDate(ALREADY_CALCULATED, TARGET_DATE))
+                .get()
+                .satisfies(r -> assertThat(r.getReturnTotal()).isEqualByComparingTo("9.9999"));
+        assertThat(assetDailyReturnRepository.findByPortfolioIdAndReturnDate(ALREADY_CALCULATED, TARGET_DATE)).isEmpty();
+
+        // Missing snapshot / no price within the lookback / not started: baseline fails too, nothing written
+        assertThat(baseline.get(NO_SNAPSHOT)).isEmpty();
+        assertThat(baseline.get(NO_TARGET_PRICE)).isEmpty();
+        for (UUID portfolioId : List.of(NO_SNAPSHOT, NO_TARGET_PRICE, NOT_STARTED)) {
+            assertThat(dailyReturnRepository.findByPortfolioIdAndReturnDate(portfolioId, TARGET_DATE)).isEmpty();
+            assertThat(assetDailyReturnRepository.findByPortfolioIdAndReturnDate(portfolioId, TARGET_DATE)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 날짜를 다시 실행하면 모두 이미 계산된 것으로 건너뜀")
+    void calculateForDate_secondRunSkipsCalculated() {
+        List<UUID> portfolioIds = List.of(CALCULATED, REBALANCED);
+        engine.calculateForDate(portfolioIds, TARGET_DATE, null, "test");
+
+        PortfolioPerformanceEngine.Summary rerun = engine.calculateForDate(portfolioIds, TARGET_DATE, null, "test");
+
+        assertThat(rerun).isEqualTo(new PortfolioPerformanceEngine.Summary(0, 2, 0));
+        assertThat(assetDailyReturnRepository.findByPortfolioIdAndReturnDate(CALCULATED, TARGET_DATE)).hasSize(3);
+    }
+
+    private void assertSameAsBaseline(UUID portfolioId, PortfolioPerformanceResult expected) {
+        PortfolioDailyReturn expectedReturn = expected.portfolioDailyReturn();
+        assertThat(dailyReturnRepository.findByPortfolioIdAndReturnDate(portfolioId, TARGET_DATE))
+                .get()
+                .satisfies(r -> {
+                    assertThat(r.getSnapshotId()).isEqualTo(expectedReturn.getSnapshotId());
+                    assertThat(r.getReturnTotal()).isEqualByComparingTo(stored(expectedReturn.getReturnTotal(), 4));
+                    assertThat(r.getReturnLocal()).isEqualByComparingTo(stored(expectedReturn.getReturnLocal(), 4));
+                    assertThat(r.getReturnFx()).isEqualByComparingTo(stored(expectedReturn.getReturnFx(), 4));
+                    assertThat(r.getTotalValueKrw()).isEqualByComparingTo(stored(expectedReturn.getTotalValueKrw(), 2));
+                });
+
+        Map<UUID, SnapshotAssetDailyReturn> actualByAsset = assetDailyReturnRepository
+                .findByPortfolioIdAndReturnDate(portfolioId, TARGET_DATE).stream()
+                .collect(Collectors.toMap(SnapshotAssetDailyReturn::getAssetId, Function.identity()));
+        assertThat(actualByAsset).hasSameSizeAs(expected.assetDailyReturns());
+
+        for (SnapshotAssetDailyReturn e : expected.assetDailyReturns()) {
+            assertThat(actualByAsset.get(e.getAssetId()))
+                    .as("asset %s of portfolio %s", e.getAssetId(), portfolioId)
+                    .satisfies(a -> {
+                        assertThat(a.getSnapshotId()).isEqualTo(e.getSnapshotId());
+                        assertThat(a.getWeightUsed()).isEqualByComparingTo(stored(e.getWeightUsed(), 2));
+                        assertThat(a.getAssetReturnLocal()).isEqualByComparingTo(stored(e.getAssetReturnLocal(), 4));
+                        assertThat(a.getAssetReturnTotal()).isEqualByComparingTo(stored(e.getAssetReturnTotal(), 4));
+                        assertThat(a.getFxReturn()).isEqualByComparingTo(stored(e.getFxReturn(), 4));
+                        assertThat(a.getContributionTotal()).isEqualByComparingTo(stored(e.getContributionTotal(), 4));
+                        assertThat(a.getValueKrw()).isEqualByComparingTo(stored(e.getValueKrw(), 2));
+                    });
+        }
+    }
+
+    /**
+     * 컬럼 스케일로 저장된 값 (PostgreSQL numeric 반올림 = HALF_UP)
+     */
+    private static BigDecimal stored(BigDecimal value, int scale) {
+        return value.setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    // ===== 변경 전 포트폴리오 단위 계산 (기준 구현) =====
+
+    private Optional<PortfolioPerformanceResult> baseline(UUID portfolioId, LocalDate targetDate) {
+        Optional<PortfolioSnapshot> snapshotOpt = snapshotRepository
+                .findFirstByPortfolioIdAndEffectiveDateLessThanEqualOrderByEffectiveDateDesc(portfolioId, targetDate);
+        if (snapshotOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        PortfolioSnapshot snapshot = snapshotOpt.get();
+        LocalDate snapshotDate = snapshot.getEffectiveDate();
+        List<PortfolioSnapshotAsset> snapshotAssets = snapshotAssetRepository.findBySnapshotId(snapshot.getId());
+        if (snapshotAssets.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<UUID, Asset> assetMap = assetRepository.findAllById(
+                        snapshotAssets.stream().map(PortfolioSnapshotAsset::getAssetId).toList()).stream()
+                .collect(Collectors.toMap(Asset::getId, Function.identity()));
+
+        // First pass: returns and current values (KRW)
+        List<BigDecimal[]> calculations = new ArrayList<>();
+        BigDecimal totalCurrentValueKrw = BigDecimal.ZERO;
+        for (PortfolioSnapshotAsset snapshotAsset : snapshotAssets) {
+            Asset asset = assetMap.get(snapshotAsset.getAssetId());
+            Optional<BigDecimal[]> returnOpt = baselineAssetReturn(asset, snapshotDate, targetDate);
+            if (returnOpt.isEmpty()) {
+                return Optional.empty();
+            }
+            BigDecimal[] assetReturn = returnOpt.get();
+
+            BigDecimal initialValueKrw = INITIAL_INVESTMENT_KRW
+                    .multiply(snapshotAsset.getWeight())
+                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            BigDecimal returnMultiplier = BigDecimal.ONE.add(
+                    assetReturn[2].divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP));
+            BigDecimal currentValueKrw = initialValueKrw.multiply(returnMultiplier).setScale(2, RoundingMode.HALF_UP);
+
+            totalCurrentValueKrw = totalCurrentValueKrw.add(currentValueKrw);
+            calculations.add(new BigDecimal[]{assetReturn[0], assetReturn[1], assetReturn[2], currentValueKrw});
+        }
+
+        // Second pass: weights and contributions
+        List<SnapshotAssetDailyReturn> assetReturns = new ArrayList<>();
+        BigDecimal totalReturnLocal = BigDecimal.ZERO;
+        BigDecimal totalReturnFx = BigDecimal.ZERO;
+        for (int i = 0; i < snapshotAssets.size(); i++) {
+            PortfolioSnapshotAsset snapshotAsset = snapshotAssets.get(i);
+            BigDecimal[] calc = calculations.get(i);
+            BigDecimal initialWeight = snapshotAsset.getWeight();
+
+            BigDecimal currentWeight = initialWeight;
+            if (totalCurrentValueKrw.compareTo(BigDecimal.ZERO) > 0) {
+                currentWeight = calc[3].divide(totalCurrentValueKrw, 6, RoundingMode.HALF_UP)
+                        .multiply(BigDecimal.valueOf(100));
+            }
+            BigDecimal contributionTotal = calc[2].multiply(initialWeight)
+                    .divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
+
+            assetReturns.add(SnapshotAssetDailyReturn.from(portfolioId, snapshot.getId(), snapshotAsset.getAssetId(),
+                    targetDate, currentWeight, calc[0], calc[2], calc[1], contributionTotal, calc[3]));
+
+            totalReturnLocal = totalReturnLocal.add(calc[0].multiply(initialWeight)
+                    .divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP));
+            totalReturnFx = totalReturnFx.add(calc[1].multiply(initialWeight)
+                    .divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP));
+        }
+
+        PortfolioDailyReturn dailyReturn = PortfolioDailyReturn.from(portfolioId, snapshot.getId(), targetDate,
+                totalReturnLocal.add(totalReturnFx), totalReturnLocal, totalReturnFx, totalCurrentValueKrw);
+        return Optional.of(new PortfolioPerformanceResult(dailyReturn, assetReturns));
+    }
+
+    /**
+     * @return [local, fx, total] 수익률 (%)
+     */
+    private Optional<BigDecimal[]> baselineAssetReturn(Asset asset, LocalDate startDate, LocalDate targetDate) {
+        Optional<AssetPrice> startPrice = findClosestPrice(asset, startDate);
+        Optional<AssetPrice> targetPrice = findClosestPrice(asset, targetDate);
+        if (startPrice.isEmpty() || targetPrice.isEmpty()) {
+            return Optional.empty();
+        }
+        BigDecimal start = startPrice.get().getPrice();
+        BigDecimal target = targetPrice.get().getPrice();
+        if (start.compareTo(BigDecimal.ZERO) <= 0 || target.compareTo(BigDecimal.ZERO) <= 0) {
+            return Optional.empty();
+        }
+
+        BigDecimal local = target.subtract(start).divide(start, 6, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100));
+        BigDecimal fx = BigDecimal.ZERO;
+        if (asset.getMarket() == Asset.Market.US) {
+            Optional<ExchangeRate> startRate = findClosestExchangeRate(startDate);
+            Optional<ExchangeRate> targetRate = findClosestExchangeRate(targetDate);
+            if (startRate.isEmpty() || targetRate.isEmpty()) {
+                return Optional.empty();
+            }
+            BigDecimal startFx = startRate.get().getBaseRate();
+            fx = targetRate.get().getBaseRate().subtract(startFx)
+                    .divide(startFx, 6, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100));
+        }
+        return Optional.of(new BigDecimal[]{local, fx, local.add(fx)});
+    }
+
+    private Optional<AssetPrice> findClosestPrice(Asset asset, LocalDate date) {
+        Optional<AssetPrice> exact = assetPriceRepository.findByAssetAndPriceDate(asset, date);
+        if (exact.isPresent()) {
+            return exact;
+        }
+        List<AssetPrice> prices = assetPriceRepository.findByAssetAndPriceDateBetweenOrderByPriceDateAsc(
+                asset, date.minusDays(PriceMatrix.LOOKBACK_DAYS), date);
+        return prices.isEmpty() ? Optional.empty() : Optional.of(prices.get(prices.size() - 1));
+    }
+
+    private Optional<ExchangeRate> findClosestExchangeRate(LocalDate date) {
+        Optional<ExchangeRate> exact = exchangeRateRepository.findByCurrencyCodeAndExchangeDate(CurrencyCode.USD, date);
+        if (exact.isPresent()) {
+            return exact;
+        }
+        List<ExchangeRate> rates = exchangeRateRepository.findByCurrencyCodeAndExchangeDateBetweenOrderByExchangeDateDesc(
+                CurrencyCode.USD, date.minusDays(PriceMatrix.LOOKBACK_DAYS), date);
+        return rates.isEmpty() ? Optional.empty() : Optional.of(rates.get(0));
+    }
+}
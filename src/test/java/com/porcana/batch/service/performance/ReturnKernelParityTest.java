@@ -0,0 +1,292 @@
+package com.porcana.batch.service.performance;
+
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.price.PriceSeries;
+import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
+import com.porcana.domain.portfolio.entity.PortfolioSnapshot;
+import com.porcana.domain.portfolio.entity.PortfolioSnapshotAsset;
+import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReturnKernel 고정소수점 연산이 기존 BigDecimal 연산 체인과 같은 값/스케일을 내는지 검증
+ * (기준 구현은 변경 전 PortfolioPerformanceBatchJob / RecalculateWeightUsedRunner의 BigDecimal 코드)
+ */
+class ReturnKernelParityTest {
+
+    private static final BigDecimal INITIAL_INVESTMENT_KRW = new BigDecimal("10000000.00");
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final int ITERATIONS = 20_000;
+
+    private final Random random = new Random(20240101L);
+
+    @Test
+    @DisplayName("HALF_UP 나눗셈은 부호/동률(.5)에서도 BigDecimal과 동일")
+    void divideHalfUp_matchesBigDecimal() {
+        long[][] cases = {
+                {5, 2}, {-5, 2}, {5, -2}, {-5, -2}, {7, 3}, {-7, 3}, {1, 3}, {-1, 3}, {0, 7}, {15, 10}, {-15, 10}
+        };
+        for (long[] c : cases) {
+            assertThat(ReturnKernel.divideHalfUp(c[0], c[1]))
+                    .as("%d / %d", c[0], c[1])
+                    .isEqualTo(BigDecimal.valueOf(c[0]).divide(BigDecimal.valueOf(c[1]), 0, RoundingMode.HALF_UP)
+                            .longValueExact());
+        }
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long numerator = random.nextLong() >> 8;
+            long denominator = (random.nextInt(2_000_000) + 1) * (random.nextBoolean() ? 1L : -1L);
+            assertThat(ReturnKernel.divideHalfUp(numerator, denominator))
+                    .isEqualTo(BigDecimal.valueOf(numerator)
+                            .divide(BigDecimal.valueOf(denominator), 0, RoundingMode.HALF_UP).longValueExact());
+        }
+    }
+
+    @Test
+    @DisplayName("가격 수익률: (target - start) / start, scale 6 HALF_UP × 100")
+    void returnMicros_matchesBigDecimal() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal start = randomPrice();
+            BigDecimal target = randomPrice();
+
+            BigDecimal expected = target.subtract(start)
+                    .divide(start, 6, RoundingMode.HALF_UP)
+                    .multiply(HUNDRED);
+
+            long actual = ReturnKernel.returnMicros(
+                    ReturnKernel.toUnscaled(start, PriceSeries.SCALE),
+                    ReturnKernel.toUnscaled(target, PriceSeries.SCALE));
+
+            assertThat(ReturnKernel.ratioToPercent(actual)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("평가금액/비중/기여도 연산이 BigDecimal과 동일")
+    void valueWeightAndContribution_matchBigDecimal() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal weight = randomWeight();
+            BigDecimal totalReturn = randomReturnPercent();
+
+            // Initial and current value
+            BigDecimal initialValueKrw = INITIAL_INVESTMENT_KRW.multiply(weight)
+                    .divide(HUNDRED, 2, RoundingMode.HALF_UP);
+            BigDecimal currentValueKrw = initialValueKrw
+                    .multiply(BigDecimal.ONE.add(totalReturn.divide(HUNDRED, 8, RoundingMode.HALF_UP)))
+                    .setScale(2, RoundingMode.HALF_UP);
+
+            long weightMicros = ReturnKernel.toUnscaled(weight, ReturnKernel.RATIO_SCALE);
+            long totalReturnMicros = ReturnKernel.toUnscaled(totalReturn, ReturnKernel.PERCENT_SCALE);
+            long initialValueCents = ReturnKernel.initialValueCents(weightMicros);
+            long currentValueCents = ReturnKernel.currentValueCents(initialValueCents, totalReturnMicros);
+
+            assertThat(BigDecimal.valueOf(initialValueCents, 2)).isEqualTo(initialValueKrw);
+            assertThat(BigDecimal.valueOf(currentValueCents, 2)).isEqualTo(currentValueKrw);
+
+            // Contribution with initial weight (scale 6)
+            BigDecimal contribution = totalReturn.multiply(weight).divide(HUNDRED, 6, RoundingMode.HALF_UP);
+            assertThat(BigDecimal.valueOf(ReturnKernel.weightedReturnMicros(totalReturnMicros, weightMicros), 6))
+                    .isEqualTo(contribution);
+
+            // Market-value weight and contribution with current weight (scale 4, RecalculateWeightUsedRunner)
+            BigDecimal totalValueKrw = currentValueKrw.add(randomPrice().setScale(2, RoundingMode.HALF_UP));
+            if (totalValueKrw.signum() == 0) {
+                continue;
+            }
+            BigDecimal currentWeight = currentValueKrw.divide(totalValueKrw, 6, RoundingMode.HALF_UP).multiply(HUNDRED);
+            long currentWeightMicros = ReturnKernel.ratioMicros(currentValueCents,
+                    ReturnKernel.toUnscaled(totalValueKrw, ReturnKernel.MONEY_SCALE));
+            assertThat(ReturnKernel.ratioToPercent(currentWeightMicros)).isEqualTo(currentWeight);
+
+            BigDecimal newContribution = totalReturn.multiply(currentWeight).divide(HUNDRED, 4, RoundingMode.HALF_UP);
+            assertThat(BigDecimal.valueOf(
+                    ReturnKernel.weightedReturnPercentScale4(totalReturnMicros, currentWeightMicros), 4))
+                    .isEqualTo(newContribution);
+        }
+    }
+
+    @Test
+    @DisplayName("PortfolioPerformanceCalculator 결과가 기존 BigDecimal 계산과 필드 단위로 동일")
+    void calculator_matchesLegacyBigDecimalCalculation() {
+        PortfolioPerformanceCalculator calculator = new PortfolioPerformanceCalculator();
+        LocalDate snapshotDate = LocalDate.of(2024, 1, 2);
+        LocalDate targetDate = LocalDate.of(2024, 3, 15);
+
+        for (int i = 0; i < 500; i++) {
+            int assetCount = random.nextInt(8) + 1;
+            UUID portfolioId = UUID.randomUUID();
+            PortfolioSnapshot snapshot = PortfolioSnapshot.create(portfolioId, snapshotDate, "parity");
+            ReflectionTestUtils.setField(snapshot, "id", UUID.randomUUID());
+
+            BigDecimal startFx = randomFxRate();
+            BigDecimal targetFx = randomFxRate();
+            PriceSeries usdKrw = PriceSeries.builder()
+                    .add(snapshotDate, startFx)
+                    .add(targetDate, targetFx)
+                    .build();
+
+            Map<UUID, Asset> assetMap = new HashMap<>();
+            Map<UUID, PriceSeries> series = new HashMap<>();
+            List<PortfolioSnapshotAsset> snapshotAssets = new ArrayList<>();
+            List<LegacyAsset> legacyAssets = new ArrayList<>();
+
+            for (int a = 0; a < assetCount; a++) {
+                Asset asset = Asset.builder()
+                        .market(random.nextBoolean() ? Asset.Market.US : Asset.Market.KR)
+                        .symbol("P" + a)
+                        .name("Parity " + a)
+                        .build();
+                UUID assetId = UUID.randomUUID();
+                ReflectionTestUtils.setField(asset, "id", assetId);
+
+                BigDecimal startPrice = randomPrice();
+                BigDecimal targetPrice = randomTargetPrice(startPrice);
+                BigDecimal weight = randomWeight();
+
+                assetMap.put(assetId, asset);
+                series.put(assetId, PriceSeries.builder()
+                        .add(snapshotDate, startPrice)
+                        .add(targetDate, targetPrice)
+                        .build());
+                snapshotAssets.add(PortfolioSnapshotAsset.create(UUID.randomUUID(), assetId, weight));
+                legacyAssets.add(new LegacyAsset(asset, weight, startPrice, targetPrice));
+            }
+
+            PortfolioPerformanceResult actual = calculator.calculate(portfolioId, snapshot, snapshotAssets, assetMap,
+                    new PriceMatrix(series, usdKrw), targetDate, PortfolioPerformanceCalculator.AssetIssueReporter.NONE)
+                    .orElseThrow();
+            LegacyResult expected = legacyCalculate(legacyAssets, startFx, targetFx);
+
+            PortfolioDailyReturn dailyReturn = actual.portfolioDailyReturn();
+            assertThat(dailyReturn.getReturnTotal()).isEqualTo(expected.totalReturn());
+            assertThat(dailyReturn.getReturnLocal()).isEqualTo(expected.totalReturnLocal());
+            assertThat(dailyReturn.getReturnFx()).isEqualTo(expected.totalReturnFx());
+            assertThat(dailyReturn.getTotalValueKrw()).isEqualTo(expected.totalValueKrw());
+
+            for (int a = 0; a < assetCount; a++) {
+                SnapshotAssetDailyReturn assetReturn = actual.assetDailyReturns().get(a);
+                LegacyAssetResult legacy = expected.assets().get(a);
+                assertThat(assetReturn.getWeightUsed()).isEqualTo(legacy.currentWeight());
+                assertThat(assetReturn.getAssetReturnLocal()).isEqualTo(legacy.returnLocal());
+                assertThat(assetReturn.getFxReturn()).isEqualTo(legacy.fxReturn());
+                assertThat(assetReturn.getAssetReturnTotal()).isEqualTo(legacy.returnTotal());
+                assertThat(assetReturn.getContributionTotal()).isEqualTo(legacy.contribution());
+                assertThat(assetReturn.getValueKrw()).isEqualTo(legacy.valueKrw());
+            }
+        }
+    }
+
+    /**
+     * 변경 전 BigDecimal 계산 (기준 구현)
+     */
+    private static LegacyResult legacyCalculate(List<LegacyAsset> assets, BigDecimal startFx, BigDecimal targetFx) {
+        List<BigDecimal[]> firstPass = new ArrayList<>();
+        BigDecimal totalCurrentValueKrw = BigDecimal.ZERO;
+
+        for (LegacyAsset asset : assets) {
+            BigDecimal returnLocal = asset.targetPrice().subtract(asset.startPrice())
+                    .divide(asset.startPrice(), 6, RoundingMode.HALF_UP)
+                    .multiply(HUNDRED);
+            BigDecimal fxReturn = BigDecimal.ZERO;
+            if (asset.asset().getMarket() == Asset.Market.US) {
+                fxReturn = targetFx.subtract(startFx).divide(startFx, 6, RoundingMode.HALF_UP).multiply(HUNDRED);
+            }
+            BigDecimal returnTotal = returnLocal.add(fxReturn);
+
+            BigDecimal initialValueKrw = INITIAL_INVESTMENT_KRW.multiply(asset.weight())
+                    .divide(HUNDRED, 2, RoundingMode.HALF_UP);
+            BigDecimal currentValueKrw = initialValueKrw
+                    .multiply(BigDecimal.ONE.add(returnTotal.divide(HUNDRED, 8, RoundingMode.HALF_UP)))
+                    .setScale(2, RoundingMode.HALF_UP);
+
+            totalCurrentValueKrw = totalCurrentValueKrw.add(currentValueKrw);
+            firstPass.add(new BigDecimal[]{returnLocal, fxReturn, returnTotal, currentValueKrw});
+        }
+
+        List<LegacyAssetResult> results = new ArrayList<>();
+        BigDecimal totalReturnLocal = BigDecimal.ZERO;
+        BigDecimal totalReturnFx = BigDecimal.ZERO;
+
+        for (int i = 0; i < assets.size(); i++) {
+            BigDecimal[] values = firstPass.get(i);
+            BigDecimal weight = assets.get(i).weight();
+
+            BigDecimal currentWeight = weight;
+            if (totalCurrentValueKrw.compareTo(BigDecimal.ZERO) > 0) {
+                currentWeight = values[3].divide(totalCurrentValueKrw, 6, RoundingMode.HALF_UP).multiply(HUNDRED);
+            }
+            BigDecimal contribution = values[2].multiply(weight).divide(HUNDRED, 6, RoundingMode.HALF_UP);
+
+            results.add(new LegacyAssetResult(currentWeight, values[0], values[1], values[2], contribution, values[3]));
+
+            totalReturnLocal = totalReturnLocal.add(values[0].multiply(weight).divide(HUNDRED, 6, RoundingMode.HALF_UP));
+            totalReturnFx = totalReturnFx.add(values[1].multiply(weight).divide(HUNDRED, 6, RoundingMode.HALF_UP));
+        }
+
+        return new LegacyResult(totalReturnLocal.add(totalReturnFx), totalReturnLocal, totalReturnFx,
+                totalCurrentValueKrw, results);
+    }
+
+    /**
+     * 0.0001 ~ 2,000,000.0000 (scale 4, DB 컬럼과 동일)
+     */
+    private BigDecimal randomPrice() {
+        long unscaled = 1 + (long) (random.nextDouble() * 20_000_000_000L);
+        return BigDecimal.valueOf(unscaled, 4);
+    }
+
+    /**
+     * 시작가 대비 -90% ~ +400% 범위의 목표가 (scale 4)
+     */
+    private BigDecimal randomTargetPrice(BigDecimal startPrice) {
+        BigDecimal factor = BigDecimal.valueOf(0.1 + random.nextDouble() * 4.9);
+        BigDecimal target = startPrice.multiply(factor).setScale(4, RoundingMode.HALF_UP);
+        return target.signum() > 0 ? target : BigDecimal.valueOf(1, 4);
+    }
+
+    /**
+     * 800.00 ~ 1,800.00 (scale 2, exchange_rates.base_rate와 동일)
+     */
+    private BigDecimal randomFxRate() {
+        return BigDecimal.valueOf(80_000 + random.nextInt(100_001), 2);
+    }
+
+    /**
+     * 0.01 ~ 100.00 (scale 2, portfolio_snapshot_assets.weight와 동일)
+     */
+    private BigDecimal randomWeight() {
+        return BigDecimal.valueOf(1 + random.nextInt(10_000), 2);
+    }
+
+    /**
+     * -99.9999 ~ 999.9999 (scale 4, asset_return_total과 동일)
+     */
+    private BigDecimal randomReturnPercent() {
+        return BigDecimal.valueOf(random.nextInt(11_000_000) - 999_999, 4);
+    }
+
+    private record LegacyAsset(Asset asset, BigDecimal weight, BigDecimal startPrice, BigDecimal targetPrice) {
+    }
+
+    private record LegacyAssetResult(BigDecimal currentWeight, BigDecimal returnLocal, BigDecimal fxReturn,
+                                     BigDecimal returnTotal, BigDecimal contribution, BigDecimal valueKrw) {
+    }
+
+    private record LegacyResult(BigDecimal totalReturn, BigDecimal totalReturnLocal, BigDecimal totalReturnFx,
+                                BigDecimal totalValueKrw, List<LegacyAssetResult> assets) {
+    }
+}
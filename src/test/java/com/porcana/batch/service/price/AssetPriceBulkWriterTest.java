@@ -0,0 +1,118 @@
+package com.porcana.batch.service.price;
+
+import com.porcana.domain.asset.AssetPriceRepository;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.AssetPrice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(scripts = "/sql/portfolio-with-daily-returns-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class AssetPriceBulkWriterTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("porcana_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private AssetPriceBulkWriter assetPriceBulkWriter;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetPriceRepository assetPriceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Test IDs from SQL file
+    private static final UUID KR_ASSET_ID = UUID.fromString("88888888-8888-8888-8888-888888888888");
+
+    @Test
+    @DisplayName("upsert는 기존 날짜를 덮어쓰고 새 날짜를 추가하며, 같은 날짜가 중복되면 마지막 값을 사용")
+    void upsert_updatesExistingAndInsertsNew() {
+        Asset asset = assetRepository.findById(KR_ASSET_ID).orElseThrow();
+        LocalDate day1 = LocalDate.of(2025, 3, 3);
+        LocalDate day2 = LocalDate.of(2025, 3, 4);
+
+        AssetPriceBulkWriter.MergeResult first = assetPriceBulkWriter.upsert(List.of(
+                price(asset, day1, "100.0000"),
+                price(asset, day2, "101.0000")
+        ));
+        AssetPriceBulkWriter.MergeResult second = assetPriceBulkWriter.upsert(List.of(
+                price(asset, day2, "102.0000"),
+                price(asset, day2, "103.0000"),
+                price(asset, day2.plusDays(1), "104.0000")
+        ));
+
+        assertThat(first).isEqualTo(new AssetPriceBulkWriter.MergeResult(2, 0));
+        assertThat(second).isEqualTo(new AssetPriceBulkWriter.MergeResult(1, 1));
+        assertThat(assetPriceRepository.findByAssetIdOrderByPriceDateAsc(KR_ASSET_ID))
+                .extracting(AssetPrice::getClosePrice)
+                .containsExactly(new BigDecimal("100.0000"), new BigDecimal("103.0000"), new BigDecimal("104.0000"));
+    }
+
+    @Test
+    @DisplayName("insertMissing은 이미 저장된 날짜를 건너뛰고, 파티션이 없는 연도는 먼저 만든 뒤 적재")
+    void insertMissing_skipsStoredDatesAndCreatesPartitions() {
+        Asset asset = assetRepository.findById(KR_ASSET_ID).orElseThrow();
+        LocalDate stored = LocalDate.of(2025, 3, 3);
+        LocalDate oldYear = LocalDate.of(1999, 12, 30);
+        assetPriceBulkWriter.upsert(List.of(price(asset, stored, "100.0000")));
+
+        AssetPriceBulkWriter.MergeResult result = assetPriceBulkWriter.insertMissing(List.of(
+                price(asset, stored, "999.0000"),
+                price(asset, oldYear, "50.0000")
+        ));
+
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(assetPriceRepository.findByAssetAndPriceDate(asset, stored).orElseThrow().getClosePrice())
+                .isEqualByComparingTo("100");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM asset_prices WHERE asset_id = ? AND price_date = ?",
+                String.class, KR_ASSET_ID, oldYear))
+                .isEqualTo("asset_prices_1999");
+    }
+
+    private static AssetPrice price(Asset asset, LocalDate date, String close) {
+        BigDecimal closePrice = new BigDecimal(close);
+        return AssetPrice.builder()
+                .asset(asset)
+                .priceDate(date)
+                .openPrice(closePrice)
+                .highPrice(closePrice)
+                .lowPrice(closePrice)
+                .closePrice(closePrice)
+                .volume(1_000L)
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.porcana.batch.service.price;
+
+import com.porcana.domain.asset.price.PriceSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CloseArchiveTest {
+
+    private static final UUID KR_ASSET = UUID.fromString("88888888-8888-8888-8888-888888888888");
+    private static final UUID US_ASSET = UUID.fromString("99999999-9999-9999-9999-999999999999");
+    private static final UUID NO_PRICE_ASSET = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 3, 3);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 3, 4);
+    private static final LocalDate DAY3 = LocalDate.of(2025, 3, 5);
+    private static final LocalDate DAY4 = LocalDate.of(2025, 3, 6);
+    private static final LocalDate DAY5 = LocalDate.of(2025, 3, 7);
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger fileSequence = new AtomicInteger();
+
+    @Test
+    @DisplayName("빈 칸(가격 없는 날짜)을 건너뛰고 최근 종가를 오래된 것부터 채움")
+    void trailingCloses_skipsMissingDays() {
+        CloseArchive.Snapshot snapshot = write();
+        long[] closes = new long[3];
+
+        assertThat(snapshot.trailingCloses(KR_ASSET, 3, closes)).isEqualTo(3);
+        assertThat(closes).containsExactly(1_000_000L, 1_020_000L, 1_030_000L);
+        assertThat(snapshot.trailingCloses(KR_ASSET, 2, closes)).isEqualTo(2);
+        assertThat(closes[0]).isEqualTo(1_020_000L);
+        assertThat(closes[1]).isEqualTo(1_030_000L);
+        assertThat(snapshot.trailingCloses(US_ASSET, 3, closes)).isEqualTo(1);
+        assertThat(closes[0]).isEqualTo(1_500_000L);
+        assertThat(snapshot.trailingCloses(NO_PRICE_ASSET, 3, closes)).isZero();
+        assertThat(snapshot.trailingCloses(UUID.randomUUID(), 3, closes)).isZero();
+    }
+
+    @Test
+    @DisplayName("자산의 전체 종가 시계열을 PriceSeries로 복원")
+    void series_restoresPriceSeries() {
+        CloseArchive.Snapshot snapshot = write();
+
+        PriceSeries series = snapshot.series(KR_ASSET);
+
+        assertThat(series.size()).isEqualTo(3);
+        assertThat(series.firstDate()).isEqualTo(DAY1);
+        assertThat(series.lastDate()).isEqualTo(DAY4);
+        assertThat(series.latestOnOrBefore(DAY3, 7)).contains(new BigDecimal("102.0000"));
+        assertThat(snapshot.closes(List.of(US_ASSET, NO_PRICE_ASSET)).get(NO_PRICE_ASSET).isEmpty()).isTrue();
+        assertThat(snapshot.lastDate()).isEqualTo(DAY4);
+        assertThat(snapshot.assetCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 블록에 나뉜 종가도 한 시계열처럼 읽음")
+    void multipleBlocks_readAsOneSeries() {
+        CloseArchive.Snapshot snapshot = write(2);
+
+        long[] closes = new long[3];
+        assertThat(snapshot.paths()).hasSize(2);
+        assertThat(snapshot.trailingCloses(KR_ASSET, 3, closes)).isEqualTo(3);
+        assertThat(closes).containsExactly(1_000_000L, 1_020_000L, 1_030_000L);
+        assertThat(snapshot.series(KR_ASSET).lastDate()).isEqualTo(DAY4);
+        assertThat(snapshot.series(US_ASSET).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("증분 갱신은 앞쪽 블록을 공유하고 마지막 블록부터만 새로 씀")
+    void append_sharesOlderBlocksAndRewritesTail() throws Exception {
+        CloseArchive.Snapshot previous = write(2);
+        Path firstBlock = previous.paths().get(0);
+        Path tailBlock = previous.paths().get(1);
+
+        // Keep DAY1, DAY2 (first block) + DAY4 is re-read, DAY5 is new
+        CloseArchive.Writer writer = CloseArchive.Writer.append(paths(), previous, 2, epochDays(DAY4, DAY5));
+        writer.put(KR_ASSET, (int) DAY4.toEpochDay(), 1_040_000L);
+        writer.put(KR_ASSET, (int) DAY5.toEpochDay(), 1_050_000L);
+        CloseArchive.Snapshot refreshed = writer.finish();
+
+        assertThat(writer.blockCount()).isEqualTo(1);
+        assertThat(refreshed.paths()).hasSize(2).startsWith(firstBlock).doesNotContain(tailBlock);
+        assertThat(refreshed.dayCount()).isEqualTo(4);
+        assertThat(refreshed.sizeInBytes()).isEqualTo(Files.size(firstBlock) + Files.size(refreshed.paths().get(1)));
+        assertThat(refreshed.series(KR_ASSET).size()).isEqualTo(4);
+        assertThat(refreshed.series(KR_ASSET).valueAt(2)).isEqualByComparingTo("104");
+        assertThat(refreshed.series(KR_ASSET).lastDate()).isEqualTo(DAY5);
+        assertThat(refreshed.series(US_ASSET).size()).isEqualTo(1);
+        // 교체된 이전 스냅샷은 그대로 읽을 수 있음
+        assertThat(previous.series(KR_ASSET).valueAt(2)).isEqualByComparingTo("103");
+    }
+
+    @Test
+    @DisplayName("유지 구간이 블록 중간에서 끝나면 그 블록의 앞쪽 값은 이전 스냅샷에서 복사")
+    void append_copiesKeptDaysOfRewrittenBlock() {
+        CloseArchive.Snapshot previous = write(4);
+
+        CloseArchive.Writer writer = CloseArchive.Writer.append(paths(), previous, 2, epochDays(DAY4, DAY5));
+        writer.put(KR_ASSET, (int) DAY5.toEpochDay(), 1_050_000L);
+        CloseArchive.Snapshot refreshed = writer.finish();
+
+        long[] closes = new long[4];
+        assertThat(refreshed.paths()).hasSize(1).doesNotContainAnyElementsOf(previous.paths());
+        assertThat(refreshed.trailingCloses(KR_ASSET, 4, closes)).isEqualTo(3);
+        assertThat(closes).startsWith(1_000_000L, 1_020_000L, 1_050_000L);
+        assertThat(refreshed.series(US_ASSET).firstDate()).isEqualTo(DAY2);
+    }
+
+    @Test
+    @DisplayName("자산이 많으면 블록 일수를 줄여 블록 하나가 매핑 한계를 넘지 않음")
+    void daysPerBlock_keepsBlockUnderMappingLimit() {
+        int assetCount = 2_000_000;
+        int days = CloseArchive.Writer.daysPerBlock(assetCount, 256, CloseArchive.Writer.MAX_BLOCK_BYTES);
+
+        assertThat(days).isBetween(1, 255);
+        assertThat((long) assetCount * days * Long.BYTES).isLessThan(CloseArchive.Writer.MAX_BLOCK_BYTES);
+        assertThat(CloseArchive.Writer.daysPerBlock(3, 256, CloseArchive.Writer.MAX_BLOCK_BYTES)).isEqualTo(256);
+        assertThat(CloseArchive.Writer.daysPerBlock(0, 256, CloseArchive.Writer.MAX_BLOCK_BYTES)).isEqualTo(256);
+    }
+
+    private CloseArchive.Snapshot write() {
+        return write(256);
+    }
+
+    private CloseArchive.Snapshot write(int daysPerBlock) {
+        CloseArchive.Writer writer = CloseArchive.Writer.create(paths(),
+                epochDays(DAY1, DAY2, DAY4), List.of(KR_ASSET, US_ASSET, NO_PRICE_ASSET), daysPerBlock);
+        writer.put(KR_ASSET, (int) DAY1.toEpochDay(), 1_000_000L);
+        writer.put(KR_ASSET, (int) DAY2.toEpochDay(), 1_020_000L);
+        writer.put(KR_ASSET, (int) DAY4.toEpochDay(), 1_030_000L);
+        writer.put(US_ASSET, (int) DAY2.toEpochDay(), 1_500_000L);
+        // 날짜 축에 없는 날짜는 무시
+        writer.put(US_ASSET, (int) DAY3.toEpochDay(), 9_999_999L);
+        return writer.finish();
+    }
+
+    private Supplier<Path> paths() {
+        return () -> tempDir.resolve("block-" + fileSequence.incrementAndGet() + ".bin");
+    }
+
+    private static int[] epochDays(LocalDate... dates) {
+        int[] days = new int[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            days[i] = (int) dates[i].toEpochDay();
+        }
+        return days;
+    }
+}
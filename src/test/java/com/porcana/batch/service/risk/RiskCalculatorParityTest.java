@@ -0,0 +1,141 @@
+package com.porcana.batch.service.risk;
+
+import com.porcana.domain.asset.price.PriceSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 pass 위험도 계산이 기존 BigDecimal/List 구현과 같은 값/스케일을 내는지 검증
+ * (기준 구현은 변경 전 RiskCalculator의 calculateLogReturns / calculateVolatility / calculateMaxDrawdown / calculateWorstDayReturn)
+ */
+class RiskCalculatorParityTest {
+
+    private static final int ITERATIONS = 2_000;
+
+    private final RiskCalculator calculator = new RiskCalculator();
+    private final Random random = new Random(20240301L);
+
+    @Test
+    @DisplayName("가격 비율은 BigDecimal.divide(10자리 HALF_UP).doubleValue()와 같은 double")
+    void ratio_matchesBigDecimal() {
+        long[][] ties = {{3, 2}, {1, 8}, {5, 16}, {1, 2_048}, {7, 1}, {1, 3}};
+        for (long[] c : ties) {
+            assertThat(RiskCalculator.ratio(c[0], c[1])).isEqualTo(legacyRatio(c[0], c[1]));
+        }
+
+        for (int i = 0; i < 200_000; i++) {
+            long prev = 1 + (long) Math.exp(random.nextDouble() * 25);
+            long current = Math.max(1, (long) (prev * (1 + random.nextGaussian() * 0.05)));
+            assertThat(RiskCalculator.ratio(current, prev))
+                    .as("%d / %d", current, prev)
+                    .isEqualTo(legacyRatio(current, prev));
+        }
+    }
+
+    @Test
+    @DisplayName("최근 253개 종가만 넘겨도 전체 이력 기준 기존 계산과 동일")
+    void trailingCloses_matchLegacyFullHistory() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<BigDecimal> prices = randomPrices(60 + random.nextInt(900));
+            RiskMetrics expected = legacyCalculate(prices);
+
+            int count = Math.min(prices.size(), RiskCalculator.REQUIRED_CLOSES);
+            long[] closes = new long[count];
+            for (int j = 0; j < count; j++) {
+                closes[j] = prices.get(prices.size() - count + j).unscaledValue().longValueExact();
+            }
+            RiskMetrics actual = calculator.calculateMetrics(closes, count, PriceSeries.SCALE);
+
+            assertThat(actual.getVolatility()).isEqualTo(expected.getVolatility());
+            assertThat(actual.getMaxDrawdown()).isEqualTo(expected.getMaxDrawdown());
+            assertThat(actual.getWorstDayReturn()).isEqualTo(expected.getWorstDayReturn());
+        }
+    }
+
+    @Test
+    @DisplayName("List<BigDecimal> 진입점도 기존 계산과 동일 (짧은 이력 포함)")
+    void listEntryPoint_matchesLegacy() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<BigDecimal> prices = randomPrices(2 + random.nextInt(300));
+            RiskMetrics expected = legacyCalculate(prices);
+            RiskMetrics actual = calculator.calculateMetrics(prices);
+
+            assertThat(actual.getVolatility()).isEqualTo(expected.getVolatility());
+            assertThat(actual.getMaxDrawdown()).isEqualTo(expected.getMaxDrawdown());
+            assertThat(actual.getWorstDayReturn()).isEqualTo(expected.getWorstDayReturn());
+        }
+    }
+
+    private List<BigDecimal> randomPrices(int size) {
+        List<BigDecimal> prices = new ArrayList<>(size);
+        double price = Math.exp(random.nextDouble() * 12);
+        double dailyVol = 0.005 + random.nextDouble() * 0.05;
+        for (int i = 0; i < size; i++) {
+            // 가격이 그대로인 날(수익률 0)도 섞음
+            if (random.nextInt(10) != 0) {
+                price = Math.max(0.0001, price * Math.exp(random.nextGaussian() * dailyVol));
+            }
+            prices.add(BigDecimal.valueOf(price).setScale(PriceSeries.SCALE, RoundingMode.HALF_UP)
+                    .max(new BigDecimal("0.0001")));
+        }
+        return prices;
+    }
+
+    private static double legacyRatio(long current, long prev) {
+        return BigDecimal.valueOf(current, PriceSeries.SCALE)
+                .divide(BigDecimal.valueOf(prev, PriceSeries.SCALE), 10, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+
+    /**
+     * 변경 전 BigDecimal 계산 (기준 구현)
+     */
+    private static RiskMetrics legacyCalculate(List<BigDecimal> prices) {
+        List<Double> returns = new ArrayList<>();
+        for (int i = 1; i < prices.size(); i++) {
+            BigDecimal prevPrice = prices.get(i - 1);
+            BigDecimal currentPrice = prices.get(i);
+            if (prevPrice.compareTo(BigDecimal.ZERO) > 0 && currentPrice.compareTo(BigDecimal.ZERO) > 0) {
+                returns.add(Math.log(currentPrice.divide(prevPrice, 10, RoundingMode.HALF_UP).doubleValue()));
+            }
+        }
+
+        List<Double> volReturns = returns.subList(Math.max(0, returns.size() - 60), returns.size());
+        double mean = volReturns.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+        double variance = volReturns.stream().mapToDouble(r -> Math.pow(r - mean, 2)).average().orElse(0.0);
+        BigDecimal volatility = BigDecimal.valueOf(Math.sqrt(variance) * Math.sqrt(252.0))
+                .setScale(6, RoundingMode.HALF_UP);
+
+        List<BigDecimal> recentPrices = prices.subList(Math.max(0, prices.size() - 252), prices.size());
+        BigDecimal maxPrice = recentPrices.get(0);
+        BigDecimal maxDrawdown = BigDecimal.ZERO;
+        for (BigDecimal price : recentPrices) {
+            if (price.compareTo(maxPrice) > 0) {
+                maxPrice = price;
+            }
+            if (maxPrice.compareTo(BigDecimal.ZERO) > 0) {
+                BigDecimal drawdown = maxPrice.subtract(price).divide(maxPrice, 10, RoundingMode.HALF_UP);
+                if (drawdown.compareTo(maxDrawdown) > 0) {
+                    maxDrawdown = drawdown;
+                }
+            }
+        }
+
+        List<Double> worstReturns = returns.subList(Math.max(0, returns.size() - 252), returns.size());
+        double worst = worstReturns.stream().mapToDouble(Double::doubleValue).min().orElse(0.0);
+
+        return RiskMetrics.builder()
+                .volatility(volatility)
+                .maxDrawdown(maxDrawdown.setScale(6, RoundingMode.HALF_UP))
+                .worstDayReturn(BigDecimal.valueOf(worst).setScale(6, RoundingMode.HALF_UP))
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.porcana.batch.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PercentileRankerTest {
+
+    @Test
+    @DisplayName("같은 값은 같은 순위 (작은 원소 수 / 전체)")
+    void tiesShareLowerRank() {
+        double[] ranks = PercentileRanker.rankAll(new double[]{0.3, 0.1, 0.3, 0.2, 0.3});
+
+        assertThat(ranks).containsExactly(0.4, 0.0, 0.4, 0.2, 0.4);
+    }
+
+    @Test
+    @DisplayName("분포 밖의 값, 빈 분포")
+    void valuesOutsideDistribution() {
+        PercentileRanker ranker = PercentileRanker.of(new double[]{1.0, 2.0, 3.0, 4.0});
+
+        assertThat(ranker.rank(0.5)).isZero();
+        assertThat(ranker.rank(2.5)).isEqualTo(0.5);
+        assertThat(ranker.rank(9.0)).isEqualTo(1.0);
+        assertThat(PercentileRanker.of(new double[0]).rank(1.0)).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 스캔(v < value 개수) 방식과 결과가 동일 (중복, -0.0 포함)")
+    void matchesLinearScan() {
+        Random random = new Random(7L);
+        for (int round = 0; round < 200; round++) {
+            double[] values = new double[1 + random.nextInt(500)];
+            for (int i = 0; i < values.length; i++) {
+                // 소수 3자리로 잘라 동률을 많이 만듦
+                values[i] = Math.round(random.nextGaussian() * 1000) / 1000.0;
+            }
+            values[0] = -0.0;
+            values[values.length - 1] = 0.0;
+
+            double[] ranks = PercentileRanker.rankAll(values);
+
+            for (int i = 0; i < values.length; i++) {
+                long countBelow = 0;
+                for (double v : values) {
+                    if (v < values[i]) {
+                        countBelow++;
+                    }
+                }
+                assertThat(ranks[i]).isEqualTo((double) countBelow / values.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.porcana.batch.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortfolioHashRangePartitionerTest {
+
+    private final PortfolioHashRangePartitioner partitioner = new PortfolioHashRangePartitioner();
+
+    @Test
+    @DisplayName("파티션들은 32비트 해시 공간 전체를 겹치지 않게 덮는다")
+    void partitionsCoverWholeHashSpaceWithoutOverlap() {
+        Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+        assertThat(partitions).hasSize(3);
+        assertThat(partitions.get("partition0").getLong(PortfolioHashRangePartitioner.MIN_HASH_KEY))
+                .isEqualTo(Integer.MIN_VALUE);
+        assertThat(partitions.get("partition2").getLong(PortfolioHashRangePartitioner.MAX_HASH_KEY))
+                .isEqualTo(Integer.MAX_VALUE);
+        for (int i = 1; i < 3; i++) {
+            long previousMax = partitions.get("partition" + (i - 1)).getLong(PortfolioHashRangePartitioner.MAX_HASH_KEY);
+            long currentMin = partitions.get("partition" + i).getLong(PortfolioHashRangePartitioner.MIN_HASH_KEY);
+            assertThat(currentMin).isEqualTo(previousMax + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("모든 포트폴리오 ID는 정확히 하나의 파티션에 속한다")
+    void everyPortfolioBelongsToExactlyOnePartition() {
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        for (int i = 0; i < 1_000; i++) {
+            UUID portfolioId = UUID.randomUUID();
+            long matches = partitions.values().stream()
+                    .filter(context -> PortfolioHashRangePartitioner.inRange(portfolioId,
+                            context.getLong(PortfolioHashRangePartitioner.MIN_HASH_KEY),
+                            context.getLong(PortfolioHashRangePartitioner.MAX_HASH_KEY)))
+                    .count();
+            assertThat(matches).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.porcana.batch.support;
+
+import com.porcana.domain.portfolio.entity.PortfolioStatus;
+import com.porcana.domain.portfolio.repository.PortfolioRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(scripts = "/sql/portfolio-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class PortfolioHashRangeQueryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("porcana_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Test user from SQL file
+    private static final String USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final UUID FIXTURE_PORTFOLIO_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    @Test
+    @DisplayName("portfolio_id_hash(id)는 UUID#hashCode와 같은 값")
+    void portfolioIdHash_matchesUuidHashCode() {
+        for (int i = 0; i < 500; i++) {
+            UUID id = UUID.randomUUID();
+            assertThat(jdbcTemplate.queryForObject("SELECT portfolio_id_hash(?)", Integer.class, id))
+                    .as(id.toString())
+                    .isEqualTo(id.hashCode());
+        }
+    }
+
+    @Test
+    @DisplayName("해시 범위별 keyset 조회는 ACTIVE 포트폴리오를 한 번씩만 반환하고, 처리 중 삭제된 포트폴리오가 있어도 위치가 밀리지 않음")
+    void findIdsInHashRangeAfter_pagesEachActivePortfolioOnce() {
+        Set<UUID> expected = new HashSet<>(Set.of(FIXTURE_PORTFOLIO_ID));
+        for (int i = 0; i < 6; i++) {
+            expected.add(insertPortfolio("ACTIVE", false));
+        }
+        UUID draft = insertPortfolio("DRAFT", false);
+        UUID deleted = insertPortfolio("ACTIVE", true);
+
+        Map<String, ExecutionContext> partitions = new PortfolioHashRangePartitioner().partition(3);
+        List<UUID> seen = new ArrayList<>();
+        boolean deletedMidway = false;
+        for (ExecutionContext partition : partitions.values()) {
+            long minHash = partition.getLong(PortfolioHashRangePartitioner.MIN_HASH_KEY);
+            long maxHash = partition.getLong(PortfolioHashRangePartitioner.MAX_HASH_KEY);
+
+            UUID lastId = new UUID(0L, 0L);
+            List<UUID> page;
+            do {
+                page = portfolioRepository.findIdsInHashRangeAfter(
+                        PortfolioStatus.ACTIVE.name(), minHash, maxHash, lastId, 2);
+                for (UUID id : page) {
+                    assertThat(PortfolioHashRangePartitioner.inRange(id, minHash, maxHash)).isTrue();
+                }
+                seen.addAll(page);
+                if (!page.isEmpty()) {
+                    lastId = page.get(page.size() - 1);
+                }
+                if (!deletedMidway && expected.contains(lastId)) {
+                    // 이미 처리한 포트폴리오가 삭제되어도 다음 조회는 lastId 이후부터 이어짐
+                    jdbcTemplate.update("UPDATE portfolios SET deleted_at = NOW() WHERE id = ?", lastId);
+                    deletedMidway = true;
+                }
+            } while (page.size() == 2);
+        }
+
+        List<UUID> mine = seen.stream().filter(expected::contains).toList();
+        assertThat(mine).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(seen).doesNotContain(draft, deleted);
+        assertThat(deletedMidway).isTrue();
+    }
+
+    private UUID insertPortfolio(String status, boolean deleted) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO portfolios (id, user_id, guest_session_id, name, status, started_at, created_at, updated_at, deleted_at)
+                VALUES (?, ?::uuid, NULL, 'hash range', ?, '2024-01-01', NOW(), NOW(), CASE WHEN ? THEN NOW() END)
+                """, id, USER_ID, status, deleted);
+        return id;
+    }
+}
@@ -0,0 +1,94 @@
+package com.porcana.batch.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(0L);
+
+    @Test
+    @DisplayName("burst 개수까지는 대기 없이 발급되고, 이후에는 토큰 간격만큼 대기")
+    void burstThenSteadyRate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5.0, 3, clock::get);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 5);
+        assertThat(limiter.reserve()).isEqualTo(2 * SECOND / 5);
+    }
+
+    @Test
+    @DisplayName("쉬는 동안 토큰이 다시 쌓이지만 burst를 넘지는 않음")
+    void refillsUpToBurstWhileIdle() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5.0, 2, clock::get);
+        limiter.reserve();
+        limiter.reserve();
+
+        clock.addAndGet(10 * SECOND);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 5);
+    }
+
+    @Test
+    @DisplayName("동시에 몰린 요청도 첫 1분 동안은 분당 한도만큼만 발급")
+    void perMinuteThroughput() {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.perMinute(300, clock::get);
+
+        int granted = 0;
+        while (limiter.reserve() < 60 * SECOND) {
+            granted++;
+        }
+
+        assertThat(granted).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("요청 간격이 불규칙해도 어떤 60초 구간에서든 분당 한도를 넘지 않음")
+    void perMinuteNeverExceedsQuotaInAnyWindow() {
+        Random random = new Random(42L);
+        for (int requestsPerMinute : new int[]{7, 30, 60, 300, 600}) {
+            clock.set(0L);
+            TokenBucketRateLimiter limiter = TokenBucketRateLimiter.perMinute(requestsPerMinute, clock::get);
+            long interval = 60 * SECOND / requestsPerMinute;
+
+            List<Long> grantedAt = new ArrayList<>();
+            for (int i = 0; i < requestsPerMinute * 5; i++) {
+                // bursts of simultaneous callers mixed with idle gaps
+                if (random.nextInt(4) == 0) {
+                    clock.addAndGet((long) (random.nextDouble() * 3 * interval));
+                }
+                grantedAt.add(clock.get() + limiter.reserve());
+            }
+
+            for (int i = requestsPerMinute; i < grantedAt.size(); i++) {
+                assertThat(grantedAt.get(i) - grantedAt.get(i - requestsPerMinute))
+                        .as("%d/min, grant #%d", requestsPerMinute, i)
+                        .isGreaterThanOrEqualTo(60 * SECOND);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 거부")
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -48,6 +48,53 @@ class AdminControllerTest extends BaseIntegrationTest {
                 .body("portfolios.status", everyItem(in(java.util.List.of("ACTIVE", "FINISHED"))));
     }
 
+    @Test
+    @DisplayName("관리자 포트폴리오 목록 커서 방식은 nextCursor로 다음 페이지를 이어서 조회")
+    void getPortfolios_cursorPaging() {
+        String nextCursor = given()
+                .basePath(ADMIN_BASE_PATH)
+                .header("Authorization", "Bearer " + createAdminAccessToken())
+                .queryParam("size", 1)
+                .queryParam("count", "NONE")
+        .when()
+                .get("/portfolios")
+        .then()
+                .statusCode(200)
+                .body("portfolios", hasSize(1))
+                .body("portfolios[0].portfolioId", equalTo(ACTIVE_PORTFOLIO_ID.toString()))
+                .body("totalElements", equalTo(-1))
+                .body("nextCursor", notNullValue())
+                .extract().path("nextCursor");
+
+        given()
+                .basePath(ADMIN_BASE_PATH)
+                .header("Authorization", "Bearer " + createAdminAccessToken())
+                .queryParam("size", 1)
+                .queryParam("cursor", nextCursor)
+                .queryParam("count", "EXACT")
+        .when()
+                .get("/portfolios")
+        .then()
+                .statusCode(200)
+                .body("portfolios", hasSize(1))
+                .body("portfolios[0].portfolioId", equalTo("b7490f7e-8596-41ff-abb0-ff06894928f2"))
+                .body("totalElements", equalTo(2))
+                .body("nextCursor", nullValue());
+    }
+
+    @Test
+    @DisplayName("관리자 포트폴리오 목록 잘못된 커서 거부")
+    void getPortfolios_rejectsInvalidCursor() {
+        given()
+                .basePath(ADMIN_BASE_PATH)
+                .header("Authorization", "Bearer " + createAdminAccessToken())
+                .queryParam("cursor", "not-a-cursor")
+        .when()
+                .get("/portfolios")
+        .then()
+                .statusCode(400);
+    }
+
     @Test
     @DisplayName("관리자 포트폴리오 목록 상태 필터 ACTIVE")
     void getPortfolios_filterByActive() {
@@ -129,6 +176,51 @@ class AdminControllerTest extends BaseIntegrationTest {
                 .body("points[0].close", equalTo(10050.0f));
     }
 
+    @Test
+    @DisplayName("관리자 종목 차트 포인트 수 제한 시 OHLC를 보존하며 묶음")
+    void getAssetChart_downsamplesToPointBudget() {
+        given()
+                .basePath(ADMIN_BASE_PATH)
+                .header("Authorization", "Bearer " + createAdminAccessToken())
+                .queryParam("range", "1M")
+                .queryParam("points", 1)
+        .when()
+                .get("/assets/{assetId}/chart", KR_ASSET_ID)
+        .then()
+                .statusCode(200)
+                .body("points", hasSize(1))
+                .body("points[0].open", equalTo(10000.0f))
+                .body("points[0].high", equalTo(10200.0f))
+                .body("points[0].low", equalTo(9900.0f))
+                .body("points[0].close", equalTo(10150.0f))
+                .body("points[0].volume", equalTo(2200000));
+    }
+
+    @Test
+    @DisplayName("관리자 종목 차트는 ETag가 같으면 304 반환")
+    void getAssetChart_returnsNotModifiedForMatchingETag() {
+        String eTag = given()
+                .basePath(ADMIN_BASE_PATH)
+                .header("Authorization", "Bearer " + createAdminAccessToken())
+                .queryParam("range", "1M")
+        .when()
+                .get("/assets/{assetId}/chart", KR_ASSET_ID)
+        .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .extract().header("ETag");
+
+        given()
+                .basePath(ADMIN_BASE_PATH)
+                .header("Authorization", "Bearer " + createAdminAccessToken())
+                .header("If-None-Match", eTag)
+                .queryParam("range", "1M")
+        .when()
+                .get("/assets/{assetId}/chart", KR_ASSET_ID)
+        .then()
+                .statusCode(304);
+    }
+
     @Test
     @DisplayName("관리자 종목 목록 type 필터 조회")
     void getAssets_filterByType() {
@@ -0,0 +1,88 @@
+package com.porcana.domain.admin.service;
+
+import com.porcana.domain.admin.dto.request.UpdateAssetDividendRequest;
+import com.porcana.domain.admin.dto.request.UpdateAssetImageRequest;
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.DividendCategory;
+import com.porcana.domain.asset.entity.DividendDataStatus;
+import com.porcana.domain.asset.entity.DividendFrequency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminServiceTest {
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AdminService adminService;
+
+    private static final UUID ASSET_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("종목 이미지를 수정하면 자산 캐시 무효화 이벤트를 발행")
+    void updateAssetImage_publishesAssetDataChangedEvent() {
+        Asset asset = asset();
+        when(assetRepository.findById(ASSET_ID)).thenReturn(Optional.of(asset));
+
+        adminService.updateAssetImage(ASSET_ID, new UpdateAssetImageRequest("https://example.com/new.png"));
+
+        assertThat(asset.getImageUrl()).isEqualTo("https://example.com/new.png");
+        verify(eventPublisher).publishEvent(new AssetDataChangedEvent("updateAssetImage"));
+    }
+
+    @Test
+    @DisplayName("종목 배당 정보를 수정하면 자산 캐시 무효화 이벤트를 발행")
+    void updateAssetDividend_publishesAssetDataChangedEvent() {
+        Asset asset = asset();
+        when(assetRepository.findById(ASSET_ID)).thenReturn(Optional.of(asset));
+
+        adminService.updateAssetDividend(ASSET_ID, new UpdateAssetDividendRequest(
+                true, new BigDecimal("0.0350"), DividendFrequency.QUARTERLY, DividendCategory.HAS_DIVIDEND,
+                DividendDataStatus.VERIFIED, LocalDate.of(2026, 3, 31)));
+
+        assertThat(asset.getDividendYield()).isEqualByComparingTo("0.0350");
+        verify(eventPublisher).publishEvent(new AssetDataChangedEvent("updateAssetDividend"));
+    }
+
+    @Test
+    @DisplayName("없는 종목은 수정하지 않고 이벤트도 발행하지 않음")
+    void updateAssetImage_unknownAsset() {
+        when(assetRepository.findById(ASSET_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> adminService.updateAssetImage(ASSET_ID, new UpdateAssetImageRequest("https://example.com/new.png")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private static Asset asset() {
+        return Asset.builder()
+                .market(Asset.Market.US)
+                .symbol("TEST")
+                .name("Test Asset")
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.porcana.domain.arena.service;
+
+import com.porcana.domain.arena.service.ArenaCandidateIndex.SectorFilter;
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArenaCandidateIndexTest {
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @InjectMocks
+    private ArenaCandidateIndex index;
+
+    private final Random random = new Random(12345L);
+
+    @Test
+    @DisplayName("선호/비선호 섹터 버킷은 섹터 미분류 자산을 포함하지 않고, 와일드는 전체에서 추출")
+    void sectorFilters() {
+        List<Asset> assets = new ArrayList<>();
+        assets.addAll(assets(Sector.INFORMATION_TECHNOLOGY, 5));
+        assets.addAll(assets(Sector.HEALTH_CARE, 5));
+        assets.addAll(assets(null, 3));
+        ArenaCandidateIndex.Snapshot snapshot = ArenaCandidateIndex.Snapshot.of(assets);
+        Set<Sector> preferred = EnumSet.of(Sector.INFORMATION_TECHNOLOGY);
+        BitSet none = new BitSet();
+
+        assertThat(snapshot.sample(SectorFilter.PREFERRED, preferred, none, 100, random))
+                .hasSize(5)
+                .allMatch(a -> a.getSector() == Sector.INFORMATION_TECHNOLOGY);
+        assertThat(snapshot.sample(SectorFilter.NON_PREFERRED, preferred, none, 100, random))
+                .hasSize(5)
+                .allMatch(a -> a.getSector() == Sector.HEALTH_CARE);
+        assertThat(snapshot.sample(SectorFilter.ANY, null, none, 100, random))
+                .hasSize(13);
+        assertThat(snapshot.sample(SectorFilter.PREFERRED, Set.of(), none, 100, random))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("제외 비트셋의 자산은 뽑히지 않고, limit개를 중복 없이 추출")
+    void excludesAndLimits() {
+        List<Asset> assets = assets(Sector.FINANCIALS, 30);
+        ArenaCandidateIndex.Snapshot snapshot = ArenaCandidateIndex.Snapshot.of(assets);
+        List<UUID> excludedIds = assets.subList(0, 25).stream().map(Asset::getId).toList();
+        BitSet excluded = snapshot.exclusion(excludedIds);
+
+        for (int i = 0; i < 100; i++) {
+            List<Asset> sampled = snapshot.sample(SectorFilter.ANY, null, excluded, 3, random);
+
+            assertThat(sampled).hasSize(3).doesNotHaveDuplicates();
+            assertThat(sampled).extracting(Asset::getId).doesNotContainAnyElementsOf(excludedIds);
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷은 한 번만 적재하고, 자산 변경 이벤트 후 다시 적재")
+    void reloadsAfterAssetDataChanged() {
+        when(assetRepository.findByActiveTrue()).thenReturn(assets(Sector.ENERGY, 4));
+
+        assertThat(index.snapshot().size()).isEqualTo(4);
+        assertThat(index.snapshot().size()).isEqualTo(4);
+        verify(assetRepository, times(1)).findByActiveTrue();
+
+        index.onAssetDataChanged(new AssetDataChangedEvent("usAssetJob"));
+        index.snapshot();
+
+        verify(assetRepository, times(2)).findByActiveTrue();
+    }
+
+    private List<Asset> assets(Sector sector, int count) {
+        List<Asset> assets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Asset asset = Asset.builder()
+                    .market(i % 2 == 0 ? Asset.Market.US : Asset.Market.KR)
+                    .symbol("T" + i)
+                    .name("Test " + i)
+                    .type(i % 3 == 0 ? Asset.AssetType.ETF : Asset.AssetType.STOCK)
+                    .sector(sector)
+                    .active(true)
+                    .build();
+            asset.updateCurrentRiskLevel(1 + i % 5);
+            ReflectionTestUtils.setField(asset, "id", UUID.randomUUID());
+            assets.add(asset);
+        }
+        return assets;
+    }
+}
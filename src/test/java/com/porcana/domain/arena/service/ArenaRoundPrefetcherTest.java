@@ -0,0 +1,125 @@
+package com.porcana.domain.arena.service;
+
+import com.porcana.domain.arena.entity.ArenaSession;
+import com.porcana.domain.arena.repository.ArenaSessionRepository;
+import com.porcana.domain.asset.entity.Asset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArenaRoundPrefetcherTest {
+
+    private static final UUID PORTFOLIO_ID = UUID.randomUUID();
+
+    @Mock
+    private ArenaSessionRepository sessionRepository;
+
+    @Mock
+    private AssetRecommendationService recommendationService;
+
+    private ArenaRoundPrefetcher prefetcher;
+    private ArenaSession session;
+    private final AtomicInteger generated = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        prefetcher = new ArenaRoundPrefetcher(sessionRepository, recommendationService);
+        ReflectionTestUtils.setField(prefetcher, "enabled", true);
+        ReflectionTestUtils.setField(prefetcher, "alternates", 2);
+
+        session = ArenaSession.createForUser(PORTFOLIO_ID, UUID.randomUUID());
+        ReflectionTestUtils.setField(session, "id", UUID.randomUUID());
+        session.setCurrentRound(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prefetcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("다음 라운드 선택지와 대체 선택지를 준비하고, 같은 라운드 선택지끼리는 자산이 겹치지 않음")
+    void preparesNextRoundAndAlternates() {
+        when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+        List<Set<UUID>> excludesSeen = new ArrayList<>();
+        when(recommendationService.generateRoundOptions(eq(session), eq(2), anySet())).thenAnswer(invocation -> {
+            excludesSeen.add(Set.copyOf(invocation.<Set<UUID>>getArgument(2)));
+            return options();
+        });
+
+        prefetcher.onPrefetchRequested(new ArenaRoundPrefetchEvent(session.getId(), 2, false));
+
+        List<Asset> first = prefetcher.take(session.getId(), 2).orElseThrow();
+        List<Asset> second = prefetcher.take(session.getId(), 2).orElseThrow();
+        List<Asset> third = prefetcher.take(session.getId(), 2).orElseThrow();
+
+        assertThat(first).hasSize(3);
+        assertThat(second).doesNotContainAnyElementsOf(first);
+        assertThat(third).doesNotContainAnyElementsOf(second);
+        assertThat(excludesSeen).hasSize(3);
+        assertThat(excludesSeen.get(0)).isEmpty();
+        assertThat(excludesSeen.get(2)).hasSize(6);
+        assertThat(prefetcher.take(session.getId(), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세션이 이미 다른 라운드로 넘어갔으면 준비하지 않음")
+    void skipsStaleRound() {
+        when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+
+        prefetcher.onPrefetchRequested(new ArenaRoundPrefetchEvent(session.getId(), 5, false));
+
+        assertThat(prefetcher.take(session.getId(), 5)).isEmpty();
+        verify(recommendationService, never()).generateRoundOptions(any(), anyInt(), anySet());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 아무것도 준비하지 않음")
+    void disabled() {
+        ReflectionTestUtils.setField(prefetcher, "enabled", false);
+
+        prefetcher.onPrefetchRequested(new ArenaRoundPrefetchEvent(session.getId(), 2, false));
+
+        assertThat(prefetcher.take(session.getId(), 2)).isEmpty();
+        verify(sessionRepository, never()).findById(any());
+    }
+
+    private List<Asset> options() {
+        List<Asset> options = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int n = generated.incrementAndGet();
+            Asset asset = Asset.builder()
+                    .market(Asset.Market.US)
+                    .symbol("P" + n)
+                    .name("Prefetch " + n)
+                    .type(Asset.AssetType.STOCK)
+                    .active(true)
+                    .build();
+            ReflectionTestUtils.setField(asset, "id", UUID.randomUUID());
+            options.add(asset);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,197 @@
+package com.porcana.domain.arena.service;
+
+import com.porcana.BaseIntegrationTest;
+import com.porcana.config.ArenaTestConfig;
+import com.porcana.domain.arena.command.PickAssetCommand;
+import com.porcana.domain.arena.dto.AssetRoundResponse;
+import com.porcana.domain.arena.entity.ArenaRound;
+import com.porcana.domain.arena.entity.ArenaSession;
+import com.porcana.domain.arena.entity.RiskProfile;
+import com.porcana.domain.arena.entity.RoundType;
+import com.porcana.domain.arena.repository.ArenaRoundRepository;
+import com.porcana.domain.arena.repository.ArenaSessionRepository;
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(ArenaTestConfig.class)
+@Sql(scripts = "/sql/arena-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ArenaServiceTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ArenaService arenaService;
+
+    @Autowired
+    private ArenaSessionRepository sessionRepository;
+
+    @Autowired
+    private ArenaRoundRepository roundRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Test IDs from SQL file
+    private static final UUID USER_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID PORTFOLIO_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+    @BeforeEach
+    void setUp() {
+        // SQL 파일로 바꾼 자산 목록을 후보 인덱스에 반영
+        eventPublisher.publishEvent(new AssetDataChangedEvent("test"));
+    }
+
+    @Test
+    @DisplayName("라운드를 만들면 제시 목록에, 고르면 선택 목록에 순서대로 추가됨")
+    void pick_recordsShownAndPickedAssets() {
+        UUID sessionId = startAssetRounds();
+
+        List<UUID> round1 = currentOptions(sessionId, false);
+        assertThat(shownIds(sessionId)).containsExactlyInAnyOrderElementsOf(round1);
+
+        arenaService.pickAsset(sessionId, USER_ID, pick(round1.get(0)));
+        List<UUID> round2 = currentOptions(sessionId, false);
+        arenaService.pickAsset(sessionId, USER_ID, pick(round2.get(1)));
+
+        assertThat(pickedIds(sessionId)).containsExactly(round1.get(0), round2.get(1));
+        assertThat(shownIds(sessionId)).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(union(round1, round2));
+        assertThat(sessionRepository.findById(sessionId).orElseThrow().getCurrentRound()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("새로고침하면 지운 라운드의 자산 중 다른 라운드에도 제시된 자산은 제시 목록에 남음")
+    void refresh_keepsAssetsStillPresentedByOtherRounds() {
+        UUID sessionId = startAssetRounds();
+        List<UUID> round1 = currentOptions(sessionId, false);
+        arenaService.pickAsset(sessionId, USER_ID, pick(round1.get(0)));
+
+        // Round 2 re-presents an asset of round 1 (as the relaxed reroll may do)
+        UUID overlapping = round1.get(1);
+        List<UUID> others = assetRepository.findByActiveTrue().stream()
+                .map(Asset::getId)
+                .filter(id -> !round1.contains(id))
+                .limit(2)
+                .toList();
+        List<UUID> round2 = List.of(overlapping, others.get(0), others.get(1));
+        roundRepository.save(ArenaRound.create(sessionId, 2, RoundType.ASSET, new ArrayList<>(round2), null));
+        ArenaSession session = sessionRepository.findById(sessionId).orElseThrow();
+        session.markShown(round2);
+        sessionRepository.save(session);
+
+        // When
+        List<UUID> refreshed = currentOptions(sessionId, true);
+
+        // Then - rebuilt from the surviving round 1 plus the new round 2
+        assertThat(shownIds(sessionId)).doesNotHaveDuplicates()
+                .contains(overlapping)
+                .containsExactlyInAnyOrderElementsOf(union(round1, refreshed));
+        assertThat(pickedIds(sessionId)).containsExactly(round1.get(0));
+    }
+
+    @Test
+    @DisplayName("모든 자산이 이미 제시되어 제시 제외를 완화해도 제시 목록은 중복 없이 유지되고, 새로고침 후 남은 라운드 기준으로 다시 만들어짐")
+    void reroll_keepsShownSetConsistent() {
+        UUID sessionId = startAssetRounds();
+        List<UUID> round1 = currentOptions(sessionId, false);
+        arenaService.pickAsset(sessionId, USER_ID, pick(round1.get(0)));
+
+        ArenaSession session = sessionRepository.findById(sessionId).orElseThrow();
+        session.markShown(assetRepository.findByActiveTrue().stream().map(Asset::getId).toList());
+        sessionRepository.save(session);
+
+        // When - every active asset is already shown, so round 2 comes from the relaxed reroll
+        List<UUID> round2 = currentOptions(sessionId, false);
+
+        // Then
+        assertThat(round2).hasSize(3).doesNotContain(round1.get(0));
+        assertThat(shownIds(sessionId)).doesNotHaveDuplicates().containsAll(round2);
+
+        List<UUID> refreshed = currentOptions(sessionId, true);
+        assertThat(shownIds(sessionId)).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(union(round1, refreshed));
+    }
+
+    @Test
+    @DisplayName("같은 세션을 동시에 수정하면 나중 저장은 낙관적 락으로 거부되어 변경이 유실되지 않음")
+    void concurrentUpdate_isRejected() {
+        UUID sessionId = startAssetRounds();
+        List<UUID> round1 = currentOptions(sessionId, false);
+
+        ArenaSession first = sessionRepository.findById(sessionId).orElseThrow();
+        ArenaSession second = sessionRepository.findById(sessionId).orElseThrow();
+        first.markPicked(round1.get(0));
+        second.markPicked(round1.get(1));
+
+        sessionRepository.save(first);
+
+        assertThatThrownBy(() -> sessionRepository.save(second))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(pickedIds(sessionId)).containsExactly(round1.get(0));
+    }
+
+    /**
+     * Round 0 (preferences) already done, session at round 1
+     */
+    private UUID startAssetRounds() {
+        ArenaSession session = ArenaSession.createForUser(PORTFOLIO_ID, USER_ID);
+        session.setRiskProfile(RiskProfile.BALANCED);
+        session.setSelectedSectors(List.of());
+        session.setCurrentRound(1);
+        return sessionRepository.save(session).getId();
+    }
+
+    private List<UUID> currentOptions(UUID sessionId, boolean refresh) {
+        AssetRoundResponse round = (AssetRoundResponse) arenaService.getCurrentRound(sessionId, USER_ID, null, refresh);
+        return round.getAssets().stream().map(AssetRoundResponse.AssetOption::getAssetId).toList();
+    }
+
+    private static PickAssetCommand pick(UUID assetId) {
+        return PickAssetCommand.builder().pickedAssetId(assetId).build();
+    }
+
+    private static Set<UUID> union(List<UUID> first, List<UUID> second) {
+        Set<UUID> union = new LinkedHashSet<>(first);
+        union.addAll(second);
+        return union;
+    }
+
+    private List<UUID> shownIds(UUID sessionId) {
+        return column(sessionId, "shown_asset_ids");
+    }
+
+    private List<UUID> pickedIds(UUID sessionId) {
+        return column(sessionId, "picked_asset_ids");
+    }
+
+    /**
+     * Raw array as stored (duplicates visible)
+     */
+    private List<UUID> column(UUID sessionId, String column) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM arena_sessions WHERE id = ?",
+                (rs, rowNum) -> List.of((UUID[]) rs.getArray(1).getArray()), sessionId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.porcana.domain.asset;
+
+import com.porcana.domain.asset.dto.AssetLibrarySearchCondition;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.global.pagination.CountMode;
+import com.porcana.global.pagination.CursorPage;
+import com.porcana.global.pagination.CursorRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(scripts = "/sql/asset-library-page-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class AssetRepositoryCustomImplTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("porcana_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("이름 정렬 페이지를 끝까지 넘기면 같은 이름은 id 순으로, 활성 종목이 빠짐없이 한 번씩 나옴")
+    void findLibraryPage_byName() {
+        assertWalksInSortOrder("name");
+    }
+
+    @Test
+    @DisplayName("위험도 정렬 페이지를 끝까지 넘기면 위험도 없는 종목이 오름차순에서 마지막, 내림차순에서 처음에 한 번씩 나옴")
+    void findLibraryPage_byRiskLevel() {
+        assertWalksInSortOrder("riskLevel");
+    }
+
+    @Test
+    @DisplayName("심볼 정렬 페이지를 끝까지 넘기면 시장만 다른 같은 심볼도 id 순으로 한 번씩 나옴")
+    void findLibraryPage_bySymbol() {
+        assertWalksInSortOrder("symbol");
+    }
+
+    private void assertWalksInSortOrder(String sortBy) {
+        for (String direction : List.of("asc", "desc")) {
+            List<UUID> expected = expectedOrder(sortBy, direction);
+            for (int size : new int[]{1, 2, 3, 11}) {
+                assertThat(walk(sortBy, direction, size))
+                        .as("%s %s, size %d", sortBy, direction, size)
+                        .doesNotHaveDuplicates()
+                        .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    private List<UUID> walk(String sortBy, String direction, int size) {
+        AssetLibrarySearchCondition condition = new AssetLibrarySearchCondition();
+        condition.setQuery("libpage");
+        condition.setSortBy(sortBy);
+        condition.setSortDirection(direction);
+
+        List<UUID> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<Asset> page = assetRepository.findLibraryPage(condition, CursorRequest.of(cursor, CountMode.NONE, size));
+            assertThat(page.content()).hasSizeLessThanOrEqualTo(size);
+            page.content().forEach(asset -> walked.add(asset.getId()));
+            cursor = page.nextCursor();
+            assertThat(++pages).as("paging terminates").isLessThanOrEqualTo(12);
+        } while (cursor != null);
+        return walked;
+    }
+
+    /**
+     * Full ordering straight from the database: same collation and uuid ordering as the paged query
+     */
+    private List<UUID> expectedOrder(String sortBy, String direction) {
+        boolean desc = "desc".equals(direction);
+        String key = switch (sortBy) {
+            case "name" -> "name " + direction;
+            case "riskLevel" -> "current_risk_level " + (desc ? "DESC NULLS FIRST" : "ASC NULLS LAST");
+            default -> "symbol " + direction;
+        };
+        List<UUID> expected = jdbcTemplate.queryForList(
+                "SELECT id FROM assets WHERE active AND symbol LIKE 'LIBPAGE%' ORDER BY " + key + ", id " + direction,
+                UUID.class);
+        assertThat(expected).hasSize(11);
+        return expected;
+    }
+}
@@ -0,0 +1,89 @@
+package com.porcana.domain.asset.catalog;
+
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import com.porcana.domain.asset.entity.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetCatalogCacheTest {
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @InjectMocks
+    private AssetCatalogCache catalogCache;
+
+    @Test
+    @DisplayName("분포는 한 번만 집계하고, 자산 변경 이벤트 후 새 버전으로 다시 집계")
+    void reloadsWithNewVersionAfterAssetDataChanged() {
+        when(assetRepository.countActiveBySector()).thenReturn(List.of(sectorCount(Sector.ENERGY, 7)));
+        when(assetRepository.countActiveByMarket()).thenReturn(List.of(
+                marketCount(Asset.Market.US, 10), marketCount(Asset.Market.KR, 5)));
+        when(assetRepository.countActiveByType()).thenReturn(List.of(typeCount(Asset.AssetType.STOCK, 15)));
+
+        AssetCatalog first = catalogCache.get();
+        AssetCatalog cached = catalogCache.get();
+
+        assertThat(cached).isSameAs(first);
+        assertThat(first.sectorCount(Sector.ENERGY)).isEqualTo(7);
+        assertThat(first.sectorCount(Sector.FINANCIALS)).isZero();
+        assertThat(first.totalCount()).isEqualTo(15);
+        verify(assetRepository, times(1)).countActiveBySector();
+
+        catalogCache.onAssetDataChanged(new AssetDataChangedEvent("krAssetJob"));
+        AssetCatalog reloaded = catalogCache.get();
+
+        assertThat(reloaded.version()).isGreaterThan(first.version());
+        verify(assetRepository, times(2)).countActiveBySector();
+    }
+
+    private AssetRepository.SectorCount sectorCount(Sector sector, long count) {
+        return new AssetRepository.SectorCount() {
+            public Sector getSector() {
+                return sector;
+            }
+
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private AssetRepository.MarketCount marketCount(Asset.Market market, long count) {
+        return new AssetRepository.MarketCount() {
+            public Asset.Market getMarket() {
+                return market;
+            }
+
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private AssetRepository.AssetTypeCount typeCount(Asset.AssetType type, long count) {
+        return new AssetRepository.AssetTypeCount() {
+            public Asset.AssetType getType() {
+                return type;
+            }
+
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
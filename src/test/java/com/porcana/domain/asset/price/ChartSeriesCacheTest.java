@@ -0,0 +1,62 @@
+package com.porcana.domain.asset.price;
+
+import com.porcana.domain.asset.AssetPriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChartSeriesCacheTest {
+
+    @Mock
+    private AssetPriceRepository assetPriceRepository;
+
+    @InjectMocks
+    private ChartSeriesCache cache;
+
+    private static final UUID ASSET_1 = UUID.randomUUID();
+    private static final UUID ASSET_2 = UUID.randomUUID();
+    private static final UUID ASSET_3 = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        when(assetPriceRepository.findOhlcvPointsByAssetId(any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("최대 자산 수를 넘으면 가장 오래 조회되지 않은 자산을 내보내고 새 자산은 보관")
+    void load_evictsLeastRecentlyUsedAsset() {
+        cache.load(ASSET_1);
+        cache.load(ASSET_2);
+        assertThat(cache.get(ASSET_1)).isPresent();
+
+        cache.load(ASSET_3);
+
+        assertThat(cache.get(ASSET_2)).isEmpty();
+        assertThat(cache.get(ASSET_1)).isPresent();
+        assertThat(cache.get(ASSET_3)).isPresent();
+    }
+
+    @Test
+    @DisplayName("가격 변경 이벤트를 받으면 보관한 시계열을 모두 버림")
+    void priceDataChangedEvent_invalidatesCache() {
+        cache.load(ASSET_1);
+
+        cache.onPriceDataChanged(new PriceDataChangedEvent("test", PriceDataChangedEvent.Scope.HISTORY));
+
+        assertThat(cache.get(ASSET_1)).isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package com.porcana.domain.asset.price;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OhlcvSeriesTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 2);
+
+    @Test
+    @DisplayName("기간 자르기는 시작일/종료일을 포함")
+    void window_isInclusive() {
+        OhlcvSeries series = series(10);
+
+        OhlcvSeries window = series.window(START.plusDays(2), START.plusDays(5));
+
+        assertThat(window.size()).isEqualTo(4);
+        assertThat(window.dateAt(0)).isEqualTo(START.plusDays(2));
+        assertThat(window.dateAt(3)).isEqualTo(START.plusDays(5));
+        assertThat(series.window(START.minusDays(10), START.minusDays(1)).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다운샘플링은 시작가, 마지막 종가, 최고가, 최저가, 거래량 합계를 보존")
+    void downsample_preservesOhlc() {
+        OhlcvSeries series = series(10);
+
+        OhlcvSeries sampled = series.downsample(3);
+
+        assertThat(sampled.size()).isEqualTo(3);
+        assertThat(sampled.dateAt(0)).isEqualTo(START);
+        assertThat(sampled.openAt(0)).isEqualTo(series.openAt(0));
+        assertThat(sampled.closeAt(2)).isEqualTo(series.closeAt(9));
+
+        double high = 0;
+        double low = Double.MAX_VALUE;
+        long volume = 0;
+        long sampledVolume = 0;
+        for (int i = 0; i < series.size(); i++) {
+            high = Math.max(high, series.highAt(i));
+            low = Math.min(low, series.lowAt(i));
+            volume += series.volumeAt(i);
+        }
+        double sampledHigh = 0;
+        double sampledLow = Double.MAX_VALUE;
+        for (int i = 0; i < sampled.size(); i++) {
+            sampledHigh = Math.max(sampledHigh, sampled.highAt(i));
+            sampledLow = Math.min(sampledLow, sampled.lowAt(i));
+            sampledVolume += sampled.volumeAt(i);
+        }
+        assertThat(sampledHigh).isEqualTo(high);
+        assertThat(sampledLow).isEqualTo(low);
+        assertThat(sampledVolume).isEqualTo(volume);
+    }
+
+    @Test
+    @DisplayName("포인트 수가 예산 이하이면 그대로 반환")
+    void downsample_keepsSeriesWithinBudget() {
+        OhlcvSeries series = series(5);
+
+        assertThat(series.downsample(5)).isSameAs(series);
+        assertThat(series.downsample(0)).isSameAs(series);
+    }
+
+    @Test
+    @DisplayName("가격은 소수점 4자리까지 손실 없이 복원")
+    void builder_keepsScaleFourPrices() {
+        OhlcvSeries series = OhlcvSeries.builder()
+                .add(START, new BigDecimal("123.4567"), new BigDecimal("130.0001"),
+                        new BigDecimal("120.5000"), new BigDecimal("125.1234"), 42L)
+                .build();
+
+        assertThat(series.openAt(0)).isEqualTo(new BigDecimal("123.4567").doubleValue());
+        assertThat(series.closeAt(0)).isEqualTo(new BigDecimal("125.1234").doubleValue());
+        assertThat(series.volumeAt(0)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("내용 해시는 같은 일봉이면 같고, 마지막 날짜가 같아도 과거 값이 다르면 달라짐")
+    void contentHash_changesWithHistory() {
+        OhlcvSeries series = series(5);
+        OhlcvSeries rebuilt = series(5);
+        OhlcvSeries.Builder changedHistory = OhlcvSeries.builder()
+                .add(START.minusDays(1), BigDecimal.TEN, BigDecimal.TEN, BigDecimal.TEN, BigDecimal.TEN, 1L);
+        for (int i = 0; i < series.size(); i++) {
+            changedHistory.add(series.dateAt(i), BigDecimal.valueOf(series.openAt(i)), BigDecimal.valueOf(series.highAt(i)),
+                    BigDecimal.valueOf(series.lowAt(i)), BigDecimal.valueOf(series.closeAt(i)), series.volumeAt(i));
+        }
+
+        assertThat(rebuilt.contentHash()).isEqualTo(series.contentHash());
+        assertThat(changedHistory.build().lastDate()).isEqualTo(series.lastDate());
+        assertThat(changedHistory.build().contentHash()).isNotEqualTo(series.contentHash());
+    }
+
+    @Test
+    @DisplayName("날짜 역순으로 추가하면 예외")
+    void builder_rejectsDescendingDates() {
+        OhlcvSeries.Builder builder = OhlcvSeries.builder()
+                .add(START, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, 1L);
+
+        assertThatThrownBy(() -> builder.add(START.minusDays(1),
+                BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 고가/저가가 날마다 흔들리는 일봉 시계열
+     */
+    private OhlcvSeries series(int days) {
+        OhlcvSeries.Builder builder = OhlcvSeries.builder();
+        for (int i = 0; i < days; i++) {
+            BigDecimal open = BigDecimal.valueOf(100 + i);
+            BigDecimal close = BigDecimal.valueOf(101 + i);
+            BigDecimal high = BigDecimal.valueOf(105 + (i * 7) % 11);
+            BigDecimal low = BigDecimal.valueOf(95 - (i * 5) % 9);
+            builder.add(START.plusDays(i), open, high, low, close, 1000L + i);
+        }
+        return builder.build();
+    }
+}
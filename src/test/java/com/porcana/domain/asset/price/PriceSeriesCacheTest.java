@@ -0,0 +1,127 @@
+package com.porcana.domain.asset.price;
+
+import com.porcana.domain.asset.AssetPriceRepository;
+import com.porcana.domain.exchangerate.ExchangeRateRepository;
+import com.porcana.domain.exchangerate.entity.CurrencyCode;
+import com.porcana.domain.exchangerate.entity.ExchangeRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceSeriesCacheTest {
+
+    @Mock
+    private AssetPriceRepository assetPriceRepository;
+
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @InjectMocks
+    private PriceSeriesCache cache;
+
+    private static final UUID ASSET_1 = UUID.randomUUID();
+    private static final UUID ASSET_2 = UUID.randomUUID();
+
+    @Test
+    @DisplayName("정확한 날짜가 없으면 lookback 이내 가장 최근 종가를 반환")
+    void closeOnOrBefore_usesLatestWithinLookback() {
+        when(assetPriceRepository.findClosePointsByAssetIds(anyCollection())).thenReturn(List.of(
+                point(ASSET_1, LocalDate.of(2026, 3, 2), "100.0000"),
+                point(ASSET_1, LocalDate.of(2026, 3, 6), "110.0000")
+        ));
+
+        assertThat(cache.closeOnOrBefore(ASSET_1, LocalDate.of(2026, 3, 6), 7)).contains(new BigDecimal("110.0000"));
+        assertThat(cache.closeOnOrBefore(ASSET_1, LocalDate.of(2026, 3, 9), 7)).contains(new BigDecimal("110.0000"));
+        assertThat(cache.closeOnOrBefore(ASSET_1, LocalDate.of(2026, 3, 5), 7)).contains(new BigDecimal("100.0000"));
+        assertThat(cache.closeOnOrBefore(ASSET_1, LocalDate.of(2026, 3, 14), 7)).isEmpty();
+        assertThat(cache.closeOnOrBefore(ASSET_1, LocalDate.of(2026, 3, 1), 7)).isEmpty();
+
+        // Loaded once, then served from memory
+        verify(assetPriceRepository, times(1)).findClosePointsByAssetIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("가격이 없는 자산은 빈 시계열로 캐시되고 최신가 조회에서 제외")
+    void latestCloses_excludesAssetsWithoutPrice() {
+        when(assetPriceRepository.findClosePointsByAssetIds(anyCollection())).thenReturn(List.of(
+                point(ASSET_1, LocalDate.of(2026, 3, 6), "110.0000")
+        ));
+
+        Map<UUID, BigDecimal> latest = cache.latestCloses(List.of(ASSET_1, ASSET_2));
+        cache.latestCloses(List.of(ASSET_1, ASSET_2));
+
+        assertThat(latest).containsOnlyKeys(ASSET_1);
+        verify(assetPriceRepository, times(1)).findClosePointsByAssetIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("가격 변경 이벤트를 받으면 다시 적재")
+    void priceDataChangedEvent_invalidatesCache() {
+        when(assetPriceRepository.findClosePointsByAssetIds(anyCollection()))
+                .thenReturn(List.of(point(ASSET_1, LocalDate.of(2026, 3, 6), "110.0000")))
+                .thenReturn(List.of(point(ASSET_1, LocalDate.of(2026, 3, 9), "120.0000")));
+
+        assertThat(cache.latestClose(ASSET_1)).contains(new BigDecimal("110.0000"));
+
+        cache.onPriceDataChanged(new PriceDataChangedEvent("usDailyPriceJob", PriceDataChangedEvent.Scope.RECENT));
+
+        assertThat(cache.latestClose(ASSET_1)).contains(new BigDecimal("120.0000"));
+        verify(assetPriceRepository, times(2)).findClosePointsByAssetIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("USD/KRW 환율은 exchange_rates와 같은 scale 2로 반환")
+    void latestUsdKrw_keepsExchangeRateScale() {
+        when(exchangeRateRepository.findByCurrencyCodeOrderByExchangeDateAsc(CurrencyCode.USD)).thenReturn(List.of(
+                rate(LocalDate.of(2026, 3, 5), "1450.50"),
+                rate(LocalDate.of(2026, 3, 6), "1462.25")
+        ));
+
+        assertThat(cache.latestUsdKrw()).contains(new BigDecimal("1462.25"));
+        assertThat(cache.usdKrwOnOrBefore(LocalDate.of(2026, 3, 5), 7)).contains(new BigDecimal("1450.50"));
+    }
+
+    private static AssetPriceRepository.ClosePoint point(UUID assetId, LocalDate date, String close) {
+        return new AssetPriceRepository.ClosePoint() {
+            @Override
+            public UUID getAssetId() {
+                return assetId;
+            }
+
+            @Override
+            public LocalDate getPriceDate() {
+                return date;
+            }
+
+            @Override
+            public BigDecimal getClosePrice() {
+                return new BigDecimal(close);
+            }
+        };
+    }
+
+    private static ExchangeRate rate(LocalDate date, String baseRate) {
+        return ExchangeRate.builder()
+                .currencyCode(CurrencyCode.USD)
+                .currencyName("미국 달러")
+                .baseRate(new BigDecimal(baseRate))
+                .exchangeDate(date)
+                .build();
+    }
+}
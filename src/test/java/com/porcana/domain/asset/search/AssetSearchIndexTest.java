@@ -0,0 +1,97 @@
+package com.porcana.domain.asset.search;
+
+import com.porcana.domain.asset.AssetDataChangedEvent;
+import com.porcana.domain.asset.AssetRepository;
+import com.porcana.domain.asset.entity.Asset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetSearchIndexTest {
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @InjectMocks
+    private AssetSearchIndex index;
+
+    private final AssetSearchIndex.Snapshot snapshot = AssetSearchIndex.Snapshot.of(List.of(
+            entry("AAPL", "Apple Inc.", Asset.Market.US, true),
+            entry("PAPL", "Pineapple Energy", Asset.Market.US, true),
+            entry("APLE", "Apple Hospitality REIT", Asset.Market.US, true),
+            entry("MSFT", "Microsoft Corporation", Asset.Market.US, true),
+            entry("005930", "삼성전자", Asset.Market.KR, true),
+            entry("006400", "삼성SDI", Asset.Market.KR, true),
+            entry("OLD", "Old Apple Holdings", Asset.Market.US, false)
+    ));
+
+    @Test
+    @DisplayName("심볼 일치 > 심볼 접두어 > 이름 접두어 > 이름 단어 접두어 > 포함 순으로 정렬")
+    void search_ranksPrefixMatchesFirst() {
+        List<String> symbols = symbols(snapshot.search("apple", entry -> true));
+
+        assertThat(symbols).containsExactly("AAPL", "APLE", "OLD", "PAPL");
+        assertThat(symbols(snapshot.search("apl", entry -> true))).containsExactly("APLE", "AAPL", "PAPL");
+        assertThat(symbols(snapshot.search("AAPL", entry -> true))).containsExactly("AAPL");
+    }
+
+    @Test
+    @DisplayName("긴 검색어는 trigram 후보를 실제 포함 여부로 다시 확인")
+    void search_verifiesLongQueries() {
+        assertThat(symbols(snapshot.search("apple ho", entry -> true))).containsExactly("APLE", "OLD");
+        assertThat(snapshot.search("apple zz", entry -> true)).isEmpty();
+        // "paple"의 trigram은 모두 PAPL의 심볼("pap", "apl")과 이름("ple")에 있지만 어느 쪽에도 포함되지 않음
+        assertThat(snapshot.search("paple", entry -> true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 이름과 1~2글자 검색어도 검색")
+    void search_supportsKoreanAndShortQueries() {
+        assertThat(symbols(snapshot.search("삼성", entry -> true))).containsExactly("005930", "006400");
+        assertThat(symbols(snapshot.search("전자", entry -> true))).containsExactly("005930");
+        assertThat(symbols(snapshot.search("m", entry -> true))).containsExactly("MSFT");
+    }
+
+    @Test
+    @DisplayName("조건에 맞지 않는 자산은 제외")
+    void search_appliesFilter() {
+        List<String> symbols = symbols(snapshot.search("apple",
+                entry -> entry.active() && entry.market() == Asset.Market.US));
+
+        assertThat(symbols).containsExactly("AAPL", "APLE", "PAPL");
+    }
+
+    @Test
+    @DisplayName("자산 변경 이벤트를 받으면 다시 적재")
+    void assetDataChangedEvent_invalidatesSnapshot() {
+        when(assetRepository.findSearchEntries()).thenReturn(List.of());
+
+        index.snapshot();
+        index.snapshot();
+        index.onAssetDataChanged(new AssetDataChangedEvent("usAssetJob"));
+        index.snapshot();
+
+        verify(assetRepository, times(2)).findSearchEntries();
+    }
+
+    private static List<String> symbols(List<AssetSearchIndex.Entry> entries) {
+        return entries.stream().map(AssetSearchIndex.Entry::symbol).toList();
+    }
+
+    private static AssetSearchIndex.Entry entry(String symbol, String name, Asset.Market market, boolean active) {
+        return new AssetSearchIndex.Entry(UUID.randomUUID(), symbol, name, active, market,
+                Asset.AssetType.STOCK, null, null, 3);
+    }
+}
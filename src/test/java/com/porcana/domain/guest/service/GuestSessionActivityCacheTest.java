@@ -0,0 +1,97 @@
+package com.porcana.domain.guest.service;
+
+import com.porcana.domain.guest.GuestSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GuestSessionActivityCacheTest {
+
+    @Mock
+    private GuestSessionRepository guestSessionRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private GuestSessionActivityCache activityCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(activityCache, "knownTtl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(activityCache, "maxKnown", 100);
+    }
+
+    @Test
+    @DisplayName("존재가 확인된 세션은 TTL 동안 다시 조회하지 않고, 없는 세션은 매번 조회")
+    void cachesKnownSessions() {
+        UUID known = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        when(guestSessionRepository.existsById(known)).thenReturn(true);
+        when(guestSessionRepository.existsById(unknown)).thenReturn(false);
+
+        assertThat(activityCache.exists(known)).isTrue();
+        assertThat(activityCache.exists(known)).isTrue();
+        assertThat(activityCache.exists(unknown)).isFalse();
+        assertThat(activityCache.exists(unknown)).isFalse();
+
+        verify(guestSessionRepository, times(1)).existsById(known);
+        verify(guestSessionRepository, times(2)).existsById(unknown);
+    }
+
+    @Test
+    @DisplayName("같은 세션의 활동은 하나로 합쳐 플러시 때 한 번의 batch UPDATE로 반영")
+    @SuppressWarnings("unchecked")
+    void coalescesLastSeenIntoBatchUpdate() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        activityCache.touch(first);
+        activityCache.touch(first);
+        activityCache.touch(second);
+
+        assertThat(activityCache.flush()).isEqualTo(2);
+
+        ArgumentCaptor<Collection<?>> updates = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), updates.capture(),
+                eq(GuestSessionActivityCache.BATCH_SIZE), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(updates.getValue()).hasSize(2);
+
+        assertThat(activityCache.flush()).isZero();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("활동이 없으면 UPDATE하지 않음")
+    @SuppressWarnings("unchecked")
+    void skipsEmptyFlush() {
+        assertThat(activityCache.flush()).isZero();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+}
@@ -0,0 +1,73 @@
+package com.porcana.domain.home.service;
+
+import com.porcana.domain.home.dto.HomeResponse;
+import com.porcana.domain.portfolio.PortfolioChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HomePayloadCacheTest {
+
+    private HomePayloadCache homePayloadCache;
+
+    @BeforeEach
+    void setUp() {
+        homePayloadCache = new HomePayloadCache();
+        ReflectionTestUtils.setField(homePayloadCache, "ttl", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(homePayloadCache, "maxEntries", 100);
+    }
+
+    @Test
+    @DisplayName("설치한 payload는 포트폴리오 변경 이벤트 전까지 키 조회로 반환")
+    void servesPayloadUntilPortfolioChanged() {
+        UUID userId = UUID.randomUUID();
+        HomeResponse payload = HomeResponse.noMainPortfolio();
+
+        assertThat(homePayloadCache.put(homePayloadCache.beginLoad(userId), payload)).isTrue();
+        assertThat(homePayloadCache.get(userId)).containsSame(payload);
+
+        homePayloadCache.onPortfolioChanged(new PortfolioChangedEvent(userId, UUID.randomUUID(), "test"));
+
+        assertThat(homePayloadCache.get(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 적재 결과를 설치하지 않음")
+    void discardsLoadRacingWithInvalidation() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+
+        HomePayloadCache.LoadToken userLoad = homePayloadCache.beginLoad(userId);
+        homePayloadCache.evict(userId);
+        assertThat(homePayloadCache.put(userLoad, HomeResponse.noMainPortfolio())).isFalse();
+
+        HomePayloadCache.LoadToken otherLoad = homePayloadCache.beginLoad(otherUserId);
+        homePayloadCache.invalidateAll();
+        assertThat(homePayloadCache.put(otherLoad, HomeResponse.noMainPortfolio())).isFalse();
+
+        assertThat(homePayloadCache.get(userId)).isEmpty();
+        assertThat(homePayloadCache.get(otherUserId)).isEmpty();
+
+        // 무효화 이후 시작한 적재는 설치됨
+        assertThat(homePayloadCache.put(homePayloadCache.beginLoad(userId), HomeResponse.noMainPortfolio())).isTrue();
+        assertThat(homePayloadCache.get(userId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("전체 무효화는 payload를 보관하던 사용자만 재생성 대상으로 반환")
+    void invalidateAllReturnsCachedUsers() {
+        UUID cachedUserId = UUID.randomUUID();
+        UUID evictedUserId = UUID.randomUUID();
+        homePayloadCache.put(homePayloadCache.beginLoad(cachedUserId), HomeResponse.noMainPortfolio());
+        homePayloadCache.evict(evictedUserId);
+
+        assertThat(homePayloadCache.invalidateAll()).containsExactly(cachedUserId);
+        assertThat(homePayloadCache.get(cachedUserId)).isEmpty();
+    }
+}
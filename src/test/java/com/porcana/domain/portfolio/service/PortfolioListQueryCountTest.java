@@ -0,0 +1,163 @@
+package com.porcana.domain.portfolio.service;
+
+import com.porcana.domain.portfolio.dto.PortfolioListResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 포트폴리오 목록 조회 쿼리 수 벤치마크
+ * 포트폴리오 수가 늘어도 실행되는 쿼리 수가 그대로인지 검증
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(scripts = "/sql/portfolio-with-daily-returns-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class PortfolioListQueryCountTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("porcana_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private PortfolioService portfolioService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Test IDs from SQL file
+    private static final UUID USER_ID = UUID.fromString("660e8400-e29b-41d4-a716-446655440000");
+    private static final UUID PORTFOLIO_ID = UUID.fromString("77777777-7777-7777-7777-777777777777");
+    private static final UUID KR_ASSET_ID = UUID.fromString("88888888-8888-8888-8888-888888888888");
+    private static final UUID US_ASSET_ID = UUID.fromString("99999999-9999-9999-9999-999999999999");
+
+    private final List<UUID> addedPortfolioIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 배치가 carried 배수를 계산해 둔 상태로 맞춤
+        jdbcTemplate.update("UPDATE portfolio_daily_returns SET carried_multiplier = 1.0 WHERE portfolio_id = ?",
+                PORTFOLIO_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (UUID portfolioId : addedPortfolioIds) {
+            jdbcTemplate.update("DELETE FROM portfolio_asset_latest WHERE portfolio_id = ?", portfolioId);
+            jdbcTemplate.update("DELETE FROM snapshot_asset_daily_returns WHERE portfolio_id = ?", portfolioId);
+            jdbcTemplate.update("DELETE FROM portfolio_daily_returns WHERE portfolio_id = ?", portfolioId);
+            jdbcTemplate.update("DELETE FROM portfolio_snapshot_assets WHERE snapshot_id IN " +
+                    "(SELECT id FROM portfolio_snapshots WHERE portfolio_id = ?)", portfolioId);
+            jdbcTemplate.update("DELETE FROM portfolio_snapshots WHERE portfolio_id = ?", portfolioId);
+            jdbcTemplate.update("DELETE FROM portfolio_assets WHERE portfolio_id = ?", portfolioId);
+            jdbcTemplate.update("DELETE FROM portfolios WHERE id = ?", portfolioId);
+        }
+        addedPortfolioIds.clear();
+    }
+
+    @Test
+    @DisplayName("포트폴리오 수가 늘어도 목록 조회 쿼리 수는 일정")
+    void getPortfolios_queryCountDoesNotGrowWithPortfolioCount() {
+        // Given - 1 portfolio from SQL file + 1 more
+        addPortfolios(1);
+        long fewQueries = countQueries(2);
+
+        // When - 5 more portfolios
+        addPortfolios(5);
+        long manyQueries = countQueries(7);
+
+        // Then
+        assertThat(manyQueries).isEqualTo(fewQueries);
+    }
+
+    @Test
+    @DisplayName("일괄 조회한 상위 자산 비중은 최신 일별 비중을 사용")
+    void getPortfolios_usesLatestDailyWeights() {
+        List<PortfolioListResponse> portfolios = portfolioService.getPortfolios(USER_ID, null);
+
+        assertThat(portfolios).hasSize(1);
+        PortfolioListResponse response = portfolios.get(0);
+        assertThat(response.getTotalReturnPct()).isCloseTo(5.0, within(1e-9));
+        assertThat(response.getTopAssets()).extracting(PortfolioListResponse.TopAsset::assetId)
+                .containsExactly(KR_ASSET_ID, US_ASSET_ID);
+        assertThat(response.getTopAssets().get(0).weight()).isEqualByComparingTo("55.0");
+        assertThat(response.getTopAssets().get(1).weight()).isEqualByComparingTo("45.0");
+    }
+
+    private long countQueries(int expectedPortfolios) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<PortfolioListResponse> portfolios = portfolioService.getPortfolios(USER_ID, null);
+
+        assertThat(portfolios).hasSize(expectedPortfolios);
+        assertThat(portfolios).allSatisfy(p -> assertThat(p.getTopAssets()).hasSize(2));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void addPortfolios(int count) {
+        for (int i = 0; i < count; i++) {
+            UUID portfolioId = UUID.randomUUID();
+            UUID snapshotId = UUID.randomUUID();
+            addedPortfolioIds.add(portfolioId);
+
+            jdbcTemplate.update("INSERT INTO portfolios (id, user_id, guest_session_id, name, status, started_at, created_at, updated_at) " +
+                    "VALUES (?, ?, NULL, '쿼리 수 테스트 포트폴리오', 'ACTIVE', CURRENT_DATE - INTERVAL '5 days', NOW(), NOW())",
+                    portfolioId, USER_ID);
+            jdbcTemplate.update("INSERT INTO portfolio_assets (id, portfolio_id, asset_id, weight_pct) " +
+                    "VALUES (?, ?, ?, 60.00), (?, ?, ?, 40.00)",
+                    UUID.randomUUID(), portfolioId, KR_ASSET_ID, UUID.randomUUID(), portfolioId, US_ASSET_ID);
+            jdbcTemplate.update("INSERT INTO portfolio_snapshots (id, portfolio_id, effective_date, note, created_at) " +
+                    "VALUES (?, ?, CURRENT_DATE - INTERVAL '5 days', 'Initial creation', NOW())",
+                    snapshotId, portfolioId);
+            jdbcTemplate.update("INSERT INTO portfolio_snapshot_assets (id, snapshot_id, asset_id, weight) " +
+                    "VALUES (?, ?, ?, 60.00), (?, ?, ?, 40.00)",
+                    UUID.randomUUID(), snapshotId, KR_ASSET_ID, UUID.randomUUID(), snapshotId, US_ASSET_ID);
+            jdbcTemplate.update("INSERT INTO portfolio_daily_returns (id, portfolio_id, snapshot_id, return_date, return_total, return_local, return_fx, total_value_krw, calculated_at, carried_multiplier) " +
+                    "VALUES (?, ?, ?, CURRENT_DATE - INTERVAL '1 day', 2.0000, 2.0000, 0.0000, 10200000.00, NOW(), 1.0)",
+                    UUID.randomUUID(), portfolioId, snapshotId);
+            jdbcTemplate.update("INSERT INTO snapshot_asset_daily_returns (id, portfolio_id, snapshot_id, asset_id, return_date, weight_used, asset_return_local, asset_return_total, fx_return, contribution_total, value_krw, calculated_at) " +
+                    "VALUES (?, ?, ?, ?, CURRENT_DATE - INTERVAL '1 day', 61.00, 2.0000, 2.0000, 0.0000, 1.2200, 6120000.00, NOW()), " +
+                    "(?, ?, ?, ?, CURRENT_DATE - INTERVAL '1 day', 39.00, 2.0000, 2.0000, 0.0000, 0.7800, 4080000.00, NOW())",
+                    UUID.randomUUID(), portfolioId, snapshotId, KR_ASSET_ID,
+                    UUID.randomUUID(), portfolioId, snapshotId, US_ASSET_ID);
+            jdbcTemplate.update("INSERT INTO portfolio_asset_latest (portfolio_id, asset_id, snapshot_id, return_date, weight_used, asset_return_total, value_krw) " +
+                    "VALUES (?, ?, ?, CURRENT_DATE - INTERVAL '1 day', 61.00, 2.0000, 6120000.00), " +
+                    "(?, ?, ?, CURRENT_DATE - INTERVAL '1 day', 39.00, 2.0000, 4080000.00)",
+                    portfolioId, KR_ASSET_ID, snapshotId,
+                    portfolioId, US_ASSET_ID, snapshotId);
+        }
+    }
+}
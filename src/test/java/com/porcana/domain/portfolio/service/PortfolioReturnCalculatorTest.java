@@ -1,9 +1,9 @@
 package com.porcana.domain.portfolio.service;
 
+import com.porcana.domain.portfolio.entity.PortfolioAssetLatest;
 import com.porcana.domain.portfolio.entity.PortfolioDailyReturn;
-import com.porcana.domain.portfolio.entity.SnapshotAssetDailyReturn;
+import com.porcana.domain.portfolio.repository.PortfolioAssetLatestRepository;
 import com.porcana.domain.portfolio.repository.PortfolioDailyReturnRepository;
-import com.porcana.domain.portfolio.repository.SnapshotAssetDailyReturnRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,16 +11,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +35,7 @@ class PortfolioReturnCalculatorTest {
     private PortfolioDailyReturnRepository portfolioDailyReturnRepository;
 
     @Mock
-    private SnapshotAssetDailyReturnRepository snapshotAssetDailyReturnRepository;
+    private PortfolioAssetLatestRepository portfolioAssetLatestRepository;
 
     @InjectMocks
     private PortfolioReturnCalculator calculator;
@@ -78,6 +83,20 @@ class PortfolioReturnCalculatorTest {
 
             assertThat(result).isCloseTo(15.5, within(0.01));
         }
+
+        @Test
+        void materialized_shouldReadLatestDayOnly() {
+            PortfolioDailyReturn latest = createPortfolioDailyReturn(SNAPSHOT_B, LocalDate.of(2026, 3, 15), new BigDecimal("5.0"));
+            ReflectionTestUtils.setField(latest, "carriedMultiplier", 1.10);
+
+            when(portfolioDailyReturnRepository.findFirstByPortfolioIdOrderByReturnDateDesc(PORTFOLIO_ID))
+                    .thenReturn(Optional.of(latest));
+
+            Double result = calculator.calculateTotalReturn(PORTFOLIO_ID);
+
+            assertThat(result).isCloseTo(15.5, within(0.01));
+            verify(portfolioDailyReturnRepository, never()).findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID);
+        }
     }
 
     @Nested
@@ -104,6 +123,31 @@ class PortfolioReturnCalculatorTest {
             assertThat(result.get(3).value()).isCloseTo(112.2, within(0.01));
             assertThat(result.get(4).value()).isCloseTo(115.5, within(0.01));
         }
+
+        @Test
+        void materialized_shouldMatchRecomputedSeriesAndRebaseRange() {
+            List<PortfolioDailyReturn> dailyReturns = List.of(
+                    createPortfolioDailyReturn(SNAPSHOT_A, LocalDate.of(2026, 3, 11), new BigDecimal("3.0")),
+                    createPortfolioDailyReturn(SNAPSHOT_A, LocalDate.of(2026, 3, 12), new BigDecimal("7.0")),
+                    createPortfolioDailyReturn(SNAPSHOT_A, LocalDate.of(2026, 3, 13), new BigDecimal("10.0")),
+                    createPortfolioDailyReturn(SNAPSHOT_B, LocalDate.of(2026, 3, 14), new BigDecimal("2.0")),
+                    createPortfolioDailyReturn(SNAPSHOT_B, LocalDate.of(2026, 3, 15), new BigDecimal("5.0"))
+            );
+            List<PortfolioReturnCalculator.PortfolioValuePoint> recomputed =
+                    calculator.calculatePortfolioValueSeries(dailyReturns, 100.0);
+            List<PortfolioReturnCalculator.PortfolioValuePoint> recomputedRange =
+                    calculator.calculatePortfolioValueSeries(dailyReturns.subList(3, 5), 100.0);
+
+            double[] carried = {1.0, 1.0, 1.0, 1.1, 1.1};
+            for (int i = 0; i < dailyReturns.size(); i++) {
+                ReflectionTestUtils.setField(dailyReturns.get(i), "carriedMultiplier", carried[i]);
+            }
+
+            assertThat(calculator.calculatePortfolioValueSeries(dailyReturns, 100.0)).isEqualTo(recomputed);
+            assertThat(calculator.calculatePortfolioValueSeries(dailyReturns.subList(3, 5), 100.0))
+                    .extracting(PortfolioReturnCalculator.PortfolioValuePoint::value)
+                    .containsExactly(recomputedRange.get(0).value(), recomputedRange.get(1).value());
+        }
     }
 
     @Nested
@@ -112,17 +156,11 @@ class PortfolioReturnCalculatorTest {
 
         @Test
         void singleSnapshot_shouldUseLatestReturnPerAsset() {
-            List<SnapshotAssetDailyReturn> assetReturns = List.of(
-                    createAssetDailyReturn(SNAPSHOT_A, ASSET_1, LocalDate.of(2026, 3, 11), new BigDecimal("5.0")),
-                    createAssetDailyReturn(SNAPSHOT_A, ASSET_1, LocalDate.of(2026, 3, 12), new BigDecimal("10.0")),
-                    createAssetDailyReturn(SNAPSHOT_A, ASSET_1, LocalDate.of(2026, 3, 13), new BigDecimal("15.0")),
-                    createAssetDailyReturn(SNAPSHOT_A, ASSET_2, LocalDate.of(2026, 3, 11), new BigDecimal("-2.0")),
-                    createAssetDailyReturn(SNAPSHOT_A, ASSET_2, LocalDate.of(2026, 3, 12), new BigDecimal("-3.0")),
-                    createAssetDailyReturn(SNAPSHOT_A, ASSET_2, LocalDate.of(2026, 3, 13), new BigDecimal("-5.0"))
-            );
-
-            when(snapshotAssetDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID))
-                    .thenReturn(assetReturns);
+            when(portfolioAssetLatestRepository.findByPortfolioId(PORTFOLIO_ID))
+                    .thenReturn(List.of(
+                            createAssetLatest(SNAPSHOT_A, ASSET_1, LocalDate.of(2026, 3, 13), new BigDecimal("15.0")),
+                            createAssetLatest(SNAPSHOT_A, ASSET_2, LocalDate.of(2026, 3, 13), new BigDecimal("-5.0"))
+                    ));
 
             Map<UUID, Double> result = calculator.calculateAssetReturns(PORTFOLIO_ID, Set.of(ASSET_1, ASSET_2));
 
@@ -131,25 +169,36 @@ class PortfolioReturnCalculatorTest {
         }
 
         @Test
-        void rebalance_shouldResetAssetReturnToLatestSnapshot() {
-            List<SnapshotAssetDailyReturn> assetReturns = List.of(
-                    createAssetDailyReturn(SNAPSHOT_A, ASSET_1, LocalDate.of(2026, 3, 11), new BigDecimal("5.0")),
-                    createAssetDailyReturn(SNAPSHOT_A, ASSET_1, LocalDate.of(2026, 3, 12), new BigDecimal("10.0")),
-                    createAssetDailyReturn(SNAPSHOT_B, ASSET_1, LocalDate.of(2026, 3, 14), new BigDecimal("3.0")),
-                    createAssetDailyReturn(SNAPSHOT_B, ASSET_1, LocalDate.of(2026, 3, 15), new BigDecimal("5.0"))
-            );
+        void assetWithoutLatestRow_shouldDefaultToZero() {
+            // which snapshot the latest row belongs to is decided by DailyReturnBatchWriter (see its test)
+            when(portfolioAssetLatestRepository.findByPortfolioId(PORTFOLIO_ID))
+                    .thenReturn(List.of(
+                            createAssetLatest(SNAPSHOT_B, ASSET_1, LocalDate.of(2026, 3, 15), new BigDecimal("5.0"))
+                    ));
+
+            Map<UUID, Double> result = calculator.calculateAssetReturns(PORTFOLIO_ID, Set.of(ASSET_1, ASSET_2));
+
+            assertThat(result).containsOnlyKeys(ASSET_1, ASSET_2);
+            assertThat(result.get(ASSET_1)).isCloseTo(5.0, within(0.01));
+            assertThat(result.get(ASSET_2)).isEqualTo(0.0);
+        }
 
-            when(snapshotAssetDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID))
-                    .thenReturn(assetReturns);
+        @Test
+        void otherAssets_shouldBeIgnored() {
+            when(portfolioAssetLatestRepository.findByPortfolioId(PORTFOLIO_ID))
+                    .thenReturn(List.of(
+                            createAssetLatest(SNAPSHOT_A, ASSET_1, LocalDate.of(2026, 3, 13), new BigDecimal("15.0")),
+                            createAssetLatest(SNAPSHOT_A, ASSET_2, LocalDate.of(2026, 3, 13), new BigDecimal("-5.0"))
+                    ));
 
             Map<UUID, Double> result = calculator.calculateAssetReturns(PORTFOLIO_ID, Set.of(ASSET_1));
 
-            assertThat(result.get(ASSET_1)).isCloseTo(5.0, within(0.01));
+            assertThat(result).containsOnlyKeys(ASSET_1);
         }
 
         @Test
         void noDataForAsset_shouldReturnZero() {
-            when(snapshotAssetDailyReturnRepository.findByPortfolioIdOrderByReturnDateAsc(PORTFOLIO_ID))
+            when(portfolioAssetLatestRepository.findByPortfolioId(PORTFOLIO_ID))
                     .thenReturn(List.of());
 
             Map<UUID, Double> result = calculator.calculateAssetReturns(PORTFOLIO_ID, Set.of(ASSET_1));
@@ -170,18 +219,15 @@ class PortfolioReturnCalculatorTest {
         );
     }
 
-    private SnapshotAssetDailyReturn createAssetDailyReturn(UUID snapshotId, UUID assetId, LocalDate date, BigDecimal returnTotal) {
-        return SnapshotAssetDailyReturn.from(
-                PORTFOLIO_ID,
-                snapshotId,
-                assetId,
-                date,
-                new BigDecimal("10.0"),
-                returnTotal,
-                returnTotal,
-                BigDecimal.ZERO,
-                new BigDecimal("1.0"),
-                new BigDecimal("1000000")
-        );
+    private PortfolioAssetLatest createAssetLatest(UUID snapshotId, UUID assetId, LocalDate date, BigDecimal returnTotal) {
+        PortfolioAssetLatest latest = BeanUtils.instantiateClass(PortfolioAssetLatest.class);
+        ReflectionTestUtils.setField(latest, "portfolioId", PORTFOLIO_ID);
+        ReflectionTestUtils.setField(latest, "snapshotId", snapshotId);
+        ReflectionTestUtils.setField(latest, "assetId", assetId);
+        ReflectionTestUtils.setField(latest, "returnDate", date);
+        ReflectionTestUtils.setField(latest, "weightUsed", new BigDecimal("10.0"));
+        ReflectionTestUtils.setField(latest, "assetReturnTotal", returnTotal);
+        ReflectionTestUtils.setField(latest, "valueKrw", new BigDecimal("1000000"));
+        return latest;
     }
 }
@@ -0,0 +1,43 @@
+package com.porcana.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedSnapshotTest {
+
+    @Test
+    @DisplayName("한 번 적재한 스냅샷을 재사용하고, 무효화하면 다음 세대 번호로 다시 적재")
+    void get_loadsOnceUntilInvalidated() {
+        VersionedSnapshot<String> snapshot = new VersionedSnapshot<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(snapshot.peek()).isEmpty();
+        assertThat(snapshot.get(generation -> "v" + generation + "#" + loads.incrementAndGet())).isEqualTo("v1#1");
+        assertThat(snapshot.get(generation -> "v" + generation + "#" + loads.incrementAndGet())).isEqualTo("v1#1");
+        assertThat(snapshot.peek()).contains("v1#1");
+
+        snapshot.invalidate();
+
+        assertThat(snapshot.peek()).isEmpty();
+        assertThat(snapshot.get(generation -> "v" + generation + "#" + loads.incrementAndGet())).isEqualTo("v2#2");
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 결과를 돌려주기만 하고 설치하지 않음")
+    void get_doesNotInstallSnapshotInvalidatedWhileLoading() {
+        VersionedSnapshot<String> snapshot = new VersionedSnapshot<>();
+
+        String stale = snapshot.get(generation -> {
+            snapshot.invalidate();
+            return "stale";
+        });
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(snapshot.peek()).isEmpty();
+        assertThat(snapshot.get(generation -> "fresh v" + generation)).isEqualTo("fresh v2");
+    }
+}
@@ -0,0 +1,66 @@
+package com.porcana.global.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final String SORT = "library:risk:asc";
+
+    @Test
+    @DisplayName("정렬 키 값은 null을 포함해 그대로 복원")
+    void encode_roundTripsValues() {
+        String token = KeysetCursor.encode(SORT, null, "f1111111-1111-1111-1111-111111111111");
+
+        assertThat(KeysetCursor.decode(token, SORT, 2))
+                .isEqualTo(Arrays.asList(null, "f1111111-1111-1111-1111-111111111111"));
+        assertThat(token).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 만든 토큰이나 손상된 토큰은 거부")
+    void decode_rejectsForeignOrBrokenTokens() {
+        String token = KeysetCursor.encode(SORT, "3", "f1111111-1111-1111-1111-111111111111");
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token, "library:risk:desc", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(token, SORT, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(token.substring(0, token.length() - 3), SORT, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%", SORT, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("size + 1개를 조회하면 마지막 행 기준 다음 커서를 만들고 초과 행은 버림")
+    void cursorPage_trimsLookaheadRow() {
+        CursorRequest request = CursorRequest.of(null, null, 2);
+
+        CursorPage<String> page = CursorPage.of(List.of("a", "b", "c"), request, last -> "after-" + last);
+        CursorPage<String> lastPage = CursorPage.of(List.of("a"), request, last -> "after-" + last);
+
+        assertThat(request.countMode()).isEqualTo(CountMode.NONE);
+        assertThat(request.fetchSize()).isEqualTo(3);
+        assertThat(page.content()).containsExactly("a", "b");
+        assertThat(page.nextCursor()).isEqualTo("after-b");
+        assertThat(page.totalOrUnknown()).isEqualTo(-1);
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(lastPage.withTotal(5L).totalPagesOrUnknown()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("커서나 EXACT 이외의 집계 방식을 요청할 때만 커서 방식")
+    void isRequested() {
+        assertThat(CursorRequest.isRequested(null, null)).isFalse();
+        assertThat(CursorRequest.isRequested(null, CountMode.EXACT)).isFalse();
+        assertThat(CursorRequest.isRequested(null, CountMode.NONE)).isTrue();
+        assertThat(CursorRequest.isRequested("token", CountMode.EXACT)).isTrue();
+    }
+}
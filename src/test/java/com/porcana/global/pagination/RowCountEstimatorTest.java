@@ -0,0 +1,95 @@
+package com.porcana.global.pagination;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class RowCountEstimatorTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("porcana_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private RowCountEstimator rowCountEstimator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'estimator-%@example.com'");
+        for (int i = 0; i < 5; i++) {
+            insertUser("estimator-active-" + i, false);
+        }
+        for (int i = 0; i < 3; i++) {
+            insertUser("estimator-deleted-" + i, true);
+        }
+        jdbcTemplate.execute("ANALYZE users");
+    }
+
+    @Test
+    @DisplayName("소프트 삭제 제외 추정치는 reltuples에서 삭제된 회원 수를 뺀 값")
+    void estimateExcludingDeleted_subtractsSoftDeletedRows() {
+        long live = count("SELECT count(*) FROM users WHERE deleted_at IS NULL");
+        long deleted = count("SELECT count(*) FROM users WHERE deleted_at IS NOT NULL");
+
+        assertThat(rowCountEstimator.estimate("users")).isEqualTo(live + deleted);
+        assertThat(rowCountEstimator.estimateExcludingDeleted("users")).isEqualTo(live);
+    }
+
+    @Test
+    @DisplayName("ESTIMATED 요청의 회원 목록 건수에는 삭제된 회원이 들어가지 않음")
+    void applyEstimateExcludingDeleted_fillsLiveTotal() {
+        CursorPage<String> page = CursorPage.of(List.of(), CursorRequest.of(null, CountMode.ESTIMATED, 20), row -> row);
+
+        CursorPage<String> estimated = rowCountEstimator.applyEstimateExcludingDeleted(
+                page, CursorRequest.of(null, CountMode.ESTIMATED, 20), "users", false);
+
+        assertThat(estimated.totalElements()).isEqualTo(count("SELECT count(*) FROM users WHERE deleted_at IS NULL"));
+    }
+
+    @Test
+    @DisplayName("테이블 이름 형식이 아니면 쿼리를 만들지 않음")
+    void estimateExcludingDeleted_rejectsInvalidTableName() {
+        assertThatThrownBy(() -> rowCountEstimator.estimateExcludingDeleted("users; DROP TABLE users"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void insertUser(String name, boolean deleted) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, provider, created_at, updated_at, deleted_at)
+                VALUES (?, ?, 'password123', ?, 'EMAIL', NOW(), NOW(), CASE WHEN ? THEN NOW() END)
+                """, UUID.randomUUID(), name + "@example.com", name, deleted);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.porcana.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class WeightedSamplerTest {
+
+    @Test
+    @DisplayName("누적 가중치가 target을 처음 넘는 위치를 반환 (가중치 0은 건너뜀)")
+    void findsFirstPrefixAboveTarget() {
+        WeightedSampler sampler = new WeightedSampler(new double[]{1.0, 0.0, 2.0, 3.0, 0.0});
+
+        assertThat(sampler.total()).isEqualTo(6.0);
+        assertThat(sampler.find(0.0)).isZero();
+        assertThat(sampler.find(0.999)).isZero();
+        assertThat(sampler.find(1.0)).isEqualTo(2);
+        assertThat(sampler.find(2.999)).isEqualTo(2);
+        assertThat(sampler.find(3.0)).isEqualTo(3);
+        assertThat(sampler.find(5.999)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("제거/변경 후에는 남은 가중치로만 추출하고, 모두 제거되면 -1")
+    void updateAndRemove() {
+        WeightedSampler sampler = new WeightedSampler(new double[]{1.0, 1.0, 1.0});
+        Random random = new Random(1L);
+
+        sampler.remove(0);
+        sampler.update(2, 0.5);
+        assertThat(sampler.total()).isEqualTo(1.5);
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.sample(random)).isIn(1, 2);
+        }
+
+        sampler.remove(1);
+        sampler.remove(2);
+        assertThat(sampler.sample(random)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("추출 빈도가 가중치에 비례")
+    void frequenciesFollowWeights() {
+        double[] weights = {1.0, 2.0, 3.0, 4.0, 0.0, 10.0};
+        WeightedSampler sampler = new WeightedSampler(weights);
+        Random random = new Random(42L);
+        int[] counts = new int[weights.length];
+        int draws = 200_000;
+
+        for (int i = 0; i < draws; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        assertThat(counts[4]).isZero();
+        for (int i = 0; i < weights.length; i++) {
+            assertThat((double) counts[i] / draws).isCloseTo(weights[i] / 20.0, within(0.005));
+        }
+    }
+
+    @Test
+    @DisplayName("음수/NaN 가중치는 거부")
+    void rejectsInvalidWeights() {
+        assertThatThrownBy(() -> new WeightedSampler(new double[]{1.0, -1.0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WeightedSampler(new double[]{Double.NaN}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
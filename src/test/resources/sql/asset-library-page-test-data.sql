@@ -0,0 +1,21 @@
+-- Test data for asset library keyset paging
+-- 이름/심볼/위험도가 겹치는 행과 위험도가 없는 행을 섞어 id 타이브레이크와 null 구간을 검증
+
+DELETE FROM assets WHERE symbol LIKE 'LIBPAGE%';
+
+INSERT INTO assets (id, market, symbol, name, type, current_risk_level, active, as_of, created_at, updated_at)
+VALUES
+    ('a1b00000-0000-0000-0000-00000000000c', 'US', 'LIBPAGE_A', 'LibPage Alpha', 'STOCK', 2, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-000000000003', 'KR', 'LIBPAGE_A', 'LibPage Alpha', 'STOCK', NULL, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-000000000007', 'US', 'LIBPAGE_B', 'LibPage Alpha', 'ETF', 4, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-000000000001', 'US', 'LIBPAGE_C', 'LibPage Beta', 'STOCK', 2, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-00000000000a', 'KR', 'LIBPAGE_C', 'LibPage Beta', 'ETF', NULL, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-000000000005', 'US', 'LIBPAGE_D', 'LibPage Delta', 'STOCK', 2, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-00000000000b', 'US', 'LIBPAGE_E', 'LibPage Echo', 'STOCK', 5, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-000000000002', 'KR', 'LIBPAGE_E', 'LibPage Echo', 'STOCK', NULL, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-000000000009', 'US', 'LIBPAGE_F', 'LibPage Foxtrot', 'ETF', 1, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-000000000004', 'KR', 'LIBPAGE_G', 'LibPage Golf', 'STOCK', 4, true, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-000000000008', 'US', 'LIBPAGE_H', 'LibPage Alpha', 'STOCK', NULL, true, CURRENT_DATE, NOW(), NOW()),
+    -- 비활성 종목은 라이브러리 목록에서 제외
+    ('a1b00000-0000-0000-0000-000000000006', 'US', 'LIBPAGE_I', 'LibPage Alpha', 'STOCK', 2, false, CURRENT_DATE, NOW(), NOW()),
+    ('a1b00000-0000-0000-0000-00000000000d', 'KR', 'LIBPAGE_I', 'LibPage India', 'STOCK', NULL, false, CURRENT_DATE, NOW(), NOW());
@@ -0,0 +1,77 @@
+-- Test data for PortfolioPerformanceBackfillServiceTest
+-- Portfolio started 2019-04-01 (Mon) with a 60/40 snapshot, rebalanced to 20/80 on 2019-04-04 (Thu)
+-- Prices and USD/KRW rates on weekdays only (weekends carry the previous close)
+
+-- Clean up existing data
+DELETE FROM portfolio_asset_latest WHERE portfolio_id = 'f2000000-0000-0000-0000-000000000001';
+DELETE FROM snapshot_asset_daily_returns WHERE portfolio_id = 'f2000000-0000-0000-0000-000000000001';
+DELETE FROM portfolio_daily_returns WHERE portfolio_id = 'f2000000-0000-0000-0000-000000000001';
+DELETE FROM portfolio_snapshot_assets WHERE snapshot_id IN (
+    SELECT id FROM portfolio_snapshots WHERE portfolio_id = 'f2000000-0000-0000-0000-000000000001'
+);
+DELETE FROM portfolio_snapshots WHERE portfolio_id = 'f2000000-0000-0000-0000-000000000001';
+DELETE FROM portfolios WHERE id = 'f2000000-0000-0000-0000-000000000001';
+DELETE FROM asset_prices WHERE asset_id IN ('f1000000-0000-0000-0000-000000000001', 'f1000000-0000-0000-0000-000000000002');
+DELETE FROM assets WHERE symbol IN ('BACKFILL_KR', 'BACKFILL_US');
+DELETE FROM users WHERE email = 'performance-backfill-test@example.com';
+DELETE FROM exchange_rates WHERE currency_code = 'USD' AND exchange_date BETWEEN '2019-04-01' AND '2019-04-30';
+
+-- Insert test user
+INSERT INTO users (id, email, password, nickname, provider, main_portfolio_id, created_at, updated_at)
+VALUES ('f0000000-0000-0000-0000-000000000001', 'performance-backfill-test@example.com', 'password123', '백필테스터', 'EMAIL', NULL, NOW(), NOW());
+
+-- Insert test assets
+INSERT INTO assets (id, symbol, name, market, type, sector, current_risk_level, active, image_url, created_at, updated_at, as_of)
+VALUES
+    ('f1000000-0000-0000-0000-000000000001', 'BACKFILL_KR', '백필테스트한국주식', 'KR', 'STOCK', 'FINANCIALS', 2, true, NULL, NOW(), NOW(), NOW()),
+    ('f1000000-0000-0000-0000-000000000002', 'BACKFILL_US', 'Backfill Test US Stock', 'US', 'STOCK', 'HEALTH_CARE', 3, true, NULL, NOW(), NOW(), NOW());
+
+-- Insert asset prices
+INSERT INTO asset_prices (asset_id, price_date, open_price, high_price, low_price, close_price, volume)
+VALUES
+    ('f1000000-0000-0000-0000-000000000001', '2019-04-01', 30000, 30000, 30000, 30000, 1000),
+    ('f1000000-0000-0000-0000-000000000001', '2019-04-02', 30300, 30300, 30300, 30300, 1000),
+    ('f1000000-0000-0000-0000-000000000001', '2019-04-03', 29900, 29900, 29900, 29900, 1000),
+    ('f1000000-0000-0000-0000-000000000001', '2019-04-04', 30600, 30600, 30600, 30600, 1000),
+    ('f1000000-0000-0000-0000-000000000001', '2019-04-05', 31000, 31000, 31000, 31000, 1000),
+    ('f1000000-0000-0000-0000-000000000001', '2019-04-08', 31500, 31500, 31500, 31500, 1000),
+    ('f1000000-0000-0000-0000-000000000001', '2019-04-09', 31200, 31200, 31200, 31200, 1000),
+    ('f1000000-0000-0000-0000-000000000001', '2019-04-10', 31800, 31800, 31800, 31800, 1000),
+    ('f1000000-0000-0000-0000-000000000002', '2019-04-01', 95.1000, 95.1000, 95.1000, 95.1000, 1000),
+    ('f1000000-0000-0000-0000-000000000002', '2019-04-02', 96.0000, 96.0000, 96.0000, 96.0000, 1000),
+    ('f1000000-0000-0000-0000-000000000002', '2019-04-03', 95.4000, 95.4000, 95.4000, 95.4000, 1000),
+    ('f1000000-0000-0000-0000-000000000002', '2019-04-04', 97.2500, 97.2500, 97.2500, 97.2500, 1000),
+    ('f1000000-0000-0000-0000-000000000002', '2019-04-05', 98.0000, 98.0000, 98.0000, 98.0000, 1000),
+    ('f1000000-0000-0000-0000-000000000002', '2019-04-08', 97.1000, 97.1000, 97.1000, 97.1000, 1000),
+    ('f1000000-0000-0000-0000-000000000002', '2019-04-09', 99.3000, 99.3000, 99.3000, 99.3000, 1000),
+    ('f1000000-0000-0000-0000-000000000002', '2019-04-10', 100.0500, 100.0500, 100.0500, 100.0500, 1000);
+
+-- Insert exchange rates
+INSERT INTO exchange_rates (currency_code, currency_name, base_rate, buy_rate, sell_rate, exchange_date, created_at)
+VALUES
+    ('USD', '미국 달러', 1135.00, 1145.00, 1125.00, '2019-04-01', NOW()),
+    ('USD', '미국 달러', 1136.50, 1146.50, 1126.50, '2019-04-02', NOW()),
+    ('USD', '미국 달러', 1134.20, 1144.20, 1124.20, '2019-04-03', NOW()),
+    ('USD', '미국 달러', 1138.80, 1148.80, 1128.80, '2019-04-04', NOW()),
+    ('USD', '미국 달러', 1140.10, 1150.10, 1130.10, '2019-04-05', NOW()),
+    ('USD', '미국 달러', 1139.00, 1149.00, 1129.00, '2019-04-08', NOW()),
+    ('USD', '미국 달러', 1141.70, 1151.70, 1131.70, '2019-04-09', NOW()),
+    ('USD', '미국 달러', 1143.30, 1153.30, 1133.30, '2019-04-10', NOW());
+
+-- Insert test portfolio (ACTIVE)
+INSERT INTO portfolios (id, user_id, guest_session_id, name, status, started_at, created_at, updated_at)
+VALUES ('f2000000-0000-0000-0000-000000000001', 'f0000000-0000-0000-0000-000000000001', NULL, '백필 테스트 포트폴리오', 'ACTIVE', '2019-04-01', NOW(), NOW());
+
+-- Insert portfolio snapshots (rebalanced mid-range)
+INSERT INTO portfolio_snapshots (id, portfolio_id, effective_date, note, created_at)
+VALUES
+    ('f3000000-0000-0000-0000-000000000001', 'f2000000-0000-0000-0000-000000000001', '2019-04-01', 'Initial creation', NOW()),
+    ('f3000000-0000-0000-0000-000000000002', 'f2000000-0000-0000-0000-000000000001', '2019-04-04', 'Rebalance', NOW());
+
+-- Insert portfolio snapshot assets
+INSERT INTO portfolio_snapshot_assets (snapshot_id, asset_id, weight)
+VALUES
+    ('f3000000-0000-0000-0000-000000000001', 'f1000000-0000-0000-0000-000000000001', 60.00),
+    ('f3000000-0000-0000-0000-000000000001', 'f1000000-0000-0000-0000-000000000002', 40.00),
+    ('f3000000-0000-0000-0000-000000000002', 'f1000000-0000-0000-0000-000000000001', 20.00),
+    ('f3000000-0000-0000-0000-000000000002', 'f1000000-0000-0000-0000-000000000002', 80.00);
@@ -0,0 +1,97 @@
+-- Test data for PortfolioPerformanceEngineTest
+-- Target date 2019-03-08 (Fri), snapshots from 2019-03-04 (Mon)
+-- P1: KR + US + gap asset (no price on 03-07/03-08)     -> calculated
+-- P2: already calculated for 03-08                      -> skipped
+-- P3: no snapshot                                       -> failed
+-- P4: asset without any price within 7 days of 03-08    -> failed
+-- P5: snapshot changed on 03-06 (older snapshot unused) -> calculated with the 03-06 snapshot
+-- P6: starts after the target date                      -> skipped
+
+-- Clean up existing data
+DELETE FROM portfolio_asset_latest WHERE portfolio_id::text LIKE 'e2000000-%';
+DELETE FROM snapshot_asset_daily_returns WHERE portfolio_id::text LIKE 'e2000000-%';
+DELETE FROM portfolio_daily_returns WHERE portfolio_id::text LIKE 'e2000000-%';
+DELETE FROM portfolio_snapshot_assets WHERE snapshot_id IN (
+    SELECT id FROM portfolio_snapshots WHERE portfolio_id::text LIKE 'e2000000-%'
+);
+DELETE FROM portfolio_snapshots WHERE portfolio_id::text LIKE 'e2000000-%';
+DELETE FROM portfolios WHERE id::text LIKE 'e2000000-%';
+DELETE FROM asset_prices WHERE asset_id::text LIKE 'e1000000-%';
+DELETE FROM assets WHERE symbol IN ('ENGINE_KR', 'ENGINE_US', 'ENGINE_KR_GAP', 'ENGINE_KR_STALE');
+DELETE FROM users WHERE email = 'performance-engine-test@example.com';
+DELETE FROM exchange_rates WHERE currency_code = 'USD' AND exchange_date BETWEEN '2019-02-01' AND '2019-03-31';
+
+-- Insert test user
+INSERT INTO users (id, email, password, nickname, provider, main_portfolio_id, created_at, updated_at)
+VALUES ('e0000000-0000-0000-0000-000000000001', 'performance-engine-test@example.com', 'password123', '엔진테스터', 'EMAIL', NULL, NOW(), NOW());
+
+-- Insert test assets
+INSERT INTO assets (id, symbol, name, market, type, sector, current_risk_level, active, image_url, created_at, updated_at, as_of)
+VALUES
+    ('e1000000-0000-0000-0000-000000000001', 'ENGINE_KR', '엔진테스트한국주식', 'KR', 'STOCK', 'FINANCIALS', 2, true, NULL, NOW(), NOW(), NOW()),
+    ('e1000000-0000-0000-0000-000000000002', 'ENGINE_US', 'Engine Test US Stock', 'US', 'STOCK', 'HEALTH_CARE', 3, true, NULL, NOW(), NOW(), NOW()),
+    ('e1000000-0000-0000-0000-000000000003', 'ENGINE_KR_GAP', '엔진테스트가격공백', 'KR', 'STOCK', 'INDUSTRIALS', 3, true, NULL, NOW(), NOW(), NOW()),
+    ('e1000000-0000-0000-0000-000000000004', 'ENGINE_KR_STALE', '엔진테스트가격없음', 'KR', 'STOCK', 'MATERIALS', 4, true, NULL, NOW(), NOW(), NOW());
+
+-- Insert asset prices
+INSERT INTO asset_prices (asset_id, price_date, open_price, high_price, low_price, close_price, volume)
+VALUES
+    ('e1000000-0000-0000-0000-000000000001', '2019-03-04', 50000, 50000, 50000, 50000, 1000),
+    ('e1000000-0000-0000-0000-000000000001', '2019-03-05', 50500, 50500, 50500, 50500, 1000),
+    ('e1000000-0000-0000-0000-000000000001', '2019-03-06', 49800, 49800, 49800, 49800, 1000),
+    ('e1000000-0000-0000-0000-000000000001', '2019-03-07', 51200, 51200, 51200, 51200, 1000),
+    ('e1000000-0000-0000-0000-000000000001', '2019-03-08', 52300, 52300, 52300, 52300, 1000),
+    ('e1000000-0000-0000-0000-000000000002', '2019-03-04', 180.2500, 180.2500, 180.2500, 180.2500, 1000),
+    ('e1000000-0000-0000-0000-000000000002', '2019-03-05', 181.1000, 181.1000, 181.1000, 181.1000, 1000),
+    ('e1000000-0000-0000-0000-000000000002', '2019-03-06', 183.4000, 183.4000, 183.4000, 183.4000, 1000),
+    ('e1000000-0000-0000-0000-000000000002', '2019-03-07', 182.0000, 182.0000, 182.0000, 182.0000, 1000),
+    ('e1000000-0000-0000-0000-000000000002', '2019-03-08', 185.7500, 185.7500, 185.7500, 185.7500, 1000),
+    ('e1000000-0000-0000-0000-000000000003', '2019-03-04', 12000, 12000, 12000, 12000, 1000),
+    ('e1000000-0000-0000-0000-000000000003', '2019-03-06', 12450, 12450, 12450, 12450, 1000),
+    ('e1000000-0000-0000-0000-000000000004', '2019-02-25', 8000, 8000, 8000, 8000, 1000),
+    ('e1000000-0000-0000-0000-000000000004', '2019-02-26', 8100, 8100, 8100, 8100, 1000);
+
+-- Insert exchange rates (no rate on 03-08, the 03-07 rate is used)
+INSERT INTO exchange_rates (currency_code, currency_name, base_rate, buy_rate, sell_rate, exchange_date, created_at)
+VALUES
+    ('USD', '미국 달러', 1128.50, 1138.50, 1118.50, '2019-03-04', NOW()),
+    ('USD', '미국 달러', 1129.00, 1139.00, 1119.00, '2019-03-05', NOW()),
+    ('USD', '미국 달러', 1133.20, 1143.20, 1123.20, '2019-03-07', NOW());
+
+-- Insert test portfolios (ACTIVE)
+INSERT INTO portfolios (id, user_id, guest_session_id, name, status, started_at, created_at, updated_at)
+VALUES
+    ('e2000000-0000-0000-0000-000000000001', 'e0000000-0000-0000-0000-000000000001', NULL, '엔진 P1', 'ACTIVE', '2019-03-04', NOW(), NOW()),
+    ('e2000000-0000-0000-0000-000000000002', 'e0000000-0000-0000-0000-000000000001', NULL, '엔진 P2', 'ACTIVE', '2019-03-04', NOW(), NOW()),
+    ('e2000000-0000-0000-0000-000000000003', 'e0000000-0000-0000-0000-000000000001', NULL, '엔진 P3', 'ACTIVE', '2019-03-04', NOW(), NOW()),
+    ('e2000000-0000-0000-0000-000000000004', 'e0000000-0000-0000-0000-000000000001', NULL, '엔진 P4', 'ACTIVE', '2019-03-04', NOW(), NOW()),
+    ('e2000000-0000-0000-0000-000000000005', 'e0000000-0000-0000-0000-000000000001', NULL, '엔진 P5', 'ACTIVE', '2019-03-01', NOW(), NOW()),
+    ('e2000000-0000-0000-0000-000000000006', 'e0000000-0000-0000-0000-000000000001', NULL, '엔진 P6', 'ACTIVE', '2019-03-11', NOW(), NOW());
+
+-- Insert portfolio snapshots (P3 has none)
+INSERT INTO portfolio_snapshots (id, portfolio_id, effective_date, note, created_at)
+VALUES
+    ('e3000000-0000-0000-0000-000000000001', 'e2000000-0000-0000-0000-000000000001', '2019-03-04', 'Initial creation', NOW()),
+    ('e3000000-0000-0000-0000-000000000002', 'e2000000-0000-0000-0000-000000000002', '2019-03-04', 'Initial creation', NOW()),
+    ('e3000000-0000-0000-0000-000000000004', 'e2000000-0000-0000-0000-000000000004', '2019-03-04', 'Initial creation', NOW()),
+    ('e3000000-0000-0000-0000-000000000005', 'e2000000-0000-0000-0000-000000000005', '2019-03-01', 'Initial creation', NOW()),
+    ('e3000000-0000-0000-0000-000000000015', 'e2000000-0000-0000-0000-000000000005', '2019-03-06', 'Rebalance', NOW()),
+    ('e3000000-0000-0000-0000-000000000006', 'e2000000-0000-0000-0000-000000000006', '2019-03-11', 'Initial creation', NOW());
+
+-- Insert portfolio snapshot assets
+INSERT INTO portfolio_snapshot_assets (snapshot_id, asset_id, weight)
+VALUES
+    ('e3000000-0000-0000-0000-000000000001', 'e1000000-0000-0000-0000-000000000001', 40.00),
+    ('e3000000-0000-0000-0000-000000000001', 'e1000000-0000-0000-0000-000000000002', 30.00),
+    ('e3000000-0000-0000-0000-000000000001', 'e1000000-0000-0000-0000-000000000003', 30.00),
+    ('e3000000-0000-0000-0000-000000000002', 'e1000000-0000-0000-0000-000000000001', 100.00),
+    ('e3000000-0000-0000-0000-000000000004', 'e1000000-0000-0000-0000-000000000001', 50.00),
+    ('e3000000-0000-0000-0000-000000000004', 'e1000000-0000-0000-0000-000000000004', 50.00),
+    ('e3000000-0000-0000-0000-000000000005', 'e1000000-0000-0000-0000-000000000001', 100.00),
+    ('e3000000-0000-0000-0000-000000000015', 'e1000000-0000-0000-0000-000000000002', 50.00),
+    ('e3000000-0000-0000-0000-000000000015', 'e1000000-0000-0000-0000-000000000003', 50.00),
+    ('e3000000-0000-0000-0000-000000000006', 'e1000000-0000-0000-0000-000000000001', 100.00);
+
+-- P2 already has a return for the target date (must stay untouched)
+INSERT INTO portfolio_daily_returns (portfolio_id, snapshot_id, return_date, return_total, return_local, return_fx, total_value_krw, calculated_at)
+VALUES ('e2000000-0000-0000-0000-000000000002', 'e3000000-0000-0000-0000-000000000002', '2019-03-08', 9.9999, 9.9999, 0.0000, 10999990.00, NOW());
@@ -2,6 +2,7 @@
 -- Simulates a portfolio that has been running for several days with market changes
 
 -- Clean up existing data
+DELETE FROM portfolio_asset_latest WHERE portfolio_id = '77777777-7777-7777-7777-777777777777';
 DELETE FROM snapshot_asset_daily_returns WHERE portfolio_id = '77777777-7777-7777-7777-777777777777';
 DELETE FROM portfolio_daily_returns WHERE portfolio_id = '77777777-7777-7777-7777-777777777777';
 DELETE FROM portfolio_snapshot_assets WHERE snapshot_id IN (
@@ -73,4 +74,10 @@ VALUES
 INSERT INTO snapshot_asset_daily_returns (id, portfolio_id, snapshot_id, asset_id, return_date, weight_used, asset_return_local, asset_return_total, fx_return, contribution_total, value_krw, calculated_at)
 VALUES
     ('d5555555-5555-5555-5555-555555555555', '77777777-7777-7777-7777-777777777777', 'cccccccc-cccc-cccc-cccc-cccccccccccc', '88888888-8888-8888-8888-888888888888', CURRENT_DATE - INTERVAL '1 day', 55.00, 6.0000, 6.0000, 0.0000, 3.3000, 5775000.00, NOW() - INTERVAL '1 day'),
-    ('d6666666-6666-6666-6666-666666666666', '77777777-7777-7777-7777-777777777777', 'cccccccc-cccc-cccc-cccc-cccccccccccc', '99999999-9999-9999-9999-999999999999', CURRENT_DATE - INTERVAL '1 day', 45.00, 3.5000, 4.0000, 0.5000, 1.8000, 4725000.00, NOW() - INTERVAL '1 day');
\ No newline at end of file
+    ('d6666666-6666-6666-6666-666666666666', '77777777-7777-7777-7777-777777777777', 'cccccccc-cccc-cccc-cccc-cccccccccccc', '99999999-9999-9999-9999-999999999999', CURRENT_DATE - INTERVAL '1 day', 45.00, 3.5000, 4.0000, 0.5000, 1.8000, 4725000.00, NOW() - INTERVAL '1 day');
+
+-- Latest asset return/weight projection (maintained by the performance batch writer)
+INSERT INTO portfolio_asset_latest (portfolio_id, asset_id, snapshot_id, return_date, weight_used, asset_return_total, value_krw)
+VALUES
+    ('77777777-7777-7777-7777-777777777777', '88888888-8888-8888-8888-888888888888', 'cccccccc-cccc-cccc-cccc-cccccccccccc', CURRENT_DATE - INTERVAL '1 day', 55.00, 6.0000, 5775000.00),
+    ('77777777-7777-7777-7777-777777777777', '99999999-9999-9999-9999-999999999999', 'cccccccc-cccc-cccc-cccc-cccccccccccc', CURRENT_DATE - INTERVAL '1 day', 45.00, 4.0000, 4725000.00);